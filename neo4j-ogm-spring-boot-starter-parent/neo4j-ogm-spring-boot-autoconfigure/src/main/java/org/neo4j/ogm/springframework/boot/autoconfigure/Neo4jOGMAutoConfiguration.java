@@ -39,7 +39,9 @@ import org.springframework.boot.autoconfigure.neo4j.Neo4jConnectionDetails;
 import org.springframework.boot.autoconfigure.transaction.TransactionManagerCustomizers;
 import org.springframework.boot.context.properties.EnableConfigurationProperties;
 import org.springframework.context.annotation.Bean;
+import org.springframework.data.neo4j.repository.Neo4jBulkOperations;
 import org.springframework.data.neo4j.repository.config.EnableNeo4jRepositories;
+import org.springframework.data.neo4j.repository.support.DefaultNeo4jBulkOperations;
 import org.springframework.data.neo4j.transaction.Neo4jTransactionManager;
 import org.springframework.transaction.PlatformTransactionManager;
 import org.springframework.util.StringUtils;
@@ -67,6 +69,13 @@ public class Neo4jOGMAutoConfiguration {
 		return transactionManager;
 	}
 
+	@Bean
+	@ConditionalOnMissingBean
+	public Neo4jBulkOperations neo4jBulkOperations(SessionFactory sessionFactory,
+	                                               PlatformTransactionManager transactionManager) {
+		return new DefaultNeo4jBulkOperations(sessionFactory, transactionManager);
+	}
+
 	@Bean
 	@ConditionalOnMissingBean
 	public org.neo4j.ogm.config.Configuration configuration(
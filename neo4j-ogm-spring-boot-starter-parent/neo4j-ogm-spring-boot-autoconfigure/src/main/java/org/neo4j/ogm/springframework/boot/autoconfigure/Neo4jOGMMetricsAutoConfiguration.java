@@ -0,0 +1,58 @@
+/*
+ * Copyright 2011-2023 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.neo4j.ogm.springframework.boot.autoconfigure;
+
+import io.micrometer.core.instrument.MeterRegistry;
+
+import org.neo4j.ogm.session.SessionFactory;
+import org.springframework.boot.autoconfigure.AutoConfiguration;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnBean;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnClass;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.data.neo4j.metrics.RepositoryMetrics;
+import org.springframework.data.neo4j.metrics.SessionMetrics;
+
+/**
+ * Records metrics for all Neo4j-OGM repositories, sessions and transactions when a {@link MeterRegistry} is present,
+ * which Spring Boot provides together with the actuator. Disable it with {@code org.neo4j.ogm.metrics.enabled=false}.
+ * Leak detection of sessions and transactions is enabled with {@code org.neo4j.ogm.metrics.leak-detection-threshold}.
+ */
+@AutoConfiguration(after = Neo4jOGMAutoConfiguration.class, afterName = {
+		"org.springframework.boot.actuate.autoconfigure.metrics.MetricsAutoConfiguration",
+		"org.springframework.boot.actuate.autoconfigure.metrics.CompositeMeterRegistryAutoConfiguration" })
+@ConditionalOnClass({ SessionFactory.class, MeterRegistry.class })
+@ConditionalOnBean(MeterRegistry.class)
+@ConditionalOnProperty(prefix = "org.neo4j.ogm.metrics", name = "enabled", matchIfMissing = true)
+@EnableConfigurationProperties(Neo4jOGMProperties.class)
+public class Neo4jOGMMetricsAutoConfiguration {
+
+	@Bean
+	@ConditionalOnMissingBean
+	public RepositoryMetrics neo4jRepositoryMetrics(MeterRegistry meterRegistry) {
+		return new RepositoryMetrics(meterRegistry);
+	}
+
+	@Bean
+	@ConditionalOnMissingBean
+	@ConditionalOnBean(SessionFactory.class)
+	public SessionMetrics neo4jSessionMetrics(MeterRegistry meterRegistry, SessionFactory sessionFactory,
+			Neo4jOGMProperties properties) {
+		return new SessionMetrics(meterRegistry, sessionFactory, properties.getMetrics().getLeakDetectionThreshold());
+	}
+}
@@ -0,0 +1,47 @@
+/*
+ * Copyright 2011-2023 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.neo4j.ogm.springframework.boot.autoconfigure;
+
+import io.micrometer.observation.ObservationRegistry;
+
+import org.neo4j.ogm.session.SessionFactory;
+import org.springframework.boot.autoconfigure.AutoConfiguration;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnBean;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnClass;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.data.neo4j.observation.Neo4jObservations;
+
+/**
+ * Observes Neo4j-OGM transactions and the statements of repositories and shared sessions when an
+ * {@link ObservationRegistry} is present, which Spring Boot provides together with the actuator. With Micrometer
+ * Tracing, the observations are reported as spans. Disable it with {@code org.neo4j.ogm.observations.enabled=false}.
+ */
+@AutoConfiguration(after = Neo4jOGMAutoConfiguration.class,
+		afterName = "org.springframework.boot.actuate.autoconfigure.observation.ObservationAutoConfiguration")
+@ConditionalOnClass({ SessionFactory.class, ObservationRegistry.class })
+@ConditionalOnBean(ObservationRegistry.class)
+@ConditionalOnProperty(prefix = "org.neo4j.ogm.observations", name = "enabled", matchIfMissing = true)
+public class Neo4jOGMObservationAutoConfiguration {
+
+	@Bean
+	@ConditionalOnMissingBean
+	@ConditionalOnBean(SessionFactory.class)
+	public Neo4jObservations neo4jObservations(ObservationRegistry observationRegistry, SessionFactory sessionFactory) {
+		return new Neo4jObservations(observationRegistry, sessionFactory);
+	}
+}
@@ -15,6 +15,8 @@
  */
 package org.neo4j.ogm.springframework.boot.autoconfigure;
 
+import java.time.Duration;
+
 import org.springframework.boot.context.properties.ConfigurationProperties;
 
 @ConfigurationProperties(prefix = "org.neo4j.ogm")
@@ -37,6 +39,16 @@ public class Neo4jOGMProperties {
 	 */
 	private boolean useStrictQuerying;
 
+	/**
+	 * Metrics of repositories, sessions and transactions.
+	 */
+	private final Metrics metrics = new Metrics();
+
+	/**
+	 * Observations of transactions and statements.
+	 */
+	private final Observations observations = new Observations();
+
 	public String[] getBasePackages() {
 		return basePackages;
 	}
@@ -60,4 +72,58 @@ public class Neo4jOGMProperties {
 	public void setUseStrictQuerying(boolean useStrictQuerying) {
 		this.useStrictQuerying = useStrictQuerying;
 	}
+
+	public Metrics getMetrics() {
+		return metrics;
+	}
+
+	public Observations getObservations() {
+		return observations;
+	}
+
+	public static class Metrics {
+
+		/**
+		 * Should repository methods, sessions and transactions be measured when a meter registry is present?
+		 */
+		private boolean enabled = true;
+
+		/**
+		 * Sessions and transactions held longer than this are logged together with the stack trace of the code that
+		 * opened them. Leak detection is disabled if not set.
+		 */
+		private Duration leakDetectionThreshold;
+
+		public boolean isEnabled() {
+			return enabled;
+		}
+
+		public void setEnabled(boolean enabled) {
+			this.enabled = enabled;
+		}
+
+		public Duration getLeakDetectionThreshold() {
+			return leakDetectionThreshold;
+		}
+
+		public void setLeakDetectionThreshold(Duration leakDetectionThreshold) {
+			this.leakDetectionThreshold = leakDetectionThreshold;
+		}
+	}
+
+	public static class Observations {
+
+		/**
+		 * Should transactions and statements be observed when an observation registry is present?
+		 */
+		private boolean enabled = true;
+
+		public boolean isEnabled() {
+			return enabled;
+		}
+
+		public void setEnabled(boolean enabled) {
+			this.enabled = enabled;
+		}
+	}
 }
@@ -0,0 +1,71 @@
+/*
+ * Copyright 2011-2023 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.neo4j.ogm.springframework.boot.autoconfigure;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import org.junit.jupiter.api.Test;
+import org.neo4j.driver.Driver;
+import org.neo4j.ogm.metadata.MetaData;
+import org.neo4j.ogm.session.SessionFactory;
+import org.springframework.boot.autoconfigure.AutoConfigurations;
+import org.springframework.boot.autoconfigure.neo4j.Neo4jConnectionDetails;
+import org.springframework.boot.test.context.runner.ApplicationContextRunner;
+import org.springframework.data.neo4j.repository.Neo4jBulkOperations;
+import org.springframework.data.neo4j.repository.support.DefaultNeo4jBulkOperations;
+import org.springframework.data.neo4j.transaction.Neo4jTransactionManager;
+
+class Neo4jOGMAutoConfigurationTests {
+
+	private final ApplicationContextRunner contextRunner = new ApplicationContextRunner()
+			.withConfiguration(AutoConfigurations.of(Neo4jOGMAutoConfiguration.class))
+			.withBean(Driver.class, () -> mock(Driver.class))
+			.withBean(Neo4jConnectionDetails.class, () -> new Neo4jConnectionDetails() {})
+			.withBean(SessionFactory.class, Neo4jOGMAutoConfigurationTests::sessionFactory);
+
+	static SessionFactory sessionFactory() {
+
+		SessionFactory sessionFactory = mock(SessionFactory.class);
+		when(sessionFactory.metaData()).thenReturn(mock(MetaData.class));
+		return sessionFactory;
+	}
+
+	@Test
+	void shouldProvideBulkOperations() {
+
+		contextRunner.run(context -> {
+			assertThat(context).hasSingleBean(Neo4jTransactionManager.class);
+			assertThat(context).getBean(Neo4jBulkOperations.class).isInstanceOf(DefaultNeo4jBulkOperations.class);
+		});
+	}
+
+	@Test
+	void shouldBackOffFromCustomBulkOperations() {
+
+		Neo4jBulkOperations bulkOperations = mock(Neo4jBulkOperations.class);
+		contextRunner.withBean(Neo4jBulkOperations.class, () -> bulkOperations)
+				.run(context -> assertThat(context).getBean(Neo4jBulkOperations.class).isSameAs(bulkOperations));
+	}
+
+	@Test
+	void shouldBackOffWithoutDriver() {
+
+		new ApplicationContextRunner().withConfiguration(AutoConfigurations.of(Neo4jOGMAutoConfiguration.class))
+				.run(context -> assertThat(context).doesNotHaveBean(Neo4jBulkOperations.class));
+	}
+}
@@ -0,0 +1,109 @@
+/*
+ * Copyright 2011-2023 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.neo4j.ogm.springframework.boot.autoconfigure;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+import org.junit.jupiter.api.Test;
+import org.neo4j.ogm.session.Session;
+import org.neo4j.ogm.session.SessionFactory;
+import org.springframework.boot.autoconfigure.AutoConfigurations;
+import org.springframework.boot.test.context.runner.ApplicationContextRunner;
+import org.springframework.data.neo4j.metrics.RepositoryMetrics;
+import org.springframework.data.neo4j.metrics.SessionMetrics;
+import org.springframework.data.neo4j.transaction.SessionFactoryUtils;
+import org.springframework.data.neo4j.transaction.SessionLifecycleListener.Source;
+
+class Neo4jOGMMetricsAutoConfigurationTests {
+
+	private final SessionFactory sessionFactory = mock(SessionFactory.class);
+	private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+	private final ApplicationContextRunner contextRunner = new ApplicationContextRunner()
+			.withConfiguration(AutoConfigurations.of(Neo4jOGMMetricsAutoConfiguration.class))
+			.withBean(MeterRegistry.class, () -> meterRegistry)
+			.withBean(SessionFactory.class, () -> sessionFactory);
+
+	@Test
+	void shouldRecordRepositoryAndSessionMetrics() {
+
+		contextRunner.run(context -> {
+			assertThat(context).hasSingleBean(RepositoryMetrics.class);
+			assertThat(context).hasSingleBean(SessionMetrics.class);
+
+			openSharedSession();
+			assertThat(openedSharedSessions()).isEqualTo(1.0);
+		});
+	}
+
+	@Test
+	void shouldStopRecordingSessionMetricsWhenClosed() {
+
+		contextRunner.run(context -> assertThat(context).hasSingleBean(SessionMetrics.class));
+		openSharedSession();
+
+		assertThat(openedSharedSessions()).isZero();
+	}
+
+	@Test
+	void shouldApplyLeakDetectionThreshold() {
+
+		contextRunner.withPropertyValues("org.neo4j.ogm.metrics.leak-detection-threshold=30s").run(context -> {
+			assertThat(context).hasSingleBean(SessionMetrics.class);
+			assertThat(context.getBean(Neo4jOGMProperties.class).getMetrics().getLeakDetectionThreshold())
+					.hasSeconds(30);
+		});
+	}
+
+	@Test
+	void shouldNotRecordSessionMetricsWithoutSessionFactory() {
+
+		new ApplicationContextRunner().withConfiguration(AutoConfigurations.of(Neo4jOGMMetricsAutoConfiguration.class))
+				.withBean(MeterRegistry.class, SimpleMeterRegistry::new).run(context -> {
+					assertThat(context).hasSingleBean(RepositoryMetrics.class);
+					assertThat(context).doesNotHaveBean(SessionMetrics.class);
+				});
+	}
+
+	@Test
+	void shouldBackOffWithoutMeterRegistry() {
+
+		new ApplicationContextRunner().withConfiguration(AutoConfigurations.of(Neo4jOGMMetricsAutoConfiguration.class))
+				.withBean(SessionFactory.class, () -> sessionFactory)
+				.run(context -> assertThat(context).doesNotHaveBean(RepositoryMetrics.class)
+						.doesNotHaveBean(SessionMetrics.class));
+	}
+
+	@Test
+	void shouldBackOffWhenDisabled() {
+
+		contextRunner.withPropertyValues("org.neo4j.ogm.metrics.enabled=false")
+				.run(context -> assertThat(context).doesNotHaveBean(RepositoryMetrics.class)
+						.doesNotHaveBean(SessionMetrics.class));
+	}
+
+	private void openSharedSession() {
+		SessionFactoryUtils.getSessionLifecycleListener(sessionFactory).sessionOpened(mock(Session.class), Source.SHARED);
+	}
+
+	private double openedSharedSessions() {
+		return meterRegistry.get(SessionMetrics.OPENED_SESSIONS).tag("source", "shared").counter().count();
+	}
+}
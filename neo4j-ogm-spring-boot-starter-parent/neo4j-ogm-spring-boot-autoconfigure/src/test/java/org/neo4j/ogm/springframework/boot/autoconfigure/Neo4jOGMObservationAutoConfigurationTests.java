@@ -0,0 +1,118 @@
+/*
+ * Copyright 2011-2023 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.neo4j.ogm.springframework.boot.autoconfigure;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import io.micrometer.observation.Observation;
+import io.micrometer.observation.ObservationHandler;
+import io.micrometer.observation.ObservationRegistry;
+
+import org.junit.jupiter.api.Test;
+import org.neo4j.ogm.session.Session;
+import org.neo4j.ogm.session.SessionFactory;
+import org.springframework.boot.autoconfigure.AutoConfigurations;
+import org.springframework.boot.test.context.runner.ApplicationContextRunner;
+import org.springframework.data.neo4j.observation.Neo4jObservations;
+import org.springframework.data.neo4j.transaction.SessionFactoryUtils;
+import org.springframework.data.neo4j.transaction.SessionLifecycleListener;
+
+class Neo4jOGMObservationAutoConfigurationTests {
+
+	private final SessionFactory sessionFactory = mock(SessionFactory.class);
+	private final List<Observation.Context> stoppedObservations = new CopyOnWriteArrayList<>();
+
+	private final ApplicationContextRunner contextRunner = new ApplicationContextRunner()
+			.withConfiguration(AutoConfigurations.of(Neo4jOGMObservationAutoConfiguration.class))
+			.withBean(ObservationRegistry.class, this::observationRegistry)
+			.withBean(SessionFactory.class, () -> sessionFactory);
+
+	private ObservationRegistry observationRegistry() {
+
+		ObservationRegistry observationRegistry = ObservationRegistry.create();
+		observationRegistry.observationConfig().observationHandler(new ObservationHandler<>() {
+
+			@Override
+			public boolean supportsContext(Observation.Context context) {
+				return true;
+			}
+
+			@Override
+			public void onStop(Observation.Context context) {
+				stoppedObservations.add(context);
+			}
+		});
+		return observationRegistry;
+	}
+
+	@Test
+	void shouldObserveTransactions() {
+
+		contextRunner.run(context -> {
+			assertThat(context).hasSingleBean(Neo4jObservations.class);
+
+			completeTransaction();
+			assertThat(stoppedObservations).extracting(Observation.Context::getName)
+					.containsExactly(Neo4jObservations.TRANSACTION);
+		});
+	}
+
+	@Test
+	void shouldStopObservingWhenClosed() {
+
+		contextRunner.run(context -> assertThat(context).hasSingleBean(Neo4jObservations.class));
+		completeTransaction();
+
+		assertThat(stoppedObservations).isEmpty();
+	}
+
+	@Test
+	void shouldBackOffWithoutSessionFactory() {
+
+		new ApplicationContextRunner()
+				.withConfiguration(AutoConfigurations.of(Neo4jOGMObservationAutoConfiguration.class))
+				.withBean(ObservationRegistry.class, this::observationRegistry)
+				.run(context -> assertThat(context).doesNotHaveBean(Neo4jObservations.class));
+	}
+
+	@Test
+	void shouldBackOffWithoutObservationRegistry() {
+
+		new ApplicationContextRunner()
+				.withConfiguration(AutoConfigurations.of(Neo4jOGMObservationAutoConfiguration.class))
+				.withBean(SessionFactory.class, () -> sessionFactory)
+				.run(context -> assertThat(context).doesNotHaveBean(Neo4jObservations.class));
+	}
+
+	@Test
+	void shouldBackOffWhenDisabled() {
+
+		contextRunner.withPropertyValues("org.neo4j.ogm.observations.enabled=false")
+				.run(context -> assertThat(context).doesNotHaveBean(Neo4jObservations.class));
+	}
+
+	private void completeTransaction() {
+
+		Session session = mock(Session.class);
+		SessionLifecycleListener listener = SessionFactoryUtils.getSessionLifecycleListener(sessionFactory);
+		listener.transactionBegun(session);
+		listener.transactionCompleted(session, true);
+	}
+}
@@ -0,0 +1,46 @@
+/*
+ * Copyright 2011-2023 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.neo4j.annotation;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Caches the results of a derived, annotated or named query method in the
+ * {@link org.springframework.data.neo4j.cache.QueryResultCache} bean. Cached results are evicted when a transaction
+ * writing nodes with one of the labels the query depends on commits.
+ * <p>
+ * Results are neither read from nor put into the cache inside read-write transactions, so that those always see their
+ * own writes. Each caller gets its own copy of a cached result, results that cannot be copied, for example
+ * projections, are not cached.
+ */
+@Retention(RetentionPolicy.RUNTIME)
+@Target({ ElementType.METHOD, ElementType.ANNOTATION_TYPE })
+@Documented
+public @interface CachedQuery {
+
+	/**
+	 * The labels of the nodes the results depend on. When empty, derived queries loading entities with a depth of 0
+	 * depend on the labels of their domain type and all other queries depend on all labels, that is, they are evicted
+	 * after every committed write.
+	 *
+	 * @return the labels the results depend on
+	 */
+	String[] labels() default {};
+}
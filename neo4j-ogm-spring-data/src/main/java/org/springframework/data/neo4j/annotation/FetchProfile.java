@@ -0,0 +1,51 @@
+/*
+ * Copyright 2011-2023 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.neo4j.annotation;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Inherited;
+import java.lang.annotation.Repeatable;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Lists the relationships loaded along with an entity, as paths of relationship field names like {@code actors} or
+ * {@code actors.agent}. Entities are loaded with one query matching exactly these paths instead of all relationships
+ * up to a depth.
+ * <p>
+ * On an entity type, declares a named profile that can be passed to the finder methods of
+ * {@link org.springframework.data.neo4j.repository.Neo4jRepository} or referenced by a query method. On a query
+ * method, either references a profile of the domain type by {@link #name()} or lists the {@link #paths()} itself.
+ */
+@Retention(RetentionPolicy.RUNTIME)
+@Target({ ElementType.TYPE, ElementType.METHOD, ElementType.ANNOTATION_TYPE })
+@Repeatable(FetchProfiles.class)
+@Inherited
+@Documented
+public @interface FetchProfile {
+
+	/**
+	 * @return the name of the profile
+	 */
+	String name() default "";
+
+	/**
+	 * @return the paths of relationship fields to load, starting at the domain type
+	 */
+	String[] paths() default {};
+}
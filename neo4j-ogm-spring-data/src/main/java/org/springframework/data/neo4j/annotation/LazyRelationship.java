@@ -0,0 +1,36 @@
+/*
+ * Copyright 2011-2023 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.neo4j.annotation;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Marks a relationship field that is loaded on first access if it has not been loaded along with its entity, for
+ * example because the entity has been loaded with a depth of 0. The field must be declared as {@link java.util.List},
+ * {@link java.util.Set} or {@link java.util.Collection} of node entities. Accessing a lazy relationship loads it for
+ * all entities returned by the same repository call that have not loaded it yet, with one query.
+ *
+ * @see org.springframework.data.neo4j.mapping.LazyRelationshipLoader
+ */
+@Retention(RetentionPolicy.RUNTIME)
+@Target({ ElementType.FIELD, ElementType.ANNOTATION_TYPE })
+@Documented
+public @interface LazyRelationship {
+}
@@ -46,6 +46,13 @@ public @interface Query {
 	 */
 	String countQuery() default "";
 
+	/**
+	 * Returns whether paged queries should fetch the total number of elements in the same statement as the page
+	 * itself. The query is then run as a subquery a second time inside that statement to count all rows and
+	 * {@link #countQuery()} is not used. This saves a round trip to the database for each page.
+	 */
+	boolean inlineCount() default false;
+
 	/**
 	 * Returns whether the defined query should be executed as an exists projection.
 	 *
@@ -0,0 +1,39 @@
+/*
+ * Copyright 2011-2023 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.neo4j.annotation;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Inherited;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Loads entities with a depth greater than one in several queries instead of one: The entities themselves are loaded
+ * first, then the relationships of each hop with one query for all nodes reached by the previous hop. The number of
+ * transferred rows grows with the number of relationships instead of the number of paths, which pays off when nodes
+ * have many relationships.
+ * <p>
+ * On an entity type, applies to the finder methods of its repository that take a depth and to its derived query
+ * methods. On a derived query method, applies to that method only.
+ */
+@Retention(RetentionPolicy.RUNTIME)
+@Target({ ElementType.TYPE, ElementType.METHOD, ElementType.ANNOTATION_TYPE })
+@Inherited
+@Documented
+public @interface SplitQueryHydration {
+}
@@ -15,7 +15,10 @@
  */
 package org.springframework.data.neo4j.bookmark;
 
+import java.util.function.Supplier;
+
 import org.springframework.core.NamedThreadLocal;
+import org.springframework.lang.Nullable;
 
 /**
  * Helper class to access BookmarkInfo thread local
@@ -29,4 +32,24 @@ public class BookmarkSupport {
 	public static BookmarkInfo currentBookmarkInfo() {
 		return bookmarkInfoHolder.get();
 	}
+
+	/**
+	 * Runs the callback with the given bookmark info, for example one captured on the thread that submitted the
+	 * callback to another thread, and restores the previous bookmark info afterwards.
+	 *
+	 * @param bookmarkInfo the bookmark info to use, may be {@literal null}
+	 * @param callback the callback to run
+	 * @param <T> the type of the result
+	 * @return the result of the callback
+	 */
+	public static <T> T callWithBookmarkInfo(@Nullable BookmarkInfo bookmarkInfo, Supplier<T> callback) {
+
+		BookmarkInfo previousValue = bookmarkInfoHolder.get();
+		bookmarkInfoHolder.set(bookmarkInfo);
+		try {
+			return callback.get();
+		} finally {
+			bookmarkInfoHolder.set(previousValue);
+		}
+	}
 }
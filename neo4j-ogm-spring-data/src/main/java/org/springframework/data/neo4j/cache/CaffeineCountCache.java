@@ -0,0 +1,64 @@
+/*
+ * Copyright 2011-2023 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.neo4j.cache;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.Set;
+import java.util.function.LongSupplier;
+import java.util.function.Predicate;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+
+/**
+ * Implementation of the count cache using Caffeine cache. Entries expire after a fixed time, so that counts changed
+ * outside of transactions managed by this application are not served forever.
+ * <p>
+ * When using this class you must ensure that caffeine dependency is on your class path.
+ */
+public class CaffeineCountCache implements CountCache {
+
+	private final Cache<Object, CachedCount> cache;
+
+	public CaffeineCountCache() {
+		this(Duration.ofSeconds(30), 10_000);
+	}
+
+	/**
+	 * Create instance of {@link CaffeineCountCache} with the given limits
+	 *
+	 * @param timeToLive time after which a cached count is computed again
+	 * @param maximumSize maximum number of cached counts
+	 */
+	public CaffeineCountCache(Duration timeToLive, long maximumSize) {
+		this.cache = Caffeine.newBuilder().maximumSize(maximumSize).expireAfterWrite(timeToLive).build();
+	}
+
+	@Override
+	public long getCount(Object key, Collection<String> labels, LongSupplier countSupplier) {
+		return cache.get(key, k -> new CachedCount(countSupplier.getAsLong(), Set.copyOf(labels))).count();
+	}
+
+	@Override
+	public void afterCommit(Predicate<String> isWrittenLabel) {
+		cache.asMap().values()
+				.removeIf(cachedCount -> cachedCount.labels().isEmpty() || cachedCount.labels().stream().anyMatch(isWrittenLabel));
+	}
+
+	private record CachedCount(long count, Set<String> labels) {
+	}
+}
@@ -0,0 +1,142 @@
+/*
+ * Copyright 2011-2023 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.neo4j.cache;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+import java.util.function.Predicate;
+import java.util.function.Supplier;
+
+import org.springframework.lang.Nullable;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+
+/**
+ * Implementation of the entity cache using Caffeine cache. Entries expire after a fixed time, so that entities changed
+ * outside of this application are not served forever.
+ * <p>
+ * When using this class you must ensure that caffeine dependency is on your class path.
+ */
+public class CaffeineEntityCache implements EntityCache {
+
+	private final Cache<EntityKey, CacheEntry> cache;
+
+	/**
+	 * Incremented before each eviction, so that entities loaded concurrently to a write are not cached.
+	 */
+	private final AtomicLong generation = new AtomicLong();
+
+	public CaffeineEntityCache() {
+		this(Duration.ofMinutes(10), 10_000);
+	}
+
+	/**
+	 * Create instance of {@link CaffeineEntityCache} with the given limits
+	 *
+	 * @param timeToLive time after which a cached entity is loaded again
+	 * @param maximumSize maximum number of cached entities
+	 */
+	public CaffeineEntityCache(Duration timeToLive, long maximumSize) {
+		this.cache = Caffeine.newBuilder().maximumSize(maximumSize).expireAfterWrite(timeToLive).build();
+	}
+
+	@Override
+	@Nullable
+	public Object getEntity(Class<?> type, Object id, Collection<String> labels, Supplier<Object> loader) {
+
+		EntityKey key = new EntityKey(type, id);
+		CacheEntry cacheEntry = cache.getIfPresent(key);
+		if (cacheEntry != null) {
+			return cacheEntry.entity();
+		}
+
+		long loadedInGeneration = generation.get();
+		Object entity = loader.get();
+		if (entity != null) {
+			put(loadedInGeneration, Map.of(key, new CacheEntry(entity, Set.copyOf(labels))));
+		}
+		return entity;
+	}
+
+	@Override
+	public Map<Object, Object> getEntities(Class<?> type, Collection<?> ids, Collection<String> labels,
+			Function<Collection<Object>, Map<Object, Object>> loader) {
+
+		Map<Object, Object> entities = new LinkedHashMap<>();
+		List<Object> missingIds = new ArrayList<>();
+		for (Object id : ids) {
+			CacheEntry cacheEntry = cache.getIfPresent(new EntityKey(type, id));
+			if (cacheEntry == null) {
+				missingIds.add(id);
+			} else {
+				entities.put(id, cacheEntry.entity());
+			}
+		}
+		if (missingIds.isEmpty()) {
+			return entities;
+		}
+
+		long loadedInGeneration = generation.get();
+		Map<Object, Object> loadedEntities = loader.apply(missingIds);
+		Set<String> dependentLabels = Set.copyOf(labels);
+		Map<EntityKey, CacheEntry> newEntries = new LinkedHashMap<>();
+		loadedEntities.forEach(
+				(id, entity) -> newEntries.put(new EntityKey(type, id), new CacheEntry(entity, dependentLabels)));
+		put(loadedInGeneration, newEntries);
+		entities.putAll(loadedEntities);
+		return entities;
+	}
+
+	/**
+	 * A write that happened while loading might have evicted before the put.
+	 */
+	private void put(long loadedInGeneration, Map<EntityKey, CacheEntry> newEntries) {
+
+		cache.putAll(newEntries);
+		if (generation.get() != loadedInGeneration) {
+			cache.invalidateAll(newEntries.keySet());
+		}
+	}
+
+	@Override
+	public void evict(Class<?> type, Object id) {
+
+		generation.incrementAndGet();
+		cache.invalidate(new EntityKey(type, id));
+	}
+
+	@Override
+	public void afterCommit(Predicate<String> isWrittenLabel) {
+
+		generation.incrementAndGet();
+		cache.asMap().values()
+				.removeIf(cacheEntry -> cacheEntry.labels().isEmpty() || cacheEntry.labels().stream().anyMatch(isWrittenLabel));
+	}
+
+	private record EntityKey(Class<?> type, Object id) {
+	}
+
+	private record CacheEntry(Object entity, Set<String> labels) {
+	}
+}
@@ -0,0 +1,88 @@
+/*
+ * Copyright 2011-2023 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.neo4j.cache;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Predicate;
+import java.util.function.Supplier;
+
+import org.springframework.lang.Nullable;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+
+/**
+ * Implementation of the query result cache using Caffeine cache. Entries expire after a fixed time, so that results
+ * changed outside of transactions managed by this application are not served forever.
+ * <p>
+ * When using this class you must ensure that caffeine dependency is on your class path.
+ */
+public class CaffeineQueryResultCache implements QueryResultCache {
+
+	private final Cache<Object, CachedResult> cache;
+
+	/**
+	 * Incremented before each eviction, so that results loaded concurrently to a commit are not cached.
+	 */
+	private final AtomicLong generation = new AtomicLong();
+
+	public CaffeineQueryResultCache() {
+		this(Duration.ofMinutes(5), 10_000);
+	}
+
+	/**
+	 * Create instance of {@link CaffeineQueryResultCache} with the given limits
+	 *
+	 * @param timeToLive time after which a cached result is computed again
+	 * @param maximumSize maximum number of cached results
+	 */
+	public CaffeineQueryResultCache(Duration timeToLive, long maximumSize) {
+		this.cache = Caffeine.newBuilder().maximumSize(maximumSize).expireAfterWrite(timeToLive).build();
+	}
+
+	@Override
+	@Nullable
+	public Object getResult(Object key, Collection<String> labels, Supplier<Object> resultSupplier) {
+
+		CachedResult cachedResult = cache.getIfPresent(key);
+		if (cachedResult != null) {
+			return cachedResult.result();
+		}
+
+		long loadedInGeneration = generation.get();
+		Object result = resultSupplier.get();
+		cache.put(key, new CachedResult(result, Set.copyOf(labels)));
+		// A commit that happened while loading might have evicted before the put
+		if (generation.get() != loadedInGeneration) {
+			cache.invalidate(key);
+		}
+		return result;
+	}
+
+	@Override
+	public void afterCommit(Predicate<String> isWrittenLabel) {
+
+		generation.incrementAndGet();
+		cache.asMap().values().removeIf(
+				cachedResult -> cachedResult.labels().isEmpty() || cachedResult.labels().stream().anyMatch(isWrittenLabel));
+	}
+
+	private record CachedResult(@Nullable Object result, Set<String> labels) {
+	}
+}
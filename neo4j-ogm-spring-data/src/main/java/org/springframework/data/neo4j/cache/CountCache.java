@@ -0,0 +1,40 @@
+/*
+ * Copyright 2011-2023 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.neo4j.cache;
+
+import java.util.Collection;
+import java.util.function.LongSupplier;
+
+import org.springframework.data.neo4j.transaction.CommittedWritesListener;
+
+/**
+ * Cache for the total number of elements of paged queries. Registering a bean of this type enables it for
+ * {@link org.springframework.data.neo4j.repository.Neo4jRepository#findAll(org.springframework.data.domain.Pageable, int)}
+ * and all query methods returning a {@link org.springframework.data.domain.Page}. Cached totals are evicted when a
+ * transaction writing to one of their labels, directly or by saving related entities, commits or rolls back.
+ */
+public interface CountCache extends CommittedWritesListener {
+
+	/**
+	 * Returns the cached count for the given key or computes and caches it.
+	 *
+	 * @param key identifies the count, usually the query method and its parameters
+	 * @param labels the labels the count depends on, an empty collection if the count depends on all labels
+	 * @param countSupplier computes the count if it is not cached
+	 * @return the count
+	 */
+	long getCount(Object key, Collection<String> labels, LongSupplier countSupplier);
+}
@@ -0,0 +1,68 @@
+/*
+ * Copyright 2011-2023 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.neo4j.cache;
+
+import java.util.Collection;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+import org.springframework.data.neo4j.transaction.CommittedWritesListener;
+import org.springframework.lang.Nullable;
+
+/**
+ * Second-level cache for entities of types annotated with
+ * {@link org.springframework.data.neo4j.annotation.CachedEntity}, shared by all sessions. Registering a bean of this
+ * type enables it. Cached entities are evicted when they are saved or deleted and when a transaction writing to one of
+ * their labels commits.
+ * <p>
+ * Implementations hand out the cached instances themselves. Repositories copy them for each caller, so that callers
+ * can never modify the cached state.
+ */
+public interface EntityCache extends CommittedWritesListener {
+
+	/**
+	 * Returns the cached entity or loads and caches it. Entities that don't exist are not cached.
+	 *
+	 * @param type the type of the entity
+	 * @param id the id of the entity
+	 * @param labels the labels of the entity
+	 * @param loader loads the entity if it is not cached
+	 * @return the entity or {@literal null} if it does not exist
+	 */
+	@Nullable
+	Object getEntity(Class<?> type, Object id, Collection<String> labels, Supplier<Object> loader);
+
+	/**
+	 * Returns the cached entities and loads and caches the missing ones with one call to the {@code loader}.
+	 *
+	 * @param type the type of the entities
+	 * @param ids the ids of the entities
+	 * @param labels the labels of the entities
+	 * @param loader loads the entities with the given ids that are not cached, keyed by id
+	 * @return the existing entities keyed by id
+	 */
+	Map<Object, Object> getEntities(Class<?> type, Collection<?> ids, Collection<String> labels,
+			Function<Collection<Object>, Map<Object, Object>> loader);
+
+	/**
+	 * Removes an entity from the cache.
+	 *
+	 * @param type the type of the entity
+	 * @param id the id of the entity
+	 */
+	void evict(Class<?> type, Object id);
+}
@@ -0,0 +1,42 @@
+/*
+ * Copyright 2011-2023 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.neo4j.cache;
+
+import java.util.Collection;
+import java.util.function.Supplier;
+
+import org.springframework.data.neo4j.transaction.CommittedWritesListener;
+import org.springframework.lang.Nullable;
+
+/**
+ * Cache for the results of query methods annotated with {@link org.springframework.data.neo4j.annotation.CachedQuery}.
+ * Registering a bean of this type enables it. Cached results are evicted when a transaction writing to one of their
+ * labels commits.
+ */
+public interface QueryResultCache extends CommittedWritesListener {
+
+	/**
+	 * Returns the cached result for the given key or computes and caches it. Implementations must not cache a result
+	 * that has been computed while a transaction writing to one of its labels committed.
+	 *
+	 * @param key identifies the result, usually the query method, the Cypher statement and its parameters
+	 * @param labels the labels the result depends on, an empty collection if the result depends on all labels
+	 * @param resultSupplier computes the result if it is not cached
+	 * @return the result, might be {@literal null}
+	 */
+	@Nullable
+	Object getResult(Object key, Collection<String> labels, Supplier<Object> resultSupplier);
+}
@@ -18,6 +18,7 @@ package org.springframework.data.neo4j.conversion;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 
 import org.neo4j.ogm.metadata.reflect.EntityAccessManager;
 import org.neo4j.ogm.session.Utils;
@@ -45,6 +46,8 @@ public class Neo4jOgmEntityInstantiatorAdapter implements org.neo4j.ogm.session.
 	private final Neo4jMappingContext context;
 	private ConversionService conversionService;
 
+	private final Map<Class<?>, Instantiation<?>> instantiations = new ConcurrentHashMap<>();
+
 	public Neo4jOgmEntityInstantiatorAdapter(MappingContext<Neo4jPersistentEntity<?>, Neo4jPersistentProperty> context,
 			@Nullable ConversionService conversionService) {
 		Assert.notNull(context, "MappingContext cannot be null");
@@ -57,10 +60,15 @@ public class Neo4jOgmEntityInstantiatorAdapter implements org.neo4j.ogm.session.
 	@Override
 	public <T> T createInstance(Class<T> type, Map<String, Object> propertyValues) {
 
-		Neo4jPersistentEntity<T> persistentEntity = (Neo4jPersistentEntity<T>) context.getRequiredPersistentEntity(type);
-		EntityInstantiator sdnInstantiator = context.getInstantiatorFor(persistentEntity);
+		Instantiation<T> instantiation = (Instantiation<T>) instantiations.computeIfAbsent(type, this::createInstantiation);
+		return instantiation.instantiator().createInstance(instantiation.entity(),
+				getParameterProvider(propertyValues, conversionService));
+	}
+
+	private Instantiation<?> createInstantiation(Class<?> type) {
 
-		return sdnInstantiator.createInstance(persistentEntity, getParameterProvider(propertyValues, conversionService));
+		Neo4jPersistentEntity<?> persistentEntity = context.getRequiredPersistentEntity(type);
+		return new Instantiation<>(persistentEntity, context.getInstantiatorFor(persistentEntity));
 	}
 
 	@Override
@@ -73,6 +81,12 @@ public class Neo4jOgmEntityInstantiatorAdapter implements org.neo4j.ogm.session.
 		return new Neo4jPropertyValueProvider(propertyValues, conversionService);
 	}
 
+	/**
+	 * The persistent entity and the Spring Data instantiator of a type, resolved once per type.
+	 */
+	private record Instantiation<T>(Neo4jPersistentEntity<T> entity, EntityInstantiator instantiator) {
+	}
+
 	private static class Neo4jPropertyValueProvider implements ParameterValueProvider<Neo4jPersistentProperty> {
 
 		private Map<String, Object> propertyValues;
@@ -0,0 +1,327 @@
+/*
+ * Copyright 2011-2023 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.neo4j.mapping;
+
+import java.lang.reflect.Field;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import org.neo4j.ogm.metadata.ClassInfo;
+import org.neo4j.ogm.metadata.FieldInfo;
+import org.neo4j.ogm.metadata.MetaData;
+import org.neo4j.ogm.session.Session;
+import org.neo4j.ogm.typeconversion.AttributeConverter;
+import org.springframework.core.annotation.AnnotatedElementUtils;
+import org.springframework.dao.InvalidDataAccessApiUsageException;
+import org.springframework.data.neo4j.annotation.FetchProfile;
+import org.springframework.data.neo4j.transaction.SessionProxy;
+import org.springframework.lang.Nullable;
+import org.springframework.util.Assert;
+
+/**
+ * A {@link FetchProfile} compiled into a query that loads entities of one type together with the relationships listed
+ * by the profile. Each path is matched with its own {@code OPTIONAL MATCH} and collected before the next one is
+ * matched, so that the number of rows stays at one per entity instead of multiplying with each path.
+ * <p>
+ * Alternatively, a plan loads entities with all relationships up to a depth in
+ * {@link org.springframework.data.neo4j.annotation.SplitQueryHydration split queries}: The entities first and then
+ * the relationships of all nodes reached by the previous hop with one query per hop. All queries run in the same
+ * session, whose mapping context connects the related entities.
+ */
+public final class FetchPlan {
+
+	private static final String IDS_PARAMETER = "ids";
+	private static final String NODE_ID_COLUMN = "nodeId";
+	private static final String HOP = "UNWIND $" + IDS_PARAMETER + " AS id MATCH (n)-[r]-(m) WHERE id(n) = id"
+			+ " RETURN n, r, m, id(m) AS " + NODE_ID_COLUMN;
+
+	private final Class<?> type;
+	private final ClassInfo classInfo;
+	private final @Nullable FieldInfo primaryIndexField;
+	private final FieldInfo idField;
+	private final @Nullable String hydration;
+	private final int depth;
+	private final LoadedRelationships loadedRelationships;
+
+	/**
+	 * Compiles the profile with the given name declared on the given type.
+	 *
+	 * @param metaData the Neo4j-OGM metadata
+	 * @param type the type declaring the profile
+	 * @param name the name of the profile
+	 * @return the compiled profile
+	 * @throws InvalidDataAccessApiUsageException if the type does not declare a valid profile with that name
+	 */
+	public static FetchPlan of(MetaData metaData, Class<?> type, String name) {
+
+		Assert.hasText(name, "The name of the fetch profile must not be empty!");
+
+		for (FetchProfile fetchProfile : AnnotatedElementUtils.findMergedRepeatableAnnotations(type,
+				FetchProfile.class)) {
+			if (name.equals(fetchProfile.name())) {
+				return of(metaData, type, Arrays.asList(fetchProfile.paths()));
+			}
+		}
+		throw new InvalidDataAccessApiUsageException(
+				"There is no fetch profile named " + name + " on " + type.getName() + ".");
+	}
+
+	/**
+	 * Compiles the given paths.
+	 *
+	 * @param metaData the Neo4j-OGM metadata
+	 * @param type the type the paths start at
+	 * @param paths the paths of relationship fields, separated by dots
+	 * @return the compiled paths
+	 * @throws InvalidDataAccessApiUsageException if the type is not a node entity or a path is not valid
+	 */
+	public static FetchPlan of(MetaData metaData, Class<?> type, Collection<String> paths) {
+
+		ClassInfo classInfo = metaData.classInfo(type.getName());
+		if (classInfo == null || classInfo.isRelationshipEntity()) {
+			throw new InvalidDataAccessApiUsageException(type.getName() + " is not a node entity.");
+		}
+		return new FetchPlan(metaData, type, classInfo, paths);
+	}
+
+	/**
+	 * Creates a plan loading all relationships up to the given depth with one query per hop.
+	 *
+	 * @param metaData the Neo4j-OGM metadata
+	 * @param type the type of the entities to load
+	 * @param depth the number of hops, a negative value to follow all relationships
+	 * @return the plan
+	 * @throws InvalidDataAccessApiUsageException if the type is not a node entity
+	 */
+	public static FetchPlan ofDepth(MetaData metaData, Class<?> type, int depth) {
+
+		ClassInfo classInfo = metaData.classInfo(type.getName());
+		if (classInfo == null || classInfo.isRelationshipEntity()) {
+			throw new InvalidDataAccessApiUsageException(type.getName() + " is not a node entity.");
+		}
+		return new FetchPlan(type, classInfo, depth);
+	}
+
+	private FetchPlan(MetaData metaData, Class<?> type, ClassInfo classInfo, Collection<String> paths) {
+
+		this.type = type;
+		this.classInfo = classInfo;
+		this.primaryIndexField = classInfo.primaryIndexField();
+		this.idField = identityField(type, classInfo);
+		this.depth = 0;
+		this.loadedRelationships = LoadedRelationships.ofPaths(paths);
+
+		// Every prefix of a path is matched as well, so that related entities are loaded even if the rest of the path
+		// does not exist for them
+		Set<List<String>> segmentedPaths = new LinkedHashSet<>();
+		for (String path : paths) {
+			List<String> segments = Arrays.asList(path.split("\\."));
+			for (int i = 1; i <= segments.size(); i++) {
+				segmentedPaths.add(segments.subList(0, i));
+			}
+		}
+
+		StringBuilder hydration = new StringBuilder();
+		List<String> variables = new ArrayList<>();
+		for (List<String> segments : segmentedPaths) {
+			String variable = "p" + variables.size();
+			hydration.append(" OPTIONAL MATCH ").append(variable).append(" = ")
+					.append(pattern(metaData, classInfo, segments)).append(" WITH n");
+			variables.forEach(previous -> hydration.append(", ").append(previous));
+			hydration.append(", collect(").append(variable).append(") AS ").append(variable);
+			variables.add(variable);
+		}
+		hydration.append(" RETURN n");
+		variables.forEach(variable -> hydration.append(", ").append(variable));
+		this.hydration = hydration.toString();
+	}
+
+	private FetchPlan(Class<?> type, ClassInfo classInfo, int depth) {
+
+		this.type = type;
+		this.classInfo = classInfo;
+		this.primaryIndexField = classInfo.primaryIndexField();
+		this.idField = identityField(type, classInfo);
+		this.hydration = null;
+		this.depth = depth;
+		this.loadedRelationships = LoadedRelationships.ofDepth(depth);
+	}
+
+	private static FieldInfo identityField(Class<?> type, ClassInfo classInfo) {
+
+		FieldInfo primaryIndexField = classInfo.primaryIndexField();
+		FieldInfo identityField = primaryIndexField == null ? classInfo.identityFieldOrNull() : primaryIndexField;
+		if (identityField == null) {
+			throw new InvalidDataAccessApiUsageException(type.getName() + " has no id.");
+		}
+		return identityField;
+	}
+
+	private static String pattern(MetaData metaData, ClassInfo classInfo, List<String> segments) {
+
+		StringBuilder pattern = new StringBuilder("(n)");
+		ClassInfo current = classInfo;
+		for (String segment : segments) {
+			if (current == null) {
+				throw new InvalidDataAccessApiUsageException(
+						"Fetch path " + String.join(".", segments) + " cannot continue after a relationship entity.");
+			}
+			FieldInfo relationshipField = current.relationshipFieldByName(segment);
+			if (relationshipField == null) {
+				throw new InvalidDataAccessApiUsageException("Fetch path " + String.join(".", segments)
+						+ " is invalid, " + current.name() + " has no relationship named " + segment + ".");
+			}
+			Field field = current.getField(relationshipField);
+			Class<?> relatedType = RelationshipPatterns.relatedType(field);
+			ClassInfo related = relatedType == null ? null : metaData.classInfo(relatedType.getName());
+			if (related != null && related.isRelationshipEntity()) {
+				related = null;
+			}
+			pattern.append(RelationshipPatterns.of(field, relationshipField))
+					.append(related == null ? "()" : "(:`" + related.neo4jName() + "`)");
+			current = related;
+		}
+		return pattern.toString();
+	}
+
+	/**
+	 * Loads all entities of the type of this plan.
+	 *
+	 * @param session the session to load with
+	 * @param <T> the type of this plan
+	 * @return the loaded entities
+	 */
+	public <T> Iterable<T> loadAll(Session session) {
+		return load(session, "MATCH (n:`" + classInfo.neo4jName() + "`)", Collections.emptyMap());
+	}
+
+	/**
+	 * Loads the entities of the type of this plan with the given ids.
+	 *
+	 * @param session the session to load with
+	 * @param ids the ids of the entities, as returned by {@link #getId(Object)}
+	 * @return the loaded entities by their ids, in the order of the given ids
+	 */
+	@SuppressWarnings({ "rawtypes", "unchecked" })
+	public Map<Object, Object> loadAll(Session session, Collection<?> ids) {
+
+		if (ids.isEmpty()) {
+			return Collections.emptyMap();
+		}
+
+		Set<Object> uniqueIds = new LinkedHashSet<>(ids);
+		List<Object> graphIds = new ArrayList<>(uniqueIds.size());
+		for (Object id : uniqueIds) {
+			graphIds.add(idField.hasPropertyConverter()
+					? ((AttributeConverter) idField.getPropertyConverter()).toGraphProperty(id)
+					: id);
+		}
+		String match = primaryIndexField == null
+				? "MATCH (n) WHERE id(n) = id"
+				: "MATCH (n:`" + classInfo.neo4jName() + "` {`" + primaryIndexField.property() + "`: id})";
+		Iterable<?> entities = load(session, "UNWIND $" + IDS_PARAMETER + " AS id " + match,
+				Collections.singletonMap(IDS_PARAMETER, graphIds));
+
+		// The result contains related entities of the same type as well
+		Map<Object, Object> loadedEntities = new HashMap<>();
+		for (Object entity : entities) {
+			loadedEntities.put(getId(entity), entity);
+		}
+		Map<Object, Object> entitiesById = new LinkedHashMap<>();
+		for (Object id : uniqueIds) {
+			Object entity = loadedEntities.get(id);
+			if (entity != null) {
+				entitiesById.put(id, entity);
+			}
+		}
+		return entitiesById;
+	}
+
+	@SuppressWarnings("unchecked")
+	private <T> Iterable<T> load(Session session, String match, Map<String, ?> parameters) {
+
+		if (hydration != null) {
+			return session.query((Class<T>) type, match + hydration, parameters);
+		}
+
+		// Related entities are only connected by the mapping context if all hops run in the same session. Going through
+		// the proxy observes all of them as one query.
+		String statement = match + " RETURN n, id(n) AS " + NODE_ID_COLUMN;
+		return session instanceof SessionProxy sessionProxy
+				? sessionProxy.doInTargetSession("query", new Object[] { statement, parameters },
+						targetSession -> loadByHops(targetSession, statement, parameters))
+				: loadByHops(session, statement, parameters);
+	}
+
+	@SuppressWarnings("unchecked")
+	private <T> List<T> loadByHops(Session targetSession, String statement, Map<String, ?> parameters) {
+
+		List<T> entities = new ArrayList<>();
+		Set<Long> visitedNodes = new HashSet<>();
+		List<Long> nodesOfHop = new ArrayList<>();
+		for (Map<String, Object> row : targetSession.query(statement, parameters).queryResults()) {
+			Long nodeId = ((Number) row.get(NODE_ID_COLUMN)).longValue();
+			if (visitedNodes.add(nodeId)) {
+				entities.add((T) row.get("n"));
+				nodesOfHop.add(nodeId);
+			}
+		}
+		for (int hop = 0; (depth < 0 || hop < depth) && !nodesOfHop.isEmpty(); hop++) {
+			List<Long> nodesOfNextHop = new ArrayList<>();
+			for (Map<String, Object> row : targetSession
+					.query(HOP, Collections.singletonMap(IDS_PARAMETER, nodesOfHop)).queryResults()) {
+				Long nodeId = ((Number) row.get(NODE_ID_COLUMN)).longValue();
+				if (visitedNodes.add(nodeId)) {
+					nodesOfNextHop.add(nodeId);
+				}
+			}
+			nodesOfHop = nodesOfNextHop;
+		}
+		return entities;
+	}
+
+	/**
+	 * @param entity an entity of the type of this plan
+	 * @return the id identifying the entity in {@link #loadAll(Session, Collection)}
+	 */
+	@Nullable
+	public Object getId(Object entity) {
+		return idField.readProperty(entity);
+	}
+
+	/**
+	 * @return the relationships loaded along with the entities by this plan
+	 */
+	public LoadedRelationships getLoadedRelationships() {
+		return loadedRelationships;
+	}
+
+	/**
+	 * @return the type of the entities loaded by this plan
+	 */
+	public Class<?> getType() {
+		return type;
+	}
+}
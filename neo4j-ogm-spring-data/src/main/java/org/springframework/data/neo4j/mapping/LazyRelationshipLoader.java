@@ -0,0 +1,440 @@
+/*
+ * Copyright 2011-2023 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.neo4j.mapping;
+
+import java.lang.reflect.Field;
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+
+import org.neo4j.ogm.metadata.ClassInfo;
+import org.neo4j.ogm.metadata.FieldInfo;
+import org.neo4j.ogm.metadata.MetaData;
+import org.neo4j.ogm.model.Result;
+import org.neo4j.ogm.session.Session;
+import org.neo4j.ogm.typeconversion.AttributeConverter;
+import org.springframework.core.annotation.AnnotatedElementUtils;
+import org.springframework.dao.InvalidDataAccessApiUsageException;
+import org.springframework.data.neo4j.annotation.LazyRelationship;
+import org.springframework.lang.Nullable;
+import org.springframework.util.Assert;
+import org.springframework.util.ReflectionUtils;
+
+/**
+ * Replaces relationship fields annotated with {@link LazyRelationship} that have not been loaded along with their
+ * entity by collections that load the related entities on first access. Lazy collections load through the given
+ * session, usually a shared session using the session bound to the current thread by
+ * {@link org.springframework.data.neo4j.transaction.SessionFactoryUtils} or a new one. All lazy collections of the same
+ * field created by one call to {@link #initialize(Object)} are loaded together, with one query, when the first of them
+ * is accessed. Loaded entities get lazy collections as well. Relationships that have been loaded along with their
+ * entity, as described by {@link LoadedRelationships}, are never replaced, even if they are empty.
+ */
+public final class LazyRelationshipLoader {
+
+	private static final String OWNER_IDS_PARAMETER = "ownerIds";
+
+	private final Session session;
+	private final MetaData metaData;
+	private final Map<Class<?>, List<LazyField>> lazyFields = new ConcurrentHashMap<>();
+
+	/**
+	 * Creates a new loader.
+	 *
+	 * @param session the session lazy collections are loaded with, must not be {@literal null}.
+	 * @param metaData the Neo4j-OGM metadata, must not be {@literal null}.
+	 */
+	public LazyRelationshipLoader(Session session, MetaData metaData) {
+		Assert.notNull(session, "Session must not be null!");
+		Assert.notNull(metaData, "MetaData must not be null!");
+
+		this.session = session;
+		this.metaData = metaData;
+	}
+
+	/**
+	 * Installs lazy collections into the lazy relationships of the given entities, which have been loaded without any
+	 * relationships.
+	 *
+	 * @param result a single entity, an {@link Optional}, an {@link Iterable} such as a page, an array or a
+	 *          {@link Stream} of entities
+	 * @param <R> the type of the result
+	 * @return the given result, streams are replaced by streams initializing their elements while being consumed
+	 */
+	@Nullable
+	public <R> R initialize(@Nullable R result) {
+		return initialize(result, LoadedRelationships.none());
+	}
+
+	/**
+	 * Installs lazy collections into the lazy relationships of the given entities and of the entities related to them
+	 * that have not been loaded along with them. Relationships that have been loaded are left alone, even if they are
+	 * empty.
+	 *
+	 * @param result a single entity, an {@link Optional}, an {@link Iterable} such as a page, an array or a
+	 *          {@link Stream} of entities
+	 * @param loaded the relationships that have been loaded along with the entities
+	 * @param <R> the type of the result
+	 * @return the given result, streams are replaced by streams initializing their elements while being consumed
+	 */
+	@Nullable
+	@SuppressWarnings("unchecked")
+	public <R> R initialize(@Nullable R result, LoadedRelationships loaded) {
+
+		if (result == null || result instanceof Result || getHandler(result) != null || loaded.isComplete()) {
+			return result;
+		}
+
+		Batch batch = new Batch();
+		if (result instanceof Stream<?> stream) {
+			return (R) stream.peek(element -> install(Collections.singletonList(element), loaded, batch));
+		}
+		List<Object> entities = new ArrayList<>();
+		if (result instanceof Optional<?> optional) {
+			optional.ifPresent(entities::add);
+		} else if (result instanceof Iterable<?> iterable) {
+			iterable.forEach(entities::add);
+		} else if (result instanceof Object[] array) {
+			entities.addAll(Arrays.asList(array));
+		} else {
+			entities.add(result);
+		}
+		install(entities, loaded, batch);
+		return result;
+	}
+
+	/**
+	 * @param collection the value of a relationship field
+	 * @return {@literal false} if the given value is a lazy collection that has not been loaded yet
+	 */
+	public static boolean isInitialized(@Nullable Object collection) {
+
+		LazyCollectionHandler handler = getHandler(collection);
+		return handler == null || handler.isInitialized();
+	}
+
+	/**
+	 * Creates a new lazy collection that loads the same relationship as the given one, together with it if neither has
+	 * been accessed yet. Used to copy entities without loading their lazy relationships.
+	 *
+	 * @param collection the value of a relationship field
+	 * @return the copy or {@literal null} if the given value is not a lazy collection that has not been loaded yet
+	 */
+	@Nullable
+	public static Object copyIfUninitialized(@Nullable Object collection) {
+
+		LazyCollectionHandler handler = getHandler(collection);
+		return handler == null || handler.isInitialized() ? null : handler.copy();
+	}
+
+	@Nullable
+	private static LazyCollectionHandler getHandler(@Nullable Object collection) {
+
+		if (collection != null && Proxy.isProxyClass(collection.getClass())
+				&& Proxy.getInvocationHandler(collection) instanceof LazyCollectionHandler handler) {
+			return handler;
+		}
+		return null;
+	}
+
+	/**
+	 * Follows the loaded relationships from the given entities to find all entities whose lazy relationships might not
+	 * have been loaded. A relationship counts as loaded if it has been loaded through any path, as the mapping context
+	 * of the session connects all of them.
+	 */
+	private void install(List<Object> entities, LoadedRelationships loaded, Batch batch) {
+
+		List<Object> reached = new ArrayList<>();
+		Map<Object, Set<String>> loadedFields = new IdentityHashMap<>();
+		Map<Object, Set<LoadedRelationships>> visited = new IdentityHashMap<>();
+		Deque<Object[]> pending = new ArrayDeque<>();
+		entities.forEach(entity -> pending.add(new Object[] { entity, loaded }));
+		while (!pending.isEmpty()) {
+			Object[] next = pending.poll();
+			Object entity = next[0];
+			LoadedRelationships relationships = (LoadedRelationships) next[1];
+			if (entity == null || !visited.computeIfAbsent(entity, key -> new HashSet<>()).add(relationships)) {
+				continue;
+			}
+			Set<String> fields = loadedFields.computeIfAbsent(entity, key -> {
+				reached.add(key);
+				return new HashSet<>();
+			});
+			ClassInfo classInfo = metaData.classInfo(entity.getClass().getName());
+			if (classInfo == null || classInfo.isRelationshipEntity()) {
+				continue;
+			}
+			for (FieldInfo fieldInfo : classInfo.relationshipFields()) {
+				LoadedRelationships relatedRelationships = relationships.of(fieldInfo.getName());
+				if (relatedRelationships == null) {
+					continue;
+				}
+				fields.add(fieldInfo.getName());
+				Object value = fieldInfo.read(entity);
+				if (getHandler(value) == null) {
+					forEachRelated(entity, value,
+							related -> pending.add(new Object[] { related, relatedRelationships }));
+				}
+			}
+		}
+		reached.forEach(entity -> install(entity, loadedFields.get(entity), batch));
+	}
+
+	/**
+	 * Relationship entities are skipped, so that the entity at their other end counts as related.
+	 */
+	private void forEachRelated(Object entity, @Nullable Object value, Consumer<Object> action) {
+
+		Iterable<?> values = value instanceof Iterable<?> iterable ? iterable : Collections.singletonList(value);
+		for (Object related : values) {
+			ClassInfo classInfo = related == null ? null : metaData.classInfo(related.getClass().getName());
+			if (classInfo == null || !classInfo.isRelationshipEntity()) {
+				action.accept(related);
+				continue;
+			}
+			for (FieldInfo node : Arrays.asList(classInfo.getStartNodeReader(), classInfo.getEndNodeReader())) {
+				Object other = node == null ? null : node.read(related);
+				if (other != entity) {
+					action.accept(other);
+				}
+			}
+		}
+	}
+
+	/**
+	 * Empty collections of relationships that have not been loaded are replaced as well, as Neo4j-OGM leaves the fields
+	 * of relationships it did not load alone.
+	 */
+	private void install(Object entity, Set<String> loadedFields, Batch batch) {
+
+		for (LazyField lazyField : lazyFields.computeIfAbsent(entity.getClass(), this::findLazyFields)) {
+			if (loadedFields.contains(lazyField.field.getName())) {
+				continue;
+			}
+			Object value = ReflectionUtils.getField(lazyField.field, entity);
+			if (value != null && (getHandler(value) != null || !(value instanceof Collection<?> collection)
+					|| !collection.isEmpty())) {
+				continue;
+			}
+			Object ownerId = lazyField.getOwnerId(entity);
+			if (ownerId != null) {
+				ReflectionUtils.setField(lazyField.field, entity, batch.add(lazyField, ownerId).newProxy());
+			}
+		}
+	}
+
+	private List<LazyField> findLazyFields(Class<?> type) {
+
+		ClassInfo classInfo = metaData.classInfo(type.getName());
+		if (classInfo == null || classInfo.isRelationshipEntity()) {
+			return Collections.emptyList();
+		}
+
+		List<LazyField> result = new ArrayList<>();
+		ReflectionUtils.doWithFields(type, field -> result.add(new LazyField(classInfo, field)),
+				field -> AnnotatedElementUtils.hasAnnotation(field, LazyRelationship.class));
+		return result;
+	}
+
+	/**
+	 * Loads the relationship described by the given field for all given collections with one query.
+	 */
+	private void load(LazyField lazyField, List<LazyCollectionHandler> handlers) {
+
+		List<Object> ownerIds = new ArrayList<>();
+		Map<Object, Integer> indexes = new HashMap<>();
+		for (LazyCollectionHandler handler : handlers) {
+			indexes.computeIfAbsent(handler.ownerId, ownerId -> {
+				ownerIds.add(ownerId);
+				return ownerIds.size() - 1;
+			});
+		}
+
+		List<List<Object>> related = new ArrayList<>(ownerIds.size());
+		ownerIds.forEach(ownerId -> related.add(new ArrayList<>()));
+		List<Object> loaded = new ArrayList<>();
+		for (Map<String, Object> row : session
+				.query(lazyField.query, Collections.singletonMap(OWNER_IDS_PARAMETER, ownerIds)).queryResults()) {
+			Object entity = row.get("m");
+			related.get(((Number) row.get("i")).intValue()).add(entity);
+			loaded.add(entity);
+		}
+
+		handlers.forEach(handler -> handler.initialize(related.get(indexes.get(handler.ownerId))));
+		initialize(loaded);
+	}
+
+	/**
+	 * A lazy relationship field of an entity class and the query loading it.
+	 */
+	private final class LazyField {
+
+		private final Field field;
+		private final boolean set;
+		private final FieldInfo ownerIdField;
+		private final String query;
+
+		LazyField(ClassInfo classInfo, Field field) {
+
+			Class<?> fieldType = field.getType();
+			if (fieldType != List.class && fieldType != Set.class && fieldType != Collection.class) {
+				throw new InvalidDataAccessApiUsageException(
+						"Lazy relationship " + field + " must be declared as List, Set or Collection.");
+			}
+			FieldInfo relationshipField = classInfo.relationshipFieldByName(field.getName());
+			if (relationshipField == null) {
+				throw new InvalidDataAccessApiUsageException("Lazy relationship " + field + " is not a relationship.");
+			}
+			Class<?> relatedType = RelationshipPatterns.relatedType(field);
+			ClassInfo relatedClassInfo = relatedType == null ? null : metaData.classInfo(relatedType.getName());
+			if (relatedClassInfo != null && relatedClassInfo.isRelationshipEntity()) {
+				throw new InvalidDataAccessApiUsageException(
+						"Lazy relationship " + field + " must relate to node entities, not to relationship entities.");
+			}
+			FieldInfo primaryIndexField = classInfo.primaryIndexField();
+			FieldInfo idField = primaryIndexField == null ? classInfo.identityFieldOrNull() : primaryIndexField;
+			if (idField == null) {
+				throw new InvalidDataAccessApiUsageException(
+						"Lazy relationship " + field + " requires " + classInfo.name() + " to have an id.");
+			}
+
+			ReflectionUtils.makeAccessible(field);
+			this.field = field;
+			this.set = fieldType == Set.class;
+			this.ownerIdField = idField;
+			this.query = "UNWIND range(0, size($" + OWNER_IDS_PARAMETER + ") - 1) AS i "
+					+ matchOwner(classInfo, primaryIndexField) + " MATCH (n)"
+					+ RelationshipPatterns.of(field, relationshipField) + "(m"
+					+ (relatedClassInfo == null ? "" : ":`" + relatedClassInfo.neo4jName() + "`") + ") RETURN i, m";
+		}
+
+		private String matchOwner(ClassInfo classInfo, @Nullable FieldInfo primaryIndexField) {
+
+			String ownerId = "$" + OWNER_IDS_PARAMETER + "[i]";
+			if (primaryIndexField == null) {
+				return "MATCH (n) WHERE id(n) = " + ownerId;
+			}
+			return "MATCH (n:`" + classInfo.neo4jName() + "` {`" + primaryIndexField.property() + "`: " + ownerId
+					+ "})";
+		}
+
+		@Nullable
+		@SuppressWarnings({ "rawtypes", "unchecked" })
+		Object getOwnerId(Object entity) {
+
+			Object id = ownerIdField.readProperty(entity);
+			if (id != null && ownerIdField.hasPropertyConverter()) {
+				return ((AttributeConverter) ownerIdField.getPropertyConverter()).toGraphProperty(id);
+			}
+			return id;
+		}
+	}
+
+	/**
+	 * The lazy collections created by one call to {@link #initialize(Object)} that have not been loaded yet.
+	 */
+	private final class Batch {
+
+		private final Map<LazyField, List<LazyCollectionHandler>> unloaded = new HashMap<>();
+
+		synchronized LazyCollectionHandler add(LazyField lazyField, Object ownerId) {
+
+			LazyCollectionHandler handler = new LazyCollectionHandler(this, lazyField, ownerId);
+			unloaded.computeIfAbsent(lazyField, key -> new ArrayList<>()).add(handler);
+			return handler;
+		}
+
+		synchronized void load(LazyField lazyField) {
+
+			List<LazyCollectionHandler> handlers = unloaded.remove(lazyField);
+			if (handlers == null) {
+				return;
+			}
+			try {
+				LazyRelationshipLoader.this.load(lazyField, handlers);
+			} catch (RuntimeException e) {
+				unloaded.put(lazyField, handlers);
+				throw e;
+			}
+		}
+	}
+
+	/**
+	 * Delegates to the loaded collection, loading it first if necessary.
+	 */
+	private static final class LazyCollectionHandler implements InvocationHandler {
+
+		private final Batch batch;
+		private final LazyField lazyField;
+		private final Object ownerId;
+		private volatile Collection<Object> loaded;
+
+		LazyCollectionHandler(Batch batch, LazyField lazyField, Object ownerId) {
+			this.batch = batch;
+			this.lazyField = lazyField;
+			this.ownerId = ownerId;
+		}
+
+		Object newProxy() {
+			return Proxy.newProxyInstance(LazyRelationshipLoader.class.getClassLoader(),
+					new Class<?>[] { lazyField.set ? Set.class : List.class }, this);
+		}
+
+		Object copy() {
+			return batch.add(lazyField, ownerId).newProxy();
+		}
+
+		boolean isInitialized() {
+			return loaded != null;
+		}
+
+		void initialize(List<Object> entities) {
+			this.loaded = lazyField.set ? new LinkedHashSet<>(entities) : new ArrayList<>(entities);
+		}
+
+		@Override
+		public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+
+			Collection<Object> target = loaded;
+			if (target == null) {
+				batch.load(lazyField);
+				target = loaded;
+			}
+			try {
+				return method.invoke(target, args);
+			} catch (InvocationTargetException e) {
+				throw e.getTargetException();
+			}
+		}
+	}
+}
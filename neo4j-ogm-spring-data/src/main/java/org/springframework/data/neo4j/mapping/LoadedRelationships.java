@@ -0,0 +1,110 @@
+/*
+ * Copyright 2011-2023 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.neo4j.mapping;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Map;
+
+import org.springframework.lang.Nullable;
+
+/**
+ * Describes which relationship fields have been loaded along with an entity, either up to a depth or along the paths
+ * of a fetch profile. Used by the {@link LazyRelationshipLoader} to tell relationships that have been loaded but are
+ * empty from relationships that have not been loaded at all.
+ */
+public final class LoadedRelationships {
+
+	private static final LoadedRelationships NONE = new LoadedRelationships(0, null);
+	private static final LoadedRelationships ALL = new LoadedRelationships(-1, null);
+
+	private final int depth;
+	private final @Nullable Map<String, LoadedRelationships> paths;
+
+	/**
+	 * @return a description of an entity loaded without any relationships
+	 */
+	public static LoadedRelationships none() {
+		return NONE;
+	}
+
+	/**
+	 * @param depth the depth the entity has been loaded with, a negative value if all relationships have been loaded
+	 * @return a description of an entity loaded with all relationships up to the given depth
+	 */
+	public static LoadedRelationships ofDepth(int depth) {
+		return depth < 0 ? ALL : depth == 0 ? NONE : new LoadedRelationships(depth, null);
+	}
+
+	/**
+	 * @param paths paths of relationship fields separated by dots, as declared by a
+	 *          {@link org.springframework.data.neo4j.annotation.FetchProfile}
+	 * @return a description of an entity loaded with the relationships along the given paths
+	 */
+	public static LoadedRelationships ofPaths(Collection<String> paths) {
+
+		LoadedRelationships root = new LoadedRelationships(0, new HashMap<>());
+		for (String path : paths) {
+			LoadedRelationships current = root;
+			for (String segment : Arrays.asList(path.split("\\."))) {
+				current = current.paths.computeIfAbsent(segment, key -> new LoadedRelationships(0, new HashMap<>()));
+			}
+		}
+		return root;
+	}
+
+	private LoadedRelationships(int depth, @Nullable Map<String, LoadedRelationships> paths) {
+		this.depth = depth;
+		this.paths = paths;
+	}
+
+	/**
+	 * @param field the name of a relationship field of the entity
+	 * @return the relationships loaded along with the entities related through the given field, {@literal null} if the
+	 *         field has not been loaded
+	 */
+	@Nullable
+	LoadedRelationships of(String field) {
+
+		if (paths != null) {
+			return paths.get(field);
+		}
+		return depth < 0 ? ALL : depth == 0 ? null : ofDepth(depth - 1);
+	}
+
+	/**
+	 * @return {@literal true} if all relationships have been loaded
+	 */
+	boolean isComplete() {
+		return this == ALL;
+	}
+
+	/**
+	 * Descriptions of the same depth are equal, so that entities reached through different paths of the same length are
+	 * only visited once.
+	 */
+	@Override
+	public boolean equals(Object o) {
+		return this == o || paths == null && o instanceof LoadedRelationships other && other.paths == null
+				&& depth == other.depth;
+	}
+
+	@Override
+	public int hashCode() {
+		return paths == null ? depth : System.identityHashCode(this);
+	}
+}
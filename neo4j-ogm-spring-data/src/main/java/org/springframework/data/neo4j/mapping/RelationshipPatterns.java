@@ -0,0 +1,70 @@
+/*
+ * Copyright 2011-2023 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.neo4j.mapping;
+
+import java.lang.reflect.Field;
+import java.util.Collection;
+
+import org.neo4j.ogm.annotation.Relationship;
+import org.neo4j.ogm.metadata.FieldInfo;
+import org.springframework.core.ResolvableType;
+import org.springframework.core.annotation.AnnotatedElementUtils;
+import org.springframework.lang.Nullable;
+
+/**
+ * Renders the Cypher patterns of relationship fields.
+ */
+final class RelationshipPatterns {
+
+	/**
+	 * @param field the relationship field
+	 * @param relationshipField the Neo4j-OGM metadata of the field
+	 * @return the pattern of the relationship with its direction, like {@code -[:`ACTED_IN`]->}
+	 */
+	static String of(Field field, FieldInfo relationshipField) {
+
+		Relationship relationship = AnnotatedElementUtils.findMergedAnnotation(field, Relationship.class);
+		String type = "[:`" + relationshipField.relationship() + "`]";
+		if (relationship == null) {
+			return "-" + type + "->";
+		}
+		return switch (relationship.direction()) {
+			case INCOMING -> "<-" + type + "-";
+			case UNDIRECTED -> "-" + type + "-";
+			default -> "-" + type + "->";
+		};
+	}
+
+	/**
+	 * @param field the relationship field
+	 * @return the type of the related entities, the element type for arrays and collections
+	 */
+	@Nullable
+	static Class<?> relatedType(Field field) {
+
+		ResolvableType type = ResolvableType.forField(field);
+		if (type.isArray()) {
+			return type.getComponentType().resolve();
+		}
+		if (Collection.class.isAssignableFrom(type.toClass())) {
+			return type.asCollection().resolveGeneric(0);
+		}
+		return type.resolve();
+	}
+
+	private RelationshipPatterns() {
+	}
+}
@@ -0,0 +1,171 @@
+/*
+ * Copyright 2011-2023 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.neo4j.mapping;
+
+import java.lang.reflect.Array;
+import java.lang.reflect.Modifier;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Date;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import org.neo4j.ogm.metadata.ClassInfo;
+import org.neo4j.ogm.metadata.MetaData;
+import org.springframework.beans.BeanUtils;
+import org.springframework.core.annotation.AnnotatedElementUtils;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
+import org.springframework.data.domain.Window;
+import org.springframework.data.neo4j.annotation.QueryResult;
+import org.springframework.lang.Nullable;
+import org.springframework.objenesis.ObjenesisStd;
+import org.springframework.util.ReflectionUtils;
+
+/**
+ * Creates independent copies of query results. Entities and {@link QueryResult} objects are copied field by field,
+ * including the entities they are related to, preserving the shape of the graph. Containers are copied with their
+ * elements, arrays and dates are copied as well. Immutable values are shared. Lazy relationships that have not been loaded yet are copied without
+ * loading them. Results containing anything else, for example projections, cannot be copied.
+ */
+public final class ResultCopier {
+
+	private static final ObjenesisStd OBJENESIS = new ObjenesisStd(true);
+
+	private final MetaData metaData;
+
+	public ResultCopier(MetaData metaData) {
+		this.metaData = metaData;
+	}
+
+	/**
+	 * @param result the result of a query
+	 * @return an independent copy of the result
+	 * @throws NotCopyableException if the result contains values that cannot be copied
+	 */
+	@Nullable
+	public Object copy(@Nullable Object result) {
+		return copy(result, new IdentityHashMap<>());
+	}
+
+	@Nullable
+	private Object copy(@Nullable Object value, Map<Object, Object> copies) {
+
+		if (value instanceof Date date) {
+			return date.clone();
+		}
+		if (value == null || BeanUtils.isSimpleValueType(value.getClass())) {
+			return value;
+		}
+
+		Object existingCopy = copies.get(value);
+		if (existingCopy != null) {
+			return existingCopy;
+		}
+
+		if (value instanceof Page<?> page) {
+			return new PageImpl<>(copyAll(page.getContent(), copies), page.getPageable(), page.getTotalElements());
+		}
+		if (value instanceof Slice<?> slice) {
+			return new SliceImpl<>(copyAll(slice.getContent(), copies), slice.getPageable(), slice.hasNext());
+		}
+		if (value instanceof Window<?> window) {
+			return Window.from(copyAll(window.getContent(), copies), window::positionAt, window.hasNext());
+		}
+		Object lazyCopy = LazyRelationshipLoader.copyIfUninitialized(value);
+		if (lazyCopy != null) {
+			return lazyCopy;
+		}
+		if (value instanceof List<?> list) {
+			return copyAll(list, copies);
+		}
+		if (value instanceof Set<?> set) {
+			Set<Object> copy = new LinkedHashSet<>(set.size());
+			set.forEach(element -> copy.add(copy(element, copies)));
+			return copy;
+		}
+		if (value instanceof Map<?, ?> map) {
+			Map<Object, Object> copy = new LinkedHashMap<>(map.size());
+			map.forEach((k, v) -> copy.put(k, copy(v, copies)));
+			return copy;
+		}
+		if (value instanceof Object[] array) {
+			Object[] copy = (Object[]) Array.newInstance(array.getClass().getComponentType(), array.length);
+			for (int i = 0; i < array.length; i++) {
+				copy[i] = copy(array[i], copies);
+			}
+			return copy;
+		}
+		if (value.getClass().isArray()) {
+			int length = Array.getLength(value);
+			Object copy = Array.newInstance(value.getClass().getComponentType(), length);
+			System.arraycopy(value, 0, copy, 0, length);
+			return copy;
+		}
+
+		if (isCopiedFieldByField(value.getClass())) {
+			return copyEntity(value, copies);
+		}
+		throw new NotCopyableException();
+	}
+
+	/**
+	 * The fields of records are final and cannot be set on copies.
+	 */
+	private boolean isCopiedFieldByField(Class<?> type) {
+
+		if (type.isRecord()) {
+			return false;
+		}
+		ClassInfo classInfo = metaData.classInfo(type.getName());
+		return classInfo != null && !classInfo.isEnum() && !classInfo.isInterface()
+				|| AnnotatedElementUtils.hasAnnotation(type, QueryResult.class);
+	}
+
+	private List<Object> copyAll(Collection<?> elements, Map<Object, Object> copies) {
+
+		List<Object> copy = new ArrayList<>(elements.size());
+		elements.forEach(element -> copy.add(copy(element, copies)));
+		return copy;
+	}
+
+	private Object copyEntity(Object entity, Map<Object, Object> copies) {
+
+		Object copy = OBJENESIS.newInstance(entity.getClass());
+		copies.put(entity, copy);
+		ReflectionUtils.doWithFields(entity.getClass(), field -> {
+			ReflectionUtils.makeAccessible(field);
+			field.set(copy, copy(field.get(entity), copies));
+		}, field -> !Modifier.isStatic(field.getModifiers()));
+		return copy;
+	}
+
+	/**
+	 * Thrown if a result cannot be copied.
+	 */
+	public static final class NotCopyableException extends RuntimeException {
+
+		public NotCopyableException() {
+			super(null, null, false, false);
+		}
+	}
+}
@@ -0,0 +1,327 @@
+/*
+ * Copyright 2011-2023 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.neo4j.metrics;
+
+import java.util.Collection;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Supplier;
+import java.util.stream.BaseStream;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.Timer;
+
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.Window;
+import org.springframework.data.util.ReactiveWrappers;
+import org.springframework.lang.Nullable;
+
+/**
+ * Records Micrometer metrics for the invocations of repository methods. Registering a bean of this type instruments
+ * the CRUD methods and query methods of all repositories. Each invocation is recorded by these meters:
+ * <ul>
+ * <li>{@value #INVOCATIONS}: the duration of the invocation, tagged with its {@code outcome} and {@code exception}</li>
+ * <li>{@value #DATABASE}: the time spent in Neo4j-OGM executing statements and mapping their records to entities</li>
+ * <li>{@value #MAPPING}: the remaining time, spent processing the result, for example to convert or project it</li>
+ * <li>{@value #ROWS}: the number of returned entities or rows, unless the result is a stream, an iterable other than a
+ * collection or a reactive type</li>
+ * </ul>
+ * All meters are tagged with the simple name of the {@code repository} interface, the name of the {@code method} and
+ * the {@code execution}: The simple name of the {@code GraphQueryExecution} of a query method,
+ * {@value #CRUD_EXECUTION} for methods of {@code SimpleNeo4jRepository} and {@value #NO_EXECUTION} for other methods
+ * or if nothing has been executed, for example because the result has been cached. The database and mapping times
+ * are only recorded if something has been executed. Invocations returning a {@link CompletionStage} are recorded
+ * once it completes, invocations returning a stream once the stream is closed.
+ */
+public class RepositoryMetrics {
+
+	/**
+	 * Name of the timer recording the duration of invocations.
+	 */
+	public static final String INVOCATIONS = "neo4j.ogm.repository.invocations";
+
+	/**
+	 * Name of the timer recording the time spent in Neo4j-OGM.
+	 */
+	public static final String DATABASE = "neo4j.ogm.repository.database";
+
+	/**
+	 * Name of the timer recording the time spent processing results.
+	 */
+	public static final String MAPPING = "neo4j.ogm.repository.mapping";
+
+	/**
+	 * Name of the distribution summary recording the number of returned entities or rows.
+	 */
+	public static final String ROWS = "neo4j.ogm.repository.rows";
+
+	/**
+	 * Execution tag of methods implemented by {@code SimpleNeo4jRepository}.
+	 */
+	public static final String CRUD_EXECUTION = "crud";
+
+	/**
+	 * Execution tag of invocations that did not execute anything.
+	 */
+	public static final String NO_EXECUTION = "none";
+
+	private final MeterRegistry meterRegistry;
+	private final ThreadLocal<Invocation> currentInvocation = new ThreadLocal<>();
+	private final Map<MethodKey, MethodMeters> methodMeters = new ConcurrentHashMap<>();
+
+	/**
+	 * @param meterRegistry the registry to record the metrics in
+	 */
+	public RepositoryMetrics(MeterRegistry meterRegistry) {
+		this.meterRegistry = meterRegistry;
+	}
+
+	/**
+	 * Starts measuring an invocation on the current thread. Invocations of other repository methods while this one is
+	 * running are measured on their own.
+	 *
+	 * @param repositoryInterface the repository interface
+	 * @param method the name of the invoked method
+	 * @return the invocation, which must be stopped on the same thread
+	 */
+	public Invocation start(Class<?> repositoryInterface, String method) {
+
+		Invocation invocation = new Invocation(repositoryInterface, method, currentInvocation.get());
+		currentInvocation.set(invocation);
+		return invocation;
+	}
+
+	/**
+	 * Executes a call to Neo4j-OGM and adds its duration to the database time of the invocation running on the current
+	 * thread, if any.
+	 *
+	 * @param execution the name of the execution issuing the call
+	 * @param call the call to execute
+	 * @param <T> the type of the result
+	 * @return the result of the call
+	 */
+	public <T> T database(String execution, Supplier<T> call) {
+
+		Invocation invocation = currentInvocation.get();
+		if (invocation == null) {
+			return call.get();
+		}
+		long start = System.nanoTime();
+		try {
+			return call.get();
+		} finally {
+			invocation.addDatabaseTime(execution, System.nanoTime() - start);
+		}
+	}
+
+	/**
+	 * Adds the duration of a call to Neo4j-OGM to the database time of the invocation running on the current thread, if
+	 * any.
+	 *
+	 * @param execution the name of the execution issuing the call
+	 * @param nanos the duration of the call
+	 */
+	public void addDatabaseTime(String execution, long nanos) {
+
+		Invocation invocation = currentInvocation.get();
+		if (invocation != null) {
+			invocation.addDatabaseTime(execution, nanos);
+		}
+	}
+
+	/**
+	 * @return the number of entities or rows in the result, {@literal -1} if it cannot be determined without consuming
+	 *         the result
+	 */
+	static long countRows(@Nullable Object result) {
+
+		if (result == null) {
+			return 0;
+		}
+		if (result instanceof Optional<?> optional) {
+			return optional.isPresent() ? 1 : 0;
+		}
+		if (result instanceof Collection<?> collection) {
+			return collection.size();
+		}
+		if (result instanceof Slice<?> slice) {
+			return slice.getNumberOfElements();
+		}
+		if (result instanceof Window<?> window) {
+			return window.size();
+		}
+		// Other iterables might be lazy or single use
+		if (result instanceof Iterable<?> || result instanceof BaseStream<?, ?> || result instanceof Future<?>
+				|| result instanceof CompletionStage<?>
+				|| ReactiveWrappers.isAvailable() && ReactiveWrappers.supports(result.getClass())) {
+			return -1;
+		}
+		return 1;
+	}
+
+	/**
+	 * A running invocation of a repository method.
+	 */
+	public final class Invocation {
+
+		private final Class<?> repositoryInterface;
+		private final String method;
+		private final @Nullable Invocation previous;
+		private final long start = System.nanoTime();
+
+		private @Nullable String execution;
+		private long databaseTime;
+
+		private Invocation(Class<?> repositoryInterface, String method, @Nullable Invocation previous) {
+			this.repositoryInterface = repositoryInterface;
+			this.method = method;
+			this.previous = previous;
+		}
+
+		/**
+		 * Adds time spent in Neo4j-OGM.
+		 *
+		 * @param executionName the name of the execution issuing the calls, the last one is used as the execution tag
+		 * @param nanos the time spent
+		 */
+		public void addDatabaseTime(String executionName, long nanos) {
+
+			this.execution = executionName;
+			this.databaseTime += nanos;
+		}
+
+		/**
+		 * Stops measuring the invocation on the current thread. Results completing later are recorded once they
+		 * completed: {@link CompletionStage completion stages} when they complete and streams when they are closed.
+		 *
+		 * @param result the result of the invocation
+		 * @param error the error the invocation failed with, {@literal null} if it succeeded
+		 * @return the result to hand out instead of the given one, recording the invocation once it completed
+		 */
+		@Nullable
+		public Object stop(@Nullable Object result, @Nullable Throwable error) {
+
+			if (currentInvocation.get() == this) {
+				if (previous == null) {
+					currentInvocation.remove();
+				} else {
+					currentInvocation.set(previous);
+				}
+			}
+
+			if (error == null && result instanceof CompletionStage<?> stage) {
+				stage.whenComplete((value, failure) -> record(value,
+						failure instanceof CompletionException ? failure.getCause() : failure));
+				return result;
+			}
+			if (error == null && result instanceof BaseStream<?, ?> stream) {
+				AtomicBoolean closed = new AtomicBoolean();
+				return stream.onClose(() -> {
+					if (closed.compareAndSet(false, true)) {
+						record(stream, null);
+					}
+				});
+			}
+			record(result, error);
+			return result;
+		}
+
+		private void record(@Nullable Object result, @Nullable Throwable error) {
+
+			long duration = System.nanoTime() - start;
+			MethodMeters meters = methodMeters.computeIfAbsent(
+					new MethodKey(repositoryInterface, method, execution == null ? NO_EXECUTION : execution),
+					MethodMeters::new);
+
+			meters.invocations(error).record(duration, TimeUnit.NANOSECONDS);
+			if (meters.database != null && meters.mapping != null) {
+				meters.database.record(databaseTime, TimeUnit.NANOSECONDS);
+				meters.mapping.record(Math.max(0, duration - databaseTime), TimeUnit.NANOSECONDS);
+			}
+			long rows = error == null ? countRows(result) : -1;
+			if (rows >= 0) {
+				meters.rows().record(rows);
+			}
+		}
+	}
+
+	/**
+	 * Identifies the meters of a repository method and execution.
+	 */
+	private record MethodKey(Class<?> repositoryInterface, String method, String execution) {
+	}
+
+	/**
+	 * The meters of a repository method and execution, registered once and reused for all invocations.
+	 */
+	private final class MethodMeters {
+
+		private final Tags tags;
+		private final Timer succeeded;
+		private final Map<Class<?>, Timer> failed = new ConcurrentHashMap<>();
+		private final @Nullable Timer database;
+		private final @Nullable Timer mapping;
+		private volatile @Nullable DistributionSummary rows;
+
+		private MethodMeters(MethodKey key) {
+
+			this.tags = Tags.of("repository", key.repositoryInterface().getSimpleName(), "method", key.method(),
+					"execution", key.execution());
+			this.succeeded = invocationTimer("SUCCESS", "none");
+			if (NO_EXECUTION.equals(key.execution())) {
+				this.database = null;
+				this.mapping = null;
+			} else {
+				this.database = Timer.builder(DATABASE).description("Time repository methods spent in Neo4j-OGM")
+						.tags(tags).register(meterRegistry);
+				this.mapping = Timer.builder(MAPPING).description("Time repository methods spent processing results")
+						.tags(tags).register(meterRegistry);
+			}
+		}
+
+		private Timer invocationTimer(String outcome, String exception) {
+			return Timer.builder(INVOCATIONS).description("Invocations of repository methods").tags(tags)
+					.tag("outcome", outcome).tag("exception", exception).register(meterRegistry);
+		}
+
+		private Timer invocations(@Nullable Throwable error) {
+			return error == null ? succeeded
+					: failed.computeIfAbsent(error.getClass(),
+							errorType -> invocationTimer("ERROR", errorType.getSimpleName()));
+		}
+
+		private DistributionSummary rows() {
+
+			DistributionSummary summary = rows;
+			if (summary == null) {
+				// Registering is idempotent, racing threads get the same summary
+				summary = DistributionSummary.builder(ROWS)
+						.description("Entities or rows returned by repository methods").baseUnit("rows").tags(tags)
+						.register(meterRegistry);
+				rows = summary;
+			}
+			return summary;
+		}
+	}
+}
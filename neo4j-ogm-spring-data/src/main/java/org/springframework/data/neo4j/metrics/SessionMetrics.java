@@ -0,0 +1,291 @@
+/*
+ * Copyright 2011-2023 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.neo4j.metrics;
+
+import java.time.Duration;
+import java.util.EnumMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import io.micrometer.core.instrument.Clock;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+
+import org.neo4j.ogm.session.Session;
+import org.neo4j.ogm.session.SessionFactory;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.data.neo4j.transaction.SessionFactoryUtils;
+import org.springframework.data.neo4j.transaction.SessionLifecycleListener;
+import org.springframework.lang.Nullable;
+
+/**
+ * Records Micrometer metrics for the sessions opened by the Spring integration and for the transactions of the
+ * {@code Neo4jTransactionManager}. An instance registers itself as {@link SessionLifecycleListener} for a session
+ * factory and removes itself when being closed. It records these meters:
+ * <ul>
+ * <li>{@value #OPEN_SESSIONS}: a gauge of the sessions currently held, tagged with their {@code source}</li>
+ * <li>{@value #OPENED_SESSIONS}: a counter of the opened sessions, tagged with their {@code source}</li>
+ * <li>{@value #ACTIVE_TRANSACTIONS}: a gauge of the running transactions</li>
+ * <li>{@value #BEGUN_TRANSACTIONS}: a counter of the begun transactions</li>
+ * <li>{@value #TRANSACTIONS}: a timer with a histogram of the duration of completed transactions, tagged with their
+ * {@code outcome}, {@code committed} or {@code rolled_back}</li>
+ * <li>{@value #BOOKMARK_WAIT}: a timer of beginning transactions with bookmarks, which waits for the database to catch
+ * up with them</li>
+ * <li>{@value #HELD_TOO_LONG}: a counter of sessions and transactions held longer than the leak detection threshold,
+ * tagged with their {@code kind}</li>
+ * </ul>
+ * With a leak detection threshold, sessions and transactions held longer than the threshold are logged as warning,
+ * once while they are still held and otherwise when they are closed. The stack trace of the code opening the session
+ * or beginning the transaction is only captured and logged with the warning while debug logging is enabled for this
+ * class, as capturing it for every session is expensive. The threshold is meant for finding the code holding
+ * sessions, for example an open session in view of a slow request.
+ */
+public class SessionMetrics implements SessionLifecycleListener, AutoCloseable {
+
+	/**
+	 * Name of the gauge of currently held sessions.
+	 */
+	public static final String OPEN_SESSIONS = "neo4j.ogm.sessions.open";
+
+	/**
+	 * Name of the counter of opened sessions.
+	 */
+	public static final String OPENED_SESSIONS = "neo4j.ogm.sessions.opened";
+
+	/**
+	 * Name of the gauge of running transactions.
+	 */
+	public static final String ACTIVE_TRANSACTIONS = "neo4j.ogm.transactions.active";
+
+	/**
+	 * Name of the counter of begun transactions.
+	 */
+	public static final String BEGUN_TRANSACTIONS = "neo4j.ogm.transactions.begun";
+
+	/**
+	 * Name of the timer recording the duration of completed transactions.
+	 */
+	public static final String TRANSACTIONS = "neo4j.ogm.transactions";
+
+	/**
+	 * Name of the timer recording the time spent beginning transactions with bookmarks.
+	 */
+	public static final String BOOKMARK_WAIT = "neo4j.ogm.bookmarks.wait";
+
+	/**
+	 * Name of the counter of sessions and transactions held longer than the leak detection threshold.
+	 */
+	public static final String HELD_TOO_LONG = "neo4j.ogm.held.too.long";
+
+	private static final Logger logger = LoggerFactory.getLogger(SessionMetrics.class);
+
+	private final MeterRegistry meterRegistry;
+	private final SessionFactory sessionFactory;
+	private final Clock clock;
+	private final @Nullable Duration leakDetectionThreshold;
+	private final @Nullable ScheduledExecutorService leakDetector;
+
+	private final Map<Source, String> sessionDescriptions = new EnumMap<>(Source.class);
+	private final Map<Source, AtomicInteger> openSessions = new EnumMap<>(Source.class);
+	private final Map<Source, Counter> openedSessions = new EnumMap<>(Source.class);
+	private final Counter begunTransactions;
+	private final Timer committedTransactions;
+	private final Timer rolledBackTransactions;
+	private final Timer bookmarkWait;
+
+	private final Map<Session, Hold> heldSessions = new ConcurrentHashMap<>();
+	private final Map<Session, Hold> runningTransactions = new ConcurrentHashMap<>();
+
+	/**
+	 * Creates the metrics without leak detection.
+	 *
+	 * @param meterRegistry the registry to record the metrics in
+	 * @param sessionFactory the session factory to record the sessions of
+	 */
+	public SessionMetrics(MeterRegistry meterRegistry, SessionFactory sessionFactory) {
+		this(meterRegistry, sessionFactory, null);
+	}
+
+	/**
+	 * @param meterRegistry the registry to record the metrics in
+	 * @param sessionFactory the session factory to record the sessions of
+	 * @param leakDetectionThreshold the time after which held sessions and transactions are reported, {@literal null}
+	 *          or zero to disable leak detection
+	 */
+	public SessionMetrics(MeterRegistry meterRegistry, SessionFactory sessionFactory,
+			@Nullable Duration leakDetectionThreshold) {
+
+		this.meterRegistry = meterRegistry;
+		this.sessionFactory = sessionFactory;
+		this.clock = meterRegistry.config().clock();
+		this.leakDetectionThreshold = leakDetectionThreshold == null || leakDetectionThreshold.isZero()
+				|| leakDetectionThreshold.isNegative() ? null : leakDetectionThreshold;
+
+		for (Source source : Source.values()) {
+			String tag = tag(source);
+			AtomicInteger open = new AtomicInteger();
+			Gauge.builder(OPEN_SESSIONS, open, AtomicInteger::get).description("Sessions currently held")
+					.tag("source", tag).register(meterRegistry);
+			openSessions.put(source, open);
+			sessionDescriptions.put(source, "Session opened by " + tag);
+			openedSessions.put(source, Counter.builder(OPENED_SESSIONS).description("Opened sessions")
+					.tag("source", tag).register(meterRegistry));
+		}
+		Gauge.builder(ACTIVE_TRANSACTIONS, runningTransactions, Map::size).description("Running transactions")
+				.register(meterRegistry);
+		this.begunTransactions = Counter.builder(BEGUN_TRANSACTIONS).description("Begun transactions")
+				.register(meterRegistry);
+		this.committedTransactions = transactionTimer("committed");
+		this.rolledBackTransactions = transactionTimer("rolled_back");
+		this.bookmarkWait = Timer.builder(BOOKMARK_WAIT).description("Time spent beginning transactions with bookmarks")
+				.register(meterRegistry);
+
+		if (this.leakDetectionThreshold == null) {
+			this.leakDetector = null;
+		} else {
+			this.leakDetector = Executors.newSingleThreadScheduledExecutor(runnable -> {
+				Thread thread = new Thread(runnable, "neo4j-ogm-leak-detection");
+				thread.setDaemon(true);
+				return thread;
+			});
+			long period = this.leakDetectionThreshold.toMillis();
+			this.leakDetector.scheduleWithFixedDelay(this::detectLeaks, period, period, TimeUnit.MILLISECONDS);
+		}
+		SessionFactoryUtils.registerSessionLifecycleListener(sessionFactory, this);
+	}
+
+	private static String tag(Source source) {
+		return source.name().toLowerCase(Locale.ROOT);
+	}
+
+	private Timer transactionTimer(String outcome) {
+		return Timer.builder(TRANSACTIONS).description("Duration of completed transactions").tag("outcome", outcome)
+				.publishPercentileHistogram().register(meterRegistry);
+	}
+
+	@Override
+	public void sessionOpened(Session session, Source source) {
+
+		openedSessions.get(source).increment();
+		if (heldSessions.put(session, new Hold(sessionDescriptions.get(source), source)) == null) {
+			openSessions.get(source).incrementAndGet();
+		}
+	}
+
+	@Override
+	public void sessionClosed(Session session) {
+
+		Hold hold = heldSessions.remove(session);
+		if (hold != null) {
+			openSessions.get(hold.source).decrementAndGet();
+			reportIfHeldTooLong(hold, "session");
+		}
+	}
+
+	@Override
+	public void transactionBegun(Session session) {
+
+		begunTransactions.increment();
+		runningTransactions.put(session, new Hold("Transaction", null));
+	}
+
+	@Override
+	public void transactionCompleted(Session session, boolean committed) {
+
+		Hold hold = runningTransactions.remove(session);
+		if (hold != null) {
+			(committed ? committedTransactions : rolledBackTransactions).record(clock.monotonicTime() - hold.start,
+					TimeUnit.NANOSECONDS);
+			reportIfHeldTooLong(hold, "transaction");
+		}
+	}
+
+	@Override
+	public void bookmarksAwaited(Duration duration) {
+		bookmarkWait.record(duration);
+	}
+
+	/**
+	 * Reports the sessions and transactions currently held longer than the leak detection threshold, which haven't been
+	 * reported yet. Called periodically when leak detection is enabled.
+	 */
+	void detectLeaks() {
+
+		heldSessions.values().forEach(hold -> reportIfHeldTooLong(hold, "session"));
+		runningTransactions.values().forEach(hold -> reportIfHeldTooLong(hold, "transaction"));
+	}
+
+	private void reportIfHeldTooLong(Hold hold, String kind) {
+
+		if (leakDetectionThreshold == null) {
+			return;
+		}
+		long heldFor = clock.monotonicTime() - hold.start;
+		if (heldFor < leakDetectionThreshold.toNanos() || !hold.reported.compareAndSet(false, true)) {
+			return;
+		}
+		Counter.builder(HELD_TOO_LONG).description("Sessions and transactions held longer than the threshold")
+				.tag("kind", kind).register(meterRegistry).increment();
+		if (hold.openedAt == null) {
+			logger.warn("{} has been held for {} ms, longer than the threshold of {} ms, enable debug logging for {} to "
+					+ "see where", hold.description, TimeUnit.NANOSECONDS.toMillis(heldFor),
+					leakDetectionThreshold.toMillis(), SessionMetrics.class.getName());
+		} else {
+			logger.warn("{} has been held for {} ms, longer than the threshold of {} ms", hold.description,
+					TimeUnit.NANOSECONDS.toMillis(heldFor), leakDetectionThreshold.toMillis(), hold.openedAt);
+		}
+	}
+
+	/**
+	 * Stops the leak detection and removes this listener from the session factory.
+	 */
+	@Override
+	public void close() {
+
+		SessionFactoryUtils.unregisterSessionLifecycleListener(sessionFactory, this);
+		if (leakDetector != null) {
+			leakDetector.shutdownNow();
+		}
+	}
+
+	/**
+	 * A held session or running transaction.
+	 */
+	private final class Hold {
+
+		private final String description;
+		private final @Nullable Source source;
+		private final long start = clock.monotonicTime();
+		private final @Nullable Throwable openedAt;
+		private final AtomicBoolean reported = new AtomicBoolean();
+
+		private Hold(String description, @Nullable Source source) {
+			this.description = description;
+			this.source = source;
+			this.openedAt = leakDetectionThreshold != null && logger.isDebugEnabled() ? new Throwable("Opened here")
+					: null;
+		}
+	}
+}
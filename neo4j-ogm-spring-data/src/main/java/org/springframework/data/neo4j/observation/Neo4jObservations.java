@@ -0,0 +1,266 @@
+/*
+ * Copyright 2011-2023 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.neo4j.observation;
+
+import java.util.Collection;
+import java.util.Map;
+import java.util.Set;
+import java.util.SortedSet;
+import java.util.TreeSet;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Supplier;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.stream.BaseStream;
+
+import io.micrometer.observation.Observation;
+import io.micrometer.observation.ObservationRegistry;
+
+import org.neo4j.ogm.cypher.Filter;
+import org.neo4j.ogm.cypher.Filters;
+import org.neo4j.ogm.model.Result;
+import org.neo4j.ogm.session.Session;
+import org.neo4j.ogm.session.SessionFactory;
+import org.springframework.data.neo4j.transaction.SessionFactoryUtils;
+import org.springframework.data.neo4j.transaction.SessionLifecycleListener;
+import org.springframework.data.neo4j.transaction.SessionOperationInterceptor;
+import org.springframework.lang.Nullable;
+
+/**
+ * Creates Micrometer observations for the transactions of the {@code Neo4jTransactionManager} and the statements
+ * executed through shared sessions, which includes all statements of repositories. With a tracing bridge, such as the
+ * OpenTelemetry bridge of Micrometer Tracing, each observation becomes a span. An instance registers itself for a
+ * session factory and removes itself when being closed. It creates these observations:
+ * <ul>
+ * <li>{@value #TRANSACTION}: a transaction from begin until commit or rollback, with the {@value #OUTCOME},
+ * {@code committed} or {@code rolled_back}</li>
+ * <li>{@value #STATEMENT}: an operation on a shared session executing statements, with the {@value #DB_OPERATION},
+ * which is the name of the session method. Queries carry their {@value #DB_STATEMENT}, with string and number literals
+ * replaced by {@literal ?}. All statements carry the names of their {@value #DB_PARAMETERS} or filtered properties and
+ * read operations the number of returned {@value #DB_ROWS}.</li>
+ * </ul>
+ * The duration of a statement observation is the time spent in Neo4j-OGM executing the statement and mapping its
+ * records, statements returning a stream are observed until the stream is closed. Observations are opened in scope, so
+ * that statements become children of the transaction they run in. Neo4j-OGM generates the statements of operations
+ * like {@code load} or {@code save} internally, their text is not available.
+ */
+public class Neo4jObservations implements SessionLifecycleListener, SessionOperationInterceptor, AutoCloseable {
+
+	/**
+	 * Name of the observations of transactions.
+	 */
+	public static final String TRANSACTION = "neo4j.ogm.transaction";
+
+	/**
+	 * Name of the observations of statements.
+	 */
+	public static final String STATEMENT = "neo4j.ogm.statement";
+
+	/**
+	 * Low cardinality key of the database system, always {@code neo4j}.
+	 */
+	public static final String DB_SYSTEM = "db.system";
+
+	/**
+	 * Low cardinality key of the session operation executing a statement.
+	 */
+	public static final String DB_OPERATION = "db.operation";
+
+	/**
+	 * Low cardinality key of the outcome of a transaction.
+	 */
+	public static final String OUTCOME = "outcome";
+
+	/**
+	 * High cardinality key of the sanitized text of a query.
+	 */
+	public static final String DB_STATEMENT = "db.statement";
+
+	/**
+	 * High cardinality key of the comma separated names of the parameters of a statement.
+	 */
+	public static final String DB_PARAMETERS = "db.neo4j.parameters";
+
+	/**
+	 * High cardinality key of the number of rows or entities read by a statement.
+	 */
+	public static final String DB_ROWS = "db.neo4j.rows";
+
+	private static final Set<String> STATEMENT_OPERATIONS = Set.of("load", "loadAll", "query", "queryForObject",
+			"countEntitiesOfType", "count", "save", "delete", "deleteAll", "purgeDatabase");
+
+	private static final Set<String> READ_OPERATIONS = Set.of("load", "loadAll", "query", "queryForObject");
+
+	private static final Pattern LITERALS = Pattern
+			.compile("`[^`]*`|'(?:[^'\\\\]|\\\\.)*'|\"(?:[^\"\\\\]|\\\\.)*\"|(?<![\\w$.*])\\d+(?:\\.\\d+)?\\b");
+
+	private static final Supplier<Runnable> NO_SCOPE = () -> () -> {};
+
+	private final ObservationRegistry observationRegistry;
+	private final SessionFactory sessionFactory;
+	private final Map<Session, RunningTransaction> runningTransactions = new ConcurrentHashMap<>();
+
+	/**
+	 * @param observationRegistry the registry to create the observations in
+	 * @param sessionFactory the session factory to observe the transactions and statements of
+	 */
+	public Neo4jObservations(ObservationRegistry observationRegistry, SessionFactory sessionFactory) {
+
+		this.observationRegistry = observationRegistry;
+		this.sessionFactory = sessionFactory;
+
+		SessionFactoryUtils.registerSessionLifecycleListener(sessionFactory, this);
+		SessionFactoryUtils.registerSessionOperationInterceptor(sessionFactory, this);
+	}
+
+	@Override
+	public void transactionBegun(Session session) {
+
+		Observation observation = Observation.createNotStarted(TRANSACTION, observationRegistry)
+				.contextualName("transaction").lowCardinalityKeyValue(DB_SYSTEM, "neo4j").start();
+		runningTransactions.put(session, new RunningTransaction(observation, observation.openScope()));
+	}
+
+	@Override
+	public void transactionCompleted(Session session, boolean committed) {
+
+		RunningTransaction transaction = runningTransactions.remove(session);
+		if (transaction != null) {
+			transaction.scope().close();
+			transaction.observation().lowCardinalityKeyValue(OUTCOME, committed ? "committed" : "rolled_back").stop();
+		}
+	}
+
+	@Override
+	public Object intercept(String operation, Object[] arguments, Supplier<Object> proceed) {
+
+		if (!STATEMENT_OPERATIONS.contains(operation)) {
+			return proceed.get();
+		}
+
+		Observation observation = Observation.createNotStarted(STATEMENT, observationRegistry).contextualName(operation)
+				.lowCardinalityKeyValue(DB_SYSTEM, "neo4j").lowCardinalityKeyValue(DB_OPERATION, operation);
+		SortedSet<String> parameterNames = new TreeSet<>();
+		for (Object argument : arguments) {
+			if (argument instanceof String statement && operation.startsWith("query")) {
+				observation.highCardinalityKeyValue(DB_STATEMENT, sanitize(statement));
+			} else if (argument instanceof Map<?, ?> parameters) {
+				parameters.keySet().forEach(name -> parameterNames.add(String.valueOf(name)));
+			} else if (argument instanceof Filter filter) {
+				parameterNames.add(filter.getPropertyName());
+			} else if (argument instanceof Filters filters) {
+				filters.forEach(filter -> parameterNames.add(filter.getPropertyName()));
+			}
+		}
+		if (!parameterNames.isEmpty()) {
+			observation.highCardinalityKeyValue(DB_PARAMETERS, String.join(",", parameterNames));
+		}
+
+		observation.start();
+		boolean stopped = true;
+		try (Observation.Scope scope = observation.openScope()) {
+			Object result = proceed.get();
+			if (result instanceof BaseStream<?, ?> stream) {
+				// Streamed statements read their records while the stream is consumed
+				stopped = false;
+				AtomicBoolean closed = new AtomicBoolean();
+				return stream.onClose(() -> {
+					if (closed.compareAndSet(false, true)) {
+						observation.stop();
+					}
+				});
+			}
+			long rows = READ_OPERATIONS.contains(operation) ? countRows(result) : -1;
+			if (rows >= 0) {
+				observation.highCardinalityKeyValue(DB_ROWS, Long.toString(rows));
+			}
+			return result;
+		} catch (RuntimeException ex) {
+			observation.error(ex);
+			throw ex;
+		} finally {
+			if (stopped) {
+				observation.stop();
+			}
+		}
+	}
+
+	/**
+	 * Captures the observation current on the calling thread, so that it can be restored as parent of the observations
+	 * of work handed over to another thread. Calling the returned supplier on that thread opens the scope of the
+	 * captured observation and returns the callback closing the scope again, which must be called on the same thread.
+	 *
+	 * @return the supplier restoring the captured observation
+	 */
+	public Supplier<Runnable> captureCurrentObservation() {
+
+		Observation observation = observationRegistry.getCurrentObservation();
+		if (observation == null) {
+			return NO_SCOPE;
+		}
+		return () -> {
+			Observation.Scope scope = observation.openScope();
+			return scope::close;
+		};
+	}
+
+	/**
+	 * Removes this instance from the session factory.
+	 */
+	@Override
+	public void close() {
+
+		SessionFactoryUtils.unregisterSessionOperationInterceptor(sessionFactory, this);
+		SessionFactoryUtils.unregisterSessionLifecycleListener(sessionFactory, this);
+	}
+
+	/**
+	 * @return the query with string and number literals replaced by {@literal ?}, escaped names are kept
+	 */
+	static String sanitize(String query) {
+
+		Matcher matcher = LITERALS.matcher(query);
+		StringBuilder result = new StringBuilder(query.length());
+		while (matcher.find()) {
+			matcher.appendReplacement(result, matcher.group().startsWith("`")
+					? Matcher.quoteReplacement(matcher.group()) : "?");
+		}
+		matcher.appendTail(result);
+		return result.toString();
+	}
+
+	/**
+	 * @return the number of entities or rows read, {@literal -1} if it cannot be determined without consuming the
+	 *         result
+	 */
+	private static long countRows(@Nullable Object result) {
+
+		if (result == null) {
+			return 0;
+		}
+		if (result instanceof Result queryResult) {
+			return queryResult.queryResults() instanceof Collection<?> rows ? rows.size() : -1;
+		}
+		if (result instanceof Collection<?> collection) {
+			return collection.size();
+		}
+		return result instanceof Iterable<?> ? -1 : 1;
+	}
+
+	private record RunningTransaction(Observation observation, Observation.Scope scope) {
+	}
+}
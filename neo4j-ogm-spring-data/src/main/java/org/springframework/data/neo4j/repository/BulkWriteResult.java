@@ -0,0 +1,75 @@
+/*
+ * Copyright 2011-2023 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.neo4j.repository;
+
+import java.time.Duration;
+
+/**
+ * Statistics about one call to {@link Neo4jBulkOperations}.
+ */
+public final class BulkWriteResult {
+
+	private final long rows;
+	private final int batches;
+	private final int transactions;
+	private final Duration duration;
+
+	public BulkWriteResult(long rows, int batches, int transactions, Duration duration) {
+		this.rows = rows;
+		this.batches = batches;
+		this.transactions = transactions;
+		this.duration = duration;
+	}
+
+	/**
+	 * @return the number of entities or relationships sent to the database
+	 */
+	public long getRows() {
+		return rows;
+	}
+
+	/**
+	 * @return the number of statements executed
+	 */
+	public int getBatches() {
+		return batches;
+	}
+
+	/**
+	 * @return the number of committed transactions
+	 */
+	public int getTransactions() {
+		return transactions;
+	}
+
+	public Duration getDuration() {
+		return duration;
+	}
+
+	/**
+	 * @return the throughput of the whole write
+	 */
+	public double getRowsPerSecond() {
+		long nanos = duration.toNanos();
+		return nanos == 0 ? rows : rows * 1_000_000_000.0 / nanos;
+	}
+
+	@Override
+	public String toString() {
+		return String.format("%d rows in %d batches and %d transactions in %d ms (%.1f rows/s)", rows, batches,
+				transactions, duration.toMillis(), getRowsPerSecond());
+	}
+}
@@ -0,0 +1,60 @@
+/*
+ * Copyright 2011-2023 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.neo4j.repository;
+
+import java.io.Serializable;
+import java.util.Optional;
+
+import org.springframework.data.repository.NoRepositoryBean;
+import org.springframework.data.repository.Repository;
+
+/**
+ * Repository fragment loading entities with a {@link org.springframework.data.neo4j.annotation.FetchProfile} declared
+ * on the domain type. Repositories extending this interface next to {@link Neo4jRepository} get the methods implemented
+ * by {@link org.springframework.data.neo4j.repository.support.SimpleNeo4jRepository}.
+ */
+@NoRepositoryBean
+public interface FetchProfileRepository<T, ID extends Serializable> extends Repository<T, ID> {
+
+	/**
+	 * Retrieves an entity by its id, loading the relationships listed by the given fetch profile.
+	 *
+	 * @param id the id of the entity
+	 * @param fetchProfile the name of a {@link org.springframework.data.neo4j.annotation.FetchProfile} declared on the
+	 *          domain type
+	 * @return the entity with the given id or {@literal Optional#empty()} if none found
+	 */
+	Optional<T> findById(ID id, String fetchProfile);
+
+	/**
+	 * Returns all entities with the given ids, loading the relationships listed by the given fetch profile.
+	 *
+	 * @param ids the ids of the entities
+	 * @param fetchProfile the name of a {@link org.springframework.data.neo4j.annotation.FetchProfile} declared on the
+	 *          domain type
+	 * @return the entities, in the order of the given ids
+	 */
+	Iterable<T> findAllById(Iterable<ID> ids, String fetchProfile);
+
+	/**
+	 * Returns all entities, loading the relationships listed by the given fetch profile.
+	 *
+	 * @param fetchProfile the name of a {@link org.springframework.data.neo4j.annotation.FetchProfile} declared on the
+	 *          domain type
+	 * @return all entities
+	 */
+	Iterable<T> findAll(String fetchProfile);
+}
@@ -0,0 +1,78 @@
+/*
+ * Copyright 2011-2023 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.neo4j.repository;
+
+import java.util.Iterator;
+import java.util.Map;
+import java.util.stream.Stream;
+
+/**
+ * Writes large numbers of entities and relationships in batches of {@code UNWIND $rows} statements. Other than
+ * {@link Neo4jRepository#saveAll(Iterable)}, the entities are not diffed against the graph and not registered with a
+ * session: Only the simple properties of the given entities are written, related entities are not followed. The
+ * batches are committed in chunks of several batches each, so that a failure only rolls back the current chunk.
+ */
+public interface Neo4jBulkOperations {
+
+	/**
+	 * Creates one node per entity.
+	 *
+	 * @param type the type of the entities
+	 * @param entities the entities to create
+	 * @param <T> the type of the entities
+	 * @return statistics about the write
+	 */
+	<T> BulkWriteResult insert(Class<T> type, Iterator<? extends T> entities);
+
+	default <T> BulkWriteResult insert(Class<T> type, Stream<? extends T> entities) {
+		return insert(type, entities.iterator());
+	}
+
+	/**
+	 * Merges one node per entity on the property of the {@code @Id} field and updates the properties of existing
+	 * nodes. Properties that are {@literal null} in an entity are removed from the node.
+	 *
+	 * @param type the type of the entities, must have an assigned {@code @Id}
+	 * @param entities the entities to merge
+	 * @param <T> the type of the entities
+	 * @return statistics about the write
+	 */
+	<T> BulkWriteResult merge(Class<T> type, Iterator<? extends T> entities);
+
+	default <T> BulkWriteResult merge(Class<T> type, Stream<? extends T> entities) {
+		return merge(type, entities.iterator());
+	}
+
+	/**
+	 * Creates a relationship for each pair of existing nodes. The nodes are matched by the {@code @Id} of the given
+	 * entities.
+	 *
+	 * @param startType the type of the start nodes
+	 * @param relationshipType the type of the relationships
+	 * @param endType the type of the end nodes
+	 * @param pairs pairs of start and end entities
+	 * @param <S> the type of the start nodes
+	 * @param <E> the type of the end nodes
+	 * @return statistics about the write
+	 */
+	<S, E> BulkWriteResult createRelationships(Class<S> startType, String relationshipType, Class<E> endType,
+			Iterator<? extends Map.Entry<? extends S, ? extends E>> pairs);
+
+	default <S, E> BulkWriteResult createRelationships(Class<S> startType, String relationshipType, Class<E> endType,
+			Stream<? extends Map.Entry<? extends S, ? extends E>> pairs) {
+		return createRelationships(startType, relationshipType, endType, pairs.iterator());
+	}
+}
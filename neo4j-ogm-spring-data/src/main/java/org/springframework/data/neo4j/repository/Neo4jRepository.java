@@ -40,6 +40,33 @@ public interface Neo4jRepository<T, ID extends Serializable> extends PagingAndSo
 
 	<S extends T> Iterable<S> save(Iterable<S> entities, int depth);
 
+	/**
+	 * Creates or updates the node of an entity with an assigned {@code @Id} with a single {@code MERGE} on the id
+	 * property, without loading the node first. Only the simple properties of the entity are written, relationships are
+	 * neither created nor removed. Entities using optimistic locking with {@code @Version} cannot be upserted.
+	 * <p>
+	 * The default implementation saves the entity with a depth of {@literal 0}.
+	 *
+	 * @param entity the entity to create or update
+	 * @return the given entity
+	 */
+	default <S extends T> S upsert(S entity) {
+		return save(entity, 0);
+	}
+
+	/**
+	 * Upserts all given entities like {@link #upsert(Object)} does, merging them in batches of one {@code UNWIND}
+	 * statement each.
+	 * <p>
+	 * The default implementation saves the entities with a depth of {@literal 0}.
+	 *
+	 * @param entities the entities to create or update
+	 * @return the given entities
+	 */
+	default <S extends T> Iterable<S> upsertAll(Iterable<S> entities) {
+		return save(entities, 0);
+	}
+
 	Optional<T> findById(ID id, int depth);
 
 	Iterable<T> findAll();
@@ -0,0 +1,74 @@
+/*
+ * Copyright 2011-2023 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.neo4j.repository;
+
+import java.io.Serializable;
+
+import org.springframework.data.domain.Sort;
+import org.springframework.data.repository.NoRepositoryBean;
+import org.springframework.data.repository.reactive.ReactiveCrudRepository;
+import org.springframework.data.repository.reactive.ReactiveSortingRepository;
+
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+/**
+ * Neo4j OGM specific extension of {@link org.springframework.data.repository.Repository} for reactive applications.
+ * Neo4j OGM is a blocking API, the methods of this repository run it on a {@link reactor.core.scheduler.Scheduler}
+ * and never on the subscribing thread. All methods participate in the transaction of a
+ * {@link org.springframework.data.neo4j.transaction.ReactiveNeo4jTransactionManager}.
+ */
+@NoRepositoryBean
+public interface ReactiveNeo4jRepository<T, ID extends Serializable>
+		extends ReactiveSortingRepository<T, ID>, ReactiveCrudRepository<T, ID> {
+
+	<S extends T> Mono<S> save(S entity, int depth);
+
+	Mono<T> findById(ID id, int depth);
+
+	/**
+	 * Returns all entities. The entities are read in chunks by separate statements, at most one chunk is read ahead of
+	 * the chunk being consumed downstream.
+	 *
+	 * @return all entities
+	 */
+	Flux<T> findAll();
+
+	/**
+	 * Returns all entities, read in chunks like {@link #findAll()}.
+	 *
+	 * @param depth the depth to load the entities with
+	 * @return all entities
+	 */
+	Flux<T> findAll(int depth);
+
+	/**
+	 * Returns all entities sorted by the given options, read in chunks like {@link #findAll()}.
+	 *
+	 * @param sort the sort options
+	 * @return all entities
+	 */
+	Flux<T> findAll(Sort sort);
+
+	/**
+	 * Returns all entities sorted by the given options, read in chunks like {@link #findAll()}.
+	 *
+	 * @param sort the sort options
+	 * @param depth the depth to load the entities with
+	 * @return all entities
+	 */
+	Flux<T> findAll(Sort sort, int depth);
+}
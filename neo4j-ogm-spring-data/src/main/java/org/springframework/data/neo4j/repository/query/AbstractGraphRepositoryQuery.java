@@ -15,13 +15,36 @@
  */
 package org.springframework.data.neo4j.repository.query;
 
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
 import java.util.EmptyStackException;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+import java.util.stream.StreamSupport;
 
+import org.neo4j.ogm.metadata.ClassInfo;
 import org.neo4j.ogm.metadata.MetaData;
 import org.neo4j.ogm.model.QueryStatistics;
 import org.neo4j.ogm.model.Result;
 import org.neo4j.ogm.session.Session;
+import org.springframework.data.neo4j.annotation.FetchProfile;
+import org.springframework.data.neo4j.cache.CountCache;
+import org.springframework.data.neo4j.cache.QueryResultCache;
+import org.springframework.data.neo4j.mapping.FetchPlan;
+import org.springframework.data.neo4j.mapping.LazyRelationshipLoader;
+import org.springframework.data.neo4j.mapping.LoadedRelationships;
+import org.springframework.data.neo4j.mapping.ResultCopier;
+import org.springframework.data.neo4j.metrics.RepositoryMetrics;
 import org.springframework.data.repository.query.RepositoryQuery;
+import org.springframework.lang.Nullable;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.util.StringUtils;
 
 /**
  * Base class for @link {@link RepositoryQuery}s.
@@ -34,12 +57,37 @@ public abstract class AbstractGraphRepositoryQuery implements RepositoryQuery {
 	protected final GraphQueryMethod queryMethod;
 	protected final MetaData metaData;
 	protected final Session session;
+	protected final QueryResultInstantiator entityInstantiator;
+	protected final QueryResultMapper queryResultMapper;
+	private final ResultCopier resultCopier;
+	private final LazyRelationshipLoader lazyRelationshipLoader;
+	private final @Nullable FetchPlan fetchPlan;
+	private final Map<Integer, FetchPlan> depthPlans = new ConcurrentHashMap<>();
+
+	private volatile ExecutionPlan executionPlan;
 
 	protected AbstractGraphRepositoryQuery(GraphQueryMethod queryMethod, MetaData metaData, Session session) {
 
 		this.queryMethod = queryMethod;
 		this.metaData = metaData;
 		this.session = session;
+		this.entityInstantiator = new QueryResultInstantiator(metaData, queryMethod.getMappingContext());
+		this.queryResultMapper = new QueryResultMapper(metaData, entityInstantiator);
+		this.resultCopier = new ResultCopier(metaData);
+		this.lazyRelationshipLoader = new LazyRelationshipLoader(session, metaData);
+		this.fetchPlan = createFetchPlan();
+	}
+
+	@Nullable
+	private FetchPlan createFetchPlan() {
+
+		FetchProfile fetchProfile = queryMethod.getFetchProfile();
+		if (fetchProfile == null) {
+			return null;
+		}
+		Class<?> domainType = queryMethod.getEntityInformation().getJavaType();
+		return StringUtils.hasText(fetchProfile.name()) ? FetchPlan.of(metaData, domainType, fetchProfile.name())
+				: FetchPlan.of(metaData, domainType, Arrays.asList(fetchProfile.paths()));
 	}
 
 	protected abstract Query getQuery(Object[] parameters);
@@ -54,7 +102,96 @@ public abstract class AbstractGraphRepositoryQuery implements RepositoryQuery {
 			throw new IllegalArgumentException("Not enough arguments for query " + getQueryMethod().getName());
 		}
 
-		return doExecute(query, parameters);
+		QueryResultCache queryResultCache = queryMethod.getQueryResultCache();
+		QueryCoalescer queryCoalescer = TransactionSynchronizationManager.isActualTransactionActive() ? null
+				: queryMethod.getQueryCoalescer();
+		if (queryResultCache == null && queryCoalescer == null || !isResultShareable()) {
+			return doExecuteWithLazyRelationships(query, parameters);
+		}
+
+		Object key = getResultKey(query, parameters);
+		Supplier<Object> execution = queryCoalescer == null ? () -> doExecuteWithLazyRelationships(query, parameters)
+				: () -> queryCoalescer.execute(key, () -> doExecuteWithLazyRelationships(query, parameters),
+						resultCopier::copy);
+		if (queryResultCache == null) {
+			return execution.get();
+		}
+
+		CacheMiss cacheMiss = new CacheMiss();
+		Object result;
+		try {
+			result = queryResultCache.getResult(key, getDependentLabels(query, parameters),
+					() -> cacheMiss.executeAndCopy(execution));
+		} catch (NotCacheableResultException e) {
+			return e.result;
+		}
+		return cacheMiss.executed ? cacheMiss.result : resultCopier.copy(result);
+	}
+
+	/**
+	 * Lazy relationships are installed before results are cached or shared, so that these are never modified. Derived
+	 * queries load the relationships up to their depth or those of their fetch profile, the relationships returned by
+	 * custom queries are unknown, so only those of the returned entities are considered.
+	 */
+	private Object doExecuteWithLazyRelationships(Query query, Object[] parameters) {
+
+		LoadedRelationships loaded = LoadedRelationships.none();
+		if (fetchPlan != null) {
+			loaded = fetchPlan.getLoadedRelationships();
+		} else if (query.isFilterQuery()) {
+			loaded = LoadedRelationships
+					.ofDepth(new GraphParametersParameterAccessor(queryMethod, parameters).getDepth());
+		}
+		return lazyRelationshipLoader.initialize(doExecute(query, parameters), loaded);
+	}
+
+	/**
+	 * Results are not cached inside read-write transactions, so that these read their own writes. Invocations inside any
+	 * transaction are not coalesced, as they must read what their own transaction sees. Streams and OGM specific types
+	 * cannot be shared, deletions must not be.
+	 */
+	private boolean isResultShareable() {
+
+		ExecutionKind executionKind = getExecutionKind();
+		if (executionKind == ExecutionKind.STREAM || executionKind == ExecutionKind.DELETE
+				|| executionKind == ExecutionKind.OGM_SPECIFIC_TYPE) {
+			return false;
+		}
+		return !TransactionSynchronizationManager.isActualTransactionActive()
+				|| TransactionSynchronizationManager.isCurrentTransactionReadOnly();
+	}
+
+	/**
+	 * Derived queries are rendered by Neo4j-OGM from the method and its arguments. Custom queries are keyed on all
+	 * arguments as well, as pageables, sorts and scroll positions are not part of their parameters, which in turn
+	 * include evaluated SpEL expressions. The parameters are copied as paging adds parameters during execution.
+	 */
+	private Object getResultKey(Query query, Object[] parameters) {
+
+		if (query.isFilterQuery()) {
+			return Arrays.asList(queryMethod.getMethod(), Arrays.asList(parameters));
+		}
+		return Arrays.asList(queryMethod.getMethod(), Arrays.asList(parameters), query.getCypherQuery(),
+				new HashMap<>(query.getParameters()));
+	}
+
+	private Collection<String> getDependentLabels(Query query, Object[] parameters) {
+
+		String[] declaredLabels = queryMethod.getCachedQueryLabels();
+		if (declaredLabels.length > 0) {
+			return new HashSet<>(Arrays.asList(declaredLabels));
+		}
+
+		// Derived queries only read nodes of the domain type if they neither filter on nor load related nodes
+		if (query.isFilterQuery() && StreamSupport.stream(query.getFilters().spliterator(), false)
+				.noneMatch(filter -> filter.isNested() || filter.isDeepNested())) {
+			ExecutionKind executionKind = getExecutionKind();
+			if (executionKind == ExecutionKind.COUNT || executionKind == ExecutionKind.EXISTS
+					|| new GraphParametersParameterAccessor(queryMethod, parameters).getDepth() == 0) {
+				return getDomainLabels();
+			}
+		}
+		return Collections.emptySet();
 	}
 
 	protected abstract Object doExecute(Query params, Object[] parameters);
@@ -66,31 +203,150 @@ public abstract class AbstractGraphRepositoryQuery implements RepositoryQuery {
 
 	protected GraphQueryExecution getExecution(GraphParameterAccessor accessor) {
 
+		GraphQueryExecution execution = createLoadingExecution(accessor);
+		RepositoryMetrics repositoryMetrics = queryMethod.getRepositoryMetrics();
+		if (repositoryMetrics == null) {
+			return execution;
+		}
+		String executionName = execution.getClass().getSimpleName();
+		return (query, type) -> repositoryMetrics.database(executionName, () -> execution.execute(query, type));
+	}
+
+	/**
+	 * Wraps executions loading entities so that they load the relationships selected by a fetch profile or use split
+	 * queries.
+	 */
+	private GraphQueryExecution createLoadingExecution(GraphParameterAccessor accessor) {
+
+		GraphQueryExecution execution = createExecution(accessor);
+		switch (getExecutionKind()) {
+			case WINDOW:
+			case COLLECTION:
+			case PAGE:
+			case SLICE:
+			case SINGLE_ENTITY:
+				if (fetchPlan != null) {
+					return new GraphQueryExecution.FetchProfileExecution(execution, session, fetchPlan);
+				}
+				return splitsQueries(accessor) ? new GraphQueryExecution.SplitQueryExecution(execution,
+						createExecution(((GraphParametersParameterAccessor) accessor).withDepth(0)), session,
+						getDepthPlan(accessor.getDepth())) : execution;
+			default:
+				return execution;
+		}
+	}
+
+	private boolean splitsQueries(GraphParameterAccessor accessor) {
+
+		if (!queryMethod.isSplitQueryHydration() || !(accessor instanceof GraphParametersParameterAccessor)) {
+			return false;
+		}
+		int depth = accessor.getDepth();
+		return depth > 1 || depth < 0;
+	}
+
+	private FetchPlan getDepthPlan(int depth) {
+		return depthPlans.computeIfAbsent(depth,
+				key -> FetchPlan.ofDepth(metaData, queryMethod.getEntityInformation().getJavaType(), key));
+	}
+
+	private GraphQueryExecution createExecution(GraphParameterAccessor accessor) {
+
+		ExecutionPlan plan = getExecutionPlan();
+		switch (plan.kind) {
+			case STREAM:
+				return new GraphQueryExecution.StreamExecution(session, metaData, accessor, entityInstantiator);
+			case COUNT:
+			case DELETE:
+			case EXISTS:
+				return plan.sharedExecution;
+			case OGM_SPECIFIC_TYPE:
+				return new GraphQueryExecution.QueryResultExecution(session, accessor);
+			case WINDOW:
+				return new GraphQueryExecution.WindowExecution(session, accessor, queryMethod.getMappingContext());
+			case COLLECTION:
+				return new GraphQueryExecution.CollectionExecution(session, accessor);
+			case PAGE:
+				CountCache countCache = queryMethod.getCountCache();
+				if (countCache == null) {
+					return new GraphQueryExecution.PagedExecution(session, accessor);
+				}
+				return new GraphQueryExecution.PagedExecution(session, accessor, countCache, getCountCacheKey(accessor),
+						plan.domainLabels);
+			case SLICE:
+				return new GraphQueryExecution.SlicedExecution(session, accessor);
+			default:
+				return new GraphQueryExecution.SingleEntityExecution(session, accessor);
+		}
+	}
+
+	ExecutionKind getExecutionKind() {
+		return getExecutionPlan().kind;
+	}
+
+	/**
+	 * The plan depends on the subclasses being fully initialized, so it is created on first use and not in the
+	 * constructor. Creating it twice under contention is harmless as it is immutable.
+	 */
+	private ExecutionPlan getExecutionPlan() {
+
+		ExecutionPlan plan = this.executionPlan;
+		if (plan == null) {
+			plan = createExecutionPlan();
+			this.executionPlan = plan;
+		}
+		return plan;
+	}
+
+	private ExecutionPlan createExecutionPlan() {
+
 		if (queryMethod.isStreamQuery()) {
-			return new GraphQueryExecution.CollectionExecution(session, accessor);
+			return new ExecutionPlan(ExecutionKind.STREAM, null, null);
 		}
 		if (isCountQuery()) {
-			return new GraphQueryExecution.CountByExecution(session);
+			return new ExecutionPlan(ExecutionKind.COUNT, new GraphQueryExecution.CountByExecution(session), null);
 		}
 		if (isDeleteQuery()) {
-			return new GraphQueryExecution.DeleteByExecution(session, queryMethod);
+			return new ExecutionPlan(ExecutionKind.DELETE, new GraphQueryExecution.DeleteByExecution(session, queryMethod),
+					null);
 		}
 		if (isExistsQuery()) {
-			return new GraphQueryExecution.ExistsByExecution(session);
+			return new ExecutionPlan(ExecutionKind.EXISTS, new GraphQueryExecution.ExistsByExecution(session), null);
 		}
 		if (returnsOgmSpecificType()) {
-			return new GraphQueryExecution.QueryResultExecution(session, accessor);
+			return new ExecutionPlan(ExecutionKind.OGM_SPECIFIC_TYPE, null, null);
+		}
+		if (queryMethod.isScrollQuery()) {
+			return new ExecutionPlan(ExecutionKind.WINDOW, null, null);
 		}
 		if (queryMethod.isCollectionQuery()) {
-			return new GraphQueryExecution.CollectionExecution(session, accessor);
+			return new ExecutionPlan(ExecutionKind.COLLECTION, null, null);
 		}
 		if (queryMethod.isPageQuery()) {
-			return new GraphQueryExecution.PagedExecution(session, accessor);
+			return new ExecutionPlan(ExecutionKind.PAGE, null,
+					queryMethod.getCountCache() == null ? null : getDomainLabels());
 		}
 		if (queryMethod.isSliceQuery()) {
-			return new GraphQueryExecution.SlicedExecution(session, accessor);
+			return new ExecutionPlan(ExecutionKind.SLICE, null, null);
+		}
+		return new ExecutionPlan(ExecutionKind.SINGLE_ENTITY, null, null);
+	}
+
+	private Object getCountCacheKey(GraphParameterAccessor accessor) {
+
+		int numberOfBindableParameters = queryMethod.getParameters().getBindableParameters().getNumberOfParameters();
+		List<Object> key = new ArrayList<>(numberOfBindableParameters + 1);
+		key.add(queryMethod.getMethod());
+		for (int i = 0; i < numberOfBindableParameters; i++) {
+			key.add(accessor.getBindableValue(i));
 		}
-		return new GraphQueryExecution.SingleEntityExecution(session, accessor);
+		return key;
+	}
+
+	private Collection<String> getDomainLabels() {
+
+		ClassInfo classInfo = metaData.classInfo(queryMethod.getEntityInformation().getJavaType().getName());
+		return classInfo == null ? Collections.emptySet() : classInfo.staticLabels();
 	}
 
 	/**
@@ -123,4 +379,64 @@ public abstract class AbstractGraphRepositoryQuery implements RepositoryQuery {
 	 * @return
 	 */
 	protected abstract boolean isDeleteQuery();
+
+	enum ExecutionKind {
+		STREAM, COUNT, DELETE, EXISTS, OGM_SPECIFIC_TYPE, WINDOW, COLLECTION, PAGE, SLICE, SINGLE_ENTITY
+	}
+
+	/**
+	 * Everything about executing this query that does not depend on the actual arguments. Executions that don't
+	 * depend on the arguments either are shared.
+	 */
+	private static final class ExecutionPlan {
+
+		private final ExecutionKind kind;
+		private final GraphQueryExecution sharedExecution;
+		private final Collection<String> domainLabels;
+
+		ExecutionPlan(ExecutionKind kind, @Nullable GraphQueryExecution sharedExecution,
+				@Nullable Collection<String> domainLabels) {
+			this.kind = kind;
+			this.sharedExecution = sharedExecution;
+			this.domainLabels = domainLabels;
+		}
+	}
+
+	/**
+	 * Cached results are shared, so each caller gets its own copy. The invocation executing the query keeps its result
+	 * and caches a copy of it, results that cannot be copied are not cached at all.
+	 */
+	private final class CacheMiss {
+
+		private boolean executed;
+		private @Nullable Object result;
+
+		@Nullable
+		Object executeAndCopy(Supplier<Object> execution) {
+
+			Object executionResult = execution.get();
+			Object copy;
+			try {
+				copy = resultCopier.copy(executionResult);
+			} catch (ResultCopier.NotCopyableException e) {
+				throw new NotCacheableResultException(executionResult);
+			}
+			this.executed = true;
+			this.result = executionResult;
+			return copy;
+		}
+	}
+
+	/**
+	 * Leaves the cache without caching the result it carries.
+	 */
+	private static final class NotCacheableResultException extends RuntimeException {
+
+		private final @Nullable Object result;
+
+		NotCacheableResultException(@Nullable Object result) {
+			super(null, null, false, false);
+			this.result = result;
+		}
+	}
 }
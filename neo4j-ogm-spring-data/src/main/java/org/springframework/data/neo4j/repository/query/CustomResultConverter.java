@@ -15,12 +15,8 @@
  */
 package org.springframework.data.neo4j.repository.query;
 
-import static java.lang.reflect.Proxy.*;
-
 import java.util.Map;
 
-import org.neo4j.ogm.context.SingleUseEntityMapper;
-import org.neo4j.ogm.metadata.MetaData;
 import org.springframework.core.convert.converter.Converter;
 import org.springframework.data.neo4j.annotation.QueryResult;
 
@@ -33,32 +29,25 @@ import org.springframework.data.neo4j.annotation.QueryResult;
  */
 class CustomResultConverter implements Converter<Object, Object> {
 
-	private final MetaData metaData;
-	private final Class returnedType;
+	private final Class<?> returnedType;
+	private final boolean isQueryResult;
 
-	private final QueryResultInstantiator entityInstantiator;
+	private final QueryResultMapper queryResultMapper;
 
-	CustomResultConverter(MetaData metaData, Class<?> returnedType, QueryResultInstantiator entityInstantiator) {
+	CustomResultConverter(Class<?> returnedType, QueryResultMapper queryResultMapper) {
 
-		this.metaData = metaData;
 		this.returnedType = returnedType;
-		this.entityInstantiator = entityInstantiator;
+		this.isQueryResult = returnedType.isAnnotationPresent(QueryResult.class);
+		this.queryResultMapper = queryResultMapper;
 	}
 
 	@Override
 	@SuppressWarnings("unchecked")
 	public Object convert(Object source) {
 
-		if (returnedType.getAnnotation(QueryResult.class) == null) {
+		if (!isQueryResult) {
 			return source;
 		}
-		if (returnedType.isInterface()) {
-			Class<?>[] interfaces = new Class<?>[] { returnedType };
-			return newProxyInstance(returnedType.getClassLoader(), interfaces,
-					new QueryResultProxy((Map<String, Object>) source));
-		}
-
-		SingleUseEntityMapper mapper = new SingleUseEntityMapper(metaData, entityInstantiator);
-		return mapper.map(returnedType, (Map<String, Object>) source);
+		return queryResultMapper.map(returnedType, (Map<String, Object>) source);
 	}
 }
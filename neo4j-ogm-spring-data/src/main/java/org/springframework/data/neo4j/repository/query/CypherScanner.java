@@ -0,0 +1,199 @@
+/*
+ * Copyright 2011-2023 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.neo4j.repository.query;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import org.springframework.data.domain.Sort;
+
+/**
+ * Finds clauses in the text of custom queries without parsing them: String literals, quoted names and comments are
+ * skipped, as is everything inside subqueries, lists and maps.
+ */
+final class CypherScanner {
+
+	private static final String NAME = "(?:`(?:[^`]|``)+`|[\\p{L}_][\\p{L}\\p{N}_]*)";
+	private static final Pattern IDENTIFIER = Pattern.compile("[\\p{L}_][\\p{L}\\p{N}_]*");
+	private static final Pattern PROPERTY_PATH = Pattern.compile("(" + NAME + ")(?:\\s*\\.\\s*" + NAME + ")*");
+
+	/**
+	 * @param cypher the text of a query
+	 * @return the index of the {@code RETURN} keyword of the final clause of the query, {@literal -1} if there is none or
+	 *         if the query is a {@code UNION}
+	 */
+	static int indexOfFinalReturn(String cypher) {
+
+		int depth = 0;
+		int finalReturn = -1;
+		for (int i = 0; i < cypher.length(); i++) {
+			char c = cypher.charAt(i);
+			if (c == '\'' || c == '"' || c == '`') {
+				i = skipQuoted(cypher, i, c);
+			} else if (c == '/' && i + 1 < cypher.length() && cypher.charAt(i + 1) == '/') {
+				int end = cypher.indexOf('\n', i);
+				i = end < 0 ? cypher.length() : end;
+			} else if (c == '/' && i + 1 < cypher.length() && cypher.charAt(i + 1) == '*') {
+				int end = cypher.indexOf("*/", i + 2);
+				i = end < 0 ? cypher.length() : end + 1;
+			} else if (c == '{' || c == '(' || c == '[') {
+				depth++;
+			} else if (c == '}' || c == ')' || c == ']') {
+				depth--;
+			} else if (depth == 0 && isKeywordAt(cypher, i, "UNION")) {
+				return -1;
+			} else if (depth == 0 && isKeywordAt(cypher, i, "RETURN")) {
+				finalReturn = i;
+			}
+		}
+		return finalReturn;
+	}
+
+	/**
+	 * @param returnClause the final {@code RETURN} clause of a query
+	 * @param sort the sort of the query
+	 * @return {@literal true} if one of the sorted properties is an alias defined in the clause
+	 */
+	static boolean definesAlias(String returnClause, Sort sort) {
+
+		for (Sort.Order order : sort) {
+			Pattern alias = Pattern.compile("(?i)\\bAS\\s+`?" + Pattern.quote(order.getProperty()) + "`?(?![\\w.])");
+			if (alias.matcher(returnClause).find()) {
+				return true;
+			}
+		}
+		return false;
+	}
+
+	/**
+	 * @param cypher the text of a query
+	 * @return the names of the columns returned by the final {@code RETURN} clause of the query, empty if there is none,
+	 *         if the query is a {@code UNION}, if the clause returns {@code *} or contains comments
+	 */
+	static List<String> returnedColumns(String cypher) {
+
+		int finalReturn = indexOfFinalReturn(cypher);
+		if (finalReturn < 0) {
+			return Collections.emptyList();
+		}
+		int start = finalReturn + "RETURN".length();
+		while (start < cypher.length() && Character.isWhitespace(cypher.charAt(start))) {
+			start++;
+		}
+		if (isKeywordAt(cypher, start, "DISTINCT")) {
+			start += "DISTINCT".length();
+		}
+
+		List<String> columns = new ArrayList<>();
+		int depth = 0;
+		int itemStart = start;
+		int alias = -1;
+		int i = start;
+		for (; i < cypher.length(); i++) {
+			char c = cypher.charAt(i);
+			if (c == '\'' || c == '"' || c == '`') {
+				i = skipQuoted(cypher, i, c);
+			} else if (c == '/' && i + 1 < cypher.length()
+					&& (cypher.charAt(i + 1) == '/' || cypher.charAt(i + 1) == '*')) {
+				// Comments would end up in the column names
+				return Collections.emptyList();
+			} else if (c == '{' || c == '(' || c == '[') {
+				depth++;
+			} else if (c == '}' || c == ')' || c == ']') {
+				depth--;
+			} else if (depth == 0 && c == ',') {
+				columns.add(columnName(cypher, itemStart, alias, i));
+				itemStart = i + 1;
+				alias = -1;
+			} else if (depth == 0 && isKeywordAt(cypher, i, "AS")) {
+				alias = i + "AS".length();
+			} else if (depth == 0 && (isKeywordAt(cypher, i, "ORDER") || isKeywordAt(cypher, i, "SKIP")
+					|| isKeywordAt(cypher, i, "LIMIT"))) {
+				break;
+			}
+		}
+		columns.add(columnName(cypher, itemStart, alias, i));
+		return columns.contains("*") ? Collections.emptyList() : columns;
+	}
+
+	/**
+	 * @param columns the columns returned by a query
+	 * @param sort the sort of the query
+	 * @return {@literal true} if all columns are variables or aliases that can be projected from a subquery and all
+	 *         sorted properties are properties of these columns, so that the query can be sorted after wrapping it into
+	 *         a subquery
+	 */
+	static boolean isSortableAfterSubquery(Collection<String> columns, Sort sort) {
+
+		if (columns.stream().anyMatch(column -> !IDENTIFIER.matcher(column).matches())) {
+			return false;
+		}
+		for (Sort.Order order : sort) {
+			Matcher property = PROPERTY_PATH.matcher(order.getProperty().trim());
+			if (!property.matches()) {
+				return false;
+			}
+			String variable = property.group(1);
+			if (variable.startsWith("`")) {
+				variable = variable.substring(1, variable.length() - 1).replace("``", "`");
+			}
+			if (!columns.contains(variable)) {
+				return false;
+			}
+		}
+		return true;
+	}
+
+	private static String columnName(String cypher, int itemStart, int alias, int itemEnd) {
+
+		String name = cypher.substring(alias < 0 ? itemStart : alias, itemEnd).trim();
+		if (alias >= 0 && name.length() > 1 && name.startsWith("`") && name.endsWith("`")) {
+			return name.substring(1, name.length() - 1).replace("``", "`");
+		}
+		return name;
+	}
+
+	private static int skipQuoted(String cypher, int start, char quote) {
+
+		for (int i = start + 1; i < cypher.length(); i++) {
+			char c = cypher.charAt(i);
+			if (c == '\\' && quote != '`') {
+				i++;
+			} else if (c == quote) {
+				return i;
+			}
+		}
+		return cypher.length();
+	}
+
+	private static boolean isKeywordAt(String cypher, int index, String keyword) {
+
+		int end = index + keyword.length();
+		return cypher.regionMatches(true, index, keyword, 0, keyword.length())
+				&& (index == 0 || !isIdentifierPart(cypher.charAt(index - 1)))
+				&& (end == cypher.length() || !isIdentifierPart(cypher.charAt(end)));
+	}
+
+	private static boolean isIdentifierPart(char c) {
+		return Character.isLetterOrDigit(c) || c == '_' || c == '$' || c == '.';
+	}
+
+	private CypherScanner() {}
+}
@@ -16,8 +16,6 @@
 package org.springframework.data.neo4j.repository.query;
 
 import org.neo4j.ogm.cypher.query.SortOrder;
-import org.springframework.core.annotation.AnnotatedElementUtils;
-import org.springframework.core.annotation.AnnotationUtils;
 import org.springframework.data.domain.Sort;
 import org.springframework.data.neo4j.annotation.Depth;
 import org.springframework.data.neo4j.util.PagingAndSortingUtils;
@@ -34,6 +32,8 @@ public class GraphParametersParameterAccessor extends ParametersParameterAccesso
 
 	private static final int DEFAULT_QUERY_DEPTH = 1;
 	private final GraphQueryMethod method;
+	private final Object[] values;
+	private final @Nullable Integer depth;
 
 	/**
 	 * Creates a new {@link ParametersParameterAccessor}.
@@ -42,18 +42,35 @@ public class GraphParametersParameterAccessor extends ParametersParameterAccesso
 	 * @param values must not be {@literal null}.
 	 */
 	public GraphParametersParameterAccessor(GraphQueryMethod method, Object[] values) {
+		this(method, values, null);
+	}
+
+	private GraphParametersParameterAccessor(GraphQueryMethod method, Object[] values, @Nullable Integer depth) {
 		super(method.getParameters(), values);
 
 		this.method = method;
+		this.values = values;
+		this.depth = depth;
+	}
+
+	/**
+	 * @param depth the depth to load entities with
+	 * @return an accessor for the same values that ignores the depth declared by the method
+	 */
+	GraphParametersParameterAccessor withDepth(int depth) {
+		return new GraphParametersParameterAccessor(method, values, depth);
 	}
 
 	@Override
 	public int getDepth() {
 
-		Depth methodAnnotation = AnnotatedElementUtils.findMergedAnnotation(method.getMethod(), Depth.class);
-		if (methodAnnotation != null) {
-			Object value = AnnotationUtils.getValue(methodAnnotation);
-			return value == null ? DEFAULT_QUERY_DEPTH : (int) value;
+		if (depth != null) {
+			return depth;
+		}
+
+		Integer methodDepth = method.getMethodDepth();
+		if (methodDepth != null) {
+			return methodDepth;
 		}
 
 		GraphParameters graphParameters = method.getParameters();
@@ -15,23 +15,67 @@
  */
 package org.springframework.data.neo4j.repository.query;
 
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.IdentityHashMap;
 import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.LinkedList;
 import java.util.List;
 import java.util.Map;
+import java.util.NoSuchElementException;
 import java.util.Optional;
-
+import java.util.Queue;
+import java.util.Set;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.function.LongSupplier;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+import org.neo4j.ogm.context.MappingContext;
+import org.neo4j.ogm.context.GraphRowModelMapper;
+import org.neo4j.ogm.cypher.query.DefaultGraphModelRequest;
+import org.neo4j.ogm.cypher.query.DefaultRowModelRequest;
 import org.neo4j.ogm.cypher.query.Pagination;
 import org.neo4j.ogm.cypher.query.SortOrder;
+import org.neo4j.ogm.metadata.MetaData;
+import org.neo4j.ogm.model.GraphModel;
 import org.neo4j.ogm.model.Result;
+import org.neo4j.ogm.model.RowModel;
+import org.neo4j.ogm.request.Request;
+import org.neo4j.ogm.response.Response;
+import org.neo4j.ogm.session.EntityInstantiator;
+import org.neo4j.ogm.session.Neo4jSession;
 import org.neo4j.ogm.session.Session;
+import org.neo4j.ogm.session.Utils;
+import org.neo4j.ogm.transaction.Transaction;
+import org.springframework.beans.BeanUtils;
 import org.springframework.dao.IncorrectResultSizeDataAccessException;
+import org.springframework.dao.InvalidDataAccessApiUsageException;
+import org.springframework.data.domain.OffsetScrollPosition;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.ScrollPosition;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.domain.SliceImpl;
 import org.springframework.data.domain.Sort;
-import org.springframework.data.neo4j.annotation.QueryResult;
+import org.springframework.data.domain.Window;
+import org.springframework.data.neo4j.cache.CountCache;
+import org.springframework.data.neo4j.mapping.FetchPlan;
+import org.springframework.data.neo4j.mapping.Neo4jPersistentEntity;
+import org.springframework.data.neo4j.mapping.Neo4jPersistentProperty;
+import org.springframework.data.neo4j.transaction.SessionProxy;
 import org.springframework.data.neo4j.util.PagingAndSortingUtils;
 import org.springframework.data.support.PageableExecutionUtils;
 import org.springframework.data.util.ReflectionUtils;
+import org.springframework.lang.Nullable;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 import org.springframework.util.Assert;
 
 /**
@@ -65,7 +109,7 @@ public interface GraphQueryExecution {
 
 				if(isNullOrVoid) {
 					result = session.query(query.getCypherQuery(), query.getParameters(), false).queryResults();
-				} else if (type.getAnnotation(QueryResult.class) != null) {
+				} else if (QueryResultTypes.isQueryResult(type)) {
 					// not using queryForObject here because it raises too generic RuntimeException
 					// if more than one result found
 					result = session.query(query.getCypherQuery(), query.getParameters()).queryResults();
@@ -103,7 +147,7 @@ public interface GraphQueryExecution {
 				return pagination == null ? session.loadAll(type, query.getFilters(), ogmSort, accessor.getDepth()) : session.loadAll(type, query.getFilters(),
 						ogmSort, pagination, accessor.getDepth());
 			} else {
-				if (type.getAnnotation(QueryResult.class) != null || Map.class.isAssignableFrom(type)) {
+				if (QueryResultTypes.returnsRows(type)) {
 					return session.query(query.getCypherQuery(accessor.getSort()), query.getParameters()).queryResults();
 				} else {
 					return session.query(type, query.getCypherQuery(accessor.getSort()), query.getParameters());
@@ -112,6 +156,284 @@ public interface GraphQueryExecution {
 		}
 	}
 
+	/**
+	 * Streams the results of a Cypher query lazily: Records are pulled one at a time from the underlying Bolt result and
+	 * mapped as they are consumed. The query is run within the current transaction or within a transaction opened for
+	 * the stream, which is read-only only if the surrounding Spring transaction is. That transaction is committed once
+	 * the stream is exhausted or closed and rolled back if reading the result fails.
+	 * <p>
+	 * Entities returned as a single node per row are mapped into a fresh mapping context each, so that memory stays flat
+	 * regardless of the size of the result. From the first row holding several nodes, relationships or paths on, rows
+	 * are mapped into one mapping context, so that relationships are hydrated across rows. Such entities are emitted
+	 * once a row no longer contains them, so their rows must be adjacent, for example by ordering the result. Entities
+	 * emitted before that row are not linked to the ones mapped afterwards.
+	 * <p>
+	 * Simple values are streamed lazily as well. Filter based queries, whose Cypher is generated inside Neo4j-OGM, and
+	 * maps, query results and projections, which may hold nodes that can only be mapped from the complete result, are
+	 * executed once and read as a whole.
+	 */
+	final class StreamExecution implements GraphQueryExecution {
+
+		private final Session session;
+		private final MetaData metaData;
+		private final GraphParameterAccessor accessor;
+		private final EntityInstantiator entityInstantiator;
+
+		StreamExecution(Session session, MetaData metaData, GraphParameterAccessor accessor,
+				EntityInstantiator entityInstantiator) {
+			this.session = session;
+			this.metaData = metaData;
+			this.accessor = accessor;
+			this.entityInstantiator = entityInstantiator;
+		}
+
+		@Override
+		public Object execute(Query query, Class<?> type) {
+
+			boolean returnsEntities = !QueryResultTypes.returnsRows(type) && metaData.classInfo(type) != null;
+			if (query.isFilterQuery() || !returnsEntities && !BeanUtils.isSimpleValueType(type)) {
+				Iterable<?> result = (Iterable<?>) new CollectionExecution(session, accessor).execute(query, type);
+				return StreamSupport.stream(result.spliterator(), false);
+			}
+
+			String cypher = query.getCypherQuery(accessor.getSort());
+			Map<String, ?> parameters = query.getParameters();
+			RecordMapper<?> mapper = returnsEntities ? new EntityMapper(type) : new ValueMapper(type);
+			Function<Session, Object> streamQuery = targetSession -> targetSession instanceof Neo4jSession neo4jSession
+					? stream(neo4jSession, cypher, parameters, mapper)
+					: new CollectionExecution(targetSession, accessor).execute(query, type);
+
+			// Going through the proxy intercepts the query and records its writes like any other query on the session
+			return session instanceof SessionProxy sessionProxy
+					? sessionProxy.doInTargetSession("query", new Object[] { type, cypher, parameters }, streamQuery)
+					: streamQuery.apply(session);
+		}
+
+		private <M> Stream<Object> stream(Neo4jSession neo4jSession, String cypher, Map<String, ?> parameters,
+				RecordMapper<M> mapper) {
+
+			Transaction transaction = neo4jSession.getTransaction();
+			Transaction newTransaction = null;
+			if (transaction == null || transaction.status() != Transaction.Status.OPEN) {
+				boolean readOnly = TransactionSynchronizationManager.isCurrentTransactionReadOnly();
+				newTransaction = neo4jSession
+						.beginTransaction(readOnly ? Transaction.Type.READ_ONLY : Transaction.Type.READ_WRITE);
+			}
+
+			StreamingResultIterator<M> iterator;
+			try {
+				Response<M> response = mapper.execute(neo4jSession.requestHandler(), cypher, parameters);
+				iterator = new StreamingResultIterator<>(response, newTransaction, mapper);
+			} catch (RuntimeException e) {
+				if (newTransaction != null) {
+					newTransaction.close();
+				}
+				throw e;
+			}
+			return StreamSupport.stream(Spliterators.spliteratorUnknownSize(iterator, Spliterator.ORDERED), false)
+					.onClose(iterator::release);
+		}
+
+		/**
+		 * Maps the records of a response into the elements of a stream. A record might complete any number of elements.
+		 */
+		private interface RecordMapper<M> {
+
+			Response<M> execute(Request requestHandler, String cypher, Map<String, ?> parameters);
+
+			void map(String[] columns, M record, Consumer<Object> elements);
+
+			void complete(Consumer<Object> elements);
+		}
+
+		private final class EntityMapper implements RecordMapper<GraphModel> {
+
+			private final Class<?> type;
+			private final List<Object> pending = new ArrayList<>();
+			private final Set<Object> mapped = Collections.newSetFromMap(new IdentityHashMap<>());
+			private @Nullable MappingContext mappingContext;
+
+			EntityMapper(Class<?> type) {
+				this.type = type;
+			}
+
+			@Override
+			public Response<GraphModel> execute(Request requestHandler, String cypher, Map<String, ?> parameters) {
+				return requestHandler.execute(new DefaultGraphModelRequest(cypher, parameters));
+			}
+
+			@Override
+			public void map(String[] columns, GraphModel record, Consumer<Object> elements) {
+
+				if (mappingContext == null && columns.length == 1 && record.getNodes().size() <= 1
+						&& record.getRelationships().isEmpty()) {
+					// A fresh mapping context per row keeps the mapped objects out of the sessions identity map
+					map(new MappingContext(metaData), columns, record).forEach(elements);
+					return;
+				}
+
+				if (mappingContext == null) {
+					mappingContext = new MappingContext(metaData);
+				}
+				List<Object> entities = map(mappingContext, columns, record);
+				if (entities.stream().noneMatch(this::isPending)) {
+					// The previous rows are complete
+					complete(elements);
+				}
+				for (Object entity : entities) {
+					if (mapped.add(entity)) {
+						pending.add(entity);
+					}
+				}
+			}
+
+			@Override
+			public void complete(Consumer<Object> elements) {
+
+				pending.forEach(elements);
+				pending.clear();
+			}
+
+			private boolean isPending(Object entity) {
+				return pending.stream().anyMatch(candidate -> candidate == entity);
+			}
+
+			private List<Object> map(MappingContext mappingContext, String[] columns, GraphModel record) {
+
+				List<Object> entities = new ArrayList<>();
+				new GraphRowModelMapper(metaData, mappingContext, entityInstantiator)
+						.map(type, new SingleRowResponse<>(columns, record)).forEach(entities::add);
+				return entities;
+			}
+		}
+
+		private static final class ValueMapper implements RecordMapper<RowModel> {
+
+			private final Class<?> type;
+
+			ValueMapper(Class<?> type) {
+				this.type = type;
+			}
+
+			@Override
+			public Response<RowModel> execute(Request requestHandler, String cypher, Map<String, ?> parameters) {
+				return requestHandler.execute(new DefaultRowModelRequest(cypher, parameters));
+			}
+
+			@Override
+			public void map(String[] columns, RowModel record, Consumer<Object> elements) {
+
+				// Nodes, relationships and paths are not part of a row model
+				if (columns.length != record.variables().length) {
+					throw new InvalidDataAccessApiUsageException("Cannot stream nodes, relationships or paths as "
+							+ type.getName() + ", return entities or a collection instead");
+				}
+				Object value = record.getValues()[0];
+				elements.accept(value == null || type.isInstance(value) ? value : Utils.coerceTypes(type, value));
+			}
+
+			@Override
+			public void complete(Consumer<Object> elements) {
+			}
+		}
+
+		private static final class StreamingResultIterator<M> implements Iterator<Object> {
+
+			private final Response<M> response;
+			private final @Nullable Transaction transaction;
+			private final RecordMapper<M> mapper;
+			private final String[] columns;
+			private final Queue<Object> elements = new LinkedList<>();
+
+			private boolean released;
+
+			StreamingResultIterator(Response<M> response, @Nullable Transaction transaction, RecordMapper<M> mapper) {
+				this.response = response;
+				this.transaction = transaction;
+				this.mapper = mapper;
+				this.columns = response.columns();
+			}
+
+			@Override
+			public boolean hasNext() {
+
+				while (elements.isEmpty() && !released) {
+					try {
+						M record = response.next();
+						if (record == null) {
+							mapper.complete(elements::add);
+							release();
+						} else {
+							mapper.map(columns, record, elements::add);
+						}
+					} catch (RuntimeException e) {
+						release(false);
+						throw e;
+					}
+				}
+				return !elements.isEmpty();
+			}
+
+			@Override
+			public Object next() {
+
+				if (!hasNext()) {
+					throw new NoSuchElementException();
+				}
+				return elements.remove();
+			}
+
+			void release() {
+				release(true);
+			}
+
+			private void release(boolean commit) {
+
+				if (released) {
+					return;
+				}
+				released = true;
+				try {
+					response.close();
+					if (transaction != null && commit) {
+						transaction.commit();
+					}
+				} finally {
+					if (transaction != null) {
+						transaction.close();
+					}
+				}
+			}
+		}
+
+		private static final class SingleRowResponse<M> implements Response<M> {
+
+			private final String[] columns;
+			private @Nullable M row;
+
+			SingleRowResponse(String[] columns, M row) {
+				this.columns = columns;
+				this.row = row;
+			}
+
+			@Override
+			public M next() {
+				M current = row;
+				row = null;
+				return current;
+			}
+
+			@Override
+			public void close() {
+			}
+
+			@Override
+			public String[] columns() {
+				return columns;
+			}
+		}
+	}
+
 	final class QueryResultExecution implements GraphQueryExecution {
 
 		private final Session session;
@@ -133,32 +455,117 @@ public interface GraphQueryExecution {
 		private final Session session;
 		private final Pageable pageable;
 		private final GraphParameterAccessor accessor;
+		private final @Nullable CountCache countCache;
+		private final @Nullable Object countCacheKey;
+		private final Collection<String> domainLabels;
 
 		PagedExecution(Session session, GraphParameterAccessor accessor) {
+			this(session, accessor, null, null, Collections.emptySet());
+		}
+
+		PagedExecution(Session session, GraphParameterAccessor accessor, @Nullable CountCache countCache,
+				@Nullable Object countCacheKey, Collection<String> domainLabels) {
 			this.session = session;
 			this.pageable = accessor.getPageable();
 			this.accessor = accessor;
+			this.countCache = countCache;
+			this.countCacheKey = countCacheKey;
+			this.domainLabels = domainLabels;
 		}
 
 		@Override
 		public Object execute(Query query, Class<?> type) {
 
 			List<?> result;
-			long count;
+			LongSupplier count;
 			if (query.isFilterQuery()) {
 				result = (List<?>) session.loadAll(type, query.getFilters(), accessor.getOgmSort(),
 						query.getOptionalPagination(pageable, false), accessor.getDepth());
-				count = session.count(type, query.getFilters());
+				count = () -> session.count(type, query.getFilters());
+			} else if (query.isInlineCount()) {
+				return executeWithInlineCount(query, type);
 			} else {
-				if (type.getAnnotation(QueryResult.class) != null) {
+				if (QueryResultTypes.isQueryResult(type)) {
 					result = (List<?>) session.query(query.getCypherQuery(pageable, false), query.getParameters()).queryResults();
 				} else {
 					result = (List<?>) session.query(type, query.getCypherQuery(pageable, false), query.getParameters());
 				}
-				count = result.isEmpty() ? 0 : countTotalNumberOfElements(query);
+				count = () -> result.isEmpty() ? 0 : countTotalNumberOfElements(query);
+			}
+
+			// The count is only evaluated when the total cannot be derived from the page itself
+			return PageableExecutionUtils.getPage(result, pageable, cached(query, count));
+		}
+
+		/**
+		 * Totals of derived queries depend only on the label of the domain type unless they filter on related nodes.
+		 * Totals of custom queries might depend on any label.
+		 */
+		private LongSupplier cached(Query query, LongSupplier count) {
+
+			if (countCache == null || countCacheKey == null) {
+				return count;
+			}
+
+			Collection<String> labels = Collections.emptySet();
+			if (query.isFilterQuery() && StreamSupport.stream(query.getFilters().spliterator(), false)
+					.noneMatch(filter -> filter.isNested() || filter.isDeepNested())) {
+				labels = domainLabels;
+			}
+			Collection<String> dependentLabels = labels;
+			return () -> countCache.getCount(countCacheKey, dependentLabels, count);
+		}
+
+		private Object executeWithInlineCount(Query query, Class<?> type) {
+
+			LongSupplier count = () -> cached(query, () -> session.queryForObject(Long.class,
+					query.getInlineCountQuery(), query.getParameters())).getAsLong();
+			String cypherQuery = query.getCypherQueryWithTotal(pageable);
+			if (cypherQuery == null) {
+				// The total is only counted if it cannot be derived from the page itself
+				String pageQuery = query.getCypherQuery(pageable, false);
+				List<?> result = QueryResultTypes.returnsRows(type)
+						? (List<?>) session.query(pageQuery, query.getParameters()).queryResults()
+						: (List<?>) session.query(type, pageQuery, query.getParameters());
+				return PageableExecutionUtils.getPage(result, pageable, count);
+			}
+
+			boolean returnsRows = QueryResultTypes.returnsRows(type);
+			List<Object> result = new ArrayList<>();
+			Set<Object> entities = Collections.newSetFromMap(new IdentityHashMap<>());
+			long total = -1;
+			for (Map<String, Object> row : session.query(cypherQuery, query.getParameters()).queryResults()) {
+				Map<String, Object> values = new LinkedHashMap<>(row);
+				total = ((Number) values.remove(Query.TOTAL_COLUMN)).longValue();
+				if (returnsRows) {
+					result.add(values);
+				} else if (values.size() == 1 && !type.isInstance(values.values().iterator().next())) {
+					result.add(Utils.coerceTypes(type, values.values().iterator().next()));
+				} else {
+					addEntities(values.values(), type, entities, result);
+				}
 			}
 
-			return PageableExecutionUtils.getPage(result, pageable, () -> count);
+			long knownTotal = total;
+			return PageableExecutionUtils.getPage(result, pageable,
+					() -> knownTotal >= 0 ? knownTotal : count.getAsLong());
+		}
+
+		/**
+		 * Adds the entities of the given type in all columns of a row, in the same way OGM picks them from the result
+		 * of a query for an entity type. Their relationships have been hydrated across all rows of the page.
+		 */
+		private static void addEntities(Iterable<?> values, Class<?> type, Set<Object> entities, List<Object> result) {
+
+			for (Object value : values) {
+				if (type.isInstance(value)) {
+					if (entities.add(value)) {
+						result.add(value);
+					}
+				} else if (value instanceof Iterable<?> iterable) {
+					addEntities(iterable, type, entities, result);
+				}
+			}
 		}
 
 		private Integer countTotalNumberOfElements(Query query) {
@@ -192,7 +599,7 @@ public interface GraphQueryExecution {
 						query.getOptionalPagination(pageable, true), accessor.getDepth());
 			} else {
 				String cypherQuery = query.getCypherQuery(pageable, true);
-				if (type.getAnnotation(QueryResult.class) != null) {
+				if (QueryResultTypes.isQueryResult(type)) {
 					result = (List<?>) session.query(cypherQuery, query.getParameters()).queryResults();
 				} else {
 					result = (List<?>) session.query(type, cypherQuery, query.getParameters());
@@ -204,6 +611,58 @@ public interface GraphQueryExecution {
 		}
 	}
 
+	final class WindowExecution implements GraphQueryExecution {
+
+		private final Session session;
+		private final GraphParameterAccessor accessor;
+		private final @Nullable org.springframework.data.mapping.context.MappingContext<Neo4jPersistentEntity<?>, Neo4jPersistentProperty> mappingContext;
+
+		WindowExecution(Session session, GraphParameterAccessor accessor,
+				@Nullable org.springframework.data.mapping.context.MappingContext<Neo4jPersistentEntity<?>, Neo4jPersistentProperty> mappingContext) {
+			this.session = session;
+			this.accessor = accessor;
+			this.mappingContext = mappingContext;
+		}
+
+		@Override
+		public Object execute(Query query, Class<?> type) {
+
+			ScrollPosition scrollPosition = ScrollSupport.resolvePosition(accessor.getScrollPosition());
+			Integer limit;
+			Sort sort;
+			List<Object> rows;
+
+			if (query.isFilterQuery()) {
+				// The derived query already contains the keyset filters and the effective sort
+				limit = query.getOptionalLimit();
+				sort = Optional.ofNullable(query.getOptionalSort()).orElseGet(Sort::unsorted);
+				Pagination pagination = null;
+				if (limit != null || scrollPosition instanceof OffsetScrollPosition) {
+					pagination = new Pagination(0, limit == null ? Integer.MAX_VALUE : limit + 1);
+					pagination.setOffset(scrollPosition instanceof OffsetScrollPosition offsetScrollPosition
+							&& !offsetScrollPosition.isInitial() ? (int) offsetScrollPosition.getOffset() : 0);
+				}
+				SortOrder ogmSort = PagingAndSortingUtils.convert(sort);
+				rows = new ArrayList<>(pagination == null
+						? session.loadAll(type, query.getFilters(), ogmSort, accessor.getDepth())
+						: session.loadAll(type, query.getFilters(), ogmSort, pagination, accessor.getDepth()));
+			} else {
+				Pageable pageable = accessor.getPageable();
+				limit = pageable.isPaged() ? pageable.getPageSize() : null;
+				sort = ScrollSupport.effectiveSort(accessor.getSort(), scrollPosition);
+				String cypherQuery = query.getCypherQuery(scrollPosition, sort, limit);
+				rows = new ArrayList<>();
+				if (QueryResultTypes.returnsRows(type)) {
+					session.query(cypherQuery, query.getParameters()).queryResults().forEach(rows::add);
+				} else {
+					session.query(type, cypherQuery, query.getParameters()).forEach(rows::add);
+				}
+			}
+
+			return ScrollSupport.createWindow(rows, limit, scrollPosition, sort, mappingContext);
+		}
+	}
+
 	final class CountByExecution implements GraphQueryExecution {
 
 		private final Session session;
@@ -256,4 +715,101 @@ public interface GraphQueryExecution {
 			throw new RuntimeException("Long or Iterable<Long> is required as the return type of a Delete query");
 		}
 	}
+
+	/**
+	 * Loads the relationships of a fetch plan for the entities returned by another execution. The entities are replaced
+	 * by the ones loaded with their relationships, which are the same instances if both ran in the same session.
+	 */
+	final class FetchProfileExecution implements GraphQueryExecution {
+
+		private final GraphQueryExecution delegate;
+		private final Session session;
+		private final FetchPlan fetchPlan;
+
+		FetchProfileExecution(GraphQueryExecution delegate, Session session, FetchPlan fetchPlan) {
+			this.delegate = delegate;
+			this.session = session;
+			this.fetchPlan = fetchPlan;
+		}
+
+		@Override
+		public Object execute(Query query, Class<?> type) {
+
+			Object result = delegate.execute(query, type);
+
+			List<Object> ids = new ArrayList<>();
+			replaceEntities(result, entity -> {
+				Object id = fetchPlan.getId(entity);
+				if (id != null) {
+					ids.add(id);
+				}
+				return entity;
+			});
+			if (ids.isEmpty()) {
+				return result;
+			}
+
+			Map<Object, Object> loadedEntities = fetchPlan.loadAll(session, ids);
+			return replaceEntities(result, entity -> {
+				Object id = fetchPlan.getId(entity);
+				return id == null ? entity : loadedEntities.getOrDefault(id, entity);
+			});
+		}
+
+		@Nullable
+		private Object replaceEntities(@Nullable Object result, Function<Object, Object> replacement) {
+
+			if (result instanceof Page<?> page) {
+				return new PageImpl<>(replaceAll(page.getContent(), replacement), page.getPageable(),
+						page.getTotalElements());
+			}
+			if (result instanceof Slice<?> slice) {
+				return new SliceImpl<>(replaceAll(slice.getContent(), replacement), slice.getPageable(),
+						slice.hasNext());
+			}
+			if (result instanceof Window<?> window) {
+				return Window.from(replaceAll(window.getContent(), replacement), window::positionAt, window.hasNext());
+			}
+			if (result instanceof Set<?> set) {
+				return new LinkedHashSet<>(replaceAll(set, replacement));
+			}
+			if (result instanceof Iterable<?> iterable) {
+				return replaceAll(iterable, replacement);
+			}
+			if (fetchPlan.getType().isInstance(result)) {
+				return replacement.apply(result);
+			}
+			return result;
+		}
+
+		private List<Object> replaceAll(Iterable<?> elements, Function<Object, Object> replacement) {
+
+			List<Object> result = new ArrayList<>();
+			for (Object element : elements) {
+				result.add(fetchPlan.getType().isInstance(element) ? replacement.apply(element) : element);
+			}
+			return result;
+		}
+	}
+
+	/**
+	 * Loads the entities of derived queries without relationships and then the relationships up to the depth of the
+	 * query with one query per hop. Custom queries are executed as they are, their depth is given by the query itself.
+	 */
+	final class SplitQueryExecution implements GraphQueryExecution {
+
+		private final GraphQueryExecution delegate;
+		private final FetchProfileExecution splitExecution;
+
+		SplitQueryExecution(GraphQueryExecution delegate, GraphQueryExecution shallowDelegate, Session session,
+				FetchPlan fetchPlan) {
+			this.delegate = delegate;
+			this.splitExecution = new FetchProfileExecution(shallowDelegate, session, fetchPlan);
+		}
+
+		@Override
+		public Object execute(Query query, Class<?> type) {
+			return query.isFilterQuery() ? splitExecution.execute(query, type) : delegate.execute(query, type);
+		}
+	}
 }
@@ -20,9 +20,12 @@ import java.lang.reflect.Method;
 import org.neo4j.ogm.metadata.MetaData;
 import org.neo4j.ogm.session.Session;
 import org.springframework.data.mapping.context.MappingContext;
+import org.springframework.data.neo4j.cache.CountCache;
+import org.springframework.data.neo4j.cache.QueryResultCache;
 import org.springframework.data.neo4j.mapping.MetaDataProvider;
 import org.springframework.data.neo4j.mapping.Neo4jPersistentEntity;
 import org.springframework.data.neo4j.mapping.Neo4jPersistentProperty;
+import org.springframework.data.neo4j.metrics.RepositoryMetrics;
 import org.springframework.data.projection.ProjectionFactory;
 import org.springframework.data.repository.core.NamedQueries;
 import org.springframework.data.repository.core.RepositoryMetadata;
@@ -47,6 +50,10 @@ public class GraphQueryLookupStrategy implements QueryLookupStrategy {
 	private final Session session;
 	private final QueryMethodEvaluationContextProvider evaluationContextProvider;
 	private final MappingContext<Neo4jPersistentEntity<?>, Neo4jPersistentProperty> mappingContext;
+	private @Nullable CountCache countCache;
+	private @Nullable QueryResultCache queryResultCache;
+	private @Nullable QueryCoalescer queryCoalescer;
+	private @Nullable RepositoryMetrics repositoryMetrics;
 
 	/**
 	 * @param session
@@ -69,6 +76,37 @@ public class GraphQueryLookupStrategy implements QueryLookupStrategy {
 		this.mappingContext = mappingContext;
 	}
 
+	/**
+	 * @param countCache the cache for totals of paged queries, {@literal null} to disable caching
+	 */
+	public void setCountCache(@Nullable CountCache countCache) {
+		this.countCache = countCache;
+	}
+
+	/**
+	 * @param queryResultCache the cache for results of methods annotated with
+	 *          {@link org.springframework.data.neo4j.annotation.CachedQuery}, {@literal null} to disable caching
+	 */
+	public void setQueryResultCache(@Nullable QueryResultCache queryResultCache) {
+		this.queryResultCache = queryResultCache;
+	}
+
+	/**
+	 * @param queryCoalescer lets concurrent, identical invocations share one execution, {@literal null} to disable
+	 *          coalescing
+	 */
+	public void setQueryCoalescer(@Nullable QueryCoalescer queryCoalescer) {
+		this.queryCoalescer = queryCoalescer;
+	}
+
+	/**
+	 * @param repositoryMetrics records the time query methods spend executing queries, {@literal null} to disable
+	 *          metrics
+	 */
+	public void setRepositoryMetrics(@Nullable RepositoryMetrics repositoryMetrics) {
+		this.repositoryMetrics = repositoryMetrics;
+	}
+
 	/*
 	 * (non-Javadoc)
 	 * @see org.springframework.data.repository.query.QueryLookupStrategy#resolveQuery(java.lang.reflect.Method, org.springframework.data.repository.core.RepositoryMetadata, org.springframework.data.projection.ProjectionFactory, org.springframework.data.repository.core.NamedQueries)
@@ -79,6 +117,10 @@ public class GraphQueryLookupStrategy implements QueryLookupStrategy {
 
 		GraphQueryMethod queryMethod = new GraphQueryMethod(method, metadata, factory);
 		queryMethod.setMappingContext(this.mappingContext);
+		queryMethod.setCountCache(this.countCache);
+		queryMethod.setQueryResultCache(this.queryResultCache);
+		queryMethod.setQueryCoalescer(this.queryCoalescer);
+		queryMethod.setRepositoryMetrics(this.repositoryMetrics);
 		String namedQueryName = queryMethod.getNamedQueryName();
 		String namedCountQueryName = queryMethod.getNamedCountQueryName();
 
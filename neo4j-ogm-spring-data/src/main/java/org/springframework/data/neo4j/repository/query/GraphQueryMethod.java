@@ -21,14 +21,21 @@ import java.lang.reflect.Method;
 import org.springframework.core.annotation.AnnotatedElementUtils;
 import org.springframework.core.annotation.AnnotationUtils;
 import org.springframework.data.mapping.context.MappingContext;
+import org.springframework.data.neo4j.annotation.CachedQuery;
 import org.springframework.data.neo4j.annotation.Depth;
+import org.springframework.data.neo4j.annotation.FetchProfile;
 import org.springframework.data.neo4j.annotation.Query;
+import org.springframework.data.neo4j.annotation.SplitQueryHydration;
+import org.springframework.data.neo4j.cache.CountCache;
+import org.springframework.data.neo4j.cache.QueryResultCache;
 import org.springframework.data.neo4j.mapping.Neo4jPersistentEntity;
 import org.springframework.data.neo4j.mapping.Neo4jPersistentProperty;
+import org.springframework.data.neo4j.metrics.RepositoryMetrics;
 import org.springframework.data.projection.ProjectionFactory;
 import org.springframework.data.repository.core.RepositoryMetadata;
 import org.springframework.data.repository.query.Parameters;
 import org.springframework.data.repository.query.QueryMethod;
+import org.springframework.data.util.ReactiveWrappers;
 import org.springframework.data.util.TypeInformation;
 import org.springframework.lang.Nullable;
 import org.springframework.util.StringUtils;
@@ -45,8 +52,17 @@ public class GraphQueryMethod extends QueryMethod {
 	private final Method method;
 	private final Query queryAnnotation;
 	private final Integer queryDepthParamIndex;
+	private final @Nullable Integer methodDepth;
 	private final boolean isExistsQuery;
+	private final boolean isMultiValueReactiveQuery;
+	private final @Nullable CachedQuery cachedQueryAnnotation;
+	private final @Nullable FetchProfile fetchProfileAnnotation;
+	private final boolean splitQueryHydration;
 	private @Nullable MappingContext<Neo4jPersistentEntity<?>, Neo4jPersistentProperty> mappingContext;
+	private @Nullable CountCache countCache;
+	private @Nullable QueryResultCache queryResultCache;
+	private @Nullable QueryCoalescer queryCoalescer;
+	private @Nullable RepositoryMetrics repositoryMetrics;
 
 	public GraphQueryMethod(Method method, RepositoryMetadata metadata, ProjectionFactory factory) {
 		super(method, metadata, factory);
@@ -63,7 +79,26 @@ public class GraphQueryMethod extends QueryMethod {
 		if (queryDepth != null && queryDepthParamIndex != null) {
 			throw new IllegalArgumentException(method.getName() + " cannot have both a method @Depth and a parameter @Depth");
 		}
+		this.isMultiValueReactiveQuery = ReactiveWrappers.isAvailable()
+				&& ReactiveWrappers.isMultiValueType(metadata.getReturnType(method).getType());
+		this.cachedQueryAnnotation = AnnotatedElementUtils.findMergedAnnotation(method, CachedQuery.class);
+		this.fetchProfileAnnotation = AnnotatedElementUtils.findMergedAnnotation(method, FetchProfile.class);
+		if (fetchProfileAnnotation != null) {
+			validateFetchProfile(method, fetchProfileAnnotation);
+		}
+		// Entities are loaded without relationships before the fetch profile loads the selected ones
+		this.methodDepth = fetchProfileAnnotation == null ? getMergedQueryDepth(method) : Integer.valueOf(0);
+		this.splitQueryHydration = AnnotatedElementUtils.hasAnnotation(method, SplitQueryHydration.class)
+				|| AnnotatedElementUtils.hasAnnotation(metadata.getDomainType(), SplitQueryHydration.class);
+	}
 
+	/**
+	 * Also considers methods returning a reactive type emitting any number of elements, like a {@code Flux} or a Kotlin
+	 * {@code Flow}, as collection queries.
+	 */
+	@Override
+	public boolean isCollectionQuery() {
+		return isMultiValueReactiveQuery || super.isCollectionQuery();
 	}
 
 	@Override
@@ -84,6 +119,53 @@ public class GraphQueryMethod extends QueryMethod {
 		this.mappingContext = mappingContext;
 	}
 
+	@Nullable
+	public CountCache getCountCache() {
+		return countCache;
+	}
+
+	public void setCountCache(@Nullable CountCache countCache) {
+		this.countCache = countCache;
+	}
+
+	/**
+	 * @return the cache for the results of this method, {@literal null} if the method is not annotated with
+	 *         {@link CachedQuery} or no cache is configured
+	 */
+	@Nullable
+	public QueryResultCache getQueryResultCache() {
+		return cachedQueryAnnotation == null ? null : queryResultCache;
+	}
+
+	public void setQueryResultCache(@Nullable QueryResultCache queryResultCache) {
+		this.queryResultCache = queryResultCache;
+	}
+
+	@Nullable
+	public QueryCoalescer getQueryCoalescer() {
+		return queryCoalescer;
+	}
+
+	public void setQueryCoalescer(@Nullable QueryCoalescer queryCoalescer) {
+		this.queryCoalescer = queryCoalescer;
+	}
+
+	@Nullable
+	public RepositoryMetrics getRepositoryMetrics() {
+		return repositoryMetrics;
+	}
+
+	public void setRepositoryMetrics(@Nullable RepositoryMetrics repositoryMetrics) {
+		this.repositoryMetrics = repositoryMetrics;
+	}
+
+	/**
+	 * @return the labels declared by {@link CachedQuery#labels()}, an empty array if none are declared
+	 */
+	String[] getCachedQueryLabels() {
+		return cachedQueryAnnotation == null ? new String[0] : cachedQueryAnnotation.labels();
+	}
+
 	public String getQuery() {
 		return queryAnnotation.value();
 	}
@@ -139,6 +221,48 @@ public class GraphQueryMethod extends QueryMethod {
 		return null;
 	}
 
+	private void validateFetchProfile(Method method, FetchProfile fetchProfile) {
+
+		if (getMergedQueryDepth(method) != null || queryDepthParamIndex != null) {
+			throw new IllegalArgumentException(method.getName() + " cannot have both a @FetchProfile and a @Depth");
+		}
+		if (StringUtils.hasText(fetchProfile.name()) == (fetchProfile.paths().length > 0)) {
+			throw new IllegalArgumentException("The @FetchProfile of " + method.getName()
+					+ " must either reference a profile by name or list paths");
+		}
+		if (isStreamQuery()) {
+			throw new IllegalArgumentException(method.getName() + " cannot use a @FetchProfile as it returns a stream");
+		}
+	}
+
+	/**
+	 * @return the fetch profile referenced or declared by this method, {@literal null} if there is none
+	 */
+	@Nullable
+	FetchProfile getFetchProfile() {
+		return fetchProfileAnnotation;
+	}
+
+	/**
+	 * @return whether this method or its domain type is annotated with {@link SplitQueryHydration}
+	 */
+	boolean isSplitQueryHydration() {
+		return splitQueryHydration;
+	}
+
+	private static Integer getMergedQueryDepth(Method method) {
+		Depth depth = AnnotatedElementUtils.findMergedAnnotation(method, Depth.class);
+		return depth == null ? null : (Integer) AnnotationUtils.getValue(depth);
+	}
+
+	/**
+	 * @return the depth from a (merged) {@link Depth} annotation on the method itself, resolved once
+	 */
+	@Nullable
+	Integer getMethodDepth() {
+		return methodDepth;
+	}
+
 	public String getCountQueryString() {
 		return queryAnnotation != null ? queryAnnotation.countQuery() : null;
 	}
@@ -151,6 +275,10 @@ public class GraphQueryMethod extends QueryMethod {
 		return isExistsQuery;
 	}
 
+	boolean isInlineCountQuery() {
+		return queryAnnotation != null && queryAnnotation.inlineCount();
+	}
+
 	private String getAnnotatedQuery() {
 
 		String query = (String) AnnotationUtils.getValue(getQueryAnnotation());
@@ -15,7 +15,10 @@
  */
 package org.springframework.data.neo4j.repository.query;
 
+import java.util.ArrayList;
+import java.util.Collections;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 
 import org.neo4j.ogm.metadata.MetaData;
@@ -23,12 +26,14 @@ import org.neo4j.ogm.model.Result;
 import org.neo4j.ogm.session.Session;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.beans.BeanUtils;
 import org.springframework.data.neo4j.repository.query.spel.ParameterizedQuery;
 import org.springframework.data.repository.query.Parameter;
 import org.springframework.data.repository.query.Parameters;
 import org.springframework.data.repository.query.QueryMethodEvaluationContextProvider;
 import org.springframework.data.repository.query.RepositoryQuery;
 import org.springframework.data.repository.query.ResultProcessor;
+import org.springframework.lang.Nullable;
 
 /**
  * Specialisation of {@link RepositoryQuery} that handles mapping to object annotated with <code>&#064;Query</code>.
@@ -45,8 +50,8 @@ public class GraphRepositoryQuery extends AbstractGraphRepositoryQuery {
 	private static final Logger LOG = LoggerFactory.getLogger(GraphRepositoryQuery.class);
 
 	private final QueryMethodEvaluationContextProvider evaluationContextProvider;
-	private final QueryResultInstantiator entityInstantiator;
 	private final boolean isExistsQuery;
+	private final List<ParameterBinder> parameterBinders;
 
 	private ParameterizedQuery parameterizedQuery;
 
@@ -57,8 +62,22 @@ public class GraphRepositoryQuery extends AbstractGraphRepositoryQuery {
 		super(graphQueryMethod, metaData, session);
 
 		this.evaluationContextProvider = evaluationContextProvider;
-		this.entityInstantiator = new QueryResultInstantiator(metaData, queryMethod.getMappingContext());
 		this.isExistsQuery = graphQueryMethod.isAnnotatedExistsQuery();
+		this.parameterBinders = createParameterBinders(graphQueryMethod.getParameters());
+	}
+
+	private static List<ParameterBinder> createParameterBinders(Parameters<?, ?> methodParameters) {
+
+		List<ParameterBinder> binders = new ArrayList<>();
+		for (Parameter parameter : methodParameters) {
+			// Make sure we don't add "special" parameters as named parameters
+			// even though the check ensures the presence usually, it's probably better to
+			// treat #isNamedParameter as a blackbox and not just calling #get() on the optional.
+			String name = parameter.isNamedParameter() ? parameter.getName().orElse(null) : null;
+			binders.add(new ParameterBinder(parameter.getIndex(), name,
+					!BeanUtils.isSimpleValueType(parameter.getType())));
+		}
+		return Collections.unmodifiableList(binders);
 	}
 
 	protected Object doExecute(Query query, Object[] parameters) {
@@ -76,14 +95,14 @@ public class GraphRepositoryQuery extends AbstractGraphRepositoryQuery {
 		Object result = getExecution(accessor).execute(query, processorReturnType);
 
 		return Result.class.equals(methodReturnType) ? result
-				: processor.processResult(result, new CustomResultConverter(metaData,
-				processorReturnType, entityInstantiator));
+				: processor.processResult(result, new CustomResultConverter(processorReturnType, queryResultMapper));
 	}
 
 	protected Query getQuery(Object[] parameters) {
 		ParameterizedQuery parameterizedQuery = getParameterizedQuery();
 		Map<String, Object> parametersFromQuery = parameterizedQuery.resolveParameter(parameters, this::resolveParams);
-		return new Query(parameterizedQuery.getQueryString(), queryMethod.getCountQueryString(), parametersFromQuery);
+		return new Query(parameterizedQuery.getQueryString(), queryMethod.getCountQueryString(), parametersFromQuery,
+				queryMethod.isInlineCountQuery());
 	}
 
 	private ParameterizedQuery getParameterizedQuery() {
@@ -98,21 +117,19 @@ public class GraphRepositoryQuery extends AbstractGraphRepositoryQuery {
 
 	Map<String, Object> resolveParams(Parameters<?, ?> methodParameters, Object[] parameters) {
 
-		Map<String, Object> resolvedParameters = new HashMap<>();
+		Map<String, Object> resolvedParameters = new HashMap<>(parameterBinders.size() * 4);
 
-		for (Parameter parameter : methodParameters) {
-			int parameterIndex = parameter.getIndex();
-			Object parameterValue = getParameterValue(parameters[parameterIndex]);
+		for (ParameterBinder binder : parameterBinders) {
+			Object parameterValue = parameters[binder.index];
+			if (binder.mayBeEntity) {
+				parameterValue = getParameterValue(parameterValue);
+			}
 
 			// We support using parameters based on their index and their name at the same time,
 			// so parameters are always bound by index.
-			resolvedParameters.put(Integer.toString(parameterIndex), parameterValue);
-
-			// Make sure we don't add "special" parameters as named parameters
-			if (parameter.isNamedParameter()) {
-				// even though the above check ensures the presence usually, it's probably better to
-				// treat #isNamedParameter as a blackbox and not just calling #get() on the optional.
-				parameter.getName().ifPresent(parameterName -> resolvedParameters.put(parameterName, parameterValue));
+			resolvedParameters.put(binder.indexKey, parameterValue);
+			if (binder.name != null) {
+				resolvedParameters.put(binder.name, parameterValue);
 			}
 		}
 
@@ -147,4 +164,23 @@ public class GraphRepositoryQuery extends AbstractGraphRepositoryQuery {
 	protected boolean isDeleteQuery() {
 		return false;
 	}
+
+	/**
+	 * Binding information of a single parameter, resolved once. Parameters of simple types can never be entities, so
+	 * they skip the graph id lookup.
+	 */
+	private static final class ParameterBinder {
+
+		private final int index;
+		private final String indexKey;
+		private final @Nullable String name;
+		private final boolean mayBeEntity;
+
+		ParameterBinder(int index, @Nullable String name, boolean mayBeEntity) {
+			this.index = index;
+			this.indexKey = Integer.toString(index);
+			this.name = name;
+			this.mayBeEntity = mayBeEntity;
+		}
+	}
 }
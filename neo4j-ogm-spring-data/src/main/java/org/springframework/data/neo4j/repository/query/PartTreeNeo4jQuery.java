@@ -15,17 +15,31 @@
  */
 package org.springframework.data.neo4j.repository.query;
 
+import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
+import java.util.Optional;
+import java.util.function.Predicate;
 
 import org.neo4j.ogm.metadata.MetaData;
 import org.neo4j.ogm.session.Session;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.dao.IncorrectResultSizeDataAccessException;
+import org.springframework.data.domain.KeysetScrollPosition;
+import org.springframework.data.domain.ScrollPosition;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.mapping.context.MappingContext;
 import org.springframework.data.neo4j.mapping.Neo4jMappingContext;
+import org.springframework.data.neo4j.mapping.Neo4jPersistentEntity;
+import org.springframework.data.neo4j.mapping.Neo4jPersistentProperty;
+import org.springframework.data.neo4j.metrics.RepositoryMetrics;
+import org.springframework.data.neo4j.repository.query.filter.KeysetFilterBuilder;
 import org.springframework.data.repository.query.RepositoryQuery;
 import org.springframework.data.repository.query.ResultProcessor;
 import org.springframework.data.repository.query.parser.PartTree;
+import org.springframework.lang.Nullable;
 
 /**
  * Specialisation of {@link RepositoryQuery} that handles mapping of filter finders.
@@ -41,10 +55,13 @@ import org.springframework.data.repository.query.parser.PartTree;
 public class PartTreeNeo4jQuery extends AbstractGraphRepositoryQuery {
 
 	private static final Logger LOG = LoggerFactory.getLogger(PartTreeNeo4jQuery.class);
+	private static final Object NOT_PROJECTED = new Object();
+
 	private final GraphQueryMethod graphQueryMethod;
 	private final PartTree tree;
 
 	private final TemplatedQuery queryTemplate;
+	private final ProjectionPushdown projectionPushdown;
 
 	public PartTreeNeo4jQuery(GraphQueryMethod graphQueryMethod, MetaData metaData, Session session) {
 		super(graphQueryMethod, metaData, session);
@@ -54,6 +71,10 @@ public class PartTreeNeo4jQuery extends AbstractGraphRepositoryQuery {
 		this.tree = new PartTree(graphQueryMethod.getName(), domainType);
 		this.queryTemplate = new TemplatedQueryCreator(this.tree,
 				(Neo4jMappingContext) this.graphQueryMethod.getMappingContext(), domainType).createQuery();
+		MappingContext<Neo4jPersistentEntity<?>, Neo4jPersistentProperty> mappingContext = graphQueryMethod
+				.getMappingContext();
+		this.projectionPushdown = new ProjectionPushdown(metaData, domainType,
+				mappingContext == null ? null : mappingContext.getPersistentEntity(domainType));
 	}
 
 	@Override
@@ -71,18 +92,93 @@ public class PartTreeNeo4jQuery extends AbstractGraphRepositoryQuery {
 		}
 
 		ResultProcessor processor = graphQueryMethod.getResultProcessor().withDynamicProjection(accessor);
+		Object projectedResults = executeProjection(query, accessor, processor);
+		if (projectedResults != NOT_PROJECTED) {
+			return projectedResults;
+		}
 		Object results = getExecution(accessor).execute(query, processor.getReturnedType().getDomainType());
 
 		return processor.processResult(results);
 	}
 
+	/**
+	 * Fetches only the projected properties for collection and single entity finders returning a projection that can
+	 * be pushed down.
+	 *
+	 * @return the processed result or {@link #NOT_PROJECTED} if entities must be loaded
+	 */
+	@Nullable
+	private Object executeProjection(Query query, GraphParameterAccessor accessor, ResultProcessor processor) {
+
+		ExecutionKind executionKind = getExecutionKind();
+		if (!query.isFilterQuery()
+				|| !(executionKind == ExecutionKind.COLLECTION || executionKind == ExecutionKind.SINGLE_ENTITY)) {
+			return NOT_PROJECTED;
+		}
+		ProjectionPushdown.Projection projection = projectionPushdown.getProjection(processor.getReturnedType());
+		if (projection == null) {
+			return NOT_PROJECTED;
+		}
+
+		Sort sort = accessor.getSort().isSorted() ? accessor.getSort()
+				: Optional.ofNullable(query.getOptionalSort()).orElseGet(Sort::unsorted);
+		RepositoryMetrics repositoryMetrics = graphQueryMethod.getRepositoryMetrics();
+		Iterable<Map<String, Object>> rows = repositoryMetrics == null
+				? projection.execute(session, query.getFilters(), sort, query.getOptionalLimit())
+				: repositoryMetrics.database(ProjectionPushdown.class.getSimpleName(),
+						() -> projection.execute(session, query.getFilters(), sort, query.getOptionalLimit()));
+		if (rows == null) {
+			return NOT_PROJECTED;
+		}
+
+		List<Object> results = new ArrayList<>();
+		for (Map<String, Object> row : rows) {
+			results.add(projection.needsConversion() ? queryResultMapper.map(projection.getType(), row) : row);
+		}
+		if (executionKind == ExecutionKind.COLLECTION) {
+			return processor.processResult(results);
+		}
+		if (results.size() > 1) {
+			throw new IncorrectResultSizeDataAccessException("Incorrect result size: expected at most 1", 1);
+		}
+		return results.isEmpty() ? null : processor.processResult(results.get(0));
+	}
+
 	@Override
 	protected Query getQuery(Object[] parameters) {
 
 		Map<Integer, Object> resolvedParameters = resolveParameters(parameters);
+		if (graphQueryMethod.isScrollQuery()) {
+			return getScrollQuery(resolvedParameters, parameters);
+		}
 		return this.queryTemplate.createExecutableQuery(resolvedParameters, this.tree.isLimiting() ? this.tree.getMaxResults() : null, tree.getSort());
 	}
 
+	private Query getScrollQuery(Map<Integer, Object> resolvedParameters, Object[] parameters) {
+
+		GraphParameterAccessor accessor = new GraphParametersParameterAccessor(graphQueryMethod, parameters);
+		Class<?> domainType = graphQueryMethod.getEntityInformation().getJavaType();
+		MappingContext<Neo4jPersistentEntity<?>, Neo4jPersistentProperty> mappingContext = graphQueryMethod
+				.getMappingContext();
+		Neo4jPersistentEntity<?> entity = mappingContext == null ? null : mappingContext.getPersistentEntity(domainType);
+
+		Sort sort = ScrollSupport.withUniqueKey(accessor.getSort().isSorted() ? accessor.getSort() : tree.getSort(), entity);
+		ScrollPosition scrollPosition = ScrollSupport.resolvePosition(accessor.getScrollPosition());
+		Sort effectiveSort = ScrollSupport.effectiveSort(sort, scrollPosition);
+		Integer limit = this.tree.isLimiting() ? this.tree.getMaxResults() : null;
+
+		if (scrollPosition instanceof KeysetScrollPosition keysetScrollPosition && !keysetScrollPosition.isInitial()) {
+			Predicate<String> isInternalIdProperty = propertyName -> {
+				Neo4jPersistentProperty property = entity == null ? null : entity.getPersistentProperty(propertyName);
+				return property != null && property.isInternalIdProperty();
+			};
+			KeysetFilterBuilder keysetFilterBuilder = new KeysetFilterBuilder(domainType, effectiveSort,
+					keysetScrollPosition.getKeys(), isInternalIdProperty);
+			return this.queryTemplate.createExecutableQuery(resolvedParameters, limit, effectiveSort, keysetFilterBuilder);
+		}
+		return this.queryTemplate.createExecutableQuery(resolvedParameters, limit, effectiveSort);
+	}
+
 	@Override
 	protected boolean isCountQuery() {
 		return tree.isCountProjection();
@@ -0,0 +1,217 @@
+/*
+ * Copyright 2011-2023 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.neo4j.repository.query;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.neo4j.ogm.cypher.Filter;
+import org.neo4j.ogm.cypher.Filters;
+import org.neo4j.ogm.metadata.ClassInfo;
+import org.neo4j.ogm.metadata.FieldInfo;
+import org.neo4j.ogm.metadata.MetaData;
+import org.neo4j.ogm.session.Session;
+import org.neo4j.ogm.session.request.FilteredQuery;
+import org.neo4j.ogm.session.request.FilteredQueryBuilder;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.annotation.AnnotatedElementUtils;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.neo4j.mapping.Neo4jPersistentEntity;
+import org.springframework.data.neo4j.mapping.Neo4jPersistentProperty;
+import org.springframework.data.repository.query.ReturnedType;
+import org.springframework.lang.Nullable;
+
+/**
+ * Pushes closed interface projections and record based DTO projections of derived finders down into the query: Instead
+ * of loading whole entities including their relationships, only the projected properties are returned, one column per
+ * property. Whether a projection can be pushed down is decided once per projection type. Projections that need
+ * relationships, converted properties or anything else that is only available on a mapped entity are not pushed down.
+ */
+final class ProjectionPushdown {
+
+	private static final String NODE = "n";
+
+	private final Class<?> domainType;
+	private final @Nullable ClassInfo classInfo;
+	private final @Nullable Neo4jPersistentEntity<?> entity;
+
+	private final Map<Class<?>, Optional<Projection>> projections = new ConcurrentHashMap<>();
+
+	ProjectionPushdown(MetaData metaData, Class<?> domainType, @Nullable Neo4jPersistentEntity<?> entity) {
+		this.domainType = domainType;
+		this.classInfo = metaData.classInfo(domainType.getName());
+		this.entity = entity;
+	}
+
+	/**
+	 * @param returnedType the type returned by the current invocation of the finder
+	 * @return the projection to apply or {@literal null} if entities must be loaded
+	 */
+	@Nullable
+	Projection getProjection(ReturnedType returnedType) {
+
+		if (classInfo == null || entity == null || !returnedType.isProjecting()) {
+			return null;
+		}
+		return projections.computeIfAbsent(returnedType.getReturnedType(),
+				type -> Optional.ofNullable(createProjection(type, returnedType.getInputProperties()))).orElse(null);
+	}
+
+	@Nullable
+	private Projection createProjection(Class<?> type, List<String> inputProperties) {
+
+		if (!(type.isInterface() || type.isRecord()) || inputProperties.isEmpty()) {
+			return null;
+		}
+		// Open projections evaluate their expressions against the entity
+		if (Arrays.stream(type.getMethods())
+				.anyMatch(method -> AnnotatedElementUtils.hasAnnotation(method, Value.class))) {
+			return null;
+		}
+
+		List<String> returnItems = new ArrayList<>(inputProperties.size());
+		for (String inputProperty : inputProperties) {
+			String expression = getExpression(inputProperty);
+			if (expression == null) {
+				return null;
+			}
+			returnItems.add(expression + " AS `" + inputProperty + "`");
+		}
+		return new Projection(type, String.join(", ", returnItems));
+	}
+
+	@Nullable
+	private String getExpression(String propertyName) {
+
+		Neo4jPersistentProperty property = entity.getPersistentProperty(propertyName);
+		if (property == null || property.isAssociation()) {
+			return null;
+		}
+		if (property.isInternalIdProperty()) {
+			return "id(" + NODE + ")";
+		}
+		FieldInfo fieldInfo = classInfo.propertyFieldByName(propertyName);
+		if (fieldInfo == null || fieldInfo.hasPropertyConverter() || fieldInfo.hasCompositeConverter()) {
+			return null;
+		}
+		return NODE + ".`" + fieldInfo.property() + "`";
+	}
+
+	/**
+	 * The columns of one projection type.
+	 */
+	final class Projection {
+
+		private final Class<?> type;
+		private final String returnItems;
+
+		private Projection(Class<?> type, String returnItems) {
+			this.type = type;
+			this.returnItems = returnItems;
+		}
+
+		/**
+		 * @return {@literal true} if rows must be converted into instances of the projection before they are handed to
+		 *         the result processor, {@literal false} if the result processor can project the rows itself
+		 */
+		boolean needsConversion() {
+			return type.isRecord();
+		}
+
+		Class<?> getType() {
+			return type;
+		}
+
+		/**
+		 * Executes the projecting query for the given filters.
+		 *
+		 * @return the rows, one column per projected property, or {@literal null} if the query could not be pushed down
+		 */
+		@Nullable
+		Iterable<Map<String, Object>> execute(Session session, Filters filters, Sort sort, @Nullable Integer limit) {
+
+			String orderBy = getOrderBy(sort);
+			if (orderBy == null) {
+				return null;
+			}
+			for (Filter filter : filters) {
+				if (filter.isNested() || filter.isDeepNested()) {
+					return null;
+				}
+			}
+
+			resolveProperties(filters);
+			FilteredQuery filteredQuery = FilteredQueryBuilder.buildNodeQuery(classInfo.neo4jName(), filters);
+
+			Map<String, Object> parameters = new HashMap<>(filteredQuery.parameters());
+			StringBuilder cypher = new StringBuilder(filteredQuery.statement())
+					.append(" RETURN ").append(returnItems).append(orderBy);
+			if (limit != null) {
+				cypher.append(" LIMIT $sdnLimit");
+				parameters.put("sdnLimit", limit);
+			}
+			return session.query(cypher.toString(), parameters).queryResults();
+		}
+
+		/**
+		 * Same as Neo4j-OGM does for the filters of {@code loadAll} before building the query: Property names are
+		 * replaced by the names of the graph properties and the converters of the properties are applied.
+		 */
+		private void resolveProperties(Filters filters) {
+
+			for (Filter filter : filters) {
+				if (filter.getOwnerEntityType() == null) {
+					filter.setOwnerEntityType(domainType);
+				}
+				FieldInfo fieldInfo = filter.getPropertyName() == null ? null
+						: classInfo.propertyFieldByName(filter.getPropertyName());
+				if (fieldInfo != null) {
+					filter.setPropertyConverter(fieldInfo.getPropertyConverter());
+					Filter.setNameFromProperty(filter, fieldInfo.property());
+				}
+			}
+		}
+
+		@Nullable
+		private String getOrderBy(Sort sort) {
+
+			if (sort.isUnsorted()) {
+				return "";
+			}
+			Map<String, String> orderItems = new LinkedHashMap<>();
+			for (Sort.Order order : sort) {
+				String expression = getExpression(order.getProperty());
+				if (expression == null) {
+					return null;
+				}
+				if (order.isIgnoreCase()) {
+					expression = "toLower(" + expression + ")";
+				}
+				orderItems.put(expression, order.isAscending() ? "ASC" : "DESC");
+			}
+			StringBuilder orderBy = new StringBuilder(" ORDER BY ");
+			orderItems.forEach((expression, direction) -> orderBy.append(expression).append(" ").append(direction)
+					.append(", "));
+			return orderBy.substring(0, orderBy.length() - 2);
+		}
+	}
+}
@@ -15,13 +15,19 @@
  */
 package org.springframework.data.neo4j.repository.query;
 
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Map;
+import java.util.StringJoiner;
 import java.util.stream.Collectors;
 
 import org.neo4j.ogm.cypher.Filters;
 import org.neo4j.ogm.cypher.query.Pagination;
 import org.neo4j.ogm.cypher.query.SortOrder;
+import org.springframework.data.domain.KeysetScrollPosition;
+import org.springframework.data.domain.OffsetScrollPosition;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.ScrollPosition;
 import org.springframework.data.domain.Sort;
 import org.springframework.data.neo4j.util.PagingAndSortingUtils;
 import org.springframework.lang.Nullable;
@@ -39,6 +45,8 @@ public class Query {
 
 	private static final String SKIP_PARAM = "sdnSkip";
 	private static final String LIMIT_PARAM = "sdnLimit";
+	private static final String KEYSET_PARAM_PREFIX = "sdnKeyset";
+	static final String TOTAL_COLUMN = "sdnTotal";
 	private static final String SKIP_LIMIT = " SKIP $" + SKIP_PARAM + " LIMIT $" + LIMIT_PARAM;
 	private static final String LIMIT = "LIMIT $" + LIMIT_PARAM;
 	private static final String ORDER_BY_CLAUSE = " ORDER BY %s";
@@ -49,6 +57,7 @@ public class Query {
 	private @Nullable String countQuery;
 	private @Nullable Integer optionalLimit;
 	private @Nullable Sort optionalSort;
+	private boolean inlineCount;
 
 	public Query(Filters filters, @Nullable Integer optionalLimit, Sort optionalSort) {
 
@@ -59,11 +68,16 @@ public class Query {
 	}
 
 	public Query(String cypherQuery, @Nullable String countQuery, Map<String, Object> parameters) {
+		this(cypherQuery, countQuery, parameters, false);
+	}
+
+	public Query(String cypherQuery, @Nullable String countQuery, Map<String, Object> parameters, boolean inlineCount) {
 		Assert.notNull(cypherQuery, "Query must not be null.");
 		Assert.notNull(parameters, "Parameters must not be null.");
 		this.cypherQuery = sanitize(cypherQuery);
 		this.countQuery = countQuery == null ? null : sanitize(countQuery);
 		this.parameters = parameters;
+		this.inlineCount = inlineCount;
 	}
 
 	public boolean isFilterQuery() {
@@ -86,6 +100,54 @@ public class Query {
 		return countQuery;
 	}
 
+	/**
+	 * @return true if the total number of elements should be computed in the same statement as a page
+	 */
+	public boolean isInlineCount() {
+		return inlineCount;
+	}
+
+	/**
+	 * Creates a statement returning the requested page together with the total number of rows of the query in an
+	 * additional column named {@value #TOTAL_COLUMN}. The total is counted by a subquery, the page is read by a second
+	 * subquery that is sorted and sliced with {@code SKIP} and {@code LIMIT}, so that only the rows of the page are
+	 * returned. A page past the last row yields no rows and therefore no total.
+	 *
+	 * @param pageable the requested page
+	 * @return the statement for the page including the total, {@literal null} if the columns returned by the query
+	 *         cannot be determined, for example for a {@code UNION}, if a column is an expression without an alias or if
+	 *         the sort refers to variables that are not returned by the query, such as {@code n.name} for a query
+	 *         returning {@code n.name AS name}
+	 * @see #getInlineCountQuery()
+	 */
+	@Nullable
+	public String getCypherQueryWithTotal(Pageable pageable) {
+
+		String baseQuery = formatBaseQuery(cypherQuery);
+		List<String> columns = CypherScanner.returnedColumns(baseQuery);
+		if (columns.isEmpty() || !CypherScanner.isSortableAfterSubquery(columns, pageable.getSort())) {
+			return null;
+		}
+
+		StringJoiner projection = new StringJoiner(", ", "RETURN ", ", " + TOTAL_COLUMN);
+		columns.forEach(projection::add);
+		String page = "CALL { " + getInlineCountQuery() + " AS " + TOTAL_COLUMN + " } CALL { " + baseQuery + " } "
+				+ projection;
+		if (pageable.getSort().isSorted()) {
+			page = addSorting(page, pageable.getSort());
+		}
+		parameters.put(SKIP_PARAM, pageable.getOffset());
+		parameters.put(LIMIT_PARAM, pageable.getPageSize());
+		return page + SKIP_LIMIT;
+	}
+
+	/**
+	 * @return a statement counting all rows of the query, used when no explicit count query is given
+	 */
+	public String getInlineCountQuery() {
+		return "CALL { " + formatBaseQuery(cypherQuery) + " } RETURN count(*)";
+	}
+
 	public String getCypherQuery(Pageable pageable, boolean forSlicing) {
 		String result = cypherQuery;
 		Sort sort = null;
@@ -109,6 +171,88 @@ public class Query {
 		return result;
 	}
 
+	/**
+	 * Creates a query for one window of a scroll. Keyset positions are applied by filtering the rows right before the
+	 * final {@code RETURN} clause of the query, so that the database can use an index on the sort keys. Queries without
+	 * a single final {@code RETURN}, such as a {@code UNION}, or sorted by aliases defined in that clause are wrapped into
+	 * a subquery whose rows are filtered instead, which reads all rows before the keyset. Offset positions are applied
+	 * by {@code SKIP}. One more row than requested is fetched so that the caller can tell whether there are more rows.
+	 *
+	 * @param scrollPosition the position to continue from
+	 * @param sort the sort to apply, already reversed when scrolling backward
+	 * @param limit the size of the window, or {@literal null} for all remaining rows
+	 * @return the query for the window
+	 */
+	public String getCypherQuery(ScrollPosition scrollPosition, Sort sort, @Nullable Integer limit) {
+
+		String result = formatBaseQuery(cypherQuery);
+		if (scrollPosition instanceof KeysetScrollPosition keysetScrollPosition && !keysetScrollPosition.isInitial()) {
+			String keysetPredicate = getKeysetPredicate(sort, keysetScrollPosition.getKeys());
+			int finalReturn = CypherScanner.indexOfFinalReturn(result);
+			if (finalReturn < 0 || CypherScanner.definesAlias(result.substring(finalReturn), sort)) {
+				result = "CALL { " + result + " } WITH * WHERE " + keysetPredicate + " RETURN *";
+			} else {
+				result = result.substring(0, finalReturn) + "WITH * WHERE " + keysetPredicate + " "
+						+ result.substring(finalReturn);
+			}
+		}
+		result = addSorting(result, sort);
+		if (scrollPosition instanceof OffsetScrollPosition offsetScrollPosition && !offsetScrollPosition.isInitial()) {
+			result = result + " SKIP $" + SKIP_PARAM;
+			parameters.put(SKIP_PARAM, offsetScrollPosition.getOffset());
+		}
+		if (limit != null) {
+			result = result + " " + LIMIT;
+			parameters.put(LIMIT_PARAM, limit + 1);
+		}
+		return result;
+	}
+
+	/**
+	 * Creates the predicate selecting all rows after the keyset. Neo4j sorts {@literal null} last in ascending and first
+	 * in descending order, which is reflected in the comparisons of {@literal null} keys and of nullable properties.
+	 */
+	private String getKeysetPredicate(Sort sort, Map<String, Object> keys) {
+
+		List<Sort.Order> orders = sort.toList();
+		List<String> terms = new ArrayList<>(orders.size());
+		List<String> equalities = new ArrayList<>(orders.size());
+		for (int i = 0; i < orders.size(); i++) {
+			Sort.Order order = orders.get(i);
+			String property = order.getProperty();
+			if (!keys.containsKey(property)) {
+				throw new IllegalStateException(
+						String.format("KeysetScrollPosition does not contain all keyset values. Missing key: %s",
+								property));
+			}
+			String parameterName = KEYSET_PARAM_PREFIX + i;
+			Object value = keys.get(property);
+			String expression = order.isIgnoreCase() ? "toLower(" + property + ")" : property;
+			String parameter = order.isIgnoreCase() ? "toLower($" + parameterName + ")" : "$" + parameterName;
+
+			String comparison;
+			if (value == null) {
+				comparison = order.isAscending() ? null : property + " IS NOT NULL";
+			} else {
+				parameters.put(parameterName, value);
+				comparison = order.isAscending()
+						? "(" + expression + " > " + parameter + " OR " + property + " IS NULL)"
+						: expression + " < " + parameter;
+			}
+			if (comparison != null) {
+				List<String> conditions = new ArrayList<>(equalities);
+				conditions.add(comparison);
+				terms.add("(" + String.join(" AND ", conditions) + ")");
+			}
+			equalities.add(value == null ? property + " IS NULL" : expression + " = " + parameter);
+		}
+		if (terms.isEmpty()) {
+			// Without a sort every row follows, after null ascending keys no row follows
+			return orders.isEmpty() ? "true" : "false";
+		}
+		return String.join(" OR ", terms);
+	}
+
 	private String addPaging(String cypherQuery, Pageable pageable, boolean forSlicing) {
 		// Custom queries in the OGM do not support pageable
 		cypherQuery = formatBaseQuery(cypherQuery);
@@ -180,6 +324,10 @@ public class Query {
 		return optionalSort;
 	}
 
+	@Nullable Integer getOptionalLimit() {
+		return optionalLimit;
+	}
+
 	private String sanitize(String cypherQuery) {
 		cypherQuery = cypherQuery.trim();
 		if (cypherQuery.endsWith(";")) {
@@ -0,0 +1,123 @@
+/*
+ * Copyright 2011-2023 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.neo4j.repository.query;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.function.Supplier;
+import java.util.function.UnaryOperator;
+
+import org.springframework.data.neo4j.mapping.ResultCopier.NotCopyableException;
+import org.springframework.lang.Nullable;
+
+/**
+ * Lets concurrent, identical invocations of repository query methods share one execution. Registering a bean of this
+ * type enables coalescing for all query methods that are not invoked inside a transaction. The first
+ * invocation executes the query, invocations with the same method and arguments arriving while it is in flight wait
+ * for its result.
+ * <p>
+ * Each invocation gets its own copy of the result: entities, {@code @QueryResult} objects, collections, pages, slices,
+ * windows and dates are copied, immutable values are shared. Invocations waiting for a result that cannot be copied,
+ * for example a projection, execute the query themselves. Without concurrent invocations, the result is not copied.
+ */
+public class QueryCoalescer {
+
+	private static final Object NOT_COPYABLE = new Object();
+
+	private final ConcurrentMap<Object, InFlightQuery> inFlightQueries = new ConcurrentHashMap<>();
+
+	/**
+	 * Executes the query unless an identical one is in flight.
+	 *
+	 * @param key identifies the query, usually the query method, the Cypher statement and its parameters
+	 * @param query executes the query
+	 * @param copier creates an independent copy of a result or throws a {@link NotCopyableException}
+	 * @return the result of the query
+	 */
+	@Nullable
+	Object execute(Object key, Supplier<Object> query, UnaryOperator<Object> copier) {
+
+		InFlightQuery ownQuery = new InFlightQuery();
+		InFlightQuery inFlightQuery = inFlightQueries.compute(key,
+				(k, current) -> current == null ? ownQuery : current.addFollower());
+		if (inFlightQuery != ownQuery) {
+			Object result = inFlightQuery.await();
+			return result == NOT_COPYABLE ? query.get() : copier.apply(result);
+		}
+
+		Object result;
+		try {
+			result = query.get();
+		} catch (RuntimeException | Error e) {
+			inFlightQueries.remove(key, ownQuery);
+			ownQuery.result.completeExceptionally(e);
+			throw e;
+		}
+
+		// No follower can join after the query has been removed, so their number is final afterwards
+		inFlightQueries.remove(key, ownQuery);
+		if (ownQuery.followers == 0) {
+			ownQuery.result.complete(result);
+			return result;
+		}
+
+		// Copying the result first tells the followers whether they can copy it as well
+		Object ownCopy;
+		try {
+			ownCopy = copier.apply(result);
+		} catch (NotCopyableException e) {
+			ownQuery.result.complete(NOT_COPYABLE);
+			return result;
+		}
+		ownQuery.result.complete(result);
+		return ownCopy;
+	}
+
+	/**
+	 * The original result is only read by followers creating their copies and never handed out if there are any.
+	 */
+	private static final class InFlightQuery {
+
+		private final CompletableFuture<Object> result = new CompletableFuture<>();
+
+		/**
+		 * Only modified while the query is mapped to its key.
+		 */
+		private volatile int followers;
+
+		InFlightQuery addFollower() {
+			followers++;
+			return this;
+		}
+
+		@Nullable
+		Object await() {
+			try {
+				return result.join();
+			} catch (CompletionException e) {
+				if (e.getCause() instanceof RuntimeException runtimeException) {
+					throw runtimeException;
+				}
+				if (e.getCause() instanceof Error error) {
+					throw error;
+				}
+				throw e;
+			}
+		}
+	}
+}
@@ -0,0 +1,144 @@
+/*
+ * Copyright 2011-2023 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.neo4j.repository.query;
+
+import java.lang.reflect.Constructor;
+import java.lang.reflect.Field;
+import java.lang.reflect.RecordComponent;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+
+import org.neo4j.ogm.annotation.Property;
+import org.neo4j.ogm.context.SingleUseEntityMapper;
+import org.neo4j.ogm.metadata.MetaData;
+import org.neo4j.ogm.metadata.reflect.EntityAccessManager;
+import org.neo4j.ogm.session.Utils;
+import org.springframework.beans.BeanUtils;
+import org.springframework.core.ResolvableType;
+import org.springframework.util.ReflectionUtils;
+
+/**
+ * Maps rows of custom queries onto types annotated with {@link org.springframework.data.neo4j.annotation.QueryResult}.
+ * The way a type is mapped is decided once per type and reused for all rows and all invocations of the query method:
+ * Interfaces are proxied, records are created through their canonical constructor from precomputed column slots and
+ * all other classes go through a shared {@link SingleUseEntityMapper}.
+ */
+final class QueryResultMapper {
+
+	private final SingleUseEntityMapper entityMapper;
+
+	private final Map<Class<?>, Function<Map<String, Object>, Object>> mappingPlans = new ConcurrentHashMap<>();
+
+	QueryResultMapper(MetaData metaData, QueryResultInstantiator entityInstantiator) {
+		this.entityMapper = new SingleUseEntityMapper(metaData, entityInstantiator);
+	}
+
+	Object map(Class<?> type, Map<String, Object> row) {
+		return mappingPlans.computeIfAbsent(type, this::createMappingPlan).apply(row);
+	}
+
+	private Function<Map<String, Object>, Object> createMappingPlan(Class<?> type) {
+
+		if (type.isInterface()) {
+			return row -> QueryResultProxy.newInstance(type, row);
+		}
+		if (type.isRecord()) {
+			return new RecordMappingPlan(type);
+		}
+		return row -> entityMapper.map(type, row);
+	}
+
+	/**
+	 * Creates records through their canonical constructor. The column and the coercion of each component are resolved
+	 * once.
+	 */
+	private static final class RecordMappingPlan implements Function<Map<String, Object>, Object> {
+
+		private final Constructor<?> constructor;
+		private final String[] columns;
+		private final Function<Object, Object>[] coercions;
+
+		@SuppressWarnings("unchecked")
+		RecordMappingPlan(Class<?> type) {
+
+			RecordComponent[] components = type.getRecordComponents();
+			Class<?>[] parameterTypes = new Class<?>[components.length];
+
+			this.columns = new String[components.length];
+			this.coercions = new Function[components.length];
+			for (int i = 0; i < components.length; i++) {
+				RecordComponent component = components[i];
+				parameterTypes[i] = component.getType();
+				this.columns[i] = getColumn(type, component);
+				this.coercions[i] = getCoercion(ResolvableType.forType(component.getGenericType()));
+			}
+
+			try {
+				this.constructor = type.getDeclaredConstructor(parameterTypes);
+			} catch (NoSuchMethodException e) {
+				throw new IllegalStateException("Could not find the canonical constructor of " + type.getName(), e);
+			}
+			ReflectionUtils.makeAccessible(this.constructor);
+		}
+
+		@Override
+		public Object apply(Map<String, Object> row) {
+
+			Object[] arguments = new Object[columns.length];
+			for (int i = 0; i < columns.length; i++) {
+				arguments[i] = coercions[i].apply(row.get(columns[i]));
+			}
+			return BeanUtils.instantiateClass(constructor, arguments);
+		}
+
+		private static String getColumn(Class<?> type, RecordComponent component) {
+
+			Field field = ReflectionUtils.findField(type, component.getName());
+			Property property = field == null ? null : field.getAnnotation(Property.class);
+			if (property == null) {
+				property = component.getAccessor().getAnnotation(Property.class);
+			}
+			return property == null || property.name().isEmpty() ? component.getName() : property.name();
+		}
+
+		@SuppressWarnings("unchecked")
+		private static Function<Object, Object> getCoercion(ResolvableType componentType) {
+
+			Class<?> targetType = componentType.toClass();
+			if (!(targetType.isArray() || Collection.class.isAssignableFrom(targetType))) {
+				return value -> Utils.coerceTypes(targetType, value);
+			}
+
+			// Same treatment of collections as org.neo4j.ogm.context.SingleUseEntityMapper.writeProperty
+			Class<?> elementType = targetType.isArray() ? targetType.getComponentType()
+					: componentType.asCollection().resolveGeneric(0);
+			Class<?> resolvedElementType = elementType == null ? Object.class : elementType;
+			return value -> {
+				if (value == null) {
+					return null;
+				}
+				Object collection = value instanceof Object[] array ? Arrays.asList(array) : value;
+				return targetType.isArray()
+						? EntityAccessManager.merge(targetType, collection, new Object[0], resolvedElementType)
+						: EntityAccessManager.merge(targetType, collection, Collections.EMPTY_LIST, resolvedElementType);
+			};
+		}
+	}
+}
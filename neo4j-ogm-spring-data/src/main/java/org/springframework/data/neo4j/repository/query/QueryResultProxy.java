@@ -17,6 +17,8 @@ package org.springframework.data.neo4j.repository.query;
 
 import java.lang.reflect.InvocationHandler;
 import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.util.HashMap;
 import java.util.Map;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
@@ -28,7 +30,8 @@ import org.slf4j.LoggerFactory;
 
 /**
  * Method {@link InvocationHandler} used for proxy objects that implement arbitrary interfaces annotated with
- * <code>&#064;QueryResult</code>.
+ * <code>&#064;QueryResult</code>. The key read by each method is resolved once per interface and shared by all
+ * proxies of that interface, so that a method invocation is a single lookup in the row.
  *
  * @author Adam George
  */
@@ -38,14 +41,75 @@ class QueryResultProxy implements InvocationHandler {
 
 	private static final Pattern beanGetterPattern = Pattern.compile("^(is|get)(\\w+)");
 
+	private static final ClassValue<Map<Method, Getter>> GETTERS = new ClassValue<>() {
+		@Override
+		protected Map<Method, Getter> computeValue(Class<?> type) {
+			return resolveGetters(type);
+		}
+	};
+
 	private final Map<String, ?> data;
+	private final Map<Method, Getter> getters;
+
+	/**
+	 * Creates a proxy implementing the given interface that is backed by the given row.
+	 *
+	 * @param type the interface to implement
+	 * @param queryResults the row
+	 * @return a new proxy
+	 */
+	static Object newInstance(Class<?> type, Map<String, ?> queryResults) {
+		return Proxy.newProxyInstance(type.getClassLoader(), new Class<?>[] { type },
+				new QueryResultProxy(queryResults, GETTERS.get(type)));
+	}
 
 	QueryResultProxy(Map<String, ?> queryResults) {
+		this(queryResults, null);
+	}
+
+	private QueryResultProxy(Map<String, ?> queryResults, Map<Method, Getter> getters) {
 		this.data = queryResults;
+		this.getters = getters;
 	}
 
 	@Override
 	public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+
+		if (method.getDeclaringClass() == Object.class) {
+			return invokeObjectMethod(proxy, method, args);
+		}
+
+		Getter getter = getters == null ? null : getters.get(method);
+		if (getter == null) {
+			getter = createGetter(method);
+		}
+		return Utils.coerceTypes(getter.returnType, data.get(getter.key));
+	}
+
+	private Object invokeObjectMethod(Object proxy, Method method, Object[] args) {
+		switch (method.getName()) {
+			case "equals":
+				return proxy == args[0];
+			case "hashCode":
+				return System.identityHashCode(proxy);
+			default:
+				return "QueryResult" + data;
+		}
+	}
+
+	private static Map<Method, Getter> resolveGetters(Class<?> type) {
+
+		Map<Method, Getter> getters = new HashMap<>();
+		for (Method method : type.getMethods()) {
+			if (method.getDeclaringClass() != Object.class && !method.isDefault()) {
+				getters.put(method, createGetter(method));
+			}
+		}
+		return getters;
+	}
+
+	private static Getter createGetter(Method method) {
+
 		if (isNotTraditionalGetter(method)) {
 			log.warn("QueryResult interface method " + method.getName()
 					+ " doesn't appear to be a getter and therefore may not return the correct result.");
@@ -53,22 +117,32 @@ class QueryResultProxy implements InvocationHandler {
 
 		if (method.isAnnotationPresent(Property.class)) {
 			Property annotation = method.getAnnotation(Property.class);
-			return Utils.coerceTypes(method.getReturnType(), data.get(annotation.name()));
+			return new Getter(annotation.name(), method.getReturnType());
 		}
 
 		Matcher matcher = beanGetterPattern.matcher(method.getName());
 		if (matcher.matches()) {
 			String propertyKey = matcher.group(2);
 			propertyKey = propertyKey.substring(0, 1).toLowerCase().concat(propertyKey.substring(1));
-			return Utils.coerceTypes(method.getReturnType(), data.get(propertyKey));
+			return new Getter(propertyKey, method.getReturnType());
 		}
 
-		return Utils.coerceTypes(method.getReturnType(), data.get(method.getName()));
+		return new Getter(method.getName(), method.getReturnType());
 	}
 
-	private boolean isNotTraditionalGetter(Method method) {
+	private static boolean isNotTraditionalGetter(Method method) {
 		return method.getParameterTypes().length != 0 || Void.class.equals(method.getReturnType())
 				|| (!method.getName().startsWith("get") && !method.getName().startsWith("is"));
 	}
 
+	private static final class Getter {
+
+		private final String key;
+		private final Class<?> returnType;
+
+		Getter(String key, Class<?> returnType) {
+			this.key = key;
+			this.returnType = returnType;
+		}
+	}
 }
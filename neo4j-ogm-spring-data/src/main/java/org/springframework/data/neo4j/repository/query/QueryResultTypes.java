@@ -0,0 +1,52 @@
+/*
+ * Copyright 2011-2023 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.neo4j.repository.query;
+
+import java.util.Map;
+
+import org.springframework.data.neo4j.annotation.QueryResult;
+
+/**
+ * Caches how results of a given type are mapped, so that the annotation lookup happens once per type and not on each
+ * query execution.
+ */
+final class QueryResultTypes {
+
+	private static final ClassValue<Boolean> QUERY_RESULTS = new ClassValue<>() {
+		@Override
+		protected Boolean computeValue(Class<?> type) {
+			return type.getAnnotation(QueryResult.class) != null;
+		}
+	};
+
+	/**
+	 * @param type the type returned by a query
+	 * @return true if the type is annotated with {@link QueryResult}
+	 */
+	static boolean isQueryResult(Class<?> type) {
+		return QUERY_RESULTS.get(type);
+	}
+
+	/**
+	 * @param type the type returned by a query
+	 * @return true if the query should return plain rows that are mapped afterwards instead of entities
+	 */
+	static boolean returnsRows(Class<?> type) {
+		return isQueryResult(type) || Map.class.isAssignableFrom(type);
+	}
+
+	private QueryResultTypes() {}
+}
@@ -0,0 +1,82 @@
+/*
+ * Copyright 2011-2023 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.neo4j.repository.query;
+
+import java.lang.reflect.Method;
+
+import org.neo4j.ogm.session.SessionFactory;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.data.mapping.context.MappingContext;
+import org.springframework.data.neo4j.mapping.Neo4jPersistentEntity;
+import org.springframework.data.neo4j.mapping.Neo4jPersistentProperty;
+import org.springframework.data.neo4j.transaction.CommittedWritesListener;
+import org.springframework.data.neo4j.transaction.SharedSessionCreator;
+import org.springframework.data.projection.ProjectionFactory;
+import org.springframework.data.repository.core.NamedQueries;
+import org.springframework.data.repository.core.RepositoryMetadata;
+import org.springframework.data.repository.query.QueryLookupStrategy;
+import org.springframework.data.repository.query.QueryMethodEvaluationContextProvider;
+import org.springframework.data.repository.query.RepositoryQuery;
+import org.springframework.lang.Nullable;
+
+import reactor.core.scheduler.Scheduler;
+
+/**
+ * {@link QueryLookupStrategy} for reactive and Kotlin coroutine repositories. Resolves the same derived, annotated and
+ * named queries as {@link GraphQueryLookupStrategy} and runs them on the given {@link Scheduler}, on the session of the
+ * current reactive transaction if any.
+ */
+public class ReactiveGraphQueryLookupStrategy implements QueryLookupStrategy {
+
+	private final SessionFactory sessionFactory;
+	private final Scheduler scheduler;
+	private final GraphQueryLookupStrategy delegate;
+	private final @Nullable ObjectProvider<CommittedWritesListener> committedWritesListeners;
+
+	public ReactiveGraphQueryLookupStrategy(SessionFactory sessionFactory, Scheduler scheduler,
+			QueryMethodEvaluationContextProvider evaluationContextProvider,
+			@Nullable MappingContext<Neo4jPersistentEntity<?>, Neo4jPersistentProperty> mappingContext) {
+
+		this(sessionFactory, scheduler, evaluationContextProvider, mappingContext, null);
+	}
+
+	/**
+	 * Creates a lookup strategy whose queries notify the given listeners about writes outside of reactive transactions.
+	 */
+	public ReactiveGraphQueryLookupStrategy(SessionFactory sessionFactory, Scheduler scheduler,
+			QueryMethodEvaluationContextProvider evaluationContextProvider,
+			@Nullable MappingContext<Neo4jPersistentEntity<?>, Neo4jPersistentProperty> mappingContext,
+			@Nullable ObjectProvider<CommittedWritesListener> committedWritesListeners) {
+
+		this.sessionFactory = sessionFactory;
+		this.scheduler = scheduler;
+		this.committedWritesListeners = committedWritesListeners;
+		this.delegate = new GraphQueryLookupStrategy(SharedSessionCreator.createSharedSession(sessionFactory),
+				evaluationContextProvider, mappingContext);
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.repository.query.QueryLookupStrategy#resolveQuery(java.lang.reflect.Method, org.springframework.data.repository.core.RepositoryMetadata, org.springframework.data.projection.ProjectionFactory, org.springframework.data.repository.core.NamedQueries)
+	 */
+	@Override
+	public RepositoryQuery resolveQuery(Method method, RepositoryMetadata metadata, ProjectionFactory factory,
+			NamedQueries namedQueries) {
+
+		return new ReactiveGraphRepositoryQuery(delegate.resolveQuery(method, metadata, factory, namedQueries),
+				sessionFactory, scheduler, committedWritesListeners);
+	}
+}
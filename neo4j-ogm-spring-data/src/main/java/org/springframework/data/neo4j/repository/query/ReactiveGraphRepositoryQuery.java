@@ -0,0 +1,97 @@
+/*
+ * Copyright 2011-2023 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.neo4j.repository.query;
+
+import java.util.Collections;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import org.neo4j.ogm.session.SessionFactory;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.data.neo4j.transaction.CommittedWritesListener;
+import org.springframework.data.neo4j.transaction.ReactiveSessionFactoryUtils;
+import org.springframework.data.repository.query.QueryMethod;
+import org.springframework.data.repository.query.RepositoryQuery;
+import org.springframework.lang.Nullable;
+
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Scheduler;
+
+/**
+ * Runs a blocking {@link RepositoryQuery} with {@link ReactiveSessionFactoryUtils}. The session chosen there is bound
+ * to the thread while the query runs, so that the shared session of the query uses it and reports its writes. Queries
+ * returning many elements emit them as a {@code Flux}, all others as a {@link Mono}. The repository infrastructure
+ * adapts both to the declared return type, including Kotlin {@code suspend} functions and {@code Flow}.
+ * <p>
+ * The query blocks a thread of the scheduler until all rows have been read and mapped, the {@code Flux} emits them
+ * afterwards. Results are therefore held in memory as a whole, like the results of blocking query methods returning a
+ * collection.
+ */
+final class ReactiveGraphRepositoryQuery implements RepositoryQuery {
+
+	private final RepositoryQuery delegate;
+	private final SessionFactory sessionFactory;
+	private final Scheduler scheduler;
+	private final @Nullable ObjectProvider<CommittedWritesListener> committedWritesListeners;
+	private final boolean multiValue;
+
+	ReactiveGraphRepositoryQuery(RepositoryQuery delegate, SessionFactory sessionFactory, Scheduler scheduler,
+			@Nullable ObjectProvider<CommittedWritesListener> committedWritesListeners) {
+
+		this.delegate = delegate;
+		this.sessionFactory = sessionFactory;
+		this.scheduler = scheduler;
+		this.committedWritesListeners = committedWritesListeners;
+
+		QueryMethod queryMethod = delegate.getQueryMethod();
+		this.multiValue = queryMethod.isCollectionQuery() || queryMethod.isStreamQuery();
+	}
+
+	@Override
+	public Object execute(Object[] parameters) {
+
+		Mono<Object> result = ReactiveSessionFactoryUtils.doInSession(sessionFactory, scheduler,
+				committedWritesListeners, session -> collectStream(delegate.execute(parameters)));
+
+		if (multiValue) {
+			return result.flatMapIterable(ReactiveGraphRepositoryQuery::toIterable);
+		}
+		return result;
+	}
+
+	/**
+	 * Streams are backed by an open result of the session and must be consumed while the session is bound, which is
+	 * only the case while the query runs.
+	 */
+	private static Object collectStream(Object result) {
+
+		if (result instanceof Stream<?> stream) {
+			try (stream) {
+				return stream.collect(Collectors.toList());
+			}
+		}
+		return result;
+	}
+
+	private static Iterable<?> toIterable(Object value) {
+		return value instanceof Iterable<?> iterable ? iterable : Collections.singletonList(value);
+	}
+
+	@Override
+	public QueryMethod getQueryMethod() {
+		return delegate.getQueryMethod();
+	}
+}
@@ -0,0 +1,156 @@
+/*
+ * Copyright 2011-2023 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.neo4j.repository.query;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.IntFunction;
+
+import org.springframework.data.domain.KeysetScrollPosition;
+import org.springframework.data.domain.OffsetScrollPosition;
+import org.springframework.data.domain.ScrollPosition;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.domain.Window;
+import org.springframework.data.mapping.context.MappingContext;
+import org.springframework.data.neo4j.mapping.Neo4jPersistentEntity;
+import org.springframework.data.neo4j.mapping.Neo4jPersistentProperty;
+import org.springframework.lang.Nullable;
+
+/**
+ * Utilities shared by the derived and the string based queries returning a {@link Window}.
+ */
+final class ScrollSupport {
+
+	/**
+	 * @param scrollPosition the position passed to a query method, maybe {@literal null}
+	 * @return the given position or the initial keyset position
+	 */
+	static ScrollPosition resolvePosition(@Nullable ScrollPosition scrollPosition) {
+		return scrollPosition == null ? ScrollPosition.keyset() : scrollPosition;
+	}
+
+	/**
+	 * Appends the identifier of the entity to the sort if it is not already part of it, so that keysets are unique.
+	 * Entities using the internal id don't get a tiebreaker: The internal id is not a stable value and must be added
+	 * to the sort explicitly by the user.
+	 */
+	static Sort withUniqueKey(Sort sort, @Nullable Neo4jPersistentEntity<?> entity) {
+
+		if (entity == null) {
+			return sort;
+		}
+		Neo4jPersistentProperty idProperty = entity.getIdProperty();
+		if (idProperty == null || idProperty.isInternalIdProperty() || sort.getOrderFor(idProperty.getName()) != null) {
+			return sort;
+		}
+		Sort.Direction direction = sort.stream().reduce((first, second) -> second).map(Sort.Order::getDirection)
+				.orElse(Sort.Direction.ASC);
+		return sort.and(Sort.by(direction, idProperty.getName()));
+	}
+
+	/**
+	 * Scrolling backward is done by inverting the sort and reversing the fetched rows afterwards.
+	 */
+	static Sort effectiveSort(Sort sort, ScrollPosition scrollPosition) {
+
+		if (!(scrollPosition instanceof KeysetScrollPosition keysetScrollPosition)
+				|| !keysetScrollPosition.scrollsBackward()) {
+			return sort;
+		}
+		List<Sort.Order> orders = new ArrayList<>();
+		for (Sort.Order order : sort) {
+			orders.add(order.with(order.isAscending() ? Sort.Direction.DESC : Sort.Direction.ASC));
+		}
+		return Sort.by(orders);
+	}
+
+	/**
+	 * Creates the window from rows fetched with one more row than the limit.
+	 *
+	 * @param rows the rows as fetched with the effective sort
+	 * @param limit the requested size of the window, {@literal null} if all rows have been fetched
+	 * @param scrollPosition the position the rows have been fetched from
+	 * @param sort the effective sort
+	 * @param mappingContext used to extract the keys from entities
+	 * @param <T> type of the rows
+	 * @return a new window
+	 */
+	static <T> Window<T> createWindow(List<T> rows, @Nullable Integer limit, ScrollPosition scrollPosition, Sort sort,
+			@Nullable MappingContext<Neo4jPersistentEntity<?>, Neo4jPersistentProperty> mappingContext) {
+
+		boolean hasNext = limit != null && rows.size() > limit;
+		List<T> content = new ArrayList<>(hasNext ? rows.subList(0, limit) : rows);
+
+		IntFunction<ScrollPosition> positionFunction;
+		if (scrollPosition instanceof OffsetScrollPosition offsetScrollPosition) {
+			long start = offsetScrollPosition.isInitial() ? 0 : offsetScrollPosition.getOffset();
+			positionFunction = index -> ScrollPosition.offset(start + index + 1);
+		} else {
+			KeysetScrollPosition keysetScrollPosition = (KeysetScrollPosition) scrollPosition;
+			if (keysetScrollPosition.scrollsBackward()) {
+				Collections.reverse(content);
+			}
+			positionFunction = index -> ScrollPosition.of(extractKeys(content.get(index), sort, mappingContext),
+					keysetScrollPosition.getDirection());
+		}
+
+		return Window.from(content, positionFunction, hasNext);
+	}
+
+	static Map<String, Object> extractKeys(Object row, Sort sort,
+			@Nullable MappingContext<Neo4jPersistentEntity<?>, Neo4jPersistentProperty> mappingContext) {
+
+		Map<String, Object> keys = new LinkedHashMap<>();
+		for (Sort.Order order : sort) {
+			String property = order.getProperty();
+			keys.put(property, extractKey(row, property, mappingContext));
+		}
+		return keys;
+	}
+
+	private static Object extractKey(Object row, String property,
+			@Nullable MappingContext<Neo4jPersistentEntity<?>, Neo4jPersistentProperty> mappingContext) {
+
+		// Sort properties of string based queries are usually qualified with a variable (n.name)
+		String unqualifiedProperty = property.substring(property.indexOf('.') + 1);
+
+		if (row instanceof Map<?, ?> map) {
+			if (map.containsKey(property)) {
+				return map.get(property);
+			}
+			if (map.containsKey(unqualifiedProperty)) {
+				return map.get(unqualifiedProperty);
+			}
+		} else if (mappingContext != null && mappingContext.hasPersistentEntityFor(row.getClass())) {
+			Neo4jPersistentEntity<?> entity = mappingContext.getRequiredPersistentEntity(row.getClass());
+			Neo4jPersistentProperty persistentProperty = entity.getPersistentProperty(property);
+			if (persistentProperty == null) {
+				persistentProperty = entity.getPersistentProperty(unqualifiedProperty);
+			}
+			if (persistentProperty != null) {
+				return entity.getPropertyAccessor(row).getProperty(persistentProperty);
+			}
+		}
+
+		throw new IllegalStateException(
+				String.format("Cannot extract the keyset value for %s from %s", property, row.getClass().getName()));
+	}
+
+	private ScrollSupport() {}
+}
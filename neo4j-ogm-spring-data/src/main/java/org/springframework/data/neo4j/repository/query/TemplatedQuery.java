@@ -21,10 +21,12 @@ import java.util.List;
 import java.util.Map;
 import java.util.Stack;
 
+import org.neo4j.ogm.cypher.BooleanOperator;
 import org.neo4j.ogm.cypher.Filter;
 import org.neo4j.ogm.cypher.Filters;
 import org.springframework.data.domain.Sort;
 import org.springframework.data.neo4j.repository.query.filter.FilterBuilder;
+import org.springframework.data.neo4j.repository.query.filter.KeysetFilterBuilder;
 import org.springframework.lang.Nullable;
 
 /**
@@ -52,14 +54,53 @@ class TemplatedQuery {
 	Query createExecutableQuery(Map<Integer, Object> resolvedParameters, @Nullable Integer optionalLimit, @Nullable
 			Sort optionalSort) {
 
+		List<Filter> filters = buildFilters(resolvedParameters);
+		return new Query(new Filters(filters), optionalLimit, optionalSort);
+	}
+
+	/**
+	 * Creates an executable query that only selects the rows after the given keyset. As Neo4j-OGM filters cannot be
+	 * grouped, the condition {@code (original) AND (keyset)} is expanded into its disjunctive normal form: Every
+	 * conjunctive term of the original filters is combined with every term of the keyset condition.
+	 */
+	Query createExecutableQuery(Map<Integer, Object> resolvedParameters, @Nullable Integer optionalLimit, Sort sort,
+			KeysetFilterBuilder keysetFilterBuilder) {
+
+		List<Filter> filters = new ArrayList<>();
+		for (int i = 0; i < keysetFilterBuilder.getNumberOfTerms(); i++) {
+
+			// Filters are stateful (they carry their index), so each combination needs fresh instances
+			List<List<Filter>> terms = splitIntoConjunctiveTerms(buildFilters(resolvedParameters));
+			for (List<Filter> term : terms) {
+				List<Filter> combinedTerm = new ArrayList<>(term);
+				combinedTerm.addAll(keysetFilterBuilder.buildTerm(i));
+				for (int j = 0; j < combinedTerm.size(); j++) {
+					BooleanOperator operator;
+					if (j > 0) {
+						operator = BooleanOperator.AND;
+					} else {
+						operator = filters.isEmpty() ? BooleanOperator.NONE : BooleanOperator.OR;
+					}
+					combinedTerm.get(j).setBooleanOperator(operator);
+				}
+				filters.addAll(combinedTerm);
+			}
+		}
+
+		return new Query(new Filters(filters), optionalLimit, sort);
+	}
+
+	private List<Filter> buildFilters(Map<Integer, Object> resolvedParameters) {
+
 		// building a stack of parameter values, so that the builders can pull them
 		// according to their needs (zero, one or more parameters)
 		// avoids to manage a current parameter index state here.
 		Stack<Object> parametersStack = new Stack<>();
 		if (!resolvedParameters.isEmpty()) {
 			Integer maxParameterIndex = Collections.max(resolvedParameters.keySet());
-			for (int i = 0; i <= maxParameterIndex; i++) {
-				parametersStack.add(0, resolvedParameters.get(i));
+			parametersStack.ensureCapacity(maxParameterIndex + 1);
+			for (int i = maxParameterIndex; i >= 0; i--) {
+				parametersStack.push(resolvedParameters.get(i));
 			}
 		}
 
@@ -67,7 +108,21 @@ class TemplatedQuery {
 		for (FilterBuilder filterBuilder : filterBuilders) {
 			filters.addAll(filterBuilder.build(parametersStack));
 		}
+		return filters;
+	}
 
-		return new Query(new Filters(filters), optionalLimit, optionalSort);
+	private static List<List<Filter>> splitIntoConjunctiveTerms(List<Filter> filters) {
+
+		List<List<Filter>> terms = new ArrayList<>();
+		List<Filter> currentTerm = new ArrayList<>();
+		for (Filter filter : filters) {
+			if (filter.getBooleanOperator() == BooleanOperator.OR && !currentTerm.isEmpty()) {
+				terms.add(currentTerm);
+				currentTerm = new ArrayList<>();
+			}
+			currentTerm.add(filter);
+		}
+		terms.add(currentTerm);
+		return terms;
 	}
 }
@@ -44,6 +44,10 @@ public abstract class FilterBuilder {
 	protected Class<?> entityType;
 	protected Predicate<Part> isInternalIdProperty = part -> false;
 
+	// Derived from the part only, so resolved once instead of on each query execution
+	private NestedAttributes nestedAttributes;
+	private Boolean internalIdProperty;
+
 	public static FilterBuilder forPartAndEntity(Part part, Class<?> entityType, BooleanOperator booleanOperator,
 			Predicate<Part> isInternalIdProperty) {
 		FilterBuilder filterBuilder;
@@ -86,6 +90,18 @@ public abstract class FilterBuilder {
 
 	public abstract List<Filter> build(Stack<Object> params);
 
+	/**
+	 * @return true if the property of this builders part is the internal id, resolved on first access
+	 */
+	protected final boolean isInternalIdProperty() {
+		Boolean result = this.internalIdProperty;
+		if (result == null) {
+			result = isInternalIdProperty.test(part);
+			this.internalIdProperty = result;
+		}
+		return result;
+	}
+
 	boolean isNegated() {
 		return part.getType().name().startsWith("NOT");
 	}
@@ -96,6 +112,19 @@ public abstract class FilterBuilder {
 
 	protected final NestedAttributes getNestedAttributes(Part part) {
 
+		if (part != this.part) {
+			return resolveNestedAttributes(part);
+		}
+		NestedAttributes result = this.nestedAttributes;
+		if (result == null) {
+			result = resolveNestedAttributes(part);
+			this.nestedAttributes = result;
+		}
+		return result;
+	}
+
+	private NestedAttributes resolveNestedAttributes(Part part) {
+
 		PropertyPath property = part.getProperty();
 		if (!property.hasNext()) {
 			return EMPTY_NESTED_ATTRIBUTES;
@@ -0,0 +1,152 @@
+/*
+ * Copyright 2011-2023 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.neo4j.repository.query.filter;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Predicate;
+
+import org.neo4j.ogm.cypher.BooleanOperator;
+import org.neo4j.ogm.cypher.ComparisonOperator;
+import org.neo4j.ogm.cypher.Filter;
+import org.springframework.data.domain.Sort;
+import org.springframework.lang.Nullable;
+
+/**
+ * Builds the filters selecting all rows after a keyset. For sort keys {@code k0..kn} the keyset condition is the
+ * disjunction of the terms {@code k0 > v0}, {@code k0 = v0 AND k1 > v1} and so on, with {@code <} for descending keys.
+ * Each term is returned separately as Neo4j-OGM does not support parentheses between filters: The caller has to combine
+ * every term with every conjunctive term of the original filters.
+ * <p>
+ * Neo4j sorts {@literal null} last in ascending and first in descending order. Therefore a key with a {@literal null}
+ * value is compared with {@code IS NULL}, rows after a {@literal null} ascending key are only rows with a
+ * {@literal null} key, too, and rows after a descending key are all rows with a {@literal null} key.
+ */
+public final class KeysetFilterBuilder {
+
+	private final Class<?> entityType;
+	private final Predicate<String> isInternalIdProperty;
+	private final List<List<Condition>> terms;
+
+	public KeysetFilterBuilder(Class<?> entityType, Sort sort, Map<String, ?> keys,
+			Predicate<String> isInternalIdProperty) {
+
+		this.entityType = entityType;
+		this.isInternalIdProperty = isInternalIdProperty;
+
+		List<Sort.Order> orders = sort.toList();
+		for (Sort.Order order : orders) {
+			if (!keys.containsKey(order.getProperty())) {
+				throw new IllegalStateException(
+						String.format("KeysetScrollPosition does not contain all keyset values. Missing key: %s",
+								order.getProperty()));
+			}
+		}
+
+		this.terms = new ArrayList<>();
+		for (int i = 0; i < orders.size(); i++) {
+			List<Condition> equalities = new ArrayList<>(i + 1);
+			for (int j = 0; j < i; j++) {
+				String property = orders.get(j).getProperty();
+				Object value = keys.get(property);
+				equalities.add(value == null ? Condition.isNull(property, false)
+						: new Condition(property, ComparisonOperator.EQUALS, value, false));
+			}
+
+			Sort.Order order = orders.get(i);
+			String property = order.getProperty();
+			Object value = keys.get(property);
+			if (value == null) {
+				if (order.isDescending()) {
+					terms.add(append(equalities, Condition.isNull(property, true)));
+				}
+			} else if (order.isAscending()) {
+				terms.add(append(equalities, new Condition(property, ComparisonOperator.GREATER_THAN, value, false)));
+				terms.add(append(equalities, Condition.isNull(property, false)));
+			} else {
+				terms.add(append(equalities, new Condition(property, ComparisonOperator.LESS_THAN, value, false)));
+			}
+		}
+		if (terms.isEmpty()) {
+			// Nothing follows a keyset consisting only of null ascending keys
+			terms.add(List.of(Condition.NONE));
+		}
+	}
+
+	private static List<Condition> append(List<Condition> conditions, Condition condition) {
+
+		List<Condition> result = new ArrayList<>(conditions);
+		result.add(condition);
+		return result;
+	}
+
+	/**
+	 * @return the number of terms of the keyset condition
+	 */
+	public int getNumberOfTerms() {
+		return terms.size();
+	}
+
+	/**
+	 * Creates new filter instances for the given term of the keyset condition. The filters of a term are meant to be
+	 * combined with {@link BooleanOperator#AND}.
+	 *
+	 * @param termIndex the index of the term
+	 * @return fresh filters for the given term
+	 */
+	public List<Filter> buildTerm(int termIndex) {
+
+		List<Condition> term = terms.get(termIndex);
+		List<Filter> filters = new ArrayList<>(term.size());
+		for (Condition condition : term) {
+			filters.add(createFilter(condition));
+		}
+		return filters;
+	}
+
+	private Filter createFilter(Condition condition) {
+
+		Filter filter;
+		if (condition == Condition.NONE) {
+			filter = new Filter(new NativeIdFilterFunction(ComparisonOperator.LESS_THAN, 0L));
+			Filter.setNameFromProperty(filter, "id");
+		} else if (isInternalIdProperty.test(condition.property())) {
+			filter = new Filter(new NativeIdFilterFunction(condition.operator(), condition.value()));
+			Filter.setNameFromProperty(filter, condition.property());
+		} else if (condition.operator() == ComparisonOperator.IS_NULL) {
+			filter = new Filter(condition.property(), ComparisonOperator.IS_NULL);
+		} else {
+			filter = new Filter(condition.property(), condition.operator(), condition.value());
+		}
+		filter.setOwnerEntityType(entityType);
+		filter.setBooleanOperator(BooleanOperator.AND);
+		filter.setNegated(condition.negated());
+		return filter;
+	}
+
+	private record Condition(String property, ComparisonOperator operator, @Nullable Object value, boolean negated) {
+
+		/**
+		 * A condition no row fulfills, as internal ids are never negative.
+		 */
+		static final Condition NONE = new Condition("id", ComparisonOperator.LESS_THAN, 0L, false);
+
+		static Condition isNull(String property, boolean negated) {
+			return new Condition(property, ComparisonOperator.IS_NULL, null, negated);
+		}
+	}
+}
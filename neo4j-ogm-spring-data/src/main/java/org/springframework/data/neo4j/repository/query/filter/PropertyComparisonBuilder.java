@@ -61,7 +61,7 @@ class PropertyComparisonBuilder extends FilterBuilder {
 
 		Filter filter;
 		String propertyName = nestedAttributes.isEmpty() ? propertyName() : nestedAttributes.getLeafPropertySegment();
-		if (isInternalIdProperty.test(part)) {
+		if (isInternalIdProperty()) {
 			filter = new Filter(new NativeIdFilterFunction(convertToComparisonOperator(part.getType()), value));
 			Filter.setNameFromProperty(filter, propertyName);
 		} else {
@@ -0,0 +1,140 @@
+/*
+ * Copyright 2011-2023 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.neo4j.repository.support;
+
+import java.lang.reflect.Method;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.function.Supplier;
+
+import org.aopalliance.intercept.MethodInterceptor;
+import org.aopalliance.intercept.MethodInvocation;
+import org.neo4j.ogm.session.SessionFactory;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.core.task.SimpleAsyncTaskExecutor;
+import org.springframework.data.neo4j.bookmark.BookmarkInfo;
+import org.springframework.data.neo4j.bookmark.BookmarkSupport;
+import org.springframework.data.neo4j.observation.Neo4jObservations;
+import org.springframework.data.neo4j.transaction.SessionFactoryUtils;
+import org.springframework.lang.Nullable;
+import org.springframework.util.ReflectionUtils;
+
+/**
+ * Runs repository methods returning a {@link CompletableFuture}, {@link CompletionStage} or {@link Future} on an
+ * executor. The interceptor must be placed in front of the transaction interceptor, so that each invocation gets its
+ * own session and transaction on the thread of the executor. The bookmark settings and the current observation of the
+ * calling thread are carried over.
+ */
+class AsyncRepositoryMethodInterceptor implements MethodInterceptor {
+
+	private static final Logger logger = LoggerFactory.getLogger(AsyncRepositoryMethodInterceptor.class);
+
+	private final Executor executor;
+	private final @Nullable SessionFactory sessionFactory;
+	private final @Nullable Neo4jObservations observations;
+
+	AsyncRepositoryMethodInterceptor(Executor executor, @Nullable SessionFactory sessionFactory) {
+		this(executor, sessionFactory, null);
+	}
+
+	AsyncRepositoryMethodInterceptor(Executor executor, @Nullable SessionFactory sessionFactory,
+			@Nullable Neo4jObservations observations) {
+		this.executor = executor;
+		this.sessionFactory = sessionFactory;
+		this.observations = observations;
+	}
+
+	static boolean isAsync(Method method) {
+		Class<?> returnType = method.getReturnType();
+		return returnType == CompletableFuture.class || returnType == CompletionStage.class || returnType == Future.class;
+	}
+
+	@Override
+	public Object invoke(MethodInvocation invocation) throws Throwable {
+
+		if (!isAsync(invocation.getMethod())) {
+			return invocation.proceed();
+		}
+
+		BookmarkInfo bookmarkInfo = copyOf(BookmarkSupport.currentBookmarkInfo());
+		Supplier<Runnable> observationScope = observations == null ? () -> () -> {}
+				: observations.captureCurrentObservation();
+		return CompletableFuture.supplyAsync(() -> {
+			Runnable closeObservationScope = observationScope.get();
+			try {
+				return BookmarkSupport.callWithBookmarkInfo(bookmarkInfo,
+						() -> sessionFactory == null ? proceed(invocation)
+								: SessionFactoryUtils.doInBoundSession(sessionFactory, () -> proceed(invocation)));
+			} finally {
+				closeObservationScope.run();
+			}
+		}, executor);
+	}
+
+	/**
+	 * Proceeds and unwraps the future the query execution wraps its result into.
+	 */
+	private static Object proceed(MethodInvocation invocation) {
+
+		try {
+			Object result = invocation.proceed();
+			return result instanceof Future<?> future ? future.get() : result;
+		} catch (ExecutionException e) {
+			throw new CompletionException(e.getCause());
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			throw new CompletionException(e);
+		} catch (Throwable e) {
+			throw e instanceof CompletionException completionException ? completionException : new CompletionException(e);
+		}
+	}
+
+	@Nullable
+	private static BookmarkInfo copyOf(@Nullable BookmarkInfo bookmarkInfo) {
+
+		if (bookmarkInfo == null) {
+			return null;
+		}
+		BookmarkInfo copy = new BookmarkInfo();
+		copy.setUseBookmark(bookmarkInfo.shouldUseBookmark());
+		copy.setBookmarks(bookmarkInfo.getBookmarks());
+		return copy;
+	}
+
+	/**
+	 * Creates the executor used when none is configured: A new virtual thread per task when running on JDK 21 or
+	 * higher, a new platform thread per task otherwise.
+	 *
+	 * @return the default executor
+	 */
+	static Executor createDefaultExecutor() {
+
+		Method factoryMethod = ReflectionUtils.findMethod(Executors.class, "newVirtualThreadPerTaskExecutor");
+		if (factoryMethod != null) {
+			logger.debug("Using virtual threads for asynchronous repository methods");
+			return (Executor) ReflectionUtils.invokeMethod(factoryMethod, null);
+		}
+		SimpleAsyncTaskExecutor executor = new SimpleAsyncTaskExecutor("neo4j-ogm-async-");
+		executor.setDaemon(true);
+		return executor;
+	}
+}
@@ -0,0 +1,186 @@
+/*
+ * Copyright 2011-2023 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.neo4j.repository.support;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+
+import org.neo4j.ogm.metadata.MetaData;
+import org.neo4j.ogm.session.Session;
+import org.neo4j.ogm.session.SessionFactory;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.data.neo4j.repository.BulkWriteResult;
+import org.springframework.data.neo4j.repository.Neo4jBulkOperations;
+import org.springframework.data.neo4j.transaction.SharedSessionCreator;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.util.Assert;
+
+/**
+ * Default implementation of {@link Neo4jBulkOperations}. Each chunk of batches runs in a new transaction of the given
+ * transaction manager, regardless of any ongoing transaction.
+ */
+public class DefaultNeo4jBulkOperations implements Neo4jBulkOperations {
+
+	private static final Logger LOG = LoggerFactory.getLogger(DefaultNeo4jBulkOperations.class);
+
+	private static final int DEFAULT_BATCH_SIZE = 1_000;
+	private static final int DEFAULT_BATCHES_PER_TRANSACTION = 10;
+
+	private final Session session;
+	private final MetaData metaData;
+	private final TransactionTemplate transactionTemplate;
+
+	private final Map<Class<?>, EntityWritePlan> writePlans = new ConcurrentHashMap<>();
+
+	private int batchSize = DEFAULT_BATCH_SIZE;
+	private int batchesPerTransaction = DEFAULT_BATCHES_PER_TRANSACTION;
+
+	/**
+	 * @param sessionFactory the session factory of the entities to write
+	 * @param transactionManager the transaction manager used for committing chunks, usually a
+	 *          {@link org.springframework.data.neo4j.transaction.Neo4jTransactionManager} for the same session factory
+	 */
+	public DefaultNeo4jBulkOperations(SessionFactory sessionFactory, PlatformTransactionManager transactionManager) {
+		this(SharedSessionCreator.createSharedSession(sessionFactory), sessionFactory.metaData(), transactionManager);
+	}
+
+	DefaultNeo4jBulkOperations(Session session, MetaData metaData, PlatformTransactionManager transactionManager) {
+
+		Assert.notNull(session, "Session must not be null!");
+		Assert.notNull(metaData, "MetaData must not be null!");
+		Assert.notNull(transactionManager, "TransactionManager must not be null!");
+
+		this.session = session;
+		this.metaData = metaData;
+		this.transactionTemplate = new TransactionTemplate(transactionManager);
+		this.transactionTemplate.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+	}
+
+	/**
+	 * @param batchSize the number of rows per statement, defaults to 1000
+	 */
+	public void setBatchSize(int batchSize) {
+		Assert.isTrue(batchSize > 0, "The batch size must be greater than zero!");
+		this.batchSize = batchSize;
+	}
+
+	/**
+	 * @param batchesPerTransaction the number of statements committed together, defaults to 10
+	 */
+	public void setBatchesPerTransaction(int batchesPerTransaction) {
+		Assert.isTrue(batchesPerTransaction > 0, "The number of batches per transaction must be greater than zero!");
+		this.batchesPerTransaction = batchesPerTransaction;
+	}
+
+	@Override
+	public <T> BulkWriteResult insert(Class<T> type, Iterator<? extends T> entities) {
+
+		EntityWritePlan writePlan = getWritePlan(type);
+		return write(writePlan.createStatement(), entities, writePlan::toRow);
+	}
+
+	@Override
+	public <T> BulkWriteResult merge(Class<T> type, Iterator<? extends T> entities) {
+
+		EntityWritePlan writePlan = getWritePlan(type);
+		return write(writePlan.mergeStatement(), entities, writePlan::toMergeRow);
+	}
+
+	@Override
+	public <S, E> BulkWriteResult createRelationships(Class<S> startType, String relationshipType, Class<E> endType,
+			Iterator<? extends Map.Entry<? extends S, ? extends E>> pairs) {
+
+		Assert.hasText(relationshipType, "Relationship type must not be empty!");
+
+		EntityWritePlan startPlan = getWritePlan(startType);
+		EntityWritePlan endPlan = getWritePlan(endType);
+		String cypher = "UNWIND $" + EntityWritePlan.ROWS_PARAMETER + " AS row " + startPlan.matchById("s", "row.start")
+				+ " " + endPlan.matchById("e", "row.end") + " CREATE (s)-[:`" + relationshipType + "`]->(e)";
+		return write(cypher, pairs, pair -> {
+			Map<String, Object> row = new HashMap<>(2);
+			row.put("start", startPlan.getId(pair.getKey()));
+			row.put("end", endPlan.getId(pair.getValue()));
+			return row;
+		});
+	}
+
+	private EntityWritePlan getWritePlan(Class<?> type) {
+
+		Assert.notNull(type, "Type must not be null!");
+		return writePlans.computeIfAbsent(type, key -> EntityWritePlan.of(metaData, key));
+	}
+
+	private <T> BulkWriteResult write(String cypher, Iterator<? extends T> source,
+			Function<? super T, Map<String, Object>> rowMapper) {
+
+		Assert.notNull(source, "Source must not be null!");
+
+		long start = System.nanoTime();
+		long rows = 0;
+		int batches = 0;
+		int transactions = 0;
+		while (source.hasNext()) {
+			Progress progress = transactionTemplate.execute(status -> writeChunk(cypher, source, rowMapper));
+			if (progress == null || progress.batches == 0) {
+				break;
+			}
+			rows += progress.rows;
+			batches += progress.batches;
+			transactions++;
+			if (LOG.isDebugEnabled()) {
+				LOG.debug("Committed {} rows in {} batches, {} rows in total", progress.rows, progress.batches, rows);
+			}
+		}
+
+		BulkWriteResult result = new BulkWriteResult(rows, batches, transactions, Duration.ofNanos(System.nanoTime() - start));
+		if (LOG.isDebugEnabled()) {
+			LOG.debug("Bulk write finished: {}", result);
+		}
+		return result;
+	}
+
+	private <T> Progress writeChunk(String cypher, Iterator<? extends T> source,
+			Function<? super T, Map<String, Object>> rowMapper) {
+
+		Progress progress = new Progress();
+		while (progress.batches < batchesPerTransaction && source.hasNext()) {
+			List<Map<String, Object>> batch = new ArrayList<>(batchSize);
+			while (batch.size() < batchSize && source.hasNext()) {
+				batch.add(rowMapper.apply(source.next()));
+			}
+			session.query(cypher, Collections.singletonMap(EntityWritePlan.ROWS_PARAMETER, batch), false);
+			progress.rows += batch.size();
+			progress.batches++;
+		}
+		return progress;
+	}
+
+	private static final class Progress {
+
+		private long rows;
+		private int batches;
+	}
+}
@@ -0,0 +1,271 @@
+/*
+ * Copyright 2011-2023 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.neo4j.repository.support;
+
+import java.io.Serializable;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+import org.neo4j.ogm.metadata.MetaData;
+import org.neo4j.ogm.session.Session;
+import org.neo4j.ogm.session.SessionFactory;
+import org.springframework.data.neo4j.cache.EntityCache;
+import org.springframework.data.neo4j.transaction.SessionFactoryUtils;
+import org.springframework.data.neo4j.transaction.SessionHolder;
+import org.springframework.data.neo4j.transaction.SharedSessionCreator;
+import org.springframework.lang.Nullable;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.util.Assert;
+import org.springframework.util.ClassUtils;
+import org.springframework.util.NumberUtils;
+
+/**
+ * Collects the ids of entities requested one by one, for example by the field resolvers of a GraphQL query, and
+ * resolves them with one {@link SimpleNeo4jRepository#findAllById(Iterable)} per domain type when
+ * {@link #dispatch()} is called. Waiting on a returned future or on a future depending on it dispatches all pending
+ * loads as well, and {@link #setDispatchDelay(Duration)} dispatches them automatically. Futures are kept for the
+ * lifetime of the loader, so that an id is only loaded once. Numeric ids are converted to the id type of the entity, so
+ * that {@code 1} and {@code 1L} request the same entity. A loader is meant to be used for one request:
+ *
+ * <pre class="code">
+ * &#064;Bean
+ * &#064;RequestScope
+ * public EntityBatchLoader entityBatchLoader(SessionFactory sessionFactory) {
+ * 	return new EntityBatchLoader(sessionFactory);
+ * }
+ * </pre>
+ *
+ * If a session has been bound to the thread that requested the first entity, for example by the
+ * {@link org.springframework.data.neo4j.web.support.OpenSessionInViewInterceptor}, entities are loaded in that session,
+ * even if the loads are dispatched from another thread. As sessions are not thread-safe, the request thread must not
+ * use the session while loads are dispatched from another thread.
+ */
+public class EntityBatchLoader {
+
+	private final SessionFactory sessionFactory;
+	private final Session session;
+	private final MetaData metaData;
+	private final Object monitor = new Object();
+	private final Map<Class<?>, Map<Object, CompletableFuture<Object>>> loads = new HashMap<>();
+	private final Map<Class<?>, SimpleNeo4jRepository<Object, Serializable>> repositories = new HashMap<>();
+
+	private Map<Class<?>, Map<Object, CompletableFuture<Object>>> pendingLoads = new LinkedHashMap<>();
+	private @Nullable Session boundSession;
+	private boolean boundSessionResolved;
+	private @Nullable EntityCache entityCache;
+	private @Nullable Duration dispatchDelay;
+
+	/**
+	 * Creates a new loader for entities of the given session factory.
+	 *
+	 * @param sessionFactory must not be {@literal null}.
+	 */
+	public EntityBatchLoader(SessionFactory sessionFactory) {
+		this(sessionFactory, SharedSessionCreator.createSharedSession(sessionFactory));
+	}
+
+	EntityBatchLoader(SessionFactory sessionFactory, Session session) {
+		Assert.notNull(sessionFactory, "SessionFactory must not be null!");
+
+		this.sessionFactory = sessionFactory;
+		this.session = session;
+		this.metaData = sessionFactory.metaData();
+	}
+
+	/**
+	 * Configures the second-level cache consulted before entities of types annotated with
+	 * {@link org.springframework.data.neo4j.annotation.CachedEntity} are loaded.
+	 *
+	 * @param entityCache the cache to use, {@literal null} to disable caching
+	 */
+	public void setEntityCache(@Nullable EntityCache entityCache) {
+		synchronized (monitor) {
+			this.entityCache = entityCache;
+			this.repositories.clear();
+		}
+	}
+
+	/**
+	 * Configures the loader to dispatch pending loads automatically after the given delay, counted from the first load
+	 * requested since the last dispatch. Loads are then dispatched from another thread, so a session bound to the
+	 * requesting thread must not be used while they are pending.
+	 *
+	 * @param dispatchDelay the delay after which pending loads are dispatched, {@literal null} to only dispatch them
+	 *          explicitly or when waiting on a future
+	 */
+	public void setDispatchDelay(@Nullable Duration dispatchDelay) {
+		synchronized (monitor) {
+			this.dispatchDelay = dispatchDelay;
+		}
+	}
+
+	/**
+	 * Requests the entity of the given type with the given id. The entity is loaded with the next {@link #dispatch()},
+	 * which happens automatically if a {@link #setDispatchDelay(Duration) dispatch delay} is configured.
+	 *
+	 * @param type the domain type of the entity, must not be {@literal null}.
+	 * @param id the id of the entity, must not be {@literal null}.
+	 * @param <T> the domain type of the entity
+	 * @return a future completed with the entity or with {@literal null} if there is no entity with the given id
+	 */
+	@SuppressWarnings("unchecked")
+	public <T> CompletableFuture<T> load(Class<T> type, Object id) {
+
+		Assert.notNull(type, "Type must not be null!");
+		Assert.notNull(id, "The given id must not be null!");
+
+		synchronized (monitor) {
+			if (!boundSessionResolved) {
+				boundSessionResolved = true;
+				boundSession = TransactionSynchronizationManager.getResource(sessionFactory) instanceof SessionHolder holder
+						? holder.getSession()
+						: null;
+			}
+			Object normalizedId = normalizeId(type, id);
+			return (CompletableFuture<T>) loads.computeIfAbsent(type, k -> new HashMap<>()).computeIfAbsent(normalizedId,
+					k -> {
+						CompletableFuture<Object> load = new DispatchingFuture(this);
+						if (pendingLoads.isEmpty() && dispatchDelay != null) {
+							CompletableFuture.runAsync(this::dispatch,
+									CompletableFuture.delayedExecutor(dispatchDelay.toNanos(), TimeUnit.NANOSECONDS));
+						}
+						pendingLoads.computeIfAbsent(type, t -> new LinkedHashMap<>()).put(normalizedId, load);
+						return load;
+					});
+		}
+	}
+
+	/**
+	 * Loaded entities are matched to their loads by the id read from the entity, which is a {@link Long} for native ids.
+	 */
+	private Object normalizeId(Class<?> type, Object id) {
+
+		if (!(id instanceof Number number) || metaData.classInfo(type.getName()) == null) {
+			return id;
+		}
+		Class<?> idType = new GraphEntityInformation<>(metaData, type).getIdType();
+		if (idType == null) {
+			return id;
+		}
+		idType = ClassUtils.resolvePrimitiveIfNecessary(idType);
+		return Number.class.isAssignableFrom(idType) && !idType.isInstance(id)
+				? NumberUtils.convertNumberToTargetClass(number, idType.asSubclass(Number.class))
+				: id;
+	}
+
+	/**
+	 * Loads all entities requested since the last dispatch with one query per domain type. The futures of a domain type
+	 * are completed exceptionally if its query fails.
+	 */
+	public void dispatch() {
+
+		Map<Class<?>, Map<Object, CompletableFuture<Object>>> dispatchedLoads;
+		Session sessionToBind;
+		synchronized (monitor) {
+			if (pendingLoads.isEmpty()) {
+				return;
+			}
+			dispatchedLoads = pendingLoads;
+			pendingLoads = new LinkedHashMap<>();
+			sessionToBind = boundSession;
+		}
+
+		dispatchedLoads.forEach((type, loadsOfType) -> {
+			try {
+				Map<Object, Object> entities = loadAll(type, loadsOfType.keySet(), sessionToBind);
+				loadsOfType.forEach((id, load) -> load.complete(entities.get(id)));
+			} catch (RuntimeException e) {
+				loadsOfType.values().forEach(load -> load.completeExceptionally(e));
+			}
+		});
+	}
+
+	@SuppressWarnings("unchecked")
+	private Map<Object, Object> loadAll(Class<?> type, Collection<Object> ids, @Nullable Session sessionToBind) {
+
+		SimpleNeo4jRepository<Object, Serializable> repository;
+		synchronized (monitor) {
+			repository = repositories.computeIfAbsent(type, t -> {
+				SimpleNeo4jRepository<Object, Serializable> newRepository = new SimpleNeo4jRepository<>((Class<Object>) t,
+						session);
+				newRepository.setEntityCache(entityCache);
+				return newRepository;
+			});
+		}
+
+		Iterable<Serializable> idsToLoad = (Iterable<Serializable>) (Iterable<?>) new ArrayList<>(ids);
+		Iterable<Object> entities = sessionToBind == null || TransactionSynchronizationManager.hasResource(sessionFactory)
+				? repository.findAllById(idsToLoad)
+				: SessionFactoryUtils.doInBoundSession(sessionFactory, sessionToBind, () -> repository.findAllById(idsToLoad));
+
+		Map<Object, Object> entitiesById = new HashMap<>();
+		for (Object entity : entities) {
+			entitiesById.put(EntityCacheEventListener.getId(metaData, entity), entity);
+		}
+		return entitiesById;
+	}
+
+	/**
+	 * Dispatches the pending loads before waiting for its own completion, so that waiting on a load never blocks
+	 * forever. Dependent futures dispatch as well.
+	 */
+	private static final class DispatchingFuture extends CompletableFuture<Object> {
+
+		private final EntityBatchLoader loader;
+
+		DispatchingFuture(EntityBatchLoader loader) {
+			this.loader = loader;
+		}
+
+		@Override
+		@SuppressWarnings("unchecked")
+		public <U> CompletableFuture<U> newIncompleteFuture() {
+			return (CompletableFuture<U>) new DispatchingFuture(loader);
+		}
+
+		@Override
+		public Object get() throws InterruptedException, ExecutionException {
+			dispatchIfNecessary();
+			return super.get();
+		}
+
+		@Override
+		public Object get(long timeout, TimeUnit unit) throws InterruptedException, ExecutionException, TimeoutException {
+			dispatchIfNecessary();
+			return super.get(timeout, unit);
+		}
+
+		@Override
+		public Object join() {
+			dispatchIfNecessary();
+			return super.join();
+		}
+
+		private void dispatchIfNecessary() {
+			if (!isDone()) {
+				loader.dispatch();
+			}
+		}
+	}
+}
@@ -0,0 +1,119 @@
+/*
+ * Copyright 2011-2023 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.neo4j.repository.support;
+
+import org.neo4j.ogm.metadata.ClassInfo;
+import org.neo4j.ogm.metadata.MetaData;
+import org.neo4j.ogm.session.SessionFactory;
+import org.neo4j.ogm.session.event.Event;
+import org.neo4j.ogm.session.event.EventListenerAdapter;
+import org.springframework.core.annotation.AnnotatedElementUtils;
+import org.springframework.data.neo4j.annotation.CachedEntity;
+import org.springframework.data.neo4j.cache.EntityCache;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * Evicts saved and deleted entities of types annotated with {@link CachedEntity} from an {@link EntityCache}. Inside
+ * transactions, entities are evicted once more after completion, as a concurrent reader might have cached the state
+ * that was still committed when the entity was saved. Listeners are equal when they evict from the same cache, so that registering them more than once for a
+ * {@link SessionFactory} is harmless.
+ */
+final class EntityCacheEventListener extends EventListenerAdapter {
+
+	private final EntityCache entityCache;
+	private final MetaData metaData;
+
+	/**
+	 * Registers a listener evicting from the given cache with the session factory, unless there is already one.
+	 */
+	static void register(SessionFactory sessionFactory, EntityCache entityCache) {
+
+		EntityCacheEventListener listener = new EntityCacheEventListener(entityCache, sessionFactory.metaData());
+		synchronized (sessionFactory) {
+			sessionFactory.deregister(listener);
+			sessionFactory.register(listener);
+		}
+	}
+
+	private EntityCacheEventListener(EntityCache entityCache, MetaData metaData) {
+		this.entityCache = entityCache;
+		this.metaData = metaData;
+	}
+
+	@Override
+	public void onPostSave(Event event) {
+		evict(event.getObject());
+	}
+
+	@Override
+	public void onPostDelete(Event event) {
+		evict(event.getObject());
+	}
+
+	/**
+	 * Entities are cached by the domain type of the repository they have been loaded by, which might be a super type.
+	 */
+	private void evict(Object entity) {
+
+		if (entity == null || !isCached(entity.getClass())) {
+			return;
+		}
+		ClassInfo classInfo = metaData.classInfo(entity.getClass().getName());
+		if (classInfo == null || classInfo.isRelationshipEntity()) {
+			return;
+		}
+		Object id = getId(metaData, entity);
+		if (id == null) {
+			return;
+		}
+		evict(entity.getClass(), id);
+		if (TransactionSynchronizationManager.isSynchronizationActive()) {
+			TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+				@Override
+				public void afterCompletion(int status) {
+					evict(entity.getClass(), id);
+				}
+			});
+		}
+	}
+
+	private void evict(Class<?> entityType, Object id) {
+
+		for (Class<?> type = entityType; type != null && isCached(type); type = type.getSuperclass()) {
+			entityCache.evict(type, id);
+		}
+	}
+
+	@SuppressWarnings("unchecked")
+	static Object getId(MetaData metaData, Object entity) {
+		return new GraphEntityInformation<>(metaData, (Class<Object>) entity.getClass()).getId(entity);
+	}
+
+	static boolean isCached(Class<?> type) {
+		return AnnotatedElementUtils.hasAnnotation(type, CachedEntity.class);
+	}
+
+	@Override
+	public boolean equals(Object o) {
+		return this == o || o instanceof EntityCacheEventListener other && entityCache == other.entityCache;
+	}
+
+	@Override
+	public int hashCode() {
+		return System.identityHashCode(entityCache);
+	}
+}
@@ -0,0 +1,150 @@
+/*
+ * Copyright 2011-2023 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.neo4j.repository.support;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+import org.neo4j.ogm.metadata.ClassInfo;
+import org.neo4j.ogm.metadata.FieldInfo;
+import org.neo4j.ogm.metadata.MetaData;
+import org.springframework.dao.InvalidDataAccessApiUsageException;
+import org.springframework.lang.Nullable;
+
+/**
+ * The labels and properties of one node entity type as needed for writing its instances as {@code UNWIND $rows}
+ * batches. Each row is a map of graph property names to the values of the simple properties of one entity, already
+ * converted with the property converters of the entity.
+ */
+final class EntityWritePlan {
+
+	static final String ROWS_PARAMETER = "rows";
+
+	private final Class<?> type;
+	private final String primaryLabel;
+	private final String labels;
+	private final List<FieldInfo> propertyFields;
+	private final @Nullable FieldInfo primaryIndexField;
+	private final ClassInfo classInfo;
+
+	static EntityWritePlan of(MetaData metaData, Class<?> type) {
+
+		ClassInfo classInfo = metaData.classInfo(type.getName());
+		if (classInfo == null || classInfo.isRelationshipEntity()) {
+			throw new InvalidDataAccessApiUsageException(type.getName() + " is not a node entity.");
+		}
+		return new EntityWritePlan(type, classInfo);
+	}
+
+	private EntityWritePlan(Class<?> type, ClassInfo classInfo) {
+
+		Collection<String> staticLabels = classInfo.staticLabels();
+		this.type = type;
+		this.primaryLabel = ":`" + classInfo.neo4jName() + "`";
+		this.labels = staticLabels.stream().map(label -> ":`" + label + "`").collect(Collectors.joining());
+		this.propertyFields = new ArrayList<>();
+		for (FieldInfo fieldInfo : classInfo.propertyFields()) {
+			if (fieldInfo.hasCompositeConverter()) {
+				throw new InvalidDataAccessApiUsageException("Property " + fieldInfo.getName() + " of "
+						+ type.getName() + " uses a composite converter, which is not supported for batched writes.");
+			}
+			this.propertyFields.add(fieldInfo);
+		}
+		this.primaryIndexField = classInfo.primaryIndexField();
+		this.classInfo = classInfo;
+	}
+
+	boolean isVersioned() {
+		return classInfo.getVersionField() != null;
+	}
+
+	Map<String, Object> toRow(Object entity) {
+
+		Map<String, Object> row = new HashMap<>(propertyFields.size());
+		for (FieldInfo fieldInfo : propertyFields) {
+			row.put(fieldInfo.property(), fieldInfo.readProperty(entity));
+		}
+		return row;
+	}
+
+	/**
+	 * @return the row of an entity for {@link #mergeStatement()}, which must have an id
+	 */
+	Map<String, Object> toMergeRow(Object entity) {
+
+		Map<String, Object> row = toRow(entity);
+		if (primaryIndexField != null && row.get(primaryIndexField.property()) == null) {
+			throw new InvalidDataAccessApiUsageException(
+					"Cannot merge an instance of " + type.getName() + " without an id.");
+		}
+		return row;
+	}
+
+	/**
+	 * @return the value matched by {@link #matchById(String, String)}
+	 */
+	Object getId(Object entity) {
+
+		FieldInfo idField = primaryIndexField == null ? classInfo.identityField() : primaryIndexField;
+		Object id = idField == null ? null : idField.readProperty(entity);
+		if (id == null) {
+			throw new InvalidDataAccessApiUsageException(
+					"Cannot match an instance of " + type.getName() + " without an id.");
+		}
+		return id;
+	}
+
+	/**
+	 * @return {@code UNWIND $rows AS row CREATE (n:Labels) SET n = row}
+	 */
+	String createStatement() {
+		return "UNWIND $" + ROWS_PARAMETER + " AS row CREATE (n" + labels + ") SET n = row";
+	}
+
+	/**
+	 * @return {@code UNWIND $rows AS row MERGE (n:Label {id: row.id}) SET n += row, n:Labels}, merging on the primary
+	 *         label only, so that nodes missing one of the other labels are not duplicated. {@literal null} values in a
+	 *         row remove the property from the node.
+	 */
+	String mergeStatement() {
+
+		if (primaryIndexField == null) {
+			throw new InvalidDataAccessApiUsageException(
+					"Merging instances of " + type.getName()
+							+ " requires an @Id property that is assigned by the application.");
+		}
+		String key = "`" + primaryIndexField.property() + "`";
+		return "UNWIND $" + ROWS_PARAMETER + " AS row MERGE (n" + primaryLabel + " {" + key + ": row." + key
+				+ "}) SET n += row, n" + labels;
+	}
+
+	/**
+	 * @param variable the variable of the node to match
+	 * @param value the expression holding the value returned by {@link #getId(Object)}
+	 * @return a {@code MATCH} clause for one node of this type
+	 */
+	String matchById(String variable, String value) {
+
+		if (primaryIndexField == null) {
+			return "MATCH (" + variable + primaryLabel + ") WHERE id(" + variable + ") = " + value;
+		}
+		return "MATCH (" + variable + primaryLabel + " {`" + primaryIndexField.property() + "`: " + value + "})";
+	}
+}
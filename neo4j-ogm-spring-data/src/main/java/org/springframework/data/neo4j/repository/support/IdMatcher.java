@@ -0,0 +1,86 @@
+/*
+ * Copyright 2011-2023 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.neo4j.repository.support;
+
+import org.neo4j.ogm.metadata.ClassInfo;
+import org.neo4j.ogm.metadata.FieldInfo;
+import org.neo4j.ogm.metadata.MetaData;
+import org.neo4j.ogm.typeconversion.AttributeConverter;
+import org.springframework.lang.Nullable;
+
+/**
+ * Matches nodes either by the property of their {@code @Id} field or by their native id. Native ids of entities that
+ * have already been loaded don't need a label.
+ */
+final class IdMatcher {
+
+	private final @Nullable String label;
+	private final @Nullable FieldInfo primaryIndexField;
+
+	/**
+	 * @return a matcher for the ids of the given type or {@literal null} if entities must be loaded before they can be
+	 *         matched, as it is the case for relationship entities or when there is no metadata available
+	 */
+	@Nullable
+	static IdMatcher of(@Nullable MetaData metaData, Class<?> type) {
+
+		ClassInfo classInfo = metaData == null ? null : metaData.classInfo(type.getName());
+		if (classInfo == null || classInfo.isRelationshipEntity()) {
+			return null;
+		}
+		return new IdMatcher(classInfo.neo4jName(), classInfo.primaryIndexField());
+	}
+
+	private IdMatcher(@Nullable String label, @Nullable FieldInfo primaryIndexField) {
+		this.label = label;
+		this.primaryIndexField = primaryIndexField;
+	}
+
+	IdMatcher forNativeIds() {
+		return new IdMatcher(null, null);
+	}
+
+	/**
+	 * @return the name of the {@code @Id} field or {@literal null} if nodes are matched by their native id
+	 */
+	@Nullable
+	String getIdFieldName() {
+		return primaryIndexField == null ? null : primaryIndexField.getName();
+	}
+
+	String match() {
+		return label == null ? "MATCH (n)" : "MATCH (n:`" + label + "`)";
+	}
+
+	String predicate(String value) {
+		return primaryIndexField == null ? "id(n) = " + value
+				: "n.`" + primaryIndexField.property() + "` = " + value;
+	}
+
+	@SuppressWarnings({ "rawtypes", "unchecked" })
+	Object toGraphValue(Object id) {
+
+		if (primaryIndexField != null && primaryIndexField.hasPropertyConverter()) {
+			return ((AttributeConverter) primaryIndexField.getPropertyConverter()).toGraphProperty(id);
+		}
+		return id;
+	}
+
+	@Nullable
+	Object readGraphValue(Object entity) {
+		return primaryIndexField == null ? null : primaryIndexField.readProperty(entity);
+	}
+}
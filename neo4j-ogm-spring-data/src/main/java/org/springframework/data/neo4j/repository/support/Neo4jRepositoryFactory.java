@@ -15,17 +15,27 @@
  */
 package org.springframework.data.neo4j.repository.support;
 
+import java.util.Arrays;
 import java.util.Optional;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
 
 import org.neo4j.ogm.session.Neo4jSession;
 import org.neo4j.ogm.session.Session;
+import org.neo4j.ogm.session.SessionFactory;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.data.mapping.context.MappingContext;
+import org.springframework.data.neo4j.cache.CountCache;
+import org.springframework.data.neo4j.cache.EntityCache;
+import org.springframework.data.neo4j.cache.QueryResultCache;
 import org.springframework.data.neo4j.mapping.Neo4jMappingContext;
 import org.springframework.data.neo4j.mapping.Neo4jPersistentEntity;
 import org.springframework.data.neo4j.mapping.Neo4jPersistentProperty;
+import org.springframework.data.neo4j.metrics.RepositoryMetrics;
+import org.springframework.data.neo4j.observation.Neo4jObservations;
 import org.springframework.data.neo4j.repository.query.GraphQueryLookupStrategy;
+import org.springframework.data.neo4j.repository.query.QueryCoalescer;
 import org.springframework.data.repository.core.EntityInformation;
 import org.springframework.data.repository.core.RepositoryInformation;
 import org.springframework.data.repository.core.RepositoryMetadata;
@@ -53,6 +63,26 @@ public class Neo4jRepositoryFactory extends RepositoryFactorySupport {
 
 	private @Nullable final MappingContext<Neo4jPersistentEntity<?>, Neo4jPersistentProperty> mappingContext;
 
+	private @Nullable CountCache countCache;
+
+	private @Nullable QueryResultCache queryResultCache;
+
+	private @Nullable EntityCache entityCache;
+
+	private @Nullable QueryCoalescer queryCoalescer;
+
+	private @Nullable Integer batchSize;
+
+	private @Nullable RepositoryMetrics repositoryMetrics;
+
+	private @Nullable Neo4jObservations observations;
+
+	private @Nullable Executor asyncExecutor;
+
+	private @Nullable Executor defaultAsyncExecutor;
+
+	private @Nullable SessionFactory sessionFactory;
+
 	/**
 	 * @param session
 	 * @deprecated since 5.1.0, use {@link Neo4jRepositoryFactory#Neo4jRepositoryFactory(Session, MappingContext)} instead
@@ -77,6 +107,139 @@ public class Neo4jRepositoryFactory extends RepositoryFactorySupport {
 			logger.warn("No mapping context present, some operations won't support persistence constructors");
 			this.mappingContext = null;
 		}
+
+		addRepositoryProxyPostProcessor((factory, repositoryInformation) -> {
+			if (Arrays.stream(repositoryInformation.getRepositoryInterface().getMethods())
+					.anyMatch(AsyncRepositoryMethodInterceptor::isAsync)) {
+				factory.addAdvice(
+						new AsyncRepositoryMethodInterceptor(getAsyncExecutor(), sessionFactory, observations));
+			}
+		});
+		// Measures asynchronous invocations on the thread of the executor
+		addRepositoryProxyPostProcessor((factory, repositoryInformation) -> {
+			if (repositoryMetrics != null) {
+				factory.addAdvice(new RepositoryMetricsInterceptor(repositoryMetrics, repositoryInformation));
+			}
+		});
+	}
+
+	/**
+	 * Configures a cache for the totals of paged queries of all repositories created by this factory.
+	 *
+	 * @param countCache the cache to use, {@literal null} to disable caching
+	 */
+	public void setCountCache(@Nullable CountCache countCache) {
+		this.countCache = countCache;
+	}
+
+	/**
+	 * Configures a cache for the results of query methods annotated with
+	 * {@link org.springframework.data.neo4j.annotation.CachedQuery} of all repositories created by this factory.
+	 *
+	 * @param queryResultCache the cache to use, {@literal null} to disable caching
+	 */
+	public void setQueryResultCache(@Nullable QueryResultCache queryResultCache) {
+		this.queryResultCache = queryResultCache;
+	}
+
+	/**
+	 * Configures a second-level cache for entities annotated with
+	 * {@link org.springframework.data.neo4j.annotation.CachedEntity} of all repositories created by this factory. Saved
+	 * and deleted entities are only evicted when a {@link #setSessionFactory(SessionFactory) session factory} is
+	 * configured, too.
+	 *
+	 * @param entityCache the cache to use, {@literal null} to disable caching
+	 */
+	public void setEntityCache(@Nullable EntityCache entityCache) {
+		this.entityCache = entityCache;
+	}
+
+	/**
+	 * Lets concurrent, identical invocations of query methods of all repositories created by this factory share one
+	 * execution.
+	 *
+	 * @param queryCoalescer the coalescer to use, {@literal null} to disable coalescing
+	 */
+	public void setQueryCoalescer(@Nullable QueryCoalescer queryCoalescer) {
+		this.queryCoalescer = queryCoalescer;
+	}
+
+	/**
+	 * Configures the number of ids or entities written by one statement for all repositories created by this factory.
+	 *
+	 * @param batchSize the number of ids or entities per statement, {@literal null} to use the default
+	 * @see SimpleNeo4jRepository#setBatchSize(int)
+	 */
+	public void setBatchSize(@Nullable Integer batchSize) {
+		this.batchSize = batchSize;
+	}
+
+	/**
+	 * Records metrics for the invocations of the methods of all repositories created by this factory.
+	 *
+	 * @param repositoryMetrics the metrics to record, {@literal null} to disable metrics
+	 */
+	public void setRepositoryMetrics(@Nullable RepositoryMetrics repositoryMetrics) {
+		this.repositoryMetrics = repositoryMetrics;
+	}
+
+	/**
+	 * Configures the observations whose current observation is carried over to asynchronous invocations of repository
+	 * methods. The observations of statements are created by the shared session itself.
+	 *
+	 * @param observations the observations, {@literal null} to not carry over observations
+	 */
+	public void setObservations(@Nullable Neo4jObservations observations) {
+		this.observations = observations;
+	}
+
+	/**
+	 * Configures the executor running repository methods that return a {@link java.util.concurrent.CompletableFuture},
+	 * {@link java.util.concurrent.CompletionStage} or {@link java.util.concurrent.Future}. Defaults to a new virtual
+	 * thread per invocation on JDK 21 and higher and to a new platform thread per invocation otherwise. The default
+	 * executor is created by this factory and shut down by {@link #shutdownDefaultAsyncExecutor()}.
+	 *
+	 * @param asyncExecutor the executor to use, {@literal null} to use the default
+	 */
+	public void setAsyncExecutor(@Nullable Executor asyncExecutor) {
+		this.asyncExecutor = asyncExecutor;
+	}
+
+	/**
+	 * Configures the session factory a new session is opened from for each asynchronous invocation of a repository
+	 * method. Without a session factory, each transaction of an asynchronous invocation uses a new session.
+	 *
+	 * @param sessionFactory the session factory of the session of this factory
+	 */
+	public void setSessionFactory(@Nullable SessionFactory sessionFactory) {
+		this.sessionFactory = sessionFactory;
+	}
+
+	/**
+	 * Shuts down the default executor of asynchronous repository methods if this factory created one. Configured
+	 * executors are left alone.
+	 */
+	public synchronized void shutdownDefaultAsyncExecutor() {
+
+		if (defaultAsyncExecutor instanceof ExecutorService executorService) {
+			executorService.shutdown();
+		}
+		defaultAsyncExecutor = null;
+	}
+
+	/**
+	 * @return the configured executor or the default one, which is created only when the first repository with
+	 *         asynchronous methods is created
+	 */
+	synchronized Executor getAsyncExecutor() {
+
+		if (asyncExecutor != null) {
+			return asyncExecutor;
+		}
+		if (defaultAsyncExecutor == null) {
+			defaultAsyncExecutor = AsyncRepositoryMethodInterceptor.createDefaultExecutor();
+		}
+		return defaultAsyncExecutor;
 	}
 
 	/*
@@ -97,7 +260,22 @@ public class Neo4jRepositoryFactory extends RepositoryFactorySupport {
 
 	@Override
 	protected Object getTargetRepository(RepositoryInformation information) {
-		return getTargetRepositoryViaReflection(information, information.getDomainType(), session);
+		// Query methods measure their executions themselves, the base class the time spent in its session
+		Session targetSession = repositoryMetrics == null ? session
+				: RepositoryMetricsInterceptor.measureSession(session, repositoryMetrics);
+		Object repository = getTargetRepositoryViaReflection(information, information.getDomainType(), targetSession);
+		if (repository instanceof SimpleNeo4jRepository<?, ?> simpleNeo4jRepository) {
+			simpleNeo4jRepository.setCountCache(countCache);
+			simpleNeo4jRepository.setEntityCache(entityCache);
+			if (entityCache != null && sessionFactory != null
+					&& EntityCacheEventListener.isCached(information.getDomainType())) {
+				EntityCacheEventListener.register(sessionFactory, entityCache);
+			}
+			if (batchSize != null) {
+				simpleNeo4jRepository.setBatchSize(batchSize);
+			}
+		}
+		return repository;
 	}
 
 	@Override
@@ -108,6 +286,12 @@ public class Neo4jRepositoryFactory extends RepositoryFactorySupport {
 	@Override
 	protected Optional<QueryLookupStrategy> getQueryLookupStrategy(QueryLookupStrategy.Key key,
 			QueryMethodEvaluationContextProvider evaluationContextProvider) {
-		return Optional.of(new GraphQueryLookupStrategy(session, evaluationContextProvider, this.mappingContext));
+		GraphQueryLookupStrategy queryLookupStrategy = new GraphQueryLookupStrategy(session, evaluationContextProvider,
+				this.mappingContext);
+		queryLookupStrategy.setCountCache(this.countCache);
+		queryLookupStrategy.setQueryResultCache(this.queryResultCache);
+		queryLookupStrategy.setQueryCoalescer(this.queryCoalescer);
+		queryLookupStrategy.setRepositoryMetrics(this.repositoryMetrics);
+		return Optional.of(queryLookupStrategy);
 	}
 }
@@ -16,14 +16,25 @@
 package org.springframework.data.neo4j.repository.support;
 
 import java.io.Serializable;
+import java.util.concurrent.Executor;
 
 import org.neo4j.ogm.session.Session;
+import org.neo4j.ogm.session.SessionFactory;
+import org.springframework.beans.factory.BeanFactory;
+import org.springframework.beans.factory.DisposableBean;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.data.mapping.context.MappingContext;
+import org.springframework.data.neo4j.cache.CountCache;
+import org.springframework.data.neo4j.cache.EntityCache;
+import org.springframework.data.neo4j.cache.QueryResultCache;
 import org.springframework.data.neo4j.mapping.Neo4jMappingContext;
+import org.springframework.data.neo4j.metrics.RepositoryMetrics;
+import org.springframework.data.neo4j.observation.Neo4jObservations;
+import org.springframework.data.neo4j.repository.query.QueryCoalescer;
 import org.springframework.data.repository.Repository;
 import org.springframework.data.repository.core.support.RepositoryFactorySupport;
 import org.springframework.data.repository.core.support.TransactionalRepositoryFactoryBeanSupport;
+import org.springframework.lang.Nullable;
 import org.springframework.util.Assert;
 
 /**
@@ -37,10 +48,23 @@ import org.springframework.util.Assert;
  * @author Michael J. Simons
  */
 public class Neo4jRepositoryFactoryBean<T extends Repository<S, ID>, S, ID extends Serializable>
-		extends TransactionalRepositoryFactoryBeanSupport<T, S, ID> {
+		extends TransactionalRepositoryFactoryBeanSupport<T, S, ID> implements DisposableBean {
+
+	/**
+	 * Name of an optional {@link Executor} bean running asynchronous repository methods.
+	 */
+	public static final String ASYNC_EXECUTOR_BEAN_NAME = "neo4jRepositoryAsyncExecutor";
 
 	private Session session;
 	private Neo4jMappingContext mappingContext;
+	private @Nullable CountCache countCache;
+	private @Nullable QueryResultCache queryResultCache;
+	private @Nullable EntityCache entityCache;
+	private @Nullable QueryCoalescer queryCoalescer;
+	private @Nullable RepositoryMetrics repositoryMetrics;
+	private @Nullable Neo4jObservations observations;
+	private @Nullable BeanFactory beanFactory;
+	private @Nullable Neo4jRepositoryFactory repositoryFactory;
 
 	/**
 	 * Creates a new {@link Neo4jRepositoryFactoryBean} for the given repository interface.
@@ -56,6 +80,76 @@ public class Neo4jRepositoryFactoryBean<T extends Repository<S, ID>, S, ID exten
 		this.session = session;
 	}
 
+	/**
+	 * Enables caching of totals of paged queries when a {@link CountCache} bean is present.
+	 *
+	 * @param countCache the cache to use
+	 */
+	@Autowired(required = false)
+	public void setCountCache(@Nullable CountCache countCache) {
+		this.countCache = countCache;
+	}
+
+	/**
+	 * Enables caching of results of query methods annotated with
+	 * {@link org.springframework.data.neo4j.annotation.CachedQuery} when a {@link QueryResultCache} bean is present.
+	 *
+	 * @param queryResultCache the cache to use
+	 */
+	@Autowired(required = false)
+	public void setQueryResultCache(@Nullable QueryResultCache queryResultCache) {
+		this.queryResultCache = queryResultCache;
+	}
+
+	/**
+	 * Enables the second-level cache for entities annotated with
+	 * {@link org.springframework.data.neo4j.annotation.CachedEntity} when an {@link EntityCache} bean is present.
+	 *
+	 * @param entityCache the cache to use
+	 */
+	@Autowired(required = false)
+	public void setEntityCache(@Nullable EntityCache entityCache) {
+		this.entityCache = entityCache;
+	}
+
+	/**
+	 * Lets concurrent, identical invocations of query methods share one execution when a {@link QueryCoalescer} bean is
+	 * present.
+	 *
+	 * @param queryCoalescer the coalescer to use
+	 */
+	@Autowired(required = false)
+	public void setQueryCoalescer(@Nullable QueryCoalescer queryCoalescer) {
+		this.queryCoalescer = queryCoalescer;
+	}
+
+	/**
+	 * Records metrics for the invocations of repository methods when a {@link RepositoryMetrics} bean is present.
+	 *
+	 * @param repositoryMetrics the metrics to record
+	 */
+	@Autowired(required = false)
+	public void setRepositoryMetrics(@Nullable RepositoryMetrics repositoryMetrics) {
+		this.repositoryMetrics = repositoryMetrics;
+	}
+
+	/**
+	 * Carries the current observation over to asynchronous invocations of repository methods when a
+	 * {@link Neo4jObservations} bean is present.
+	 *
+	 * @param observations the observations
+	 */
+	@Autowired(required = false)
+	public void setObservations(@Nullable Neo4jObservations observations) {
+		this.observations = observations;
+	}
+
+	@Override
+	public void setBeanFactory(BeanFactory beanFactory) {
+		super.setBeanFactory(beanFactory);
+		this.beanFactory = beanFactory;
+	}
+
 	/*
 	 * (non-Javadoc)
 	 * @see org.springframework.data.repository.core.support.RepositoryFactoryBeanSupport#setMappingContext(org.springframework.data.mapping.context.MappingContext)
@@ -75,6 +169,17 @@ public class Neo4jRepositoryFactoryBean<T extends Repository<S, ID>, S, ID exten
 		super.afterPropertiesSet();
 	}
 
+	/**
+	 * Shuts down the default executor of asynchronous repository methods when the application context is closed.
+	 */
+	@Override
+	public void destroy() {
+
+		if (repositoryFactory != null) {
+			repositoryFactory.shutdownDefaultAsyncExecutor();
+		}
+	}
+
 	/*
 	 * (non-Javadoc)
 	 * @see org.springframework.data.repository.core.support.TransactionalRepositoryFactoryBeanSupport#doCreateRepositoryFactory()
@@ -93,6 +198,20 @@ public class Neo4jRepositoryFactoryBean<T extends Repository<S, ID>, S, ID exten
 	 */
 	@Deprecated
 	protected RepositoryFactorySupport createRepositoryFactory(Session session) {
-		return new Neo4jRepositoryFactory(session, mappingContext);
+		Neo4jRepositoryFactory repositoryFactory = new Neo4jRepositoryFactory(session, mappingContext);
+		repositoryFactory.setCountCache(countCache);
+		repositoryFactory.setQueryResultCache(queryResultCache);
+		repositoryFactory.setEntityCache(entityCache);
+		repositoryFactory.setQueryCoalescer(queryCoalescer);
+		repositoryFactory.setRepositoryMetrics(repositoryMetrics);
+		repositoryFactory.setObservations(observations);
+		if (beanFactory != null) {
+			repositoryFactory.setSessionFactory(beanFactory.getBeanProvider(SessionFactory.class).getIfUnique());
+			if (beanFactory.containsBean(ASYNC_EXECUTOR_BEAN_NAME)) {
+				repositoryFactory.setAsyncExecutor(beanFactory.getBean(ASYNC_EXECUTOR_BEAN_NAME, Executor.class));
+			}
+		}
+		this.repositoryFactory = repositoryFactory;
+		return repositoryFactory;
 	}
 }
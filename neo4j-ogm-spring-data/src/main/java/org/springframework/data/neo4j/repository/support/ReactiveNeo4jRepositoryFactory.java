@@ -0,0 +1,184 @@
+/*
+ * Copyright 2011-2023 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.neo4j.repository.support;
+
+import java.lang.reflect.Method;
+import java.util.Optional;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import org.neo4j.ogm.session.SessionFactory;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.data.neo4j.mapping.Neo4jMappingContext;
+import org.springframework.data.neo4j.repository.query.ReactiveGraphQueryLookupStrategy;
+import org.springframework.data.neo4j.transaction.CommittedWritesListener;
+import org.springframework.data.repository.core.EntityInformation;
+import org.springframework.data.repository.core.RepositoryInformation;
+import org.springframework.data.repository.core.RepositoryMetadata;
+import org.springframework.data.repository.core.support.ReactiveRepositoryFactorySupport;
+import org.springframework.data.repository.query.QueryLookupStrategy;
+import org.springframework.data.repository.query.QueryMethodEvaluationContextProvider;
+import org.springframework.lang.Nullable;
+import org.springframework.util.Assert;
+import org.springframework.util.ReflectionUtils;
+
+import reactor.core.scheduler.Scheduler;
+import reactor.core.scheduler.Schedulers;
+
+/**
+ * Neo4j OGM specific repository factory for reactive repositories and Kotlin coroutine repositories. Query methods are
+ * resolved like in {@link Neo4jRepositoryFactory} and run on the scheduler of this factory, too.
+ */
+public class ReactiveNeo4jRepositoryFactory extends ReactiveRepositoryFactorySupport {
+
+	private final SessionFactory sessionFactory;
+
+	private final Scheduler scheduler;
+
+	private final boolean defaultScheduler;
+
+	private @Nullable Integer batchSize;
+
+	private @Nullable ObjectProvider<CommittedWritesListener> committedWritesListeners;
+
+	private @Nullable Neo4jMappingContext mappingContext;
+
+	/**
+	 * Creates a new factory for repositories running their work on a new virtual thread per task on JDK 21 and higher and
+	 * on {@link Schedulers#boundedElastic()} otherwise. The scheduler of virtual threads is owned by this factory and
+	 * disposed by {@link #disposeDefaultScheduler()}.
+	 *
+	 * @param sessionFactory the session factory to open the sessions from
+	 */
+	public ReactiveNeo4jRepositoryFactory(SessionFactory sessionFactory) {
+		this(sessionFactory, createDefaultScheduler(), true);
+	}
+
+	/**
+	 * Creates a new factory for repositories running their work on the given scheduler when not participating in a
+	 * reactive transaction.
+	 *
+	 * @param sessionFactory the session factory to open the sessions from
+	 * @param scheduler the scheduler to run the work on
+	 */
+	public ReactiveNeo4jRepositoryFactory(SessionFactory sessionFactory, Scheduler scheduler) {
+		this(sessionFactory, scheduler, false);
+	}
+
+	private ReactiveNeo4jRepositoryFactory(SessionFactory sessionFactory, Scheduler scheduler,
+			boolean defaultScheduler) {
+		Assert.notNull(sessionFactory, "SessionFactory must not be null!");
+		Assert.notNull(scheduler, "Scheduler must not be null!");
+
+		this.sessionFactory = sessionFactory;
+		this.scheduler = scheduler;
+		this.defaultScheduler = defaultScheduler;
+	}
+
+	/**
+	 * Configures the number of entities or ids processed by one statement for all repositories created by this factory.
+	 *
+	 * @param batchSize the number of entities or ids per statement, {@literal null} to use the default
+	 * @see SimpleReactiveNeo4jRepository#setBatchSize(int)
+	 */
+	public void setBatchSize(@Nullable Integer batchSize) {
+		this.batchSize = batchSize;
+	}
+
+	/**
+	 * Configures the listeners notified about writes of the repositories created by this factory outside of reactive
+	 * transactions.
+	 *
+	 * @param committedWritesListeners the listeners to notify, may be {@literal null}
+	 * @see SimpleReactiveNeo4jRepository#setCommittedWritesListeners(ObjectProvider)
+	 */
+	public void setCommittedWritesListeners(
+			@Nullable ObjectProvider<CommittedWritesListener> committedWritesListeners) {
+		this.committedWritesListeners = committedWritesListeners;
+	}
+
+	/**
+	 * Disposes the scheduler of virtual threads if this factory created one. Configured schedulers and
+	 * {@link Schedulers#boundedElastic()} are left alone.
+	 */
+	public void disposeDefaultScheduler() {
+
+		if (defaultScheduler && scheduler != Schedulers.boundedElastic()) {
+			scheduler.dispose();
+		}
+	}
+
+	@Override
+	public <T, ID> EntityInformation<T, ID> getEntityInformation(Class<T> type) {
+		Assert.notNull(type, "Domain class must not be null!");
+
+		return new GraphEntityInformation<>(sessionFactory.metaData(), type);
+	}
+
+	@Override
+	protected Object getTargetRepository(RepositoryInformation information) {
+		Object repository = getTargetRepositoryViaReflection(information, information.getDomainType(), sessionFactory,
+				scheduler);
+		if (repository instanceof SimpleReactiveNeo4jRepository<?, ?> simpleReactiveNeo4jRepository) {
+			if (batchSize != null) {
+				simpleReactiveNeo4jRepository.setBatchSize(batchSize);
+			}
+			simpleReactiveNeo4jRepository.setCommittedWritesListeners(committedWritesListeners);
+		}
+		return repository;
+	}
+
+	@Override
+	protected Class<?> getRepositoryBaseClass(RepositoryMetadata repositoryMetadata) {
+		return SimpleReactiveNeo4jRepository.class;
+	}
+
+	@Override
+	protected Optional<QueryLookupStrategy> getQueryLookupStrategy(@Nullable QueryLookupStrategy.Key key,
+			QueryMethodEvaluationContextProvider evaluationContextProvider) {
+
+		return Optional.of(new ReactiveGraphQueryLookupStrategy(sessionFactory, scheduler, evaluationContextProvider,
+				getMappingContext(), committedWritesListeners));
+	}
+
+	private Neo4jMappingContext getMappingContext() {
+
+		Neo4jMappingContext result = this.mappingContext;
+		if (result == null) {
+			result = new Neo4jMappingContext(sessionFactory.metaData());
+			result.initialize();
+			this.mappingContext = result;
+		}
+		return result;
+	}
+
+	/**
+	 * Creates the default scheduler used when none is configured: A new virtual thread per task when running on JDK 21 or
+	 * higher, {@link Schedulers#boundedElastic()} otherwise. The concurrency of virtual threads is bounded by the
+	 * connection pool of the driver.
+	 *
+	 * @return the default scheduler
+	 */
+	static Scheduler createDefaultScheduler() {
+
+		Method factoryMethod = ReflectionUtils.findMethod(Executors.class, "newVirtualThreadPerTaskExecutor");
+		if (factoryMethod != null) {
+			return Schedulers.fromExecutorService((ExecutorService) ReflectionUtils.invokeMethod(factoryMethod, null),
+					"neo4j-ogm-virtual");
+		}
+		return Schedulers.boundedElastic();
+	}
+}
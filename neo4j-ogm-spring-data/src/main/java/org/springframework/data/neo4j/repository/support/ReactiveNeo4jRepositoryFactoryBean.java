@@ -0,0 +1,102 @@
+/*
+ * Copyright 2011-2023 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.neo4j.repository.support;
+
+import java.io.Serializable;
+
+import org.neo4j.ogm.session.SessionFactory;
+import org.springframework.beans.factory.BeanFactory;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.data.neo4j.transaction.CommittedWritesListener;
+import org.springframework.data.repository.Repository;
+import org.springframework.data.repository.core.support.RepositoryFactoryBeanSupport;
+import org.springframework.data.repository.core.support.RepositoryFactorySupport;
+import org.springframework.lang.Nullable;
+import org.springframework.util.Assert;
+
+import reactor.core.scheduler.Scheduler;
+
+/**
+ * Special adapter for Springs {@link org.springframework.beans.factory.FactoryBean} interface to allow easy setup of
+ * reactive repository factories via Spring configuration.
+ *
+ * @param <T> the type of the repository
+ */
+public class ReactiveNeo4jRepositoryFactoryBean<T extends Repository<S, ID>, S, ID extends Serializable>
+		extends RepositoryFactoryBeanSupport<T, S, ID> implements DisposableBean {
+
+	/**
+	 * Name of an optional {@link Scheduler} bean running the work of reactive repositories outside of reactive
+	 * transactions.
+	 */
+	public static final String SCHEDULER_BEAN_NAME = "neo4jRepositoryScheduler";
+
+	private SessionFactory sessionFactory;
+	private @Nullable BeanFactory beanFactory;
+	private @Nullable ReactiveNeo4jRepositoryFactory repositoryFactory;
+
+	/**
+	 * Creates a new {@link ReactiveNeo4jRepositoryFactoryBean} for the given repository interface.
+	 *
+	 * @param repositoryInterface must not be {@literal null}.
+	 */
+	public ReactiveNeo4jRepositoryFactoryBean(Class<? extends T> repositoryInterface) {
+		super(repositoryInterface);
+	}
+
+	public void setSessionFactory(SessionFactory sessionFactory) {
+		this.sessionFactory = sessionFactory;
+	}
+
+	@Override
+	public void setBeanFactory(BeanFactory beanFactory) {
+		super.setBeanFactory(beanFactory);
+		this.beanFactory = beanFactory;
+	}
+
+	@Override
+	public void afterPropertiesSet() {
+		Assert.notNull(sessionFactory, "SessionFactory must not be null!");
+		super.afterPropertiesSet();
+	}
+
+	/**
+	 * Disposes the default scheduler of the repository when the application context is closed.
+	 */
+	@Override
+	public void destroy() {
+
+		if (repositoryFactory != null) {
+			repositoryFactory.disposeDefaultScheduler();
+		}
+	}
+
+	@Override
+	protected RepositoryFactorySupport createRepositoryFactory() {
+		ReactiveNeo4jRepositoryFactory factory;
+		if (beanFactory != null && beanFactory.containsBean(SCHEDULER_BEAN_NAME)) {
+			factory = new ReactiveNeo4jRepositoryFactory(sessionFactory,
+					beanFactory.getBean(SCHEDULER_BEAN_NAME, Scheduler.class));
+		} else {
+			factory = new ReactiveNeo4jRepositoryFactory(sessionFactory);
+			repositoryFactory = factory;
+		}
+		if (beanFactory != null) {
+			factory.setCommittedWritesListeners(beanFactory.getBeanProvider(CommittedWritesListener.class));
+		}
+		return factory;
+	}
+}
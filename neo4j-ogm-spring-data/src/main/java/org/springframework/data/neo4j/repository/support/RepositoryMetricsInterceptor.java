@@ -0,0 +1,83 @@
+/*
+ * Copyright 2011-2023 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.neo4j.repository.support;
+
+import java.lang.reflect.Method;
+
+import org.aopalliance.intercept.MethodInterceptor;
+import org.aopalliance.intercept.MethodInvocation;
+import org.neo4j.ogm.session.Session;
+import org.springframework.aop.framework.ProxyFactory;
+import org.springframework.data.neo4j.metrics.RepositoryMetrics;
+import org.springframework.data.repository.core.RepositoryInformation;
+
+/**
+ * Measures invocations of repository methods. Query methods record the time of their execution themselves, methods
+ * implemented by the repository base class record the time spent in the session they have been created with through
+ * {@link #measureSession(Session, RepositoryMetrics)}.
+ */
+class RepositoryMetricsInterceptor implements MethodInterceptor {
+
+	private final RepositoryMetrics repositoryMetrics;
+	private final RepositoryInformation repositoryInformation;
+
+	RepositoryMetricsInterceptor(RepositoryMetrics repositoryMetrics, RepositoryInformation repositoryInformation) {
+		this.repositoryMetrics = repositoryMetrics;
+		this.repositoryInformation = repositoryInformation;
+	}
+
+	/**
+	 * @param session the session of a repository base class
+	 * @param repositoryMetrics the metrics to record the time spent in the session in
+	 * @return a session recording the time spent in each of its operations as {@link RepositoryMetrics#CRUD_EXECUTION}
+	 */
+	static Session measureSession(Session session, RepositoryMetrics repositoryMetrics) {
+
+		ProxyFactory proxyFactory = new ProxyFactory(session);
+		proxyFactory.addAdvice((MethodInterceptor) invocation -> {
+			if (invocation.getMethod().getDeclaringClass() == Object.class) {
+				return invocation.proceed();
+			}
+			long start = System.nanoTime();
+			try {
+				return invocation.proceed();
+			} finally {
+				repositoryMetrics.addDatabaseTime(RepositoryMetrics.CRUD_EXECUTION, System.nanoTime() - start);
+			}
+		});
+		return (Session) proxyFactory.getProxy();
+	}
+
+	@Override
+	public Object invoke(MethodInvocation invocation) throws Throwable {
+
+		Method method = invocation.getMethod();
+		if (method.getDeclaringClass() == Object.class) {
+			return invocation.proceed();
+		}
+
+		RepositoryMetrics.Invocation measuredInvocation = repositoryMetrics
+				.start(repositoryInformation.getRepositoryInterface(), method.getName());
+		Object result;
+		try {
+			result = invocation.proceed();
+		} catch (Throwable e) {
+			measuredInvocation.stop(null, e);
+			throw e;
+		}
+		return measuredInvocation.stop(result, null);
+	}
+}
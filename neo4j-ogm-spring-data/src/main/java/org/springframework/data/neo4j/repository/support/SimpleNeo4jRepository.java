@@ -17,20 +17,48 @@ package org.springframework.data.neo4j.repository.support;
 
 import java.io.Serializable;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.stream.StreamSupport;
 
 import org.neo4j.ogm.cypher.query.Pagination;
+import org.neo4j.ogm.metadata.ClassInfo;
+import org.neo4j.ogm.metadata.FieldInfo;
+import org.neo4j.ogm.metadata.MetaData;
 import org.neo4j.ogm.session.Session;
+import org.neo4j.ogm.session.event.Event;
+import org.neo4j.ogm.session.event.PersistenceEvent;
+import org.springframework.core.annotation.AnnotatedElementUtils;
+import org.springframework.dao.InvalidDataAccessApiUsageException;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
+import org.springframework.data.neo4j.annotation.SplitQueryHydration;
+import org.springframework.data.neo4j.cache.CountCache;
+import org.springframework.data.neo4j.cache.EntityCache;
+import org.springframework.data.neo4j.mapping.FetchPlan;
+import org.springframework.data.neo4j.mapping.LazyRelationshipLoader;
+import org.springframework.data.neo4j.mapping.LoadedRelationships;
+import org.springframework.data.neo4j.mapping.MetaDataProvider;
+import org.springframework.data.neo4j.mapping.ResultCopier;
+import org.springframework.data.neo4j.repository.FetchProfileRepository;
 import org.springframework.data.neo4j.repository.Neo4jRepository;
 import org.springframework.data.neo4j.util.PagingAndSortingUtils;
 import org.springframework.data.support.PageableExecutionUtils;
+import org.springframework.lang.Nullable;
 import org.springframework.stereotype.Repository;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 import org.springframework.util.Assert;
 
 /**
@@ -48,13 +76,26 @@ import org.springframework.util.Assert;
  */
 @Repository
 @Transactional(readOnly = true)
-public class SimpleNeo4jRepository<T, ID extends Serializable> implements Neo4jRepository<T, ID> {
+public class SimpleNeo4jRepository<T, ID extends Serializable>
+		implements Neo4jRepository<T, ID>, FetchProfileRepository<T, ID> {
 
 	private static final int DEFAULT_QUERY_DEPTH = 1;
+	private static final int DEFAULT_BATCH_SIZE = 1_000;
 	private static final String ID_MUST_NOT_BE_NULL = "The given id must not be null!";
 
 	private final Class<T> clazz;
 	private final Session session;
+	private @Nullable CountCache countCache;
+	private @Nullable EntityCache entityCache;
+	private @Nullable ResultCopier entityCopier;
+	private Collection<String> cachedEntityLabels = Collections.emptySet();
+	private int batchSize = DEFAULT_BATCH_SIZE;
+	private final @Nullable LazyRelationshipLoader lazyRelationshipLoader;
+	private final boolean splitQueryHydration;
+
+	private final Map<Class<?>, EntityWritePlan> upsertPlans = new ConcurrentHashMap<>();
+	private final Map<String, FetchPlan> fetchPlans = new ConcurrentHashMap<>();
+	private final Map<Integer, FetchPlan> depthPlans = new ConcurrentHashMap<>();
 
 	/**
 	 * Creates a new {@link SimpleNeo4jRepository} to manage objects of the given domain type.
@@ -68,6 +109,48 @@ public class SimpleNeo4jRepository<T, ID extends Serializable> implements Neo4jR
 
 		this.clazz = domainClass;
 		this.session = session;
+		this.lazyRelationshipLoader = session instanceof MetaDataProvider metaDataProvider
+				&& metaDataProvider.getMetaData() != null
+						? new LazyRelationshipLoader(session, metaDataProvider.getMetaData())
+						: null;
+		this.splitQueryHydration = session instanceof MetaDataProvider
+				&& AnnotatedElementUtils.hasAnnotation(domainClass, SplitQueryHydration.class);
+	}
+
+	/**
+	 * Configures a cache for the total number of entities returned by {@link #findAll(Pageable, int)}.
+	 *
+	 * @param countCache the cache to use, {@literal null} to disable caching
+	 */
+	public void setCountCache(@Nullable CountCache countCache) {
+		this.countCache = countCache;
+	}
+
+	/**
+	 * Configures a second-level cache used by {@link #findById(Serializable)} and {@link #findAllById(Iterable)} if the
+	 * domain type is annotated with {@link org.springframework.data.neo4j.annotation.CachedEntity}. Cached entities are
+	 * shared by all sessions, so each caller gets its own copy, see {@link ResultCopier}. Entities that cannot be copied
+	 * are loaded from the database instead. Entities are cached with their related entities, so they are evicted by
+	 * writes to the labels of the related entities as well.
+	 *
+	 * @param entityCache the cache to use, {@literal null} to disable caching
+	 */
+	public void setEntityCache(@Nullable EntityCache entityCache) {
+		this.entityCache = entityCache != null && EntityCacheEventListener.isCached(clazz)
+				&& session instanceof MetaDataProvider ? entityCache : null;
+		this.entityCopier = this.entityCache == null ? null : new ResultCopier(getMetaData());
+		this.cachedEntityLabels = this.entityCache == null ? Collections.emptySet() : getLabelsWithinDefaultDepth();
+	}
+
+	/**
+	 * Configures the number of ids deleted by one statement in {@link #deleteAllById(Iterable)} and
+	 * {@link #deleteAll(Iterable)} and the number of entities merged by one statement in {@link #upsertAll(Iterable)}.
+	 *
+	 * @param batchSize the number of ids or entities per statement, must be greater than zero
+	 */
+	public void setBatchSize(int batchSize) {
+		Assert.isTrue(batchSize > 0, "The batch size must be greater than zero!");
+		this.batchSize = batchSize;
 	}
 
 	@Transactional
@@ -84,15 +167,68 @@ public class SimpleNeo4jRepository<T, ID extends Serializable> implements Neo4jR
 		return entities;
 	}
 
+	@Transactional
+	@Override
+	public <S extends T> S upsert(S entity) {
+		Assert.notNull(entity, "Entity must not be null!");
+
+		upsertAll(Collections.singletonList(entity));
+		return entity;
+	}
+
+	@Transactional
+	@Override
+	public <S extends T> Iterable<S> upsertAll(Iterable<S> entities) {
+		Assert.notNull(entities, "Entities must not be null!");
+
+		MetaData metaData = getMetaData();
+		Map<Class<?>, List<Map<String, Object>>> chunks = new LinkedHashMap<>();
+		for (S entity : entities) {
+			Assert.notNull(entity, "Entity must not be null!");
+
+			Class<?> type = entity.getClass();
+			EntityWritePlan writePlan = getUpsertPlan(metaData, type);
+			List<Map<String, Object>> chunk = chunks.computeIfAbsent(type, key -> new ArrayList<>());
+			chunk.add(writePlan.toMergeRow(entity));
+			if (chunk.size() == batchSize) {
+				upsertChunk(writePlan, chunk);
+				chunks.remove(type);
+			}
+		}
+		chunks.forEach((type, chunk) -> upsertChunk(getUpsertPlan(metaData, type), chunk));
+		return entities;
+	}
+
 	@Override
 	public Optional<T> findById(ID id) {
 		Assert.notNull(id, ID_MUST_NOT_BE_NULL);
-		return Optional.ofNullable(session.load(clazz, id));
+
+		EntityCache cache = getEntityCache();
+		if (cache == null) {
+			return Optional.ofNullable(withLazyRelationships(session.load(clazz, id), DEFAULT_QUERY_DEPTH));
+		}
+		Object entity = cache.getEntity(clazz, id, cachedEntityLabels,
+				() -> withLazyRelationships(session.load(clazz, id), DEFAULT_QUERY_DEPTH));
+		try {
+			return Optional.ofNullable(clazz.cast(entityCopier.copy(entity)));
+		} catch (ResultCopier.NotCopyableException e) {
+			cache.evict(clazz, id);
+			return Optional.ofNullable(withLazyRelationships(session.load(clazz, id), DEFAULT_QUERY_DEPTH));
+		}
 	}
 
 	@Override
 	public boolean existsById(ID id) {
-		return findById(id).isPresent();
+		Assert.notNull(id, ID_MUST_NOT_BE_NULL);
+
+		IdMatcher idMatcher = getIdMatcher();
+		if (idMatcher == null) {
+			return findById(id).isPresent();
+		}
+		Long count = session.queryForObject(Long.class,
+				idMatcher.match() + " WHERE " + idMatcher.predicate("$id") + " RETURN count(n)",
+				Collections.singletonMap("id", idMatcher.toGraphValue(id)));
+		return count != null && count > 0;
 	}
 
 	@Override
@@ -103,14 +239,39 @@ public class SimpleNeo4jRepository<T, ID extends Serializable> implements Neo4jR
 	@Transactional
 	@Override
 	public void deleteById(ID id) {
-		findById(id).ifPresent(session::delete);
+		Assert.notNull(id, ID_MUST_NOT_BE_NULL);
+
+		IdMatcher idMatcher = getDeleteMatcher();
+		if (idMatcher == null) {
+			findById(id).ifPresent(session::delete);
+		} else {
+			deleteChunkById(idMatcher, Collections.singletonList(id));
+		}
 	}
 
 	@Transactional
 	@Override
 	public void deleteAllById(Iterable<? extends ID> ids) {
-		StreamSupport.stream(ids.spliterator(), false)
-				.forEachOrdered(this::deleteById);
+
+		IdMatcher idMatcher = getDeleteMatcher();
+		if (idMatcher == null) {
+			StreamSupport.stream(ids.spliterator(), false)
+					.forEachOrdered(this::deleteById);
+			return;
+		}
+
+		List<ID> chunk = new ArrayList<>();
+		for (ID id : ids) {
+			Assert.notNull(id, ID_MUST_NOT_BE_NULL);
+			chunk.add(id);
+			if (chunk.size() == batchSize) {
+				deleteChunkById(idMatcher, chunk);
+				chunk = new ArrayList<>();
+			}
+		}
+		if (!chunk.isEmpty()) {
+			deleteChunkById(idMatcher, chunk);
+		}
 	}
 
 	@Transactional
@@ -122,8 +283,49 @@ public class SimpleNeo4jRepository<T, ID extends Serializable> implements Neo4jR
 	@Transactional
 	@Override
 	public void deleteAll(Iterable<? extends T> ts) {
+
+		IdMatcher idMatcher = getDeleteMatcher();
+		if (idMatcher == null) {
+			for (T t : ts) {
+				session.delete(t);
+			}
+			return;
+		}
+
+		// Entities that have not been loaded by this session are matched by their primary id
+		IdMatcher nativeIdMatcher = idMatcher.forNativeIds();
+		List<Object> nativeIds = new ArrayList<>();
+		List<T> loaded = new ArrayList<>();
+		List<Object> ids = new ArrayList<>();
+		List<T> detached = new ArrayList<>();
 		for (T t : ts) {
-			session.delete(t);
+			Long nativeId = session.resolveGraphIdFor(t);
+			if (nativeId != null) {
+				nativeIds.add(nativeId);
+				loaded.add(t);
+			} else {
+				Object id = idMatcher.readGraphValue(t);
+				if (id != null) {
+					ids.add(id);
+					detached.add(t);
+				}
+			}
+			if (nativeIds.size() == batchSize) {
+				deleteChunk(nativeIdMatcher, nativeIds, loaded);
+				nativeIds = new ArrayList<>();
+				loaded = new ArrayList<>();
+			}
+			if (ids.size() == batchSize) {
+				deleteChunk(idMatcher, ids, detached);
+				ids = new ArrayList<>();
+				detached = new ArrayList<>();
+			}
+		}
+		if (!nativeIds.isEmpty()) {
+			deleteChunk(nativeIdMatcher, nativeIds, loaded);
+		}
+		if (!ids.isEmpty()) {
+			deleteChunk(idMatcher, ids, detached);
 		}
 	}
 
@@ -150,7 +352,12 @@ public class SimpleNeo4jRepository<T, ID extends Serializable> implements Neo4jR
 	@Override
 	public Optional<T> findById(ID id, int depth) {
 		Assert.notNull(id, ID_MUST_NOT_BE_NULL);
-		return Optional.ofNullable(session.load(clazz, id, depth));
+
+		if (splitsQueries(depth)) {
+			Object entity = getDepthPlan(depth).loadAll(session, Collections.singletonList(id)).get(id);
+			return Optional.ofNullable(withLazyRelationships(clazz.cast(entity), depth));
+		}
+		return Optional.ofNullable(withLazyRelationships(session.load(clazz, id, depth), depth));
 	}
 
 	// findAll and variants
@@ -161,17 +368,91 @@ public class SimpleNeo4jRepository<T, ID extends Serializable> implements Neo4jR
 
 	@Override
 	public Iterable<T> findAll(int depth) {
-		return session.loadAll(clazz, depth);
+
+		if (splitsQueries(depth)) {
+			return withLazyRelationships(getDepthPlan(depth).loadAll(session), depth);
+		}
+		return withLazyRelationships(session.loadAll(clazz, depth), depth);
 	}
 
 	@Override
-	public Iterable<T> findAllById(Iterable<ID> longs) {
-		return findAllById(longs, DEFAULT_QUERY_DEPTH);
+	public Iterable<T> findAllById(Iterable<ID> ids) {
+
+		EntityCache cache = getEntityCache();
+		if (cache == null) {
+			return findAllById(ids, DEFAULT_QUERY_DEPTH);
+		}
+
+		Collection<Object> uniqueIds = new LinkedHashSet<>();
+		ids.forEach(uniqueIds::add);
+		Map<Object, Object> entities = copyOfCached(cache,
+				cache.getEntities(clazz, uniqueIds, cachedEntityLabels, this::loadAllById));
+		List<T> result = new ArrayList<>(entities.size());
+		for (Object id : uniqueIds) {
+			Object entity = entities.get(id);
+			if (entity != null) {
+				result.add(clazz.cast(entity));
+			}
+		}
+		return result;
+	}
+
+	/**
+	 * Entities that cannot be copied are evicted and loaded again, so that no caller gets a shared instance.
+	 */
+	private Map<Object, Object> copyOfCached(EntityCache cache, Map<Object, Object> cachedEntities) {
+
+		Map<Object, Object> entities = new HashMap<>(cachedEntities.size());
+		List<Object> notCopyableIds = new ArrayList<>();
+		cachedEntities.forEach((id, entity) -> {
+			try {
+				entities.put(id, entityCopier.copy(entity));
+			} catch (ResultCopier.NotCopyableException e) {
+				cache.evict(clazz, id);
+				notCopyableIds.add(id);
+			}
+		});
+		if (!notCopyableIds.isEmpty()) {
+			entities.putAll(loadAllById(notCopyableIds));
+		}
+		return entities;
+	}
+
+	@SuppressWarnings("unchecked")
+	private Map<Object, Object> loadAllById(Collection<Object> ids) {
+
+		MetaData metaData = getMetaData();
+		Map<Object, Object> entities = new HashMap<>();
+		for (T entity : withLazyRelationships(session.loadAll(clazz, (Collection<ID>) (Collection<?>) ids,
+				DEFAULT_QUERY_DEPTH), DEFAULT_QUERY_DEPTH)) {
+			entities.put(EntityCacheEventListener.getId(metaData, entity), entity);
+		}
+		return entities;
+	}
+
+	/**
+	 * The cache is bypassed inside read-write transactions, so that these read their own writes and never modify shared
+	 * instances.
+	 */
+	@Nullable
+	private EntityCache getEntityCache() {
+
+		if (entityCache == null || TransactionSynchronizationManager.isActualTransactionActive()
+				&& !TransactionSynchronizationManager.isCurrentTransactionReadOnly()) {
+			return null;
+		}
+		return entityCache;
 	}
 
 	@Override
 	public Iterable<T> findAllById(Iterable<ID> ids, int depth) {
-		return session.loadAll(clazz, (Collection<ID>) ids, depth);
+
+		if (splitsQueries(depth)) {
+			List<Object> idsToLoad = new ArrayList<>();
+			ids.forEach(idsToLoad::add);
+			return withLazyRelationships(castAll(getDepthPlan(depth).loadAll(session, idsToLoad).values()), depth);
+		}
+		return withLazyRelationships(session.loadAll(clazz, (Collection<ID>) ids, depth), depth);
 	}
 
 	@Override
@@ -181,7 +462,12 @@ public class SimpleNeo4jRepository<T, ID extends Serializable> implements Neo4jR
 
 	@Override
 	public Iterable<T> findAll(Sort sort, int depth) {
-		return session.loadAll(clazz, PagingAndSortingUtils.convert(sort), depth);
+
+		if (splitsQueries(depth)) {
+			return withLazyRelationships(
+					hydrate(session.loadAll(clazz, PagingAndSortingUtils.convert(sort), 0), depth), depth);
+		}
+		return withLazyRelationships(session.loadAll(clazz, PagingAndSortingUtils.convert(sort), depth), depth);
 	}
 
 	@Override
@@ -191,7 +477,82 @@ public class SimpleNeo4jRepository<T, ID extends Serializable> implements Neo4jR
 
 	@Override
 	public Iterable<T> findAllById(Iterable<ID> ids, Sort sort, int depth) {
-		return session.loadAll(clazz, (Collection<ID>) ids, PagingAndSortingUtils.convert(sort), depth);
+
+		if (splitsQueries(depth)) {
+			return withLazyRelationships(
+					hydrate(session.loadAll(clazz, (Collection<ID>) ids, PagingAndSortingUtils.convert(sort), 0),
+							depth), depth);
+		}
+		return withLazyRelationships(
+				session.loadAll(clazz, (Collection<ID>) ids, PagingAndSortingUtils.convert(sort), depth), depth);
+	}
+
+	@Override
+	public Optional<T> findById(ID id, String fetchProfile) {
+		Assert.notNull(id, ID_MUST_NOT_BE_NULL);
+
+		FetchPlan fetchPlan = getFetchPlan(fetchProfile);
+		Object entity = fetchPlan.loadAll(session, Collections.singletonList(id)).get(id);
+		return Optional.ofNullable(withLazyRelationships(clazz.cast(entity), fetchPlan.getLoadedRelationships()));
+	}
+
+	@Override
+	public Iterable<T> findAllById(Iterable<ID> ids, String fetchProfile) {
+
+		List<Object> idsToLoad = new ArrayList<>();
+		ids.forEach(idsToLoad::add);
+		FetchPlan fetchPlan = getFetchPlan(fetchProfile);
+		return withLazyRelationships(castAll(fetchPlan.loadAll(session, idsToLoad).values()),
+				fetchPlan.getLoadedRelationships());
+	}
+
+	@Override
+	public Iterable<T> findAll(String fetchProfile) {
+		FetchPlan fetchPlan = getFetchPlan(fetchProfile);
+		return withLazyRelationships(fetchPlan.loadAll(session), fetchPlan.getLoadedRelationships());
+	}
+
+	private FetchPlan getFetchPlan(String fetchProfile) {
+		return fetchPlans.computeIfAbsent(fetchProfile, name -> FetchPlan.of(getMetaData(), clazz, name));
+	}
+
+	private List<T> castAll(Collection<Object> entities) {
+
+		List<T> result = new ArrayList<>(entities.size());
+		for (Object entity : entities) {
+			result.add(clazz.cast(entity));
+		}
+		return result;
+	}
+
+	/**
+	 * Entities of a domain type annotated with {@link SplitQueryHydration} are loaded with their relationships in one
+	 * query per hop if more than one hop is requested.
+	 */
+	private boolean splitsQueries(int depth) {
+		return splitQueryHydration && (depth > 1 || depth < 0);
+	}
+
+	private FetchPlan getDepthPlan(int depth) {
+		return depthPlans.computeIfAbsent(depth, key -> FetchPlan.ofDepth(getMetaData(), clazz, key));
+	}
+
+	/**
+	 * Replaces entities loaded without relationships by the ones loaded with their relationships, keeping their order.
+	 */
+	private List<T> hydrate(Collection<T> entities, int depth) {
+
+		FetchPlan depthPlan = getDepthPlan(depth);
+		List<Object> ids = new ArrayList<>(entities.size());
+		for (T entity : entities) {
+			ids.add(depthPlan.getId(entity));
+		}
+		Map<Object, Object> hydratedEntities = depthPlan.loadAll(session, ids);
+		List<T> result = new ArrayList<>(entities.size());
+		for (T entity : entities) {
+			result.add(clazz.cast(hydratedEntities.getOrDefault(depthPlan.getId(entity), entity)));
+		}
+		return result;
 	}
 
 	@Override
@@ -202,8 +563,190 @@ public class SimpleNeo4jRepository<T, ID extends Serializable> implements Neo4jR
 	@Override
 	public Page<T> findAll(Pageable pageable, int depth) {
 		Pagination pagination = new Pagination(pageable.getPageNumber(), pageable.getPageSize());
-		Collection<T> data = session.loadAll(clazz, PagingAndSortingUtils.convert(pageable.getSort()), pagination, depth);
+		Collection<T> data;
+		if (splitsQueries(depth)) {
+			data = withLazyRelationships(hydrate(
+					session.loadAll(clazz, PagingAndSortingUtils.convert(pageable.getSort()), pagination, 0), depth),
+					depth);
+		} else {
+			data = withLazyRelationships(
+					session.loadAll(clazz, PagingAndSortingUtils.convert(pageable.getSort()), pagination, depth),
+					depth);
+		}
+
+		return PageableExecutionUtils.getPage(new ArrayList<>(data), pageable, this::countForPage);
+	}
+
+	/**
+	 * Replaces the relationships annotated with {@link org.springframework.data.neo4j.annotation.LazyRelationship} that
+	 * have not been loaded with the given depth by collections loading them on first access.
+	 */
+	@Nullable
+	private <R> R withLazyRelationships(@Nullable R result, int depth) {
+		return withLazyRelationships(result, LoadedRelationships.ofDepth(depth));
+	}
+
+	@Nullable
+	private <R> R withLazyRelationships(@Nullable R result, LoadedRelationships loaded) {
+		return lazyRelationshipLoader == null ? result : lazyRelationshipLoader.initialize(result, loaded);
+	}
+
+	private long countForPage() {
+
+		if (countCache == null) {
+			return session.countEntitiesOfType(clazz);
+		}
+		return countCache.getCount(List.of(SimpleNeo4jRepository.class, clazz), getLabels(),
+				() -> session.countEntitiesOfType(clazz));
+	}
+
+	private EntityWritePlan getUpsertPlan(MetaData metaData, Class<?> type) {
+
+		EntityWritePlan writePlan = upsertPlans.computeIfAbsent(type, key -> EntityWritePlan.of(metaData, key));
+		if (writePlan.isVersioned()) {
+			throw new InvalidDataAccessApiUsageException(
+					"Instances of " + type.getName() + " use optimistic locking and cannot be upserted.");
+		}
+		return writePlan;
+	}
+
+	/**
+	 * Merges the given rows in one statement. Merged nodes are removed from the sessions mapping context, as their
+	 * state in the graph may differ from what the session knows about them.
+	 */
+	private void upsertChunk(EntityWritePlan writePlan, List<Map<String, Object>> rows) {
 
-		return PageableExecutionUtils.getPage(new ArrayList<>(data), pageable, () -> session.countEntitiesOfType(clazz));
+		String cypher = writePlan.mergeStatement() + " RETURN id(n) AS nativeId";
+		for (Map<String, Object> row : session.query(cypher,
+				Collections.singletonMap(EntityWritePlan.ROWS_PARAMETER, rows)).queryResults()) {
+			session.detachNodeEntity(((Number) row.get("nativeId")).longValue());
+		}
+	}
+
+	private MetaData getMetaData() {
+
+		if (session instanceof MetaDataProvider metaDataProvider) {
+			return metaDataProvider.getMetaData();
+		}
+		throw new InvalidDataAccessApiUsageException(
+				"Upserts, fetch profiles and split queries require a session providing the Neo4j-OGM metadata.");
+	}
+
+	/**
+	 * Deletes the entities with the given ids in one statement. If events are enabled, the entities are loaded in one
+	 * statement beforehand, so that the delete events can be published for them.
+	 */
+	private void deleteChunkById(IdMatcher idMatcher, List<ID> ids) {
+
+		Collection<T> entities = session.eventsEnabled() ? session.loadAll(clazz, ids, 0) : Collections.emptyList();
+		List<Object> graphValues = new ArrayList<>(ids.size());
+		ids.forEach(id -> graphValues.add(idMatcher.toGraphValue(id)));
+		deleteChunk(idMatcher, graphValues, entities);
+	}
+
+	/**
+	 * Deletes the nodes with the given ids in one statement and removes them from the sessions mapping context. If
+	 * events are enabled, the delete events are published for the given entities, in the same order as the session
+	 * does: All {@link Event.TYPE#PRE_DELETE} events before the statement, all {@link Event.TYPE#POST_DELETE} events
+	 * after it.
+	 */
+	private void deleteChunk(IdMatcher idMatcher, List<Object> ids, Collection<? extends T> entities) {
+
+		boolean publishEvents = session.eventsEnabled();
+		if (publishEvents) {
+			entities.forEach(entity -> session.notifyListeners(new PersistenceEvent(entity, Event.TYPE.PRE_DELETE)));
+		}
+		String cypher = "UNWIND $ids AS id " + idMatcher.match() + " WHERE " + idMatcher.predicate("id")
+				+ " WITH n, id(n) AS nativeId DETACH DELETE n RETURN nativeId";
+		for (Map<String, Object> row : session.query(cypher, Collections.singletonMap("ids", ids)).queryResults()) {
+			session.detachNodeEntity(((Number) row.get("nativeId")).longValue());
+		}
+		if (publishEvents) {
+			entities.forEach(entity -> session.notifyListeners(new PersistenceEvent(entity, Event.TYPE.POST_DELETE)));
+		}
+	}
+
+	/**
+	 * @return a matcher for the ids of the domain type or {@literal null} if entities must be loaded before they can be
+	 *         deleted, as it is the case for relationship entities or when there is no metadata available
+	 */
+	@Nullable
+	private IdMatcher getIdMatcher() {
+		return session instanceof MetaDataProvider metaDataProvider
+				? IdMatcher.of(metaDataProvider.getMetaData(), clazz)
+				: null;
+	}
+
+	/**
+	 * @return a matcher for the ids of entities that can be deleted in one statement or {@literal null} if they must be
+	 *         deleted through the session, so that their version is checked
+	 */
+	@Nullable
+	private IdMatcher getDeleteMatcher() {
+
+		IdMatcher idMatcher = getIdMatcher();
+		if (idMatcher == null || getMetaData().classInfo(clazz.getName()).hasVersionField()) {
+			return null;
+		}
+		return idMatcher;
+	}
+
+	/**
+	 * Collects the labels of all entities loaded with the default depth: The labels of the domain type and of all types
+	 * one relationship away, including the nodes at the other end of relationship entities and all subclasses, as
+	 * instances of these might be loaded as well.
+	 */
+	private Collection<String> getLabelsWithinDefaultDepth() {
+
+		MetaData metaData = getMetaData();
+		ClassInfo root = metaData.classInfo(clazz.getName());
+		if (root == null) {
+			return getLabels();
+		}
+
+		Set<String> labels = new HashSet<>();
+		Set<ClassInfo> related = new LinkedHashSet<>();
+		for (ClassInfo classInfo : withSubclasses(root)) {
+			labels.addAll(classInfo.staticLabels());
+			for (FieldInfo fieldInfo : classInfo.relationshipFields()) {
+				ClassInfo target = metaData.classInfo(fieldInfo.getTypeDescriptor());
+				if (target == null) {
+					continue;
+				}
+				if (target.isRelationshipEntity()) {
+					for (FieldInfo node : Arrays.asList(target.getStartNodeReader(), target.getEndNodeReader())) {
+						ClassInfo nodeInfo = node == null ? null : metaData.classInfo(node.getTypeDescriptor());
+						if (nodeInfo != null) {
+							related.add(nodeInfo);
+						}
+					}
+				} else {
+					related.add(target);
+				}
+			}
+		}
+		for (ClassInfo classInfo : related) {
+			withSubclasses(classInfo).forEach(type -> labels.addAll(type.staticLabels()));
+		}
+		return Set.copyOf(labels);
+	}
+
+	private static List<ClassInfo> withSubclasses(ClassInfo classInfo) {
+
+		List<ClassInfo> classInfos = new ArrayList<>();
+		classInfos.add(classInfo);
+		classInfos.addAll(classInfo.allSubclasses());
+		return classInfos;
+	}
+
+	private Collection<String> getLabels() {
+
+		if (session instanceof MetaDataProvider metaDataProvider) {
+			ClassInfo classInfo = metaDataProvider.getMetaData().classInfo(clazz.getName());
+			if (classInfo != null) {
+				return classInfo.staticLabels();
+			}
+		}
+		return Collections.emptySet();
 	}
 }
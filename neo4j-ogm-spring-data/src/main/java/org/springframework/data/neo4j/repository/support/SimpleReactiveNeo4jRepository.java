@@ -0,0 +1,351 @@
+/*
+ * Copyright 2011-2023 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.neo4j.repository.support;
+
+import java.io.Serializable;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+
+import org.neo4j.ogm.cypher.query.Pagination;
+import org.neo4j.ogm.cypher.query.SortOrder;
+import org.neo4j.ogm.session.Session;
+import org.neo4j.ogm.session.SessionFactory;
+import org.reactivestreams.Publisher;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.neo4j.repository.ReactiveNeo4jRepository;
+import org.springframework.data.neo4j.transaction.CommittedWritesListener;
+import org.springframework.data.neo4j.transaction.ReactiveSessionFactoryUtils;
+import org.springframework.data.neo4j.transaction.SharedSessionCreator;
+import org.springframework.data.neo4j.util.PagingAndSortingUtils;
+import org.springframework.data.util.Streamable;
+import org.springframework.lang.Nullable;
+import org.springframework.stereotype.Repository;
+import org.springframework.util.Assert;
+
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Scheduler;
+
+/**
+ * Default implementation of the {@link ReactiveNeo4jRepository} interface. All work runs with
+ * {@link ReactiveSessionFactoryUtils#doInSession(SessionFactory, Scheduler, Function)}, either on the session of the
+ * current reactive transaction or on a new session on the configured {@link Scheduler}. The work uses a shared session,
+ * so that the written labels are reported to the {@link CommittedWritesListener committed writes listeners}.
+ *
+ * @param <T> the type of the entity to handle
+ */
+@Repository
+public class SimpleReactiveNeo4jRepository<T, ID extends Serializable> implements ReactiveNeo4jRepository<T, ID> {
+
+	private static final int DEFAULT_QUERY_DEPTH = 1;
+	private static final int DEFAULT_BATCH_SIZE = 1_000;
+	private static final String ID_MUST_NOT_BE_NULL = "The given id must not be null!";
+
+	private final Class<T> clazz;
+	private final SessionFactory sessionFactory;
+	private final Scheduler scheduler;
+	private final Session session;
+	private int batchSize = DEFAULT_BATCH_SIZE;
+	private @Nullable ObjectProvider<CommittedWritesListener> committedWritesListeners;
+
+	/**
+	 * Creates a new {@link SimpleReactiveNeo4jRepository} to manage objects of the given domain type.
+	 *
+	 * @param domainClass must not be {@literal null}.
+	 * @param sessionFactory must not be {@literal null}.
+	 * @param scheduler the scheduler running the work outside transactions, must not be {@literal null}.
+	 */
+	public SimpleReactiveNeo4jRepository(Class<T> domainClass, SessionFactory sessionFactory, Scheduler scheduler) {
+		Assert.notNull(domainClass, "Domain class must not be null!");
+		Assert.notNull(sessionFactory, "SessionFactory must not be null!");
+		Assert.notNull(scheduler, "Scheduler must not be null!");
+
+		this.clazz = domainClass;
+		this.sessionFactory = sessionFactory;
+		this.scheduler = scheduler;
+		this.session = SharedSessionCreator.createSharedSession(sessionFactory);
+	}
+
+	/**
+	 * Configures the number of entities read by one statement of {@link #findAll()} and its variants and the number of
+	 * entities or ids of a {@link Publisher} processed by one statement.
+	 *
+	 * @param batchSize the number of entities or ids per statement, must be greater than zero
+	 */
+	public void setBatchSize(int batchSize) {
+		Assert.isTrue(batchSize > 0, "The batch size must be greater than zero!");
+		this.batchSize = batchSize;
+	}
+
+	/**
+	 * Configures the listeners notified about writes outside of reactive transactions. Writes in a transaction are
+	 * reported by the {@link org.springframework.data.neo4j.transaction.ReactiveNeo4jTransactionManager}.
+	 *
+	 * @param committedWritesListeners the listeners to notify, may be {@literal null}
+	 */
+	public void setCommittedWritesListeners(
+			@Nullable ObjectProvider<CommittedWritesListener> committedWritesListeners) {
+		this.committedWritesListeners = committedWritesListeners;
+	}
+
+	@Override
+	public <S extends T> Mono<S> save(S entity) {
+		return save(entity, -1);
+	}
+
+	@Override
+	public <S extends T> Mono<S> save(S entity, int depth) {
+		Assert.notNull(entity, "Entity must not be null!");
+
+		return doInSession(session -> {
+			session.save(entity, depth);
+			return entity;
+		});
+	}
+
+	@Override
+	public <S extends T> Flux<S> saveAll(Iterable<S> entities) {
+		Assert.notNull(entities, "Entities must not be null!");
+
+		return doInSession(session -> {
+			session.save(entities);
+			return entities;
+		}).flatMapIterable(Function.identity());
+	}
+
+	@Override
+	public <S extends T> Flux<S> saveAll(Publisher<S> entityStream) {
+		Assert.notNull(entityStream, "Entities must not be null!");
+
+		return Flux.from(entityStream).buffer(batchSize).concatMap(this::saveAll);
+	}
+
+	@Override
+	public Mono<T> findById(ID id) {
+		return findById(id, DEFAULT_QUERY_DEPTH);
+	}
+
+	@Override
+	public Mono<T> findById(ID id, int depth) {
+		Assert.notNull(id, ID_MUST_NOT_BE_NULL);
+
+		return doInSession(session -> session.load(clazz, id, depth));
+	}
+
+	@Override
+	public Mono<T> findById(Publisher<ID> id) {
+		Assert.notNull(id, ID_MUST_NOT_BE_NULL);
+
+		return Mono.from(id).flatMap(this::findById);
+	}
+
+	@Override
+	public Mono<Boolean> existsById(ID id) {
+		Assert.notNull(id, ID_MUST_NOT_BE_NULL);
+
+		IdMatcher idMatcher = getIdMatcher();
+		if (idMatcher == null) {
+			return findById(id, 0).hasElement();
+		}
+		return doInSession(session -> session.queryForObject(Long.class,
+				idMatcher.match() + " WHERE " + idMatcher.predicate("$id") + " RETURN count(n)",
+				Collections.singletonMap("id", idMatcher.toGraphValue(id))))
+				.map(count -> count > 0)
+				.defaultIfEmpty(false);
+	}
+
+	@Override
+	public Mono<Boolean> existsById(Publisher<ID> id) {
+		Assert.notNull(id, ID_MUST_NOT_BE_NULL);
+
+		return Mono.from(id).flatMap(this::existsById);
+	}
+
+	@Override
+	public Flux<T> findAll() {
+		return findAll(Sort.unsorted(), DEFAULT_QUERY_DEPTH);
+	}
+
+	@Override
+	public Flux<T> findAll(int depth) {
+		return findAll(Sort.unsorted(), depth);
+	}
+
+	@Override
+	public Flux<T> findAll(Sort sort) {
+		return findAll(sort, DEFAULT_QUERY_DEPTH);
+	}
+
+	@Override
+	public Flux<T> findAll(Sort sort, int depth) {
+
+		IdMatcher idMatcher = sort.isUnsorted() ? getIdMatcher() : null;
+		if (idMatcher != null && idMatcher.getIdFieldName() == null) {
+			// Native ids are read in ascending order, each chunk after the last id of the previous one
+			return loadChunkAfter(-1L, idMatcher, depth) //
+					.expand(chunk -> chunk.isLast() ? Mono.<Chunk<T>> empty()
+							: loadChunkAfter(chunk.position(), idMatcher, depth)) //
+					.concatMapIterable(Chunk::content, 1);
+		}
+
+		// Skipping over chunks requires a stable order
+		SortOrder sortOrder = PagingAndSortingUtils.convert(idMatcher == null ? sort : Sort.by(idMatcher.getIdFieldName()));
+
+		// At most one chunk is read ahead of the chunk being consumed downstream.
+		return loadChunk(0, sortOrder, depth) //
+				.expand(chunk -> chunk.isLast() ? Mono.<Chunk<T>> empty()
+						: loadChunk((int) chunk.position() + 1, sortOrder, depth)) //
+				.concatMapIterable(Chunk::content, 1);
+	}
+
+	@Override
+	public Flux<T> findAllById(Iterable<ID> ids) {
+		Assert.notNull(ids, "Ids must not be null!");
+
+		List<ID> idList = Streamable.of(ids).toList();
+		return doInSession(session -> session.loadAll(clazz, idList, DEFAULT_QUERY_DEPTH))
+				.flatMapIterable(Function.identity());
+	}
+
+	@Override
+	public Flux<T> findAllById(Publisher<ID> idStream) {
+		Assert.notNull(idStream, "Ids must not be null!");
+
+		return Flux.from(idStream).buffer(batchSize).concatMap(this::findAllById);
+	}
+
+	@Override
+	public Mono<Long> count() {
+		return doInSession(session -> session.countEntitiesOfType(clazz));
+	}
+
+	@Override
+	public Mono<Void> deleteById(ID id) {
+		Assert.notNull(id, ID_MUST_NOT_BE_NULL);
+
+		return doInSession(session -> {
+			T entity = session.load(clazz, id, 0);
+			if (entity != null) {
+				session.delete(entity);
+			}
+			return null;
+		}).then();
+	}
+
+	@Override
+	public Mono<Void> deleteById(Publisher<ID> id) {
+		Assert.notNull(id, ID_MUST_NOT_BE_NULL);
+
+		return Mono.from(id).flatMap(this::deleteById);
+	}
+
+	@Override
+	public Mono<Void> delete(T entity) {
+		Assert.notNull(entity, "Entity must not be null!");
+
+		return doInSession(session -> {
+			session.delete(entity);
+			return null;
+		}).then();
+	}
+
+	@Override
+	public Mono<Void> deleteAllById(Iterable<? extends ID> ids) {
+		Assert.notNull(ids, "Ids must not be null!");
+
+		List<ID> idList = new ArrayList<>();
+		ids.forEach(idList::add);
+		return doInSession(session -> {
+			session.loadAll(clazz, idList, 0).forEach(session::delete);
+			return null;
+		}).then();
+	}
+
+	@Override
+	public Mono<Void> deleteAll(Iterable<? extends T> entities) {
+		Assert.notNull(entities, "Entities must not be null!");
+
+		return doInSession(session -> {
+			entities.forEach(session::delete);
+			return null;
+		}).then();
+	}
+
+	@Override
+	public Mono<Void> deleteAll(Publisher<? extends T> entityStream) {
+		Assert.notNull(entityStream, "Entities must not be null!");
+
+		return Flux.from(entityStream).buffer(batchSize).concatMap(this::deleteAll).then();
+	}
+
+	@Override
+	public Mono<Void> deleteAll() {
+		return doInSession(session -> {
+			session.deleteAll(clazz);
+			return null;
+		}).then();
+	}
+
+	private Mono<Chunk<T>> loadChunk(int number, SortOrder sortOrder, int depth) {
+
+		return doInSession(session -> {
+			Collection<T> content = session.loadAll(clazz, sortOrder, new Pagination(number, batchSize), depth);
+			return new Chunk<>(number, content, content.size() < batchSize);
+		});
+	}
+
+	private Mono<Chunk<T>> loadChunkAfter(long nativeId, IdMatcher idMatcher, int depth) {
+
+		Map<String, Object> parameters = new HashMap<>(2);
+		parameters.put("after", nativeId);
+		parameters.put("limit", batchSize);
+		String cypher = idMatcher.match() + " WHERE id(n) > $after RETURN id(n) AS nativeId ORDER BY nativeId LIMIT $limit";
+		return doInSession(session -> {
+			List<Long> nativeIds = new ArrayList<>();
+			for (Map<String, Object> row : session.query(cypher, parameters).queryResults()) {
+				nativeIds.add(((Number) row.get("nativeId")).longValue());
+			}
+			if (nativeIds.isEmpty()) {
+				return new Chunk<>(nativeId, Collections.<T> emptyList(), true);
+			}
+			Collection<T> content = session.loadAll(clazz, nativeIds, depth);
+			return new Chunk<>(nativeIds.get(nativeIds.size() - 1), content, nativeIds.size() < batchSize);
+		});
+	}
+
+	@Nullable
+	private IdMatcher getIdMatcher() {
+		return IdMatcher.of(sessionFactory.metaData(), clazz);
+	}
+
+	private <R> Mono<R> doInSession(Function<Session, R> callback) {
+		return ReactiveSessionFactoryUtils.doInSession(sessionFactory, scheduler, committedWritesListeners,
+				boundSession -> callback.apply(session));
+	}
+
+	/**
+	 * One chunk of the entities read by {@link #findAll(Sort, int)}, positioned either by its number or by the last
+	 * native id it contains.
+	 */
+	private record Chunk<E>(long position, Collection<E> content, boolean isLast) {
+	}
+}
@@ -0,0 +1,47 @@
+/*
+ * Copyright 2011-2023 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.neo4j.transaction;
+
+import java.util.function.Predicate;
+
+/**
+ * Callback notified by the {@link Neo4jTransactionManager} and the {@link ReactiveNeo4jTransactionManager} after a
+ * transaction that wrote through a shared {@link org.neo4j.ogm.session.Session} has been committed or rolled back. All
+ * beans implementing this interface are picked up by the transaction managers. Reactive repositories report their
+ * writes outside of transactions once each call completes.
+ */
+@FunctionalInterface
+public interface CommittedWritesListener {
+
+	/**
+	 * Called after a successful commit. Writes through plain Cypher statements cannot be attributed to labels, the
+	 * predicate matches all labels in that case.
+	 *
+	 * @param isWrittenLabel tests whether nodes or relationships with a given label might have been written
+	 */
+	void afterCommit(Predicate<String> isWrittenLabel);
+
+	/**
+	 * Called after a transaction that wrote through a shared {@link org.neo4j.ogm.session.Session} has been rolled back.
+	 * Values read inside that transaction might reflect writes that never became visible to others, so the default
+	 * treats the rollback like a commit of the same writes.
+	 *
+	 * @param isWrittenLabel tests whether nodes or relationships with a given label might have been written
+	 */
+	default void afterRollback(Predicate<String> isWrittenLabel) {
+		afterCommit(isWrittenLabel);
+	}
+}
@@ -17,7 +17,9 @@ package org.springframework.data.neo4j.transaction;
 
 import static java.util.Collections.*;
 
+import java.time.Duration;
 import java.util.Collection;
+import java.util.function.Predicate;
 
 import org.neo4j.ogm.session.Session;
 import org.neo4j.ogm.session.SessionFactory;
@@ -29,10 +31,12 @@ import org.springframework.beans.factory.BeanFactory;
 import org.springframework.beans.factory.BeanFactoryAware;
 import org.springframework.beans.factory.InitializingBean;
 import org.springframework.beans.factory.NoSuchBeanDefinitionException;
+import org.springframework.beans.factory.ObjectProvider;
 import org.springframework.dao.DataAccessException;
 import org.springframework.data.neo4j.bookmark.BookmarkInfo;
 import org.springframework.data.neo4j.bookmark.BookmarkManager;
 import org.springframework.data.neo4j.bookmark.BookmarkSupport;
+import org.springframework.lang.Nullable;
 import org.springframework.transaction.CannotCreateTransactionException;
 import org.springframework.transaction.IllegalTransactionStateException;
 import org.springframework.transaction.InvalidIsolationLevelException;
@@ -54,7 +58,8 @@ import org.springframework.transaction.support.TransactionSynchronizationManager
  * data access. JTA (usually through {@link org.springframework.transaction.jta.JtaTransactionManager}) has not been
  * tested or considered at the moment.
  * <p>
- * This transaction manager does not support nested transactions or requires new propagation.
+ * This transaction manager does not support nested transactions. Transactions with requires new propagation suspend
+ * the current transaction and run on a new session.
  *
  * @author Mark Angrish
  * @see #setSessionFactory
@@ -67,6 +72,8 @@ public class Neo4jTransactionManager extends AbstractPlatformTransactionManager
 	private SessionFactory sessionFactory;
 	private BookmarkManager bookmarkManager;
 
+	private ObjectProvider<CommittedWritesListener> committedWritesListeners;
+
 	/**
 	 * Create a new Neo4jTransactionManager instance.
 	 * <p>
@@ -120,6 +127,7 @@ public class Neo4jTransactionManager extends AbstractPlatformTransactionManager
 		} catch (NoSuchBeanDefinitionException e) {
 			logger.debug("No BookmarkManager bean found, bookmark management not enabled");
 		}
+		committedWritesListeners = beanFactory.getBeanProvider(CommittedWritesListener.class);
 	}
 
 	@Override
@@ -160,6 +168,7 @@ public class Neo4jTransactionManager extends AbstractPlatformTransactionManager
 		try {
 			if (txObject.getSessionHolder() == null || txObject.getSessionHolder().isSynchronizedWithTransaction()) {
 				Session session = sessionFactory.openSession();
+				lifecycleListener().sessionOpened(session, SessionLifecycleListener.Source.TRANSACTION);
 				if (logger.isDebugEnabled()) {
 					logger.debug("Opened new Session [" + session + "] for Neo4j OGM transaction");
 				}
@@ -174,12 +183,19 @@ public class Neo4jTransactionManager extends AbstractPlatformTransactionManager
 						"Neo4jTransactionManager is not allowed to support custom isolation levels.");
 			}
 
-			if (definition.getPropagationBehavior() != TransactionDefinition.PROPAGATION_REQUIRED) {
-				throw new IllegalTransactionStateException("Neo4jTransactionManager only supports 'required' propagation.");
+			if (definition.getPropagationBehavior() != TransactionDefinition.PROPAGATION_REQUIRED
+					&& definition.getPropagationBehavior() != TransactionDefinition.PROPAGATION_REQUIRES_NEW) {
+				throw new IllegalTransactionStateException(
+						"Neo4jTransactionManager only supports 'required' and 'requires new' propagation.");
 			}
 
 			Transaction.Type type = getTransactionType(definition, txObject);
-			Transaction transactionData = session.beginTransaction(type, getBookmarks());
+			Iterable<String> bookmarks = getBookmarks();
+			long beginStart = System.nanoTime();
+			Transaction transactionData = session.beginTransaction(type, bookmarks);
+			if (bookmarks.iterator().hasNext()) {
+				lifecycleListener().bookmarksAwaited(Duration.ofNanos(System.nanoTime() - beginStart));
+			}
 
 			txObject.setTransactionData(transactionData);
 			if (logger.isDebugEnabled()) {
@@ -196,6 +212,7 @@ public class Neo4jTransactionManager extends AbstractPlatformTransactionManager
 			}
 
 			txObject.getSessionHolder().setSynchronizedWithTransaction(true);
+			lifecycleListener().transactionBegun(session);
 		} catch (TransactionException ex) {
 			closeSessionAfterFailedBegin(txObject);
 			throw ex;
@@ -249,6 +266,7 @@ public class Neo4jTransactionManager extends AbstractPlatformTransactionManager
 				logger.debug("Could not rollback Session after failed transaction begin", ex);
 			} finally {
 				txObject.setSessionHolder(null, false);
+				lifecycleListener().sessionClosed(session);
 			}
 		}
 	}
@@ -286,6 +304,7 @@ public class Neo4jTransactionManager extends AbstractPlatformTransactionManager
 
 			if (tx != null) {
 				tx.commit();
+				txObject.setCommitted(true);
 
 				if (bookmarkManager != null) {
 					String lastBookmark = session.getLastBookmark();
@@ -302,15 +321,23 @@ public class Neo4jTransactionManager extends AbstractPlatformTransactionManager
 				}
 			}
 		} catch (RuntimeException ex) {
+			notifyCommittedWritesListeners(txObject.getSessionHolder().consumeWrittenLabels(), false);
 			DataAccessException dae = SessionFactoryUtils.convertOgmAccessException(ex);
 			throw (dae != null ? dae : ex);
 		}
+
+		notifyCommittedWritesListeners(txObject.getSessionHolder().consumeWrittenLabels(), true);
+	}
+
+	private void notifyCommittedWritesListeners(@Nullable Predicate<String> writtenLabels, boolean committed) {
+		SessionFactoryUtils.notifyCommittedWritesListeners(committedWritesListeners, writtenLabels, committed);
 	}
 
 	@Override
 	protected void doRollback(DefaultTransactionStatus status) {
 		Neo4jTransactionObject txObject = (Neo4jTransactionObject) status.getTransaction();
 		Session session = txObject.getSessionHolder().getSession();
+		Predicate<String> writtenLabels = txObject.getSessionHolder().consumeWrittenLabels();
 
 		try (Transaction tx = session.getTransaction()) {
 
@@ -329,6 +356,8 @@ public class Neo4jTransactionManager extends AbstractPlatformTransactionManager
 				// Clear all pending inserts/updates/deletes in the Session.
 				session.clear();
 			}
+			// Values cached inside the transaction might reflect its writes
+			notifyCommittedWritesListeners(writtenLabels, false);
 		}
 	}
 
@@ -357,12 +386,17 @@ public class Neo4jTransactionManager extends AbstractPlatformTransactionManager
 			rawTransaction.close();
 		}
 
+		Session session = txObject.getSessionHolder().getSession();
+		if (rawTransaction != null) {
+			lifecycleListener().transactionCompleted(session, txObject.isCommitted());
+		}
+
 		// Remove the session holder from the thread.
 		if (txObject.isNewSessionHolder()) {
-			Session session = txObject.getSessionHolder().getSession();
 			if (logger.isDebugEnabled()) {
 				logger.debug("Closing Neo4j Session [" + session + "] after transaction");
 			}
+			lifecycleListener().sessionClosed(session);
 		} else {
 			logger.debug("Not closing pre-bound Neo4j Session after transaction");
 		}
@@ -370,6 +404,10 @@ public class Neo4jTransactionManager extends AbstractPlatformTransactionManager
 		txObject.getSessionHolder().clear();
 	}
 
+	private SessionLifecycleListener lifecycleListener() {
+		return SessionFactoryUtils.getSessionLifecycleListener(getSessionFactory());
+	}
+
 	/**
 	 * Neo4j OGM transaction object, representing a SessionHolder. Used as transaction object by Neo4jTransactionManager.
 	 */
@@ -381,6 +419,8 @@ public class Neo4jTransactionManager extends AbstractPlatformTransactionManager
 
 		private Transaction transactionData;
 
+		private boolean committed;
+
 		void setSessionHolder(SessionHolder sessionHolder, boolean newSessionHolder) {
 			this.sessionHolder = sessionHolder;
 			this.newSessionHolder = newSessionHolder;
@@ -406,6 +446,14 @@ public class Neo4jTransactionManager extends AbstractPlatformTransactionManager
 		Transaction getTransactionData() {
 			return this.transactionData;
 		}
+
+		void setCommitted(boolean committed) {
+			this.committed = committed;
+		}
+
+		boolean isCommitted() {
+			return this.committed;
+		}
 	}
 
 	/**
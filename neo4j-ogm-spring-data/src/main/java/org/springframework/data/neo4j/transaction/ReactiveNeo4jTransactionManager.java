@@ -0,0 +1,293 @@
+/*
+ * Copyright 2011-2023 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.neo4j.transaction;
+
+import java.util.function.Predicate;
+
+import org.neo4j.ogm.session.SessionFactory;
+import org.neo4j.ogm.transaction.Transaction;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.BeansException;
+import org.springframework.beans.factory.BeanFactory;
+import org.springframework.beans.factory.BeanFactoryAware;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.lang.Nullable;
+import org.springframework.transaction.CannotCreateTransactionException;
+import org.springframework.transaction.InvalidIsolationLevelException;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.reactive.AbstractReactiveTransactionManager;
+import org.springframework.transaction.reactive.GenericReactiveTransaction;
+import org.springframework.transaction.reactive.TransactionSynchronizationManager;
+import org.springframework.util.Assert;
+
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Scheduler;
+import reactor.core.scheduler.Schedulers;
+
+/**
+ * {@link org.springframework.transaction.ReactiveTransactionManager} implementation for a single Neo4j OGM
+ * {@link SessionFactory}. Binds a new Neo4j OGM Session from the specified factory to the Reactor context of each
+ * transaction, so that it can be used with {@link org.springframework.transaction.reactive.TransactionalOperator} and
+ * {@code @Transactional} methods returning a {@link Mono} or a {@link reactor.core.publisher.Flux}.
+ * {@link ReactiveSessionFactoryUtils} is aware of these sessions and participates in such transactions automatically.
+ * <p>
+ * Neo4j OGM is a blocking API. All work of one transaction runs on one {@link Scheduler.Worker} of the configured
+ * {@link Scheduler}, which defaults to {@link Schedulers#boundedElastic()}. The number of concurrent transactions is
+ * therefore bounded by the scheduler and not by the number of subscribers.
+ * <p>
+ * This transaction manager does not support nested transactions. Transactions with requires new propagation suspend
+ * the current transaction and run on a new session.
+ * <p>
+ * Like {@link Neo4jTransactionManager}, this transaction manager notifies all {@link CommittedWritesListener} beans of
+ * the containing BeanFactory about the labels written through shared sessions after a commit or rollback.
+ *
+ * @see ReactiveSessionFactoryUtils
+ */
+public class ReactiveNeo4jTransactionManager extends AbstractReactiveTransactionManager implements BeanFactoryAware {
+
+	private static final Logger logger = LoggerFactory.getLogger(ReactiveNeo4jTransactionManager.class);
+
+	private final SessionFactory sessionFactory;
+
+	private final Scheduler scheduler;
+
+	private @Nullable ObjectProvider<CommittedWritesListener> committedWritesListeners;
+
+	/**
+	 * Creates a new transaction manager running the transactions on {@link Schedulers#boundedElastic()}.
+	 *
+	 * @param sessionFactory SessionFactory to manage transactions for
+	 */
+	public ReactiveNeo4jTransactionManager(SessionFactory sessionFactory) {
+		this(sessionFactory, Schedulers.boundedElastic());
+	}
+
+	/**
+	 * Creates a new transaction manager running the transactions on the given scheduler.
+	 *
+	 * @param sessionFactory SessionFactory to manage transactions for
+	 * @param scheduler the scheduler to run the transactions on
+	 */
+	public ReactiveNeo4jTransactionManager(SessionFactory sessionFactory, Scheduler scheduler) {
+		Assert.notNull(sessionFactory, "SessionFactory must not be null!");
+		Assert.notNull(scheduler, "Scheduler must not be null!");
+
+		this.sessionFactory = sessionFactory;
+		this.scheduler = scheduler;
+	}
+
+	/**
+	 * Return the SessionFactory that this instance should manage transactions for.
+	 */
+	public SessionFactory getSessionFactory() {
+		return this.sessionFactory;
+	}
+
+	/**
+	 * Return the Scheduler the transactions of this instance run on.
+	 */
+	public Scheduler getScheduler() {
+		return this.scheduler;
+	}
+
+	/**
+	 * Retrieves the {@link CommittedWritesListener} beans to notify.
+	 */
+	@Override
+	public void setBeanFactory(BeanFactory beanFactory) throws BeansException {
+		this.committedWritesListeners = beanFactory.getBeanProvider(CommittedWritesListener.class);
+	}
+
+	@Override
+	protected Object doGetTransaction(TransactionSynchronizationManager synchronizationManager) {
+		ReactiveNeo4jTransactionObject txObject = new ReactiveNeo4jTransactionObject();
+		txObject.setSessionHolder((ReactiveSessionHolder) synchronizationManager.getResource(getSessionFactory()));
+		return txObject;
+	}
+
+	@Override
+	protected boolean isExistingTransaction(Object transaction) {
+		return ((ReactiveNeo4jTransactionObject) transaction).hasTransaction();
+	}
+
+	@Override
+	protected Mono<Void> doBegin(TransactionSynchronizationManager synchronizationManager, Object transaction,
+			TransactionDefinition definition) {
+
+		ReactiveNeo4jTransactionObject txObject = (ReactiveNeo4jTransactionObject) transaction;
+
+		return Mono.defer(() -> {
+			if (definition.getIsolationLevel() != TransactionDefinition.ISOLATION_DEFAULT) {
+				// We should set a specific isolation level but are not allowed to...
+				return Mono.error(new InvalidIsolationLevelException(
+						"ReactiveNeo4jTransactionManager is not allowed to support custom isolation levels."));
+			}
+
+			ReactiveSessionHolder sessionHolder = new ReactiveSessionHolder(getSessionFactory().openSession(),
+					getScheduler().createWorker());
+			Transaction.Type type = definition.isReadOnly() ? Transaction.Type.READ_ONLY : Transaction.Type.READ_WRITE;
+
+			return sessionHolder.execute(session -> session.beginTransaction(type)) //
+					.doOnNext(transactionData -> {
+						if (logger.isDebugEnabled()) {
+							logger.debug("Beginning Transaction [" + transactionData + "] on Session ["
+									+ sessionHolder.getSession() + "]");
+						}
+						sessionHolder.setTransactionActive(true);
+						sessionHolder.setSynchronizedWithTransaction(true);
+						txObject.setSessionHolder(sessionHolder);
+						synchronizationManager.bindResource(getSessionFactory(), sessionHolder);
+					}) //
+					.onErrorMap(ex -> {
+						sessionHolder.dispose();
+						return new CannotCreateTransactionException("Could not open Neo4j Session for transaction", ex);
+					}) //
+					.then();
+		});
+	}
+
+	@Override
+	protected Mono<Object> doSuspend(TransactionSynchronizationManager synchronizationManager, Object transaction) {
+
+		return Mono.fromSupplier(() -> {
+			((ReactiveNeo4jTransactionObject) transaction).setSessionHolder(null);
+			return synchronizationManager.unbindResource(getSessionFactory());
+		});
+	}
+
+	@Override
+	protected Mono<Void> doResume(TransactionSynchronizationManager synchronizationManager,
+			@Nullable Object transaction, Object suspendedResources) {
+
+		return Mono.fromRunnable(() -> synchronizationManager.bindResource(getSessionFactory(), suspendedResources));
+	}
+
+	@Override
+	protected Mono<Void> doCommit(TransactionSynchronizationManager synchronizationManager,
+			GenericReactiveTransaction status) {
+
+		ReactiveSessionHolder sessionHolder = ((ReactiveNeo4jTransactionObject) status.getTransaction())
+				.getSessionHolder();
+
+		return sessionHolder.execute(session -> {
+			Predicate<String> writtenLabels = sessionHolder.consumeWrittenLabels();
+			try (Transaction tx = session.getTransaction()) {
+				if (status.isDebug()) {
+					logger.debug("Committing Neo4j OGM transaction [" + tx + "] on Session [" + session + "]");
+				}
+				if (tx != null) {
+					tx.commit();
+				}
+			}
+			SessionFactoryUtils.notifyCommittedWritesListeners(committedWritesListeners, writtenLabels, true);
+			return null;
+		}).onErrorMap(RuntimeException.class, ReactiveSessionFactoryUtils::translate).then();
+	}
+
+	@Override
+	protected Mono<Void> doRollback(TransactionSynchronizationManager synchronizationManager,
+			GenericReactiveTransaction status) {
+
+		ReactiveSessionHolder sessionHolder = ((ReactiveNeo4jTransactionObject) status.getTransaction())
+				.getSessionHolder();
+
+		return sessionHolder.execute(session -> {
+			Predicate<String> writtenLabels = sessionHolder.consumeWrittenLabels();
+			try (Transaction tx = session.getTransaction()) {
+				if (status.isDebug()) {
+					logger.debug("Rolling back Neo4j transaction [" + tx + "] on Session [" + session + "]");
+				}
+				if (tx != null) {
+					tx.rollback();
+				}
+			} finally {
+				SessionFactoryUtils.notifyCommittedWritesListeners(committedWritesListeners, writtenLabels, false);
+			}
+			return null;
+		}).onErrorMap(RuntimeException.class, ReactiveSessionFactoryUtils::translate).then();
+	}
+
+	@Override
+	protected Mono<Void> doSetRollbackOnly(TransactionSynchronizationManager synchronizationManager,
+			GenericReactiveTransaction status) {
+
+		return Mono.fromRunnable(() -> {
+			ReactiveSessionHolder sessionHolder = ((ReactiveNeo4jTransactionObject) status.getTransaction())
+					.getSessionHolder();
+			if (status.isDebug()) {
+				logger.debug("Setting Neo4j OGM transaction on Session [" + sessionHolder.getSession() + "] rollback-only");
+			}
+			sessionHolder.setRollbackOnly();
+		});
+	}
+
+	@Override
+	protected Mono<Void> doCleanupAfterCompletion(TransactionSynchronizationManager synchronizationManager,
+			Object transaction) {
+
+		ReactiveNeo4jTransactionObject txObject = (ReactiveNeo4jTransactionObject) transaction;
+		if (!txObject.hasSessionHolder()) {
+			return Mono.empty();
+		}
+
+		return Mono.defer(() -> {
+			ReactiveSessionHolder sessionHolder = txObject.getSessionHolder();
+			synchronizationManager.unbindResourceIfPossible(getSessionFactory());
+
+			if (logger.isDebugEnabled()) {
+				logger.debug("Closing Neo4j Session [" + sessionHolder.getSession() + "] after transaction");
+			}
+
+			return sessionHolder.execute(session -> {
+				Transaction tx = session.getTransaction();
+				if (tx != null && tx.status() == Transaction.Status.OPEN) {
+					tx.close();
+				}
+				return null;
+			}).doFinally(signal -> {
+				sessionHolder.clear();
+				sessionHolder.dispose();
+			}).then();
+		});
+	}
+
+	/**
+	 * Neo4j OGM transaction object, representing a ReactiveSessionHolder. Used as transaction object by
+	 * ReactiveNeo4jTransactionManager.
+	 */
+	private static class ReactiveNeo4jTransactionObject {
+
+		@Nullable private ReactiveSessionHolder sessionHolder;
+
+		void setSessionHolder(@Nullable ReactiveSessionHolder sessionHolder) {
+			this.sessionHolder = sessionHolder;
+		}
+
+		ReactiveSessionHolder getSessionHolder() {
+			Assert.state(this.sessionHolder != null, "No ReactiveSessionHolder available");
+			return this.sessionHolder;
+		}
+
+		boolean hasSessionHolder() {
+			return this.sessionHolder != null;
+		}
+
+		boolean hasTransaction() {
+			return this.sessionHolder != null && this.sessionHolder.isTransactionActive();
+		}
+	}
+}
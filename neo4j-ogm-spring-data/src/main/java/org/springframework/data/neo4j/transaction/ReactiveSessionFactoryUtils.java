@@ -0,0 +1,119 @@
+/*
+ * Copyright 2011-2023 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.neo4j.transaction;
+
+import java.util.function.Function;
+
+import org.neo4j.ogm.session.Session;
+import org.neo4j.ogm.session.SessionFactory;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.dao.DataAccessException;
+import org.springframework.lang.Nullable;
+import org.springframework.transaction.NoTransactionException;
+import org.springframework.transaction.reactive.TransactionSynchronizationManager;
+import org.springframework.util.Assert;
+
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Scheduler;
+
+/**
+ * Helper class featuring methods for running Neo4j OGM work from reactive code. Work runs on the session of the
+ * transaction managed by a {@link ReactiveNeo4jTransactionManager} in the Reactor context, if any, otherwise on a new
+ * session on the given {@link Scheduler}. Also translates exceptions like {@link SessionFactoryUtils} does.
+ * <p>
+ * Mainly intended for internal use within the framework.
+ */
+public final class ReactiveSessionFactoryUtils {
+
+	private ReactiveSessionFactoryUtils() {
+	}
+
+	/**
+	 * Runs the callback with the session bound to the current reactive transaction or, without a transaction, with a new
+	 * session. The callback may block, it never runs on the subscribing thread. The session is bound to that thread
+	 * while the callback runs, so that shared sessions use it.
+	 *
+	 * @param sessionFactory the session factory to open the session from
+	 * @param scheduler the scheduler to run the callback on when there's no transaction
+	 * @param callback the callback to run, may return {@literal null}
+	 * @param <T> the type of the result
+	 * @return a mono emitting the result of the callback or completing empty if the callback returned {@literal null}
+	 */
+	public static <T> Mono<T> doInSession(SessionFactory sessionFactory, Scheduler scheduler,
+			Function<Session, T> callback) {
+
+		return doInSession(sessionFactory, scheduler, null, callback);
+	}
+
+	/**
+	 * Runs the callback like {@link #doInSession(SessionFactory, Scheduler, Function)} and reports the labels written
+	 * through shared sessions. Writes in a reactive transaction are reported by the
+	 * {@link ReactiveNeo4jTransactionManager} when the transaction completes. Without a transaction, every statement
+	 * commits on its own and the writes are reported to the given listeners once the callback returns.
+	 *
+	 * @param sessionFactory the session factory to open the session from
+	 * @param scheduler the scheduler to run the callback on when there's no transaction
+	 * @param committedWritesListeners the listeners to notify about writes without a transaction, may be
+	 *          {@literal null}
+	 * @param callback the callback to run, may return {@literal null}
+	 * @param <T> the type of the result
+	 * @return a mono emitting the result of the callback or completing empty if the callback returned {@literal null}
+	 */
+	public static <T> Mono<T> doInSession(SessionFactory sessionFactory, Scheduler scheduler,
+			@Nullable ObjectProvider<CommittedWritesListener> committedWritesListeners, Function<Session, T> callback) {
+
+		Assert.notNull(sessionFactory, "No SessionFactory specified");
+		Assert.notNull(scheduler, "No Scheduler specified");
+
+		Mono<T> withoutTransaction = Mono.fromCallable(() -> {
+			SessionHolder sessionHolder = new SessionHolder(sessionFactory.openSession());
+			try {
+				return doInBoundSession(sessionFactory, sessionHolder, callback);
+			} finally {
+				SessionFactoryUtils.notifyCommittedWritesListeners(committedWritesListeners,
+						sessionHolder.consumeWrittenLabels(), true);
+			}
+		}).subscribeOn(scheduler);
+
+		return currentSessionHolder(sessionFactory) //
+				.map(sessionHolder -> sessionHolder.execute(
+						session -> doInBoundSession(sessionFactory, sessionHolder.getBoundSessionHolder(), callback))) //
+				.defaultIfEmpty(withoutTransaction) //
+				.flatMap(Function.identity()) //
+				.onErrorMap(RuntimeException.class, ReactiveSessionFactoryUtils::translate);
+	}
+
+	private static <T> T doInBoundSession(SessionFactory sessionFactory, SessionHolder sessionHolder,
+			Function<Session, T> callback) {
+
+		return SessionFactoryUtils.doInBoundSession(sessionFactory, sessionHolder,
+				() -> callback.apply(sessionHolder.getSession()));
+	}
+
+	static Mono<ReactiveSessionHolder> currentSessionHolder(SessionFactory sessionFactory) {
+
+		return TransactionSynchronizationManager.forCurrentTransaction() //
+				.filter(synchronizationManager -> synchronizationManager.hasResource(sessionFactory)) //
+				.map(synchronizationManager -> (ReactiveSessionHolder) synchronizationManager.getResource(sessionFactory)) //
+				.onErrorResume(NoTransactionException.class, e -> Mono.empty());
+	}
+
+	static Throwable translate(RuntimeException ex) {
+
+		DataAccessException dae = SessionFactoryUtils.convertOgmAccessException(ex);
+		return dae != null ? dae : ex;
+	}
+}
@@ -0,0 +1,121 @@
+/*
+ * Copyright 2011-2023 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.neo4j.transaction;
+
+import java.util.function.Function;
+import java.util.function.Predicate;
+
+import org.neo4j.ogm.session.Session;
+import org.springframework.lang.Nullable;
+import org.springframework.transaction.support.ResourceHolderSupport;
+import org.springframework.util.Assert;
+
+import reactor.core.Disposable;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Scheduler;
+
+/**
+ * Holder wrapping a Neo4j OGM Session together with the {@link Scheduler.Worker} all work on that session runs on.
+ * {@link ReactiveNeo4jTransactionManager} binds instances of this class to the Reactor context, for a given
+ * SessionFactory.
+ * <p>
+ * All callbacks of one holder run one after another on the same worker, so that the session, which is not thread-safe,
+ * is never used concurrently and its transaction is always used from the thread it has been started on. While a
+ * callback of {@link ReactiveSessionFactoryUtils} runs, the session is bound to the thread with a {@link SessionHolder}
+ * that collects the labels written through shared sessions during the whole transaction.
+ *
+ * @see ReactiveNeo4jTransactionManager
+ * @see ReactiveSessionFactoryUtils
+ */
+final class ReactiveSessionHolder extends ResourceHolderSupport {
+
+	private final Session session;
+
+	private final Scheduler.Worker worker;
+
+	private final SessionHolder boundSessionHolder;
+
+	private boolean transactionActive;
+
+	ReactiveSessionHolder(Session session, Scheduler.Worker worker) {
+		Assert.notNull(session, "Session must not be null");
+		Assert.notNull(worker, "Worker must not be null");
+
+		this.session = session;
+		this.worker = worker;
+		this.boundSessionHolder = new SessionHolder(session);
+	}
+
+	Session getSession() {
+		return this.session;
+	}
+
+	/**
+	 * @return the holder to bind to the thread while a callback uses the session
+	 */
+	SessionHolder getBoundSessionHolder() {
+		return this.boundSessionHolder;
+	}
+
+	/**
+	 * Returns the labels written since the last call and resets them. Must be called on the worker of this holder.
+	 *
+	 * @return a predicate matching the written labels or {@literal null} if nothing has been written
+	 */
+	@Nullable
+	Predicate<String> consumeWrittenLabels() {
+		return this.boundSessionHolder.consumeWrittenLabels();
+	}
+
+	void setTransactionActive(boolean transactionActive) {
+		this.transactionActive = transactionActive;
+	}
+
+	boolean isTransactionActive() {
+		return this.transactionActive;
+	}
+
+	/**
+	 * Runs the callback on the worker of this holder.
+	 *
+	 * @param callback the callback to run, may return {@literal null}
+	 * @param <T> the type of the result
+	 * @return a mono emitting the result of the callback or completing empty
+	 */
+	<T> Mono<T> execute(Function<Session, T> callback) {
+
+		return Mono.create(sink -> {
+			Disposable task = this.worker.schedule(() -> {
+				try {
+					sink.success(callback.apply(this.session));
+				} catch (Throwable e) {
+					sink.error(e);
+				}
+			});
+			sink.onCancel(task);
+		});
+	}
+
+	@Override
+	public void clear() {
+		super.clear();
+		this.boundSessionHolder.clear();
+	}
+
+	void dispose() {
+		this.worker.dispose();
+	}
+}
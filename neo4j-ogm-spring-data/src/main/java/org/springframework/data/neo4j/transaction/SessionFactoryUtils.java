@@ -15,8 +15,17 @@
  */
 package org.springframework.data.neo4j.transaction;
 
+import java.lang.ref.Reference;
+import java.lang.ref.ReferenceQueue;
+import java.lang.ref.WeakReference;
 import java.lang.reflect.Constructor;
 import java.lang.reflect.InvocationTargetException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Predicate;
+import java.util.function.Supplier;
 
 import org.neo4j.ogm.exception.ConnectionException;
 import org.neo4j.ogm.exception.CypherException;
@@ -32,6 +41,7 @@ import org.neo4j.ogm.session.Session;
 import org.neo4j.ogm.session.SessionFactory;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.ObjectProvider;
 import org.springframework.core.Ordered;
 import org.springframework.dao.DataAccessException;
 import org.springframework.dao.DataAccessResourceFailureException;
@@ -40,6 +50,7 @@ import org.springframework.dao.InvalidDataAccessApiUsageException;
 import org.springframework.dao.TypeMismatchDataAccessException;
 import org.springframework.data.neo4j.exception.Neo4jErrorStatusCodes;
 import org.springframework.data.neo4j.exception.UncategorizedNeo4jException;
+import org.springframework.lang.Nullable;
 import org.springframework.transaction.support.ResourceHolderSynchronization;
 import org.springframework.transaction.support.TransactionSynchronizationManager;
 import org.springframework.util.Assert;
@@ -57,6 +68,19 @@ public class SessionFactoryUtils {
 
 	private static final Logger logger = LoggerFactory.getLogger(SessionFactoryUtils.class);
 
+	/**
+	 * The registries reference session factories weakly. Listeners and interceptors reference their session factory, so
+	 * they are referenced weakly, too: the registries must not keep the session factory of a closed application context
+	 * alive.
+	 */
+	private static final Map<SessionFactoryKey, SessionLifecycleListeners> LIFECYCLE_LISTENERS =
+			new ConcurrentHashMap<>();
+
+	private static final Map<SessionFactoryKey, List<Reference<SessionOperationInterceptor>>> OPERATION_INTERCEPTORS =
+			new ConcurrentHashMap<>();
+
+	private static final ReferenceQueue<SessionFactory> COLLECTED_SESSION_FACTORIES = new ReferenceQueue<>();
+
 	/**
 	 * @deprecated since 5.2, this has been a Noop since 4.2 and has no meaning since then. It will be removed in the next major version.
 	 * @param session
@@ -84,6 +108,8 @@ public class SessionFactoryUtils {
 		}
 
 		Session session = sessionFactory.openSession();
+		getSessionLifecycleListener(sessionFactory).sessionOpened(session,
+				SessionLifecycleListener.Source.SYNCHRONIZATION);
 
 		logger.debug("Registering transaction synchronization for Neo4j Session");
 		// Use same Session for further Neo4j actions within the transaction.
@@ -98,6 +124,275 @@ public class SessionFactoryUtils {
 		return session;
 	}
 
+	/**
+	 * Runs the callback with a new session bound to the current thread, unless a session is already bound. The session
+	 * is unbound when the callback returns. Transactions started by the callback participate in the bound session. This
+	 * is intended for work that is handed over to other threads, which don't see the sessions bound to the thread that
+	 * handed over the work.
+	 *
+	 * @param sessionFactory the session factory to open the session from
+	 * @param callback the callback to run
+	 * @param <T> the type of the result
+	 * @return the result of the callback
+	 */
+	public static <T> T doInBoundSession(SessionFactory sessionFactory, Supplier<T> callback) {
+
+		Assert.notNull(sessionFactory, "No SessionFactory specified");
+
+		if (TransactionSynchronizationManager.hasResource(sessionFactory)) {
+			return callback.get();
+		}
+
+		SessionLifecycleListener lifecycleListener = getSessionLifecycleListener(sessionFactory);
+		Session session = sessionFactory.openSession();
+		lifecycleListener.sessionOpened(session, SessionLifecycleListener.Source.BOUND);
+		TransactionSynchronizationManager.bindResource(sessionFactory, new SessionHolder(session));
+		try {
+			return callback.get();
+		} finally {
+			TransactionSynchronizationManager.unbindResource(sessionFactory);
+			lifecycleListener.sessionClosed(session);
+		}
+	}
+
+	/**
+	 * Runs the callback with the given session bound to the current thread. The session is unbound when the callback
+	 * returns. This is intended for running code using a shared session on a session that is managed elsewhere, for
+	 * example by a {@link ReactiveNeo4jTransactionManager}.
+	 *
+	 * @param sessionFactory the session factory the session has been opened from
+	 * @param session the session to bind
+	 * @param callback the callback to run
+	 * @param <T> the type of the result
+	 * @return the result of the callback
+	 * @throws IllegalStateException if a session is already bound to the current thread
+	 */
+	public static <T> T doInBoundSession(SessionFactory sessionFactory, Session session, Supplier<T> callback) {
+
+		Assert.notNull(sessionFactory, "No SessionFactory specified");
+		Assert.notNull(session, "No Session specified");
+
+		return doInBoundSession(sessionFactory, new SessionHolder(session), callback);
+	}
+
+	/**
+	 * Runs the callback with the given session holder bound to the current thread, so that the labels written through
+	 * shared sessions are recorded in that holder.
+	 */
+	static <T> T doInBoundSession(SessionFactory sessionFactory, SessionHolder sessionHolder, Supplier<T> callback) {
+
+		TransactionSynchronizationManager.bindResource(sessionFactory, sessionHolder);
+		try {
+			return callback.get();
+		} finally {
+			TransactionSynchronizationManager.unbindResource(sessionFactory);
+		}
+	}
+
+	/**
+	 * Notifies the given listeners about the labels written by a transaction. Failing listeners are logged and don't
+	 * prevent the others from being notified.
+	 *
+	 * @param committedWritesListeners the listeners to notify, may be {@literal null}
+	 * @param writtenLabels the written labels, {@literal null} if nothing has been written
+	 * @param committed whether the transaction has been committed or rolled back
+	 */
+	static void notifyCommittedWritesListeners(
+			@Nullable ObjectProvider<CommittedWritesListener> committedWritesListeners,
+			@Nullable Predicate<String> writtenLabels, boolean committed) {
+
+		if (writtenLabels == null || committedWritesListeners == null) {
+			return;
+		}
+
+		committedWritesListeners.orderedStream().forEach(listener -> {
+			try {
+				if (committed) {
+					listener.afterCommit(writtenLabels);
+				} else {
+					listener.afterRollback(writtenLabels);
+				}
+			} catch (RuntimeException ex) {
+				logger.warn("CommittedWritesListener {} failed after {}", listener,
+						committed ? "commit" : "rollback", ex);
+			}
+		});
+	}
+
+	/**
+	 * Registers a listener notified about the sessions opened from the given session factory by the Spring integration
+	 * and about the transactions on them. The listener is referenced weakly, it is removed once it isn't referenced
+	 * anymore and must be unregistered explicitly before that.
+	 *
+	 * @param sessionFactory the session factory to listen to
+	 * @param listener the listener to register
+	 */
+	public static void registerSessionLifecycleListener(SessionFactory sessionFactory,
+			SessionLifecycleListener listener) {
+
+		Assert.notNull(sessionFactory, "No SessionFactory specified");
+		Assert.notNull(listener, "No SessionLifecycleListener specified");
+
+		removeCollectedSessionFactories();
+		SessionFactoryKey key = new SessionFactoryKey(sessionFactory, COLLECTED_SESSION_FACTORIES);
+		LIFECYCLE_LISTENERS.compute(key, (registeredKey, listeners) -> {
+			SessionLifecycleListeners result = listeners == null ? new SessionLifecycleListeners() : listeners;
+			result.add(listener);
+			return result;
+		});
+	}
+
+	/**
+	 * Removes a listener registered with {@link #registerSessionLifecycleListener(SessionFactory,
+	 * SessionLifecycleListener)}.
+	 *
+	 * @param sessionFactory the session factory the listener has been registered for
+	 * @param listener the listener to remove
+	 */
+	public static void unregisterSessionLifecycleListener(SessionFactory sessionFactory,
+			SessionLifecycleListener listener) {
+
+		LIFECYCLE_LISTENERS.computeIfPresent(new SessionFactoryKey(sessionFactory, null),
+				(key, listeners) -> listeners.remove(listener) ? null : listeners);
+	}
+
+	/**
+	 * Returns the listener to notify about sessions opened from the given session factory. Components opening sessions
+	 * must notify it about the sessions they open and stop holding.
+	 *
+	 * @param sessionFactory the session factory
+	 * @return the registered listeners, a listener doing nothing if there are none
+	 */
+	public static SessionLifecycleListener getSessionLifecycleListener(SessionFactory sessionFactory) {
+
+		SessionLifecycleListener listeners = LIFECYCLE_LISTENERS.get(new SessionFactoryKey(sessionFactory, null));
+		return listeners == null ? SessionLifecycleListeners.NONE : listeners;
+	}
+
+	/**
+	 * Registers an interceptor for the operations invoked on the shared sessions of the given session factory.
+	 * Interceptors registered first are invoked first. The interceptor is referenced weakly, it is removed once it
+	 * isn't referenced anymore and must be unregistered explicitly before that.
+	 *
+	 * @param sessionFactory the session factory whose shared sessions should be intercepted
+	 * @param interceptor the interceptor to register
+	 */
+	public static void registerSessionOperationInterceptor(SessionFactory sessionFactory,
+			SessionOperationInterceptor interceptor) {
+
+		Assert.notNull(sessionFactory, "No SessionFactory specified");
+		Assert.notNull(interceptor, "No SessionOperationInterceptor specified");
+
+		removeCollectedSessionFactories();
+		SessionFactoryKey key = new SessionFactoryKey(sessionFactory, COLLECTED_SESSION_FACTORIES);
+		OPERATION_INTERCEPTORS.compute(key, (registeredKey, interceptors) -> {
+			List<Reference<SessionOperationInterceptor>> result = withoutInterceptor(interceptors, null);
+			result.add(new WeakReference<>(interceptor));
+			return List.copyOf(result);
+		});
+	}
+
+	/**
+	 * Removes an interceptor registered with {@link #registerSessionOperationInterceptor(SessionFactory,
+	 * SessionOperationInterceptor)}.
+	 *
+	 * @param sessionFactory the session factory the interceptor has been registered for
+	 * @param interceptor the interceptor to remove
+	 */
+	public static void unregisterSessionOperationInterceptor(SessionFactory sessionFactory,
+			SessionOperationInterceptor interceptor) {
+
+		OPERATION_INTERCEPTORS.computeIfPresent(new SessionFactoryKey(sessionFactory, null), (key, interceptors) -> {
+			List<Reference<SessionOperationInterceptor>> result = withoutInterceptor(interceptors, interceptor);
+			return result.isEmpty() ? null : List.copyOf(result);
+		});
+	}
+
+	/**
+	 * @return a copy of the given interceptors without the given one and without interceptors not referenced anymore
+	 */
+	private static List<Reference<SessionOperationInterceptor>> withoutInterceptor(
+			@Nullable List<Reference<SessionOperationInterceptor>> interceptors,
+			@Nullable SessionOperationInterceptor interceptor) {
+
+		List<Reference<SessionOperationInterceptor>> result = new ArrayList<>();
+		if (interceptors != null) {
+			for (Reference<SessionOperationInterceptor> reference : interceptors) {
+				SessionOperationInterceptor registered = reference.get();
+				if (registered != null && !registered.equals(interceptor)) {
+					result.add(reference);
+				}
+			}
+		}
+		return result;
+	}
+
+	/**
+	 * Proceeds with an operation invoked on a shared session through the interceptors registered for the session
+	 * factory.
+	 */
+	static Object interceptSessionOperation(SessionFactory sessionFactory, String operation, Object[] arguments,
+			Supplier<Object> proceed) {
+
+		List<Reference<SessionOperationInterceptor>> interceptors = OPERATION_INTERCEPTORS
+				.get(new SessionFactoryKey(sessionFactory, null));
+		return interceptors == null ? proceed.get() : intercept(interceptors, 0, operation, arguments, proceed);
+	}
+
+	private static Object intercept(List<Reference<SessionOperationInterceptor>> interceptors, int index,
+			String operation, Object[] arguments, Supplier<Object> proceed) {
+
+		if (index >= interceptors.size()) {
+			return proceed.get();
+		}
+		SessionOperationInterceptor interceptor = interceptors.get(index).get();
+		if (interceptor == null) {
+			return intercept(interceptors, index + 1, operation, arguments, proceed);
+		}
+		return interceptor.intercept(operation, arguments,
+				() -> intercept(interceptors, index + 1, operation, arguments, proceed));
+	}
+
+	private static void removeCollectedSessionFactories() {
+
+		for (Reference<?> key; (key = COLLECTED_SESSION_FACTORIES.poll()) != null;) {
+			LIFECYCLE_LISTENERS.remove(key);
+			OPERATION_INTERCEPTORS.remove(key);
+		}
+	}
+
+	/**
+	 * References a session factory weakly and compares it by identity. Keys of collected session factories are only
+	 * equal to themselves.
+	 */
+	private static final class SessionFactoryKey extends WeakReference<SessionFactory> {
+
+		private final int hashCode;
+
+		SessionFactoryKey(SessionFactory sessionFactory, @Nullable ReferenceQueue<SessionFactory> queue) {
+			super(sessionFactory, queue);
+			this.hashCode = System.identityHashCode(sessionFactory);
+		}
+
+		@Override
+		public boolean equals(Object obj) {
+
+			if (this == obj) {
+				return true;
+			}
+			if (!(obj instanceof SessionFactoryKey other) || hashCode != other.hashCode) {
+				return false;
+			}
+			SessionFactory sessionFactory = get();
+			return sessionFactory != null && sessionFactory == other.get();
+		}
+
+		@Override
+		public int hashCode() {
+			return hashCode;
+		}
+	}
+
 	/**
 	 * Convert the given runtime exception to an appropriate exception from the {@code org.springframework.dao} hierarchy.
 	 * Return null if no translation is appropriate: any other exception may have resulted from user code, and should not
@@ -194,5 +489,10 @@ public class SessionFactoryUtils {
 			// return !resourceHolder.getSession().isClosed();
 			return false;
 		}
+
+		@Override
+		protected void releaseResource(SessionHolder resourceHolder, SessionFactory resourceKey) {
+			getSessionLifecycleListener(resourceKey).sessionClosed(resourceHolder.getSession());
+		}
 	}
 }
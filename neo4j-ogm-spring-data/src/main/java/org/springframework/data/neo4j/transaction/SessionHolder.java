@@ -15,7 +15,13 @@
  */
 package org.springframework.data.neo4j.transaction;
 
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.Set;
+import java.util.function.Predicate;
+
 import org.neo4j.ogm.session.Session;
+import org.springframework.lang.Nullable;
 import org.springframework.transaction.support.ResourceHolderSupport;
 import org.springframework.util.Assert;
 
@@ -35,6 +41,10 @@ public class SessionHolder extends ResourceHolderSupport {
 
 	private boolean transactionActive;
 
+	private final Set<String> writtenLabels = new HashSet<>();
+
+	private boolean unknownLabelsWritten;
+
 	public SessionHolder(Session session) {
 		Assert.notNull(session, "Session must not be null");
 		this.session = session;
@@ -52,9 +62,40 @@ public class SessionHolder extends ResourceHolderSupport {
 		return this.transactionActive;
 	}
 
+	void registerWrittenLabels(Collection<String> labels) {
+		this.writtenLabels.addAll(labels);
+	}
+
+	void registerUnknownLabelsWritten() {
+		this.unknownLabelsWritten = true;
+	}
+
+	/**
+	 * Returns the labels written since the last call and resets them.
+	 *
+	 * @return a predicate matching the written labels or {@literal null} if nothing has been written
+	 */
+	@Nullable
+	Predicate<String> consumeWrittenLabels() {
+
+		Predicate<String> result;
+		if (this.unknownLabelsWritten) {
+			result = label -> true;
+		} else if (!this.writtenLabels.isEmpty()) {
+			result = Set.copyOf(this.writtenLabels)::contains;
+		} else {
+			result = null;
+		}
+		this.writtenLabels.clear();
+		this.unknownLabelsWritten = false;
+		return result;
+	}
+
 	@Override
 	public void clear() {
 		super.clear();
 		this.transactionActive = false;
+		this.writtenLabels.clear();
+		this.unknownLabelsWritten = false;
 	}
 }
@@ -0,0 +1,102 @@
+/*
+ * Copyright 2011-2023 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.neo4j.transaction;
+
+import java.time.Duration;
+
+import org.neo4j.ogm.session.Session;
+
+/**
+ * Callback notified about the sessions the Spring integration opens and holds and about the transactions of the
+ * {@link Neo4jTransactionManager}. Listeners are registered for a {@link org.neo4j.ogm.session.SessionFactory} with
+ * {@link SessionFactoryUtils#registerSessionLifecycleListener}. Neo4j-OGM sessions don't need to be closed, a session
+ * is considered closed when the component that opened it stops holding it.
+ * <p>
+ * Listeners are called on the thread that opens or closes a session, implementations must be thread-safe and should
+ * return quickly.
+ */
+public interface SessionLifecycleListener {
+
+	/**
+	 * The components opening sessions.
+	 */
+	enum Source {
+
+		/**
+		 * A session opened by the {@link Neo4jTransactionManager} for a new transaction.
+		 */
+		TRANSACTION,
+
+		/**
+		 * A session opened by {@link SessionFactoryUtils#getSession} for an active transaction synchronization.
+		 */
+		SYNCHRONIZATION,
+
+		/**
+		 * A session opened by a shared session for a single call outside a transaction.
+		 */
+		SHARED,
+
+		/**
+		 * A session bound to a thread for work handed over to other threads, for example by asynchronous repository
+		 * methods.
+		 */
+		BOUND,
+
+		/**
+		 * A session opened for a web request by the open session in view filter or interceptor.
+		 */
+		OPEN_SESSION_IN_VIEW
+	}
+
+	/**
+	 * Called after a session has been opened.
+	 *
+	 * @param session the opened session
+	 * @param source the component that opened the session
+	 */
+	default void sessionOpened(Session session, Source source) {}
+
+	/**
+	 * Called after the component that opened a session stopped holding it.
+	 *
+	 * @param session the session
+	 */
+	default void sessionClosed(Session session) {}
+
+	/**
+	 * Called after a transaction has been begun.
+	 *
+	 * @param session the session the transaction has been begun on
+	 */
+	default void transactionBegun(Session session) {}
+
+	/**
+	 * Called after a transaction has been completed.
+	 *
+	 * @param session the session of the transaction
+	 * @param committed whether the transaction has been committed, {@literal false} if it has been rolled back
+	 */
+	default void transactionCompleted(Session session, boolean committed) {}
+
+	/**
+	 * Called after a transaction using bookmarks has been begun, which waits for the database to catch up with the
+	 * bookmarks.
+	 *
+	 * @param duration the time spent beginning the transaction
+	 */
+	default void bookmarksAwaited(Duration duration) {}
+}
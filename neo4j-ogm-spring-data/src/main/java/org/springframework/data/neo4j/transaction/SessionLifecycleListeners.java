@@ -0,0 +1,104 @@
+/*
+ * Copyright 2011-2023 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.neo4j.transaction;
+
+import java.lang.ref.WeakReference;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.Consumer;
+
+import org.neo4j.ogm.session.Session;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * The {@link SessionLifecycleListener listeners} registered for a session factory. Failing listeners are logged and
+ * don't affect the other listeners or the session handling. Listeners are referenced weakly and dropped once they
+ * aren't referenced anymore.
+ */
+final class SessionLifecycleListeners implements SessionLifecycleListener {
+
+	private static final Logger logger = LoggerFactory.getLogger(SessionLifecycleListeners.class);
+
+	/**
+	 * Used for session factories without listeners.
+	 */
+	static final SessionLifecycleListener NONE = new SessionLifecycleListener() {};
+
+	private final List<WeakReference<SessionLifecycleListener>> listeners = new CopyOnWriteArrayList<>();
+
+	void add(SessionLifecycleListener listener) {
+		listeners.add(new WeakReference<>(listener));
+	}
+
+	/**
+	 * @return whether no listeners are left
+	 */
+	boolean remove(SessionLifecycleListener listener) {
+
+		listeners.removeIf(reference -> {
+			SessionLifecycleListener registered = reference.get();
+			return registered == null || registered.equals(listener);
+		});
+		return listeners.isEmpty();
+	}
+
+	@Override
+	public void sessionOpened(Session session, Source source) {
+		notifyListeners(listener -> listener.sessionOpened(session, source));
+	}
+
+	@Override
+	public void sessionClosed(Session session) {
+		notifyListeners(listener -> listener.sessionClosed(session));
+	}
+
+	@Override
+	public void transactionBegun(Session session) {
+		notifyListeners(listener -> listener.transactionBegun(session));
+	}
+
+	@Override
+	public void transactionCompleted(Session session, boolean committed) {
+		notifyListeners(listener -> listener.transactionCompleted(session, committed));
+	}
+
+	@Override
+	public void bookmarksAwaited(Duration duration) {
+		notifyListeners(listener -> listener.bookmarksAwaited(duration));
+	}
+
+	private void notifyListeners(Consumer<SessionLifecycleListener> notification) {
+
+		boolean dropped = false;
+		for (WeakReference<SessionLifecycleListener> reference : listeners) {
+			SessionLifecycleListener listener = reference.get();
+			if (listener == null) {
+				dropped = true;
+				continue;
+			}
+			try {
+				notification.accept(listener);
+			} catch (RuntimeException ex) {
+				logger.warn("SessionLifecycleListener {} failed", listener, ex);
+			}
+		}
+		if (dropped) {
+			listeners.removeIf(reference -> reference.get() == null);
+		}
+	}
+}
@@ -0,0 +1,39 @@
+/*
+ * Copyright 2011-2023 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.neo4j.transaction;
+
+import java.util.function.Supplier;
+
+/**
+ * Intercepts the operations invoked on shared sessions, for example to observe the statements they execute.
+ * Interceptors are registered for a {@link org.neo4j.ogm.session.SessionFactory} with
+ * {@link SessionFactoryUtils#registerSessionOperationInterceptor} and apply to all shared sessions created by
+ * {@link SharedSessionCreator} for it, which includes the sessions of all repositories. Interceptors are called on the
+ * invoking thread, inside the current transaction, if any.
+ */
+@FunctionalInterface
+public interface SessionOperationInterceptor {
+
+	/**
+	 * Intercepts an operation. Implementations must proceed with the operation exactly once and return its result.
+	 *
+	 * @param operation the name of the invoked {@link org.neo4j.ogm.session.Session} method
+	 * @param arguments the arguments of the invocation, empty if there are none
+	 * @param proceed proceeds with the operation on the target session
+	 * @return the result of the operation
+	 */
+	Object intercept(String operation, Object[] arguments, Supplier<Object> proceed);
+}
@@ -0,0 +1,51 @@
+/*
+ * Copyright 2011-2023 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.neo4j.transaction;
+
+import java.util.function.Function;
+
+import org.neo4j.ogm.session.Session;
+
+/**
+ * Subinterface of {@link Session} to be implemented by proxies created through {@link SharedSessionCreator}. Allows
+ * access to the underlying target Session for operations that must not be routed through the proxy one call at a time,
+ * for example when a result is consumed lazily.
+ */
+public interface SessionProxy extends Session {
+
+	/**
+	 * Return the underlying Session that this proxy will delegate to: Either the Session bound to the current
+	 * transaction or a newly opened Session in case no transaction is active.
+	 *
+	 * @return the underlying raw Session, never {@literal null}
+	 */
+	Session getTargetSession();
+
+	/**
+	 * Apply the given callback to the underlying Session as if the named {@link Session} operation had been invoked on
+	 * this proxy: The call is intercepted like any other operation and writes are recorded on the current transaction.
+	 * Without a transaction, the callback runs against a newly opened Session.
+	 *
+	 * @param operation the name of the {@link Session} operation the callback stands for, for example {@code query}
+	 * @param arguments the arguments of that operation
+	 * @param callback the callback to apply to the underlying Session
+	 * @param <T> the type of the result
+	 * @return the result of the callback
+	 */
+	default <T> T doInTargetSession(String operation, Object[] arguments, Function<Session, T> callback) {
+		return callback.apply(getTargetSession());
+	}
+}
@@ -21,18 +21,30 @@ import java.lang.reflect.InvocationHandler;
 import java.lang.reflect.Method;
 import java.lang.reflect.Parameter;
 import java.lang.reflect.Proxy;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collections;
+import java.util.Deque;
 import java.util.EnumSet;
 import java.util.HashSet;
+import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.function.Function;
+import java.util.regex.Pattern;
 
+import org.neo4j.ogm.metadata.ClassInfo;
+import org.neo4j.ogm.metadata.FieldInfo;
+import org.neo4j.ogm.metadata.MetaData;
+import org.neo4j.ogm.model.Result;
 import org.neo4j.ogm.session.Session;
 import org.neo4j.ogm.session.SessionFactory;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.data.neo4j.mapping.MetaDataProvider;
+import org.springframework.lang.Nullable;
 import org.springframework.transaction.support.TransactionSynchronizationManager;
 import org.springframework.util.ReflectionUtils;
 
@@ -51,6 +63,11 @@ public class SharedSessionCreator {
 
 	private static final Set<String> TRANSACTION_REQUIRING_METHODS;
 
+	private static final Pattern QUOTED = Pattern.compile("'(?:\\\\.|[^'\\\\])*'|\"(?:\\\\.|[^\"\\\\])*\"|`[^`]*`");
+
+	private static final Pattern UPDATING_CLAUSE = Pattern
+			.compile("(?i)(?<![\\w.$])(CREATE|MERGE|SET|DELETE|REMOVE|FOREACH)(?![\\w$])");
+
 	static {
 		Set<String> tmp = new HashSet<>();
 		tmp.add("deleteAll");
@@ -70,7 +87,7 @@ public class SharedSessionCreator {
 	 */
 	public static Session createSharedSession(SessionFactory sessionFactory) {
 		return (Session) Proxy.newProxyInstance(SharedSessionCreator.class.getClassLoader(),
-				new Class<?>[] { Session.class, MetaDataProvider.class }, new SharedSessionInvocationHandler(sessionFactory));
+				new Class<?>[] { SessionProxy.class, MetaDataProvider.class }, new SharedSessionInvocationHandler(sessionFactory));
 	}
 
 	/**
@@ -85,6 +102,8 @@ public class SharedSessionCreator {
 
 		private final Method queryMethod;
 
+		private final Map<Class<?>, Set<String>> reachableLabels = new ConcurrentHashMap<>();
+
 		public SharedSessionInvocationHandler(SessionFactory sessionFactory) {
 			this.sessionFactory = sessionFactory;
 			this.queryMethod = ReflectionUtils
@@ -106,6 +125,17 @@ public class SharedSessionCreator {
 					return "Shared Session proxy for target factory [" + sessionFactory + "]";
 				case "getMetaData":
 					return this.sessionFactory.metaData();
+				case "getTargetSession":
+					return getTargetSession();
+				case "doInTargetSession":
+					String operation = (String) args[0];
+					Object[] arguments = (Object[]) args[1];
+					@SuppressWarnings("unchecked")
+					Function<Session, Object> callback = (Function<Session, Object>) args[2];
+					Object callbackResult = SessionFactoryUtils.interceptSessionOperation(sessionFactory, operation,
+							arguments, () -> invokeInTransaction(operation, callback));
+					registerWrites(operation, arguments, callbackResult);
+					return callbackResult;
 				case "beginTransaction":
 					throw new IllegalStateException(
 							"Not allowed to create transaction on shared Session - "
@@ -120,8 +150,132 @@ public class SharedSessionCreator {
 					} else {
 						methodCall = targetSession -> ReflectionUtils.invokeMethod(method, targetSession, args);
 					}
-					return invokeInTransaction(methodName, methodCall);
+					Object result = SessionFactoryUtils.interceptSessionOperation(sessionFactory, methodName,
+							args == null ? new Object[0] : args, () -> invokeInTransaction(methodName, methodCall));
+					registerWrites(methodName, args, result);
+					return result;
+			}
+		}
+
+		/**
+		 * Records the labels written by the given call on the Session bound to the current transaction, so that
+		 * {@link CommittedWritesListener committed writes listeners} can be notified after commit.
+		 */
+		private void registerWrites(String methodName, Object[] args, Object result) {
+
+			if (!(TransactionSynchronizationManager.getResource(sessionFactory) instanceof SessionHolder sessionHolder)) {
+				return;
+			}
+
+			switch (methodName) {
+				case "save":
+					// Related entities are saved as well, unless the depth is zero
+					boolean cascades = args.length < 2 || !Integer.valueOf(0).equals(args[1]);
+					registerWrittenLabels(sessionHolder, args[0], cascades);
+					break;
+				case "delete":
+				case "deleteAll":
+					registerWrittenLabels(sessionHolder, args[0], false);
+					break;
+				case "purgeDatabase":
+					sessionHolder.registerUnknownLabelsWritten();
+					break;
+				case "query":
+				case "queryForObject":
+				case "queryDto":
+					if (result instanceof Result queryResult) {
+						if (queryResult.queryStatistics() != null && queryResult.queryStatistics().containsUpdates()) {
+							sessionHolder.registerUnknownLabelsWritten();
+						}
+					} else if (mayWrite(args)) {
+						// Mapped results don't carry statistics, so the statement itself has to be looked at
+						sessionHolder.registerUnknownLabelsWritten();
+					}
+					break;
+				default:
+					break;
+			}
+		}
+
+		private void registerWrittenLabels(SessionHolder sessionHolder, Object target, boolean cascades) {
+
+			if (target instanceof Iterable<?> iterable) {
+				iterable.forEach(element -> registerWrittenLabels(sessionHolder, element, cascades));
+			} else if (target instanceof Object[] array) {
+				Arrays.stream(array).forEach(element -> registerWrittenLabels(sessionHolder, element, cascades));
+			} else if (target != null) {
+				Class<?> type = target instanceof Class<?> ? (Class<?>) target : target.getClass();
+				Set<String> labels = cascades
+						? reachableLabels.computeIfAbsent(type, this::computeReachableLabels)
+						: staticLabels(type);
+				if (labels == null) {
+					sessionHolder.registerUnknownLabelsWritten();
+				} else {
+					sessionHolder.registerWrittenLabels(labels);
+				}
+			}
+		}
+
+		@Nullable
+		private Set<String> staticLabels(Class<?> type) {
+
+			ClassInfo classInfo = sessionFactory.metaData().classInfo(type.getName());
+			return classInfo == null ? null : Set.copyOf(classInfo.staticLabels());
+		}
+
+		/**
+		 * Collects the labels of the given type and of all types reachable through its relationships, including their
+		 * subclasses, as those might be saved along with an instance of the given type.
+		 *
+		 * @return the labels or {@literal null} if the type is not mapped
+		 */
+		@Nullable
+		private Set<String> computeReachableLabels(Class<?> type) {
+
+			MetaData metaData = sessionFactory.metaData();
+			ClassInfo root = metaData.classInfo(type.getName());
+			if (root == null) {
+				return null;
+			}
+
+			Set<String> labels = new HashSet<>();
+			Set<ClassInfo> visited = new HashSet<>();
+			Deque<ClassInfo> pending = new ArrayDeque<>();
+			pending.add(root);
+			while (!pending.isEmpty()) {
+				ClassInfo classInfo = pending.poll();
+				if (!visited.add(classInfo)) {
+					continue;
+				}
+				labels.addAll(classInfo.staticLabels());
+				pending.addAll(classInfo.allSubclasses());
+
+				List<FieldInfo> relatedFields = new ArrayList<>(classInfo.relationshipFields());
+				if (classInfo.isRelationshipEntity()) {
+					relatedFields.add(classInfo.getStartNodeReader());
+					relatedFields.add(classInfo.getEndNodeReader());
+				}
+				for (FieldInfo fieldInfo : relatedFields) {
+					ClassInfo related = fieldInfo == null ? null : metaData.classInfo(fieldInfo.getTypeDescriptor());
+					if (related != null) {
+						pending.add(related);
+					}
+				}
 			}
+			return Set.copyOf(labels);
+		}
+
+		/**
+		 * @return {@literal true} unless the Cypher statement passed to a query method contains no updating clause
+		 */
+		private static boolean mayWrite(Object[] args) {
+
+			for (Object arg : args) {
+				if (arg instanceof String cypher) {
+					return UPDATING_CLAUSE.matcher(QUOTED.matcher(cypher).replaceAll("")).find();
+				}
+			}
+			return false;
 		}
 
 		private static boolean isGenericQueryMethod(Method method) {
@@ -131,6 +285,16 @@ public class SharedSessionCreator {
 					parameters[0].getType() == String.class && parameters[1].getType() == Map.class;
 		}
 
+		private Session getTargetSession() {
+
+			Session targetSession = SessionFactoryUtils.getSession(this.sessionFactory);
+			if (targetSession == null) {
+				logger.debug("Creating new Session for shared Session target access");
+				targetSession = this.sessionFactory.openSession();
+			}
+			return targetSession;
+		}
+
 		private Object invokeInTransaction(String methodName, Function<Session, Object> methodCall) {
 
 			// Determine current Session: either the transactional one
@@ -151,14 +315,19 @@ public class SharedSessionCreator {
 			// Regular Session operations.
 			if (targetSession == null) {
 				logger.debug("Creating new Session for shared Session invocation");
-				targetSession = this.sessionFactory.openSession();
+				SessionLifecycleListener lifecycleListener = SessionFactoryUtils
+						.getSessionLifecycleListener(this.sessionFactory);
+				Session session = this.sessionFactory.openSession();
+				lifecycleListener.sessionOpened(session, SessionLifecycleListener.Source.SHARED);
+				try {
+					return methodCall.apply(session);
+				} finally {
+					lifecycleListener.sessionClosed(session);
+				}
 			}
 
 			// Invoke method on current Session.
-			try {
-				return methodCall.apply(targetSession);
-			} finally {
-			}
+			return methodCall.apply(targetSession);
 		}
 	}
 }
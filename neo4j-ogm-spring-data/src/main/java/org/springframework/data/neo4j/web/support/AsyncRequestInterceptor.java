@@ -16,6 +16,7 @@
 package org.springframework.data.neo4j.web.support;
 
 import java.util.concurrent.Callable;
+import java.util.function.Supplier;
 
 import org.neo4j.ogm.session.SessionFactory;
 import org.slf4j.Logger;
@@ -30,7 +31,8 @@ import org.springframework.web.context.request.async.DeferredResultProcessingInt
 /**
  * An interceptor with asynchronous web requests used in OpenSessionInViewFilter and OpenSessionInViewInterceptor.
  * Ensures the following: 1) The session is bound/unbound when "callable processing" is started 2) The session is closed
- * if an async request times out
+ * if an async request times out 3) The observation of the request is the current observation while "callable
+ * processing" runs
  *
  * @author Mark Angrish
  * @author Michael J. Simons
@@ -43,16 +45,31 @@ class AsyncRequestInterceptor implements CallableProcessingInterceptor, Deferred
 
 	private final SessionHolder sessionHolder;
 
+	private final Supplier<Runnable> observationScope;
+
 	private volatile boolean timeoutInProgress;
 
+	private volatile Runnable closeObservationScope = () -> {};
+
 	public AsyncRequestInterceptor(SessionFactory sessionFactory, SessionHolder sessionHolder) {
+		this(sessionFactory, sessionHolder, () -> () -> {});
+	}
+
+	/**
+	 * @param observationScope opens the scope of the observation of the request on the thread calling it, as captured
+	 *          by {@link org.springframework.data.neo4j.observation.Neo4jObservations#captureCurrentObservation()}
+	 */
+	AsyncRequestInterceptor(SessionFactory sessionFactory, SessionHolder sessionHolder,
+			Supplier<Runnable> observationScope) {
 		this.sessionFactory = sessionFactory;
 		this.sessionHolder = sessionHolder;
+		this.observationScope = observationScope;
 	}
 
 	@Override
 	public <T> void preProcess(NativeWebRequest request, Callable<T> task) {
 		bindSession();
+		this.closeObservationScope = this.observationScope.get();
 	}
 
 	public void bindSession() {
@@ -62,6 +79,7 @@ class AsyncRequestInterceptor implements CallableProcessingInterceptor, Deferred
 
 	@Override
 	public <T> void postProcess(NativeWebRequest request, Callable<T> task, Object concurrentResult) {
+		this.closeObservationScope.run();
 		TransactionSynchronizationManager.unbindResource(this.sessionFactory);
 	}
 
@@ -24,8 +24,12 @@ import jakarta.servlet.http.HttpServletResponse;
 
 import org.neo4j.ogm.session.Session;
 import org.neo4j.ogm.session.SessionFactory;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.data.neo4j.observation.Neo4jObservations;
 import org.springframework.data.neo4j.transaction.Neo4jTransactionManager;
+import org.springframework.data.neo4j.transaction.SessionFactoryUtils;
 import org.springframework.data.neo4j.transaction.SessionHolder;
+import org.springframework.data.neo4j.transaction.SessionLifecycleListener;
 import org.springframework.transaction.support.TransactionSynchronizationManager;
 import org.springframework.util.StringUtils;
 import org.springframework.web.context.WebApplicationContext;
@@ -66,6 +70,8 @@ public class OpenSessionInViewFilter extends OncePerRequestFilter {
 
 	private volatile SessionFactory sessionFactory;
 
+	private volatile ObjectProvider<Neo4jObservations> observations;
+
 	/**
 	 * Set the bean name of the SessionFactory to fetch from Spring's root application context.
 	 * <p>
@@ -119,10 +125,14 @@ public class OpenSessionInViewFilter extends OncePerRequestFilter {
 			if (isFirstRequest || !applySessionBindingInterceptor(asyncManager, key)) {
 				logger.debug("Opening Neo4j OGM Session in OpenSessionInViewFilter");
 				Session session = createSession(sessionFactory);
+				SessionFactoryUtils.getSessionLifecycleListener(sessionFactory).sessionOpened(session,
+						SessionLifecycleListener.Source.OPEN_SESSION_IN_VIEW);
 				SessionHolder sessionHolder = new SessionHolder(session);
 				TransactionSynchronizationManager.bindResource(sessionFactory, sessionHolder);
 
-				AsyncRequestInterceptor interceptor = new AsyncRequestInterceptor(sessionFactory, sessionHolder);
+				Neo4jObservations currentObservations = lookupObservations();
+				AsyncRequestInterceptor interceptor = new AsyncRequestInterceptor(sessionFactory, sessionHolder,
+						currentObservations == null ? () -> () -> {} : currentObservations.captureCurrentObservation());
 				asyncManager.registerCallableInterceptor(key, interceptor);
 				asyncManager.registerDeferredResultInterceptor(key, interceptor);
 			}
@@ -132,8 +142,11 @@ public class OpenSessionInViewFilter extends OncePerRequestFilter {
 			filterChain.doFilter(request, response);
 		} finally {
 			if (!participate) {
-				TransactionSynchronizationManager.unbindResource(sessionFactory);
+				SessionHolder sessionHolder = (SessionHolder) TransactionSynchronizationManager
+						.unbindResource(sessionFactory);
 				if (!isAsyncStarted(request)) {
+					SessionFactoryUtils.getSessionLifecycleListener(sessionFactory)
+							.sessionClosed(sessionHolder.getSession());
 					logger.debug("Closed Neo4J OGM Session in OpenSessionInViewFilter");
 				}
 			}
@@ -177,6 +190,19 @@ public class OpenSessionInViewFilter extends OncePerRequestFilter {
 		}
 	}
 
+	/**
+	 * Look up the observations whose current observation is carried over to asynchronously processed requests, if any.
+	 *
+	 * @return the observations, {@literal null} if there are none
+	 */
+	private Neo4jObservations lookupObservations() {
+		if (this.observations == null) {
+			WebApplicationContext wac = WebApplicationContextUtils.getRequiredWebApplicationContext(getServletContext());
+			this.observations = wac.getBeanProvider(Neo4jObservations.class);
+		}
+		return this.observations.getIfAvailable();
+	}
+
 	/**
 	 * Create a Neo4j OGM Session to be bound to a request.
 	 * <p>
@@ -23,8 +23,11 @@ import org.springframework.beans.BeansException;
 import org.springframework.beans.factory.BeanFactory;
 import org.springframework.beans.factory.BeanFactoryAware;
 import org.springframework.dao.DataAccessException;
+import org.springframework.data.neo4j.observation.Neo4jObservations;
 import org.springframework.data.neo4j.transaction.Neo4jTransactionManager;
+import org.springframework.data.neo4j.transaction.SessionFactoryUtils;
 import org.springframework.data.neo4j.transaction.SessionHolder;
+import org.springframework.data.neo4j.transaction.SessionLifecycleListener;
 import org.springframework.transaction.support.TransactionSynchronizationManager;
 import org.springframework.ui.ModelMap;
 import org.springframework.web.context.request.AsyncWebRequestInterceptor;
@@ -68,6 +71,8 @@ public class OpenSessionInViewInterceptor implements BeanFactoryAware, AsyncWebR
 
 	private SessionFactory sessionFactory;
 
+	private Neo4jObservations observations;
+
 	/**
 	 * Set the Neo4j OGM SessionFactory that should be used to create Sessions.
 	 *
@@ -85,13 +90,23 @@ public class OpenSessionInViewInterceptor implements BeanFactoryAware, AsyncWebR
 	}
 
 	/**
-	 * Retrieves the default SessionFactory bean.
+	 * Set the observations whose current observation is carried over to asynchronously processed requests.
+	 */
+	public void setObservations(Neo4jObservations observations) {
+		this.observations = observations;
+	}
+
+	/**
+	 * Retrieves the default SessionFactory bean and the observations, if any.
 	 */
 	@Override
 	public void setBeanFactory(BeanFactory beanFactory) throws BeansException {
 		if (getSessionFactory() == null) {
 			setSessionFactory(beanFactory.getBean(SessionFactory.class));
 		}
+		if (this.observations == null) {
+			setObservations(beanFactory.getBeanProvider(Neo4jObservations.class).getIfAvailable());
+		}
 	}
 
 	@Override
@@ -113,10 +128,13 @@ public class OpenSessionInViewInterceptor implements BeanFactoryAware, AsyncWebR
 		} else {
 			logger.debug("Opening Neo4j OGM Session in OpenSessionInViewInterceptor");
 			Session session = sessionFactory.openSession();
+			SessionFactoryUtils.getSessionLifecycleListener(getSessionFactory()).sessionOpened(session,
+					SessionLifecycleListener.Source.OPEN_SESSION_IN_VIEW);
 			SessionHolder sessionHolder = new SessionHolder(session);
 			TransactionSynchronizationManager.bindResource(getSessionFactory(), sessionHolder);
 
-			AsyncRequestInterceptor interceptor = new AsyncRequestInterceptor(getSessionFactory(), sessionHolder);
+			AsyncRequestInterceptor interceptor = new AsyncRequestInterceptor(getSessionFactory(), sessionHolder,
+					observations == null ? () -> () -> {} : observations.captureCurrentObservation());
 			asyncManager.registerCallableInterceptor(participateAttributeName, interceptor);
 			asyncManager.registerDeferredResultInterceptor(participateAttributeName, interceptor);
 		}
@@ -128,7 +146,10 @@ public class OpenSessionInViewInterceptor implements BeanFactoryAware, AsyncWebR
 	@Override
 	public void afterCompletion(WebRequest request, Exception ex) throws DataAccessException {
 		if (!decrementParticipateCount(request)) {
-			TransactionSynchronizationManager.unbindResource(getSessionFactory());
+			SessionHolder sessionHolder = (SessionHolder) TransactionSynchronizationManager
+					.unbindResource(getSessionFactory());
+			SessionFactoryUtils.getSessionLifecycleListener(getSessionFactory())
+					.sessionClosed(sessionHolder.getSession());
 			logger.debug("Closed Neo4j OGM Session in OpenSessionInViewInterceptor");
 		}
 	}
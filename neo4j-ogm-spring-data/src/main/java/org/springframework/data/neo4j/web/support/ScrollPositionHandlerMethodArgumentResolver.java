@@ -0,0 +1,72 @@
+/*
+ * Copyright 2011-2023 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.neo4j.web.support;
+
+import org.springframework.core.MethodParameter;
+import org.springframework.data.domain.ScrollPosition;
+import org.springframework.http.HttpStatus;
+import org.springframework.util.Assert;
+import org.springframework.util.StringUtils;
+import org.springframework.web.bind.support.WebDataBinderFactory;
+import org.springframework.web.context.request.NativeWebRequest;
+import org.springframework.web.method.support.HandlerMethodArgumentResolver;
+import org.springframework.web.method.support.ModelAndViewContainer;
+import org.springframework.web.server.ResponseStatusException;
+
+/**
+ * Resolves {@link ScrollPosition} arguments of handler methods from a request parameter containing a token created with
+ * {@link ScrollPositionTokens#encode(ScrollPosition)}. Requests without that parameter start at the initial keyset
+ * position, malformed tokens are rejected with {@code 400 Bad Request}.
+ */
+public class ScrollPositionHandlerMethodArgumentResolver implements HandlerMethodArgumentResolver {
+
+	/**
+	 * Name of the request parameter used when nothing else is configured.
+	 */
+	public static final String DEFAULT_PARAMETER_NAME = "position";
+
+	private String parameterName = DEFAULT_PARAMETER_NAME;
+
+	/**
+	 * Configures the name of the request parameter holding the token.
+	 *
+	 * @param parameterName must not be empty
+	 */
+	public void setParameterName(String parameterName) {
+		Assert.hasText(parameterName, "Parameter name must not be empty.");
+		this.parameterName = parameterName;
+	}
+
+	@Override
+	public boolean supportsParameter(MethodParameter parameter) {
+		return ScrollPosition.class.equals(parameter.getParameterType());
+	}
+
+	@Override
+	public ScrollPosition resolveArgument(MethodParameter parameter, ModelAndViewContainer mavContainer,
+			NativeWebRequest webRequest, WebDataBinderFactory binderFactory) {
+
+		String token = webRequest.getParameter(parameterName);
+		if (!StringUtils.hasText(token)) {
+			return ScrollPosition.keyset();
+		}
+		try {
+			return ScrollPositionTokens.decode(token);
+		} catch (IllegalArgumentException e) {
+			throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "Invalid scroll position", e);
+		}
+	}
+}
@@ -0,0 +1,168 @@
+/*
+ * Copyright 2011-2023 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.neo4j.web.support;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.ZonedDateTime;
+import java.util.Base64;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import org.springframework.data.domain.KeysetScrollPosition;
+import org.springframework.data.domain.OffsetScrollPosition;
+import org.springframework.data.domain.ScrollPosition;
+
+/**
+ * Encodes {@link ScrollPosition scroll positions} into opaque, URL-safe tokens and back, so that they can be handed out
+ * to clients of a web API. Only a fixed set of value types is supported for keysets. Tokens are decoded without Java
+ * deserialization, so that a client cannot make the application instantiate arbitrary classes.
+ */
+public final class ScrollPositionTokens {
+
+	private static final byte OFFSET = 'O';
+	private static final byte KEYSET = 'K';
+
+	private static final byte NULL = 0;
+	private static final byte STRING = 1;
+	private static final byte LONG = 2;
+	private static final byte DOUBLE = 3;
+	private static final byte BOOLEAN = 4;
+	private static final byte LOCAL_DATE = 5;
+	private static final byte LOCAL_DATE_TIME = 6;
+	private static final byte ZONED_DATE_TIME = 7;
+	private static final byte INSTANT = 8;
+
+	/**
+	 * @param scrollPosition the position to encode
+	 * @return an URL-safe token representing the position
+	 * @throws IllegalArgumentException if the position contains keys of an unsupported type
+	 */
+	public static String encode(ScrollPosition scrollPosition) {
+
+		ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+		try (DataOutputStream out = new DataOutputStream(bytes)) {
+			if (scrollPosition instanceof OffsetScrollPosition offsetScrollPosition) {
+				out.writeByte(OFFSET);
+				out.writeLong(offsetScrollPosition.isInitial() ? -1 : offsetScrollPosition.getOffset());
+			} else if (scrollPosition instanceof KeysetScrollPosition keysetScrollPosition) {
+				out.writeByte(KEYSET);
+				out.writeBoolean(keysetScrollPosition.scrollsBackward());
+				Map<String, Object> keys = keysetScrollPosition.getKeys();
+				out.writeInt(keys.size());
+				for (Map.Entry<String, Object> entry : keys.entrySet()) {
+					out.writeUTF(entry.getKey());
+					writeValue(out, entry.getKey(), entry.getValue());
+				}
+			} else {
+				throw new IllegalArgumentException("Unsupported scroll position " + scrollPosition);
+			}
+		} catch (IOException e) {
+			throw new UncheckedIOException(e);
+		}
+		return Base64.getUrlEncoder().withoutPadding().encodeToString(bytes.toByteArray());
+	}
+
+	/**
+	 * @param token a token created by {@link #encode(ScrollPosition)}
+	 * @return the decoded position
+	 * @throws IllegalArgumentException if the token is malformed
+	 */
+	public static ScrollPosition decode(String token) {
+
+		try (DataInputStream in = new DataInputStream(new ByteArrayInputStream(Base64.getUrlDecoder().decode(token)))) {
+			byte type = in.readByte();
+			ScrollPosition result;
+			if (type == OFFSET) {
+				long offset = in.readLong();
+				result = offset < 0 ? ScrollPosition.offset() : ScrollPosition.offset(offset);
+			} else if (type == KEYSET) {
+				boolean backward = in.readBoolean();
+				int size = in.readInt();
+				if (size < 0) {
+					throw new IllegalArgumentException("Invalid number of keys: " + size);
+				}
+				Map<String, Object> keys = new LinkedHashMap<>();
+				for (int i = 0; i < size; i++) {
+					keys.put(in.readUTF(), readValue(in));
+				}
+				result = backward ? ScrollPosition.backward(keys) : ScrollPosition.forward(keys);
+			} else {
+				throw new IllegalArgumentException("Unknown scroll position type " + type);
+			}
+			if (in.available() > 0) {
+				throw new IllegalArgumentException("Trailing data in scroll position token");
+			}
+			return result;
+		} catch (IOException | RuntimeException e) {
+			throw new IllegalArgumentException("Malformed scroll position token", e);
+		}
+	}
+
+	private static void writeValue(DataOutputStream out, String key, Object value) throws IOException {
+
+		if (value == null) {
+			out.writeByte(NULL);
+		} else if (value instanceof String stringValue) {
+			out.writeByte(STRING);
+			out.writeUTF(stringValue);
+		} else if (value instanceof Long || value instanceof Integer || value instanceof Short || value instanceof Byte) {
+			out.writeByte(LONG);
+			out.writeLong(((Number) value).longValue());
+		} else if (value instanceof Double || value instanceof Float) {
+			out.writeByte(DOUBLE);
+			out.writeDouble(((Number) value).doubleValue());
+		} else if (value instanceof Boolean booleanValue) {
+			out.writeByte(BOOLEAN);
+			out.writeBoolean(booleanValue);
+		} else if (value instanceof LocalDate || value instanceof LocalDateTime || value instanceof ZonedDateTime
+				|| value instanceof Instant) {
+			out.writeByte(value instanceof LocalDate ? LOCAL_DATE
+					: value instanceof LocalDateTime ? LOCAL_DATE_TIME
+					: value instanceof ZonedDateTime ? ZONED_DATE_TIME : INSTANT);
+			out.writeUTF(value.toString());
+		} else {
+			throw new IllegalArgumentException(String.format("Unsupported type %s of key %s in scroll position",
+					value.getClass().getName(), key));
+		}
+	}
+
+	private static Object readValue(DataInputStream in) throws IOException {
+
+		byte type = in.readByte();
+		return switch (type) {
+			case NULL -> null;
+			case STRING -> in.readUTF();
+			case LONG -> in.readLong();
+			case DOUBLE -> in.readDouble();
+			case BOOLEAN -> in.readBoolean();
+			case LOCAL_DATE -> LocalDate.parse(in.readUTF());
+			case LOCAL_DATE_TIME -> LocalDateTime.parse(in.readUTF());
+			case ZONED_DATE_TIME -> ZonedDateTime.parse(in.readUTF());
+			case INSTANT -> Instant.parse(in.readUTF());
+			default -> throw new IllegalArgumentException("Unknown value type " + type);
+		};
+	}
+
+	private ScrollPositionTokens() {}
+}
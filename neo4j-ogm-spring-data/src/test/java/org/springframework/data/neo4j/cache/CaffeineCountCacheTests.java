@@ -0,0 +1,73 @@
+/*
+ * Copyright 2011-2023 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.neo4j.cache;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.junit.Test;
+
+public class CaffeineCountCacheTests {
+
+	private final AtomicLong counter = new AtomicLong();
+
+	@Test
+	public void shouldCacheCounts() {
+
+		CountCache countCache = new CaffeineCountCache();
+
+		assertThat(countCache.getCount("k", List.of("Movie"), counter::incrementAndGet)).isEqualTo(1L);
+		assertThat(countCache.getCount("k", List.of("Movie"), counter::incrementAndGet)).isEqualTo(1L);
+	}
+
+	@Test
+	public void shouldEvictCountsOfWrittenLabels() {
+
+		CountCache countCache = new CaffeineCountCache();
+		countCache.getCount("movies", List.of("Movie"), counter::incrementAndGet);
+		countCache.getCount("actors", List.of("Actor"), counter::incrementAndGet);
+
+		countCache.afterCommit(Set.of("Movie")::contains);
+
+		assertThat(countCache.getCount("movies", List.of("Movie"), counter::incrementAndGet)).isEqualTo(3L);
+		assertThat(countCache.getCount("actors", List.of("Actor"), counter::incrementAndGet)).isEqualTo(2L);
+	}
+
+	@Test
+	public void countsWithoutLabelsShouldBeEvictedByAnyWrite() {
+
+		CountCache countCache = new CaffeineCountCache();
+		countCache.getCount("custom", List.of(), counter::incrementAndGet);
+
+		countCache.afterCommit(Set.of("Movie")::contains);
+
+		assertThat(countCache.getCount("custom", List.of(), counter::incrementAndGet)).isEqualTo(2L);
+	}
+
+	@Test
+	public void countsShouldExpire() throws InterruptedException {
+
+		CountCache countCache = new CaffeineCountCache(Duration.ofMillis(1), 10);
+		countCache.getCount("k", List.of("Movie"), counter::incrementAndGet);
+		Thread.sleep(10);
+
+		assertThat(countCache.getCount("k", List.of("Movie"), counter::incrementAndGet)).isEqualTo(2L);
+	}
+}
@@ -0,0 +1,92 @@
+/*
+ * Copyright 2011-2023 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.neo4j.cache;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.junit.Test;
+
+public class CaffeineEntityCacheTests {
+
+	private final AtomicLong counter = new AtomicLong();
+
+	@Test
+	public void shouldCacheEntitiesByTypeAndId() {
+
+		EntityCache entityCache = new CaffeineEntityCache();
+
+		assertThat(entityCache.getEntity(String.class, 1L, List.of("Movie"), counter::incrementAndGet)).isEqualTo(1L);
+		assertThat(entityCache.getEntity(String.class, 1L, List.of("Movie"), counter::incrementAndGet)).isEqualTo(1L);
+		assertThat(entityCache.getEntity(Integer.class, 1L, List.of("Movie"), counter::incrementAndGet)).isEqualTo(2L);
+	}
+
+	@Test
+	public void shouldNotCacheMissingEntities() {
+
+		EntityCache entityCache = new CaffeineEntityCache();
+
+		assertThat(entityCache.getEntity(String.class, 1L, List.of("Movie"), () -> null)).isNull();
+		assertThat(entityCache.getEntity(String.class, 1L, List.of("Movie"), counter::incrementAndGet)).isEqualTo(1L);
+	}
+
+	@Test
+	public void shouldOnlyLoadMissingEntities() {
+
+		EntityCache entityCache = new CaffeineEntityCache();
+		entityCache.getEntity(String.class, 1L, List.of("Movie"), () -> "one");
+
+		Map<Object, Object> entities = entityCache.getEntities(String.class, List.of(1L, 2L), List.of("Movie"), ids -> {
+			assertThat(ids).containsExactly(2L);
+			return Map.of(2L, "two");
+		});
+
+		assertThat(entities).containsOnly(Map.entry(1L, "one"), Map.entry(2L, "two"));
+		assertThat(entityCache.getEntity(String.class, 2L, List.of("Movie"), counter::incrementAndGet)).isEqualTo("two");
+	}
+
+	@Test
+	public void shouldEvictEntities() {
+
+		EntityCache entityCache = new CaffeineEntityCache();
+		entityCache.getEntity(String.class, 1L, List.of("Movie"), counter::incrementAndGet);
+		entityCache.getEntity(String.class, 2L, List.of("Movie"), counter::incrementAndGet);
+		entityCache.getEntity(Integer.class, 1L, List.of("Actor"), counter::incrementAndGet);
+
+		entityCache.evict(String.class, 1L);
+		entityCache.afterCommit(Set.of("Actor")::contains);
+
+		assertThat(entityCache.getEntity(String.class, 1L, List.of("Movie"), counter::incrementAndGet)).isEqualTo(4L);
+		assertThat(entityCache.getEntity(String.class, 2L, List.of("Movie"), counter::incrementAndGet)).isEqualTo(2L);
+		assertThat(entityCache.getEntity(Integer.class, 1L, List.of("Actor"), counter::incrementAndGet)).isEqualTo(5L);
+	}
+
+	@Test
+	public void entitiesLoadedDuringEvictionShouldNotBeCached() {
+
+		EntityCache entityCache = new CaffeineEntityCache();
+		entityCache.getEntity(String.class, 1L, List.of("Movie"), () -> {
+			entityCache.evict(String.class, 1L);
+			return counter.incrementAndGet();
+		});
+
+		assertThat(entityCache.getEntity(String.class, 1L, List.of("Movie"), counter::incrementAndGet)).isEqualTo(2L);
+	}
+}
@@ -0,0 +1,78 @@
+/*
+ * Copyright 2011-2023 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.neo4j.cache;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.junit.Test;
+
+public class CaffeineQueryResultCacheTests {
+
+	private final AtomicLong counter = new AtomicLong();
+
+	@Test
+	public void shouldCacheResults() {
+
+		QueryResultCache queryResultCache = new CaffeineQueryResultCache();
+
+		assertThat(queryResultCache.getResult("k", List.of("Movie"), counter::incrementAndGet)).isEqualTo(1L);
+		assertThat(queryResultCache.getResult("k", List.of("Movie"), counter::incrementAndGet)).isEqualTo(1L);
+	}
+
+	@Test
+	public void shouldCacheNullResults() {
+
+		QueryResultCache queryResultCache = new CaffeineQueryResultCache();
+		queryResultCache.getResult("k", List.of("Movie"), () -> {
+			counter.incrementAndGet();
+			return null;
+		});
+
+		assertThat(queryResultCache.getResult("k", List.of("Movie"), counter::incrementAndGet)).isNull();
+		assertThat(counter).hasValue(1L);
+	}
+
+	@Test
+	public void shouldEvictResultsOfWrittenLabels() {
+
+		QueryResultCache queryResultCache = new CaffeineQueryResultCache();
+		queryResultCache.getResult("movies", List.of("Movie"), counter::incrementAndGet);
+		queryResultCache.getResult("actors", List.of("Actor"), counter::incrementAndGet);
+		queryResultCache.getResult("custom", List.of(), counter::incrementAndGet);
+
+		queryResultCache.afterCommit(Set.of("Movie")::contains);
+
+		assertThat(queryResultCache.getResult("movies", List.of("Movie"), counter::incrementAndGet)).isEqualTo(4L);
+		assertThat(queryResultCache.getResult("actors", List.of("Actor"), counter::incrementAndGet)).isEqualTo(2L);
+		assertThat(queryResultCache.getResult("custom", List.of(), counter::incrementAndGet)).isEqualTo(5L);
+	}
+
+	@Test
+	public void resultsLoadedDuringCommitShouldNotBeCached() {
+
+		QueryResultCache queryResultCache = new CaffeineQueryResultCache();
+		queryResultCache.getResult("movies", List.of("Movie"), () -> {
+			queryResultCache.afterCommit(Set.of("Movie")::contains);
+			return counter.incrementAndGet();
+		});
+
+		assertThat(queryResultCache.getResult("movies", List.of("Movie"), counter::incrementAndGet)).isEqualTo(2L);
+	}
+}
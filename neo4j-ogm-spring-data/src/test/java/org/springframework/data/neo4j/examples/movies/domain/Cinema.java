@@ -21,6 +21,7 @@ import java.util.Set;
 import org.neo4j.ogm.annotation.NodeEntity;
 import org.neo4j.ogm.annotation.Property;
 import org.neo4j.ogm.annotation.Relationship;
+import org.springframework.data.neo4j.annotation.FetchProfile;
 
 /**
  * @author Michal Bachman
@@ -28,6 +29,7 @@ import org.neo4j.ogm.annotation.Relationship;
  * @author Jasper Blues
  */
 @NodeEntity(label = "Theatre")
+@FetchProfile(name = "withVisitorsAndTheirFriends", paths = "visited.friends")
 public class Cinema {
 
 	private Long id;
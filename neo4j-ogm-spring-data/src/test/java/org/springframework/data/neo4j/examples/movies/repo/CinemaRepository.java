@@ -24,11 +24,13 @@ import org.springframework.data.domain.Slice;
 import org.springframework.data.domain.Sort;
 import org.springframework.data.neo4j.annotation.Depth;
 import org.springframework.data.neo4j.annotation.Query;
+import org.springframework.data.neo4j.annotation.SplitQueryHydration;
 import org.springframework.data.neo4j.examples.movies.domain.Cinema;
 import org.springframework.data.neo4j.examples.movies.domain.CinemaAndBlockbuster;
 import org.springframework.data.neo4j.examples.movies.domain.CinemaAndBlockbusterName;
 import org.springframework.data.neo4j.examples.movies.domain.queryresult.CinemaQueryResult;
 import org.springframework.data.neo4j.examples.movies.domain.queryresult.CinemaQueryResultInterface;
+import org.springframework.data.neo4j.repository.FetchProfileRepository;
 import org.springframework.data.neo4j.repository.Neo4jRepository;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
@@ -39,7 +41,7 @@ import org.springframework.stereotype.Repository;
  * @author Jasper Blues
  */
 @Repository
-public interface CinemaRepository extends Neo4jRepository<Cinema, Long> {
+public interface CinemaRepository extends Neo4jRepository<Cinema, Long>, FetchProfileRepository<Cinema, Long> {
 
 	Collection<Cinema> findByName(String name);
 
@@ -47,6 +49,9 @@ public interface CinemaRepository extends Neo4jRepository<Cinema, Long> {
 
 	List<Cinema> findByLocation(String location, @Depth int depth);
 
+	@SplitQueryHydration
+	List<Cinema> findByCapacityGreaterThan(int capacity, @Depth int depth);
+
 	List<Cinema> findByLocationLike(String location);
 
 	List<Cinema> findByNameAndLocation(String name, String location);
@@ -94,6 +99,12 @@ public interface CinemaRepository extends Neo4jRepository<Cinema, Long> {
 	@Query(value = "MATCH (n:Theatre) RETURN n;")
 	Page<Cinema> getPagedCinemasWithoutCountQuery(Pageable pageable);
 
+	@Query(value = "MATCH (n:Theatre) RETURN n", inlineCount = true)
+	Page<Cinema> getPagedCinemasWithInlineCount(Pageable pageable);
+
+	@Query(value = "MATCH (n:Theatre) RETURN n.name AS name", inlineCount = true)
+	Page<String> getPagedCinemaNamesWithInlineCount(Pageable pageable);
+
 	@Query(value = "MATCH (n:Theatre) RETURN n", countQuery = "MATCH (n:Theatre) return count(*)")
 	Page<CinemaQueryResult> getPagedCinemaQueryResults(Pageable pageable);
 
@@ -16,6 +16,7 @@
 package org.springframework.data.neo4j.examples.movies.repo;
 
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.concurrent.CompletableFuture;
 import java.util.stream.Stream;
@@ -42,6 +43,21 @@ public interface CinemaStreamingRepository extends Neo4jRepository<Cinema, Long>
 	@Query("MATCH (n:Theatre) RETURN n")
 	Stream<Cinema> getCinemasSortedByName(Sort sort);
 
+	@Query("MATCH (n:Theatre) OPTIONAL MATCH (n)<-[r:VISITED]-(u:User) RETURN n, r, u")
+	Stream<Cinema> getAllCinemasWithVisitors();
+
+	@Query("MATCH (n:Theatre) OPTIONAL MATCH (n)<-[r:VISITED]-(u:User) RETURN n, r, u ORDER BY n.name")
+	Stream<Cinema> getAllCinemasWithVisitorsSortedByName();
+
+	@Query("UNWIND range(1, 100000) AS i RETURN CASE WHEN i < 100000 THEN i ELSE i / (100000 - i) END")
+	Stream<Long> getNumbersFailingAtTheEnd();
+
+	@Query("UNWIND $0 AS name CREATE (n:Theatre {name: name}) RETURN n")
+	Stream<Cinema> createCinemas(List<String> names);
+
+	@Query("MATCH (n:Theatre) RETURN n.name AS name, n.capacity AS capacity")
+	Stream<Map<String, Object>> getCinemaNamesAndCapacities();
+
 	@Async
 	@Query(value = "MATCH (n:Theatre) RETURN n;")
 	CompletableFuture<List<Cinema>> getAllCinemasAsync();
@@ -0,0 +1,182 @@
+/*
+ * Copyright 2011-2023 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.neo4j.mapping;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.Test;
+import org.neo4j.ogm.metadata.MetaData;
+import org.neo4j.ogm.model.Result;
+import org.neo4j.ogm.session.Session;
+import org.neo4j.ogm.session.SessionFactory;
+import org.springframework.dao.InvalidDataAccessApiUsageException;
+import org.springframework.data.neo4j.mapping.lazy.Director;
+import org.springframework.data.neo4j.mapping.lazy.Movie;
+import org.springframework.data.neo4j.transaction.SessionFactoryUtils;
+import org.springframework.data.neo4j.transaction.SessionOperationInterceptor;
+import org.springframework.data.neo4j.transaction.SharedSessionCreator;
+
+public class FetchPlanTests {
+
+	private static final String HYDRATION = " OPTIONAL MATCH p0 = (n)-[:`DIRECTED`]->(:`Movie`)"
+			+ " WITH n, collect(p0) AS p0"
+			+ " OPTIONAL MATCH p1 = (n)-[:`DIRECTED`]->(:`Movie`)<-[:`DIRECTED`]-(:`Director`)"
+			+ " WITH n, p0, collect(p1) AS p1 RETURN n, p0, p1";
+
+	private final MetaData metaData = new MetaData("org.springframework.data.neo4j.mapping.lazy");
+	private final Session session = mock(Session.class);
+
+	@Test
+	public void shouldMatchEveryPrefixOfANamedProfile() {
+
+		FetchPlan.of(metaData, Director.class, "withMoviesAndTheirDirectors").loadAll(session);
+
+		verify(session).query(Director.class, "MATCH (n:`Director`)" + HYDRATION, Collections.emptyMap());
+	}
+
+	@Test
+	public void shouldLoadByIdsInTheRequestedOrder() {
+
+		Movie movie1 = new Movie("Movie 1");
+		Movie movie2 = new Movie("Movie 2");
+		Movie related = new Movie("Related");
+		String cypher = "UNWIND $ids AS id MATCH (n:`Movie` {`title`: id})"
+				+ " OPTIONAL MATCH p0 = (n)<-[:`DIRECTED`]-(:`Director`) WITH n, collect(p0) AS p0 RETURN n, p0";
+		doReturn(Arrays.asList(movie1, related, movie2)).when(session).query(eq(Movie.class), eq(cypher), anyMap());
+
+		FetchPlan fetchPlan = FetchPlan.of(metaData, Movie.class, Collections.singletonList("directors"));
+		Map<Object, Object> movies = fetchPlan.loadAll(session,
+				Arrays.asList("Movie 2", "Unknown", "Movie 1", "Movie 2"));
+
+		assertThat(movies).containsExactly(entry("Movie 2", movie2), entry("Movie 1", movie1));
+		verify(session).query(Movie.class, cypher,
+				Collections.singletonMap("ids", Arrays.asList("Movie 2", "Unknown", "Movie 1")));
+	}
+
+	@Test
+	public void shouldLoadOneHopPerQueryUpToTheDepth() {
+
+		Director director = new Director(1L, "Director");
+		Movie movie = new Movie("Movie");
+		Director coDirector = new Director(2L, "Co-Director");
+		String hop = "UNWIND $ids AS id MATCH (n)-[r]-(m) WHERE id(n) = id RETURN n, r, m, id(m) AS nodeId";
+		returnRows("MATCH (n:`Director`) RETURN n, id(n) AS nodeId", row("n", director, 10L));
+		returnRows(hop, Collections.singletonList(10L), row("m", movie, 20L));
+		returnRows(hop, Collections.singletonList(20L), row("m", director, 10L), row("m", coDirector, 30L));
+
+		Iterable<Director> directors = FetchPlan.ofDepth(metaData, Director.class, 2).loadAll(session);
+
+		assertThat(directors).containsExactly(director);
+		verify(session).query(hop, Collections.singletonMap("ids", Collections.singletonList(10L)));
+		verify(session).query(hop, Collections.singletonMap("ids", Collections.singletonList(20L)));
+		verify(session, never()).query(hop, Collections.singletonMap("ids", Collections.singletonList(30L)));
+	}
+
+	@Test
+	public void shouldStopWhenNoFurtherNodesAreReached() {
+
+		Movie movie = new Movie("Movie");
+		String cypher = "UNWIND $ids AS id MATCH (n:`Movie` {`title`: id}) RETURN n, id(n) AS nodeId";
+		returnRows(cypher, row("n", movie, 20L));
+		returnRows("UNWIND $ids AS id MATCH (n)-[r]-(m) WHERE id(n) = id RETURN n, r, m, id(m) AS nodeId",
+				Collections.singletonList(20L));
+
+		Map<Object, Object> movies = FetchPlan.ofDepth(metaData, Movie.class, -1).loadAll(session,
+				Collections.singletonList("Movie"));
+
+		assertThat(movies).containsExactly(entry("Movie", movie));
+		verify(session).query(cypher, Collections.singletonMap("ids", Collections.singletonList("Movie")));
+		verify(session, times(2)).query(anyString(), anyMap());
+	}
+
+	@Test
+	public void shouldRunAllHopsOfASharedSessionAsOneInterceptedQuery() {
+
+		Director director = new Director(1L, "Director");
+		String cypher = "MATCH (n:`Director`) RETURN n, id(n) AS nodeId";
+		returnRows(cypher, row("n", director, 10L));
+		returnRows("UNWIND $ids AS id MATCH (n)-[r]-(m) WHERE id(n) = id RETURN n, r, m, id(m) AS nodeId",
+				Collections.singletonList(10L));
+		SessionFactory sessionFactory = mock(SessionFactory.class);
+		when(sessionFactory.openSession()).thenReturn(session);
+		List<String> interceptedStatements = new ArrayList<>();
+		SessionOperationInterceptor interceptor = (operation, arguments, proceed) -> {
+			interceptedStatements.add(operation + ": " + arguments[0]);
+			return proceed.get();
+		};
+
+		SessionFactoryUtils.registerSessionOperationInterceptor(sessionFactory, interceptor);
+		try {
+			Iterable<Director> directors = FetchPlan.ofDepth(metaData, Director.class, 2)
+					.loadAll(SharedSessionCreator.createSharedSession(sessionFactory));
+			assertThat(directors).containsExactly(director);
+		} finally {
+			SessionFactoryUtils.unregisterSessionOperationInterceptor(sessionFactory, interceptor);
+		}
+
+		assertThat(interceptedStatements).containsExactly("query: " + cypher);
+		verify(sessionFactory).openSession();
+		verify(session, times(2)).query(anyString(), anyMap());
+	}
+
+	@Test
+	public void shouldRejectUnknownProfiles() {
+
+		assertThatExceptionOfType(InvalidDataAccessApiUsageException.class)
+				.isThrownBy(() -> FetchPlan.of(metaData, Director.class, "unknown"))
+				.withMessage("There is no fetch profile named unknown on " + Director.class.getName() + ".");
+	}
+
+	@Test
+	public void shouldRejectPathsThatAreNoRelationships() {
+
+		assertThatExceptionOfType(InvalidDataAccessApiUsageException.class)
+				.isThrownBy(() -> FetchPlan.of(metaData, Director.class, Collections.singletonList("movies.title")))
+				.withMessageContaining("has no relationship named title");
+	}
+
+	@SafeVarargs
+	private void returnRows(String cypher, Map<String, Object>... rows) {
+
+		Result result = mock(Result.class);
+		doReturn(Arrays.asList(rows)).when(result).queryResults();
+		doReturn(result).when(session).query(eq(cypher), anyMap());
+	}
+
+	@SafeVarargs
+	private void returnRows(String cypher, List<Long> ids, Map<String, Object>... rows) {
+
+		Result result = mock(Result.class);
+		doReturn(Arrays.asList(rows)).when(result).queryResults();
+		doReturn(result).when(session).query(cypher, Collections.singletonMap("ids", ids));
+	}
+
+	private static Map<String, Object> row(String column, Object entity, long nodeId) {
+
+		Map<String, Object> row = new HashMap<>();
+		row.put(column, entity);
+		row.put("nodeId", nodeId);
+		return row;
+	}
+}
@@ -0,0 +1,162 @@
+/*
+ * Copyright 2011-2023 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.neo4j.mapping;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.Test;
+import org.neo4j.ogm.metadata.MetaData;
+import org.neo4j.ogm.model.Result;
+import org.neo4j.ogm.session.Session;
+import org.springframework.data.neo4j.mapping.lazy.Director;
+import org.springframework.data.neo4j.mapping.lazy.Movie;
+
+public class LazyRelationshipLoaderTests {
+
+	private static final String MOVIES_OF_DIRECTORS = "UNWIND range(0, size($ownerIds) - 1) AS i "
+			+ "MATCH (n) WHERE id(n) = $ownerIds[i] MATCH (n)-[:`DIRECTED`]->(m:`Movie`) RETURN i, m";
+	private static final String DIRECTORS_OF_MOVIES = "UNWIND range(0, size($ownerIds) - 1) AS i "
+			+ "MATCH (n:`Movie` {`title`: $ownerIds[i]}) MATCH (n)<-[:`DIRECTED`]-(m:`Director`) RETURN i, m";
+
+	private final Session session = mock(Session.class);
+	private final LazyRelationshipLoader loader = new LazyRelationshipLoader(session,
+			new MetaData("org.springframework.data.neo4j.mapping.lazy"));
+
+	@Test
+	public void shouldLoadLazyRelationshipsOfAllEntitiesTogetherOnFirstAccess() {
+
+		Director director1 = new Director(1L, "Director 1");
+		Director director2 = new Director(2L, "Director 2");
+		Movie movie1 = new Movie("Movie 1");
+		Movie movie2 = new Movie("Movie 2");
+		Movie movie3 = new Movie("Movie 3");
+		returnRows(MOVIES_OF_DIRECTORS, row(0, movie1), row(1, movie2), row(0, movie3));
+
+		loader.initialize(Arrays.asList(director1, director2));
+
+		assertThat(LazyRelationshipLoader.isInitialized(director1.getMovies())).isFalse();
+		verifyNoInteractions(session);
+
+		assertThat(director1.getMovies()).containsExactly(movie1, movie3);
+		assertThat(LazyRelationshipLoader.isInitialized(director2.getMovies())).isTrue();
+		assertThat(director2.getMovies()).containsExactly(movie2);
+		verify(session).query(MOVIES_OF_DIRECTORS, Collections.singletonMap("ownerIds", Arrays.asList(1L, 2L)));
+		verifyNoMoreInteractions(session);
+	}
+
+	@Test
+	public void loadedEntitiesShouldGetLazyRelationships() {
+
+		Director director = new Director(1L, "Director");
+		Movie movie = new Movie("Movie");
+		returnRows(MOVIES_OF_DIRECTORS, row(0, movie));
+		returnRows(DIRECTORS_OF_MOVIES, row(0, director));
+
+		loader.initialize(director);
+
+		assertThat(director.getMovies()).containsExactly(movie);
+		assertThat(LazyRelationshipLoader.isInitialized(movie.getDirectors())).isFalse();
+		assertThat(movie.getDirectors()).containsExactly(director);
+		verify(session).query(DIRECTORS_OF_MOVIES,
+				Collections.singletonMap("ownerIds", Collections.singletonList("Movie")));
+	}
+
+	@Test
+	public void shouldKeepLoadedRelationships() {
+
+		Director director = new Director(1L, "Director");
+		Movie movie = new Movie("Movie");
+		director.getMovies().add(movie);
+		movie.setDirectors(Collections.singleton(director));
+
+		loader.initialize(new Object[] { director, movie });
+
+		assertThat(LazyRelationshipLoader.isInitialized(director.getMovies())).isTrue();
+		assertThat(director.getMovies()).containsExactly(movie);
+		assertThat(movie.getDirectors()).containsExactly(director);
+		verifyNoInteractions(session);
+	}
+
+	@Test
+	public void shouldKeepRelationshipsLoadedEmptyWithinTheLoadedDepth() {
+
+		Director director = new Director(1L, "Director");
+		Director directorWithoutMovies = new Director(2L, "Director without movies");
+		Movie movie = new Movie("Movie");
+		director.getMovies().add(movie);
+
+		loader.initialize(Arrays.asList(director, directorWithoutMovies), LoadedRelationships.ofDepth(1));
+
+		assertThat(LazyRelationshipLoader.isInitialized(directorWithoutMovies.getMovies())).isTrue();
+		assertThat(directorWithoutMovies.getMovies()).isEmpty();
+		assertThat(LazyRelationshipLoader.isInitialized(movie.getDirectors())).isFalse();
+		verifyNoInteractions(session);
+	}
+
+	@Test
+	public void shouldKeepRelationshipsLoadedEmptyAlongThePathsOfAFetchProfile() {
+
+		Director director = new Director(1L, "Director");
+		Movie movie = new Movie("Movie");
+		director.getMovies().add(movie);
+
+		loader.initialize(director, LoadedRelationships.ofPaths(Collections.singletonList("movies.directors")));
+
+		assertThat(movie.getDirectors()).isNull();
+		verifyNoInteractions(session);
+	}
+
+	@Test
+	public void copiesShouldLoadTogetherWithTheOriginal() {
+
+		Director director = new Director(1L, "Director");
+		Movie movie = new Movie("Movie");
+		returnRows(MOVIES_OF_DIRECTORS, row(0, movie));
+
+		loader.initialize(director);
+		@SuppressWarnings("unchecked")
+		List<Movie> copy = (List<Movie>) LazyRelationshipLoader.copyIfUninitialized(director.getMovies());
+
+		assertThat(copy).isNotSameAs(director.getMovies()).containsExactly(movie);
+		assertThat(LazyRelationshipLoader.isInitialized(director.getMovies())).isTrue();
+		assertThat(director.getMovies()).containsExactly(movie);
+		assertThat(LazyRelationshipLoader.copyIfUninitialized(director.getMovies())).isNull();
+		verify(session).query(MOVIES_OF_DIRECTORS, Collections.singletonMap("ownerIds", Collections.singletonList(1L)));
+	}
+
+	@SafeVarargs
+	private void returnRows(String cypher, Map<String, Object>... rows) {
+
+		Result result = mock(Result.class);
+		doReturn(Arrays.asList(rows)).when(result).queryResults();
+		doReturn(result).when(session).query(eq(cypher), anyMap());
+	}
+
+	private static Map<String, Object> row(long index, Object entity) {
+
+		Map<String, Object> row = new HashMap<>();
+		row.put("i", index);
+		row.put("m", entity);
+		return row;
+	}
+}
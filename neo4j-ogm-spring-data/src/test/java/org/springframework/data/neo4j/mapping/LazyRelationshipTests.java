@@ -0,0 +1,127 @@
+/*
+ * Copyright 2011-2023 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.neo4j.mapping;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.util.Arrays;
+
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.neo4j.harness.Neo4j;
+import org.neo4j.ogm.session.Session;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.data.neo4j.annotation.Depth;
+import org.springframework.data.neo4j.mapping.lazy.Director;
+import org.springframework.data.neo4j.mapping.lazy.Movie;
+import org.springframework.data.neo4j.repository.FetchProfileRepository;
+import org.springframework.data.neo4j.repository.Neo4jRepository;
+import org.springframework.data.neo4j.test.Neo4jIntegrationTest;
+import org.springframework.test.context.ContextConfiguration;
+import org.springframework.test.context.junit4.SpringRunner;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * Loads lazy relationships through repositories from a database.
+ */
+@RunWith(SpringRunner.class)
+@ContextConfiguration(classes = LazyRelationshipTests.Config.class)
+@Transactional
+public class LazyRelationshipTests {
+
+	@Configuration
+	@Neo4jIntegrationTest(domainPackages = "org.springframework.data.neo4j.mapping.lazy",
+			considerNestedRepositories = true)
+	static class Config {}
+
+	@Autowired private Neo4j neo4jTestServer;
+
+	@Autowired private DirectorRepository directorRepository;
+
+	@Autowired private Session session;
+
+	private Long ridleyId;
+
+	private Long nolanId;
+
+	@Before
+	public void setup() {
+		neo4jTestServer.defaultDatabaseService().executeTransactionally("MATCH (n) DETACH DELETE n");
+
+		Director ridley = new Director(null, "Ridley Scott");
+		ridley.getMovies().addAll(Arrays.asList(new Movie("Alien"), new Movie("Blade Runner")));
+		Director nolan = new Director(null, "Christopher Nolan");
+		directorRepository.saveAll(Arrays.asList(ridley, nolan));
+
+		ridleyId = session.resolveGraphIdFor(ridley);
+		nolanId = session.resolveGraphIdFor(nolan);
+		session.clear();
+	}
+
+	@Test
+	public void lazyRelationshipsShouldBeLoadedOnFirstAccess() {
+
+		Director ridley = directorRepository.findById(ridleyId, 0).get();
+
+		assertThat(LazyRelationshipLoader.isInitialized(ridley.getMovies())).isFalse();
+		assertThat(ridley.getMovies()).extracting(Movie::getTitle).containsExactlyInAnyOrder("Alien", "Blade Runner");
+		assertThat(ridley.getMovies()).extracting(movie -> LazyRelationshipLoader.isInitialized(movie.getDirectors()))
+				.containsOnly(false);
+		assertThat(ridley.getMovies()).flatExtracting(Movie::getDirectors).extracting(Director::getName)
+				.containsOnly("Ridley Scott");
+	}
+
+	@Test
+	public void relationshipsWithinTheLoadedDepthShouldNotBeLazy() {
+
+		Director ridley = directorRepository.findById(ridleyId).get();
+
+		assertThat(LazyRelationshipLoader.isInitialized(ridley.getMovies())).isTrue();
+		assertThat(ridley.getMovies()).extracting(Movie::getTitle).containsExactlyInAnyOrder("Alien", "Blade Runner");
+		assertThat(ridley.getMovies()).flatExtracting(Movie::getDirectors).extracting(Director::getName)
+				.containsOnly("Ridley Scott");
+	}
+
+	@Test
+	public void relationshipsLoadedEmptyShouldNotBeLazy() {
+
+		Director nolan = directorRepository.findById(nolanId).get();
+		Director loadedByDerivedQuery = directorRepository.findByName("Christopher Nolan", 1);
+
+		assertThat(LazyRelationshipLoader.isInitialized(nolan.getMovies())).isTrue();
+		assertThat(nolan.getMovies()).isEmpty();
+		assertThat(LazyRelationshipLoader.isInitialized(loadedByDerivedQuery.getMovies())).isTrue();
+		assertThat(loadedByDerivedQuery.getMovies()).isEmpty();
+	}
+
+	@Test
+	public void relationshipsAlongThePathsOfAFetchProfileShouldNotBeLazy() {
+
+		Director ridley = directorRepository.findById(ridleyId, "withMoviesAndTheirDirectors").get();
+
+		assertThat(ridley.getMovies()).hasSize(2).allSatisfy(movie -> {
+			assertThat(LazyRelationshipLoader.isInitialized(movie.getDirectors())).isTrue();
+			assertThat(movie.getDirectors()).extracting(Director::getName).containsExactly("Ridley Scott");
+		});
+	}
+
+	interface DirectorRepository extends Neo4jRepository<Director, Long>, FetchProfileRepository<Director, Long> {
+
+		Director findByName(String name, @Depth int depth);
+	}
+}
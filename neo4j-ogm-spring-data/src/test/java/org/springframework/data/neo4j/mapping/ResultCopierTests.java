@@ -0,0 +1,130 @@
+/*
+ * Copyright 2011-2023 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.neo4j.mapping;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+import java.lang.reflect.Proxy;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.List;
+
+import org.junit.Test;
+import org.neo4j.ogm.metadata.ClassInfo;
+import org.neo4j.ogm.metadata.MetaData;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.neo4j.annotation.QueryResult;
+
+public class ResultCopierTests {
+
+	private final MetaData metaData = mock(MetaData.class);
+	private final ResultCopier resultCopier = new ResultCopier(metaData);
+
+	{
+		doReturn(mock(ClassInfo.class)).when(metaData).classInfo(Person.class.getName());
+	}
+
+	@Test
+	public void entitiesShouldBeCopiedWithTheirRelatedEntities() {
+
+		Person michael = new Person("Michael");
+		Person gerrit = new Person("Gerrit");
+		michael.friends.add(gerrit);
+		gerrit.friends.add(michael);
+
+		Person copy = (Person) resultCopier.copy(michael);
+
+		assertThat(copy).isNotSameAs(michael);
+		assertThat(copy.name).isEqualTo("Michael");
+		assertThat(copy.friends).isNotSameAs(michael.friends).hasSize(1);
+		assertThat(copy.friends.get(0)).isNotSameAs(gerrit);
+		assertThat(copy.friends.get(0).friends.get(0)).isSameAs(copy);
+	}
+
+	@Test
+	public void pagesShouldBeCopied() {
+
+		Person michael = new Person("Michael");
+		Page<Person> page = new PageImpl<>(List.of(michael), PageRequest.of(0, 1), 10);
+
+		Page<?> copy = (Page<?>) resultCopier.copy(page);
+
+		assertThat(copy.getTotalElements()).isEqualTo(10);
+		assertThat(copy.getPageable()).isEqualTo(page.getPageable());
+		assertThat(copy.getContent()).singleElement().isNotSameAs(michael);
+	}
+
+	@Test
+	public void queryResultsAndDatesShouldBeCopied() {
+
+		Date born = new Date();
+		Person michael = new Person("Michael");
+		Friendship friendship = new Friendship(michael, born);
+
+		Friendship copy = (Friendship) resultCopier.copy(friendship);
+
+		assertThat(copy).isNotSameAs(friendship);
+		assertThat(copy.person).isNotSameAs(michael);
+		assertThat(copy.since).isEqualTo(born).isNotSameAs(born);
+	}
+
+	@Test
+	public void immutableValuesShouldBeShared() {
+
+		assertThat(resultCopier.copy("a")).isSameAs("a");
+		assertThat(resultCopier.copy(Thread.State.NEW)).isSameAs(Thread.State.NEW);
+		assertThat(resultCopier.copy(null)).isNull();
+	}
+
+	@Test
+	public void otherValuesShouldNotBeCopyable() {
+
+		Object projection = Proxy.newProxyInstance(getClass().getClassLoader(), new Class<?>[] { Runnable.class },
+				(proxy, method, args) -> null);
+
+		assertThatExceptionOfType(ResultCopier.NotCopyableException.class)
+				.isThrownBy(() -> resultCopier.copy(List.of(projection)));
+		assertThatExceptionOfType(ResultCopier.NotCopyableException.class)
+				.isThrownBy(() -> resultCopier.copy(new Object()));
+	}
+
+	static class Person {
+
+		final String name;
+
+		final List<Person> friends = new ArrayList<>();
+
+		Person(String name) {
+			this.name = name;
+		}
+	}
+
+	@QueryResult
+	static class Friendship {
+
+		final Person person;
+
+		final Date since;
+
+		Friendship(Person person, Date since) {
+			this.person = person;
+			this.since = since;
+		}
+	}
+}
@@ -0,0 +1,56 @@
+/*
+ * Copyright 2011-2023 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.neo4j.mapping.lazy;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.neo4j.ogm.annotation.GeneratedValue;
+import org.neo4j.ogm.annotation.Id;
+import org.neo4j.ogm.annotation.NodeEntity;
+import org.neo4j.ogm.annotation.Relationship;
+import org.springframework.data.neo4j.annotation.FetchProfile;
+import org.springframework.data.neo4j.annotation.LazyRelationship;
+
+@NodeEntity
+@FetchProfile(name = "withMoviesAndTheirDirectors", paths = "movies.directors")
+public class Director {
+
+	@Id @GeneratedValue
+	private Long id;
+
+	private String name;
+
+	@LazyRelationship
+	@Relationship("DIRECTED")
+	private List<Movie> movies = new ArrayList<>();
+
+	public Director() {
+	}
+
+	public Director(Long id, String name) {
+		this.id = id;
+		this.name = name;
+	}
+
+	public String getName() {
+		return name;
+	}
+
+	public List<Movie> getMovies() {
+		return movies;
+	}
+}
@@ -0,0 +1,53 @@
+/*
+ * Copyright 2011-2023 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.neo4j.mapping.lazy;
+
+import java.util.Set;
+
+import org.neo4j.ogm.annotation.Id;
+import org.neo4j.ogm.annotation.NodeEntity;
+import org.neo4j.ogm.annotation.Relationship;
+import org.springframework.data.neo4j.annotation.LazyRelationship;
+
+@NodeEntity
+public class Movie {
+
+	@Id
+	private String title;
+
+	@LazyRelationship
+	@Relationship(value = "DIRECTED", direction = Relationship.Direction.INCOMING)
+	private Set<Director> directors;
+
+	public Movie() {
+	}
+
+	public Movie(String title) {
+		this.title = title;
+	}
+
+	public String getTitle() {
+		return title;
+	}
+
+	public Set<Director> getDirectors() {
+		return directors;
+	}
+
+	public void setDirectors(Set<Director> directors) {
+		this.directors = directors;
+	}
+}
@@ -0,0 +1,175 @@
+/*
+ * Copyright 2011-2023 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.neo4j.metrics;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.stream.Stream;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+import org.junit.Test;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.repository.Repository;
+
+public class RepositoryMetricsTests {
+
+	private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+	private final RepositoryMetrics repositoryMetrics = new RepositoryMetrics(meterRegistry);
+
+	@Test
+	public void shouldRecordDatabaseTimeAndRowsOfExecutedInvocations() {
+
+		RepositoryMetrics.Invocation invocation = repositoryMetrics.start(PersonRepository.class, "findAllByName");
+		Object result = repositoryMetrics.database("CollectionExecution", () -> Arrays.asList("a", "b", "c"));
+		invocation.stop(result, null);
+
+		Timer invocations = meterRegistry.get(RepositoryMetrics.INVOCATIONS).tag("repository", "PersonRepository")
+				.tag("method", "findAllByName").tag("execution", "CollectionExecution").tag("outcome", "SUCCESS")
+				.tag("exception", "none").timer();
+		assertThat(invocations.count()).isEqualTo(1);
+		assertThat(meterRegistry.get(RepositoryMetrics.DATABASE).tag("execution", "CollectionExecution").timer()
+				.count()).isEqualTo(1);
+		assertThat(meterRegistry.get(RepositoryMetrics.MAPPING).tag("execution", "CollectionExecution").timer()
+				.count()).isEqualTo(1);
+		DistributionSummary rows = meterRegistry.get(RepositoryMetrics.ROWS).summary();
+		assertThat(rows.totalAmount()).isEqualTo(3.0);
+	}
+
+	@Test
+	public void shouldRecordFailedInvocationsWithoutRows() {
+
+		RepositoryMetrics.Invocation invocation = repositoryMetrics.start(PersonRepository.class, "findById");
+		invocation.addDatabaseTime(RepositoryMetrics.CRUD_EXECUTION, 1_000);
+		invocation.stop(null, new IllegalStateException());
+
+		assertThat(meterRegistry.get(RepositoryMetrics.INVOCATIONS).tag("execution", "crud").tag("outcome", "ERROR")
+				.tag("exception", "IllegalStateException").timer().count()).isEqualTo(1);
+		assertThat(meterRegistry.find(RepositoryMetrics.ROWS).summary()).isNull();
+	}
+
+	@Test
+	public void shouldNotRecordDatabaseTimeIfNothingHasBeenExecuted() {
+
+		RepositoryMetrics.Invocation invocation = repositoryMetrics.start(PersonRepository.class, "findAllByName");
+		invocation.stop(Collections.emptyList(), null);
+
+		assertThat(meterRegistry.get(RepositoryMetrics.INVOCATIONS).tag("execution", "none").timer().count())
+				.isEqualTo(1);
+		assertThat(meterRegistry.find(RepositoryMetrics.DATABASE).timer()).isNull();
+		assertThat(meterRegistry.find(RepositoryMetrics.MAPPING).timer()).isNull();
+	}
+
+	@Test
+	public void nestedInvocationsShouldBeMeasuredOnTheirOwn() {
+
+		RepositoryMetrics.Invocation outer = repositoryMetrics.start(PersonRepository.class, "findAllByName");
+		RepositoryMetrics.Invocation inner = repositoryMetrics.start(PersonRepository.class, "findById");
+		repositoryMetrics.database("SingleEntityExecution", () -> "a");
+		inner.stop("a", null);
+		repositoryMetrics.database("CollectionExecution", Collections::emptyList);
+		outer.stop(Collections.emptyList(), null);
+
+		assertThat(meterRegistry.get(RepositoryMetrics.INVOCATIONS).tag("method", "findById")
+				.tag("execution", "SingleEntityExecution").timer().count()).isEqualTo(1);
+		assertThat(meterRegistry.get(RepositoryMetrics.INVOCATIONS).tag("method", "findAllByName")
+				.tag("execution", "CollectionExecution").timer().count()).isEqualTo(1);
+	}
+
+	@Test
+	public void databaseCallsOutsideOfInvocationsShouldNotBeRecorded() {
+
+		assertThat(repositoryMetrics.database("CollectionExecution", () -> "a")).isEqualTo("a");
+		assertThat(meterRegistry.getMeters()).isEmpty();
+	}
+
+	@Test
+	public void shouldCountRowsOfCommonResultTypes() {
+
+		assertThat(RepositoryMetrics.countRows(null)).isZero();
+		assertThat(RepositoryMetrics.countRows(Optional.empty())).isZero();
+		assertThat(RepositoryMetrics.countRows(new PageImpl<>(Arrays.asList("a", "b")))).isEqualTo(2);
+		assertThat(RepositoryMetrics.countRows(42L)).isEqualTo(1);
+		assertThat(RepositoryMetrics.countRows(Stream.of("a"))).isEqualTo(-1);
+		assertThat(RepositoryMetrics.countRows((Iterable<String>) () -> List.of("a").iterator())).isEqualTo(-1);
+	}
+
+	@Test
+	public void shouldReuseTheMetersOfMethods() {
+
+		for (int i = 0; i < 3; i++) {
+			RepositoryMetrics.Invocation invocation = repositoryMetrics.start(PersonRepository.class, "findAllByName");
+			repositoryMetrics.database("CollectionExecution", Collections::emptyList);
+			invocation.stop(Collections.emptyList(), null);
+		}
+
+		assertThat(meterRegistry.get(RepositoryMetrics.INVOCATIONS).timer().count()).isEqualTo(3);
+		assertThat(meterRegistry.get(RepositoryMetrics.ROWS).summary().count()).isEqualTo(3);
+		assertThat(meterRegistry.getMeters()).hasSize(4);
+	}
+
+	@Test
+	public void shouldRecordCompletionStagesOnceCompleted() {
+
+		CompletableFuture<List<String>> result = new CompletableFuture<>();
+		RepositoryMetrics.Invocation invocation = repositoryMetrics.start(PersonRepository.class, "findAllByName");
+		assertThat(invocation.stop(result, null)).isSameAs(result);
+		assertThat(meterRegistry.find(RepositoryMetrics.INVOCATIONS).timer()).isNull();
+
+		result.complete(Arrays.asList("a", "b"));
+
+		assertThat(meterRegistry.get(RepositoryMetrics.INVOCATIONS).tag("outcome", "SUCCESS").timer().count())
+				.isEqualTo(1);
+		assertThat(meterRegistry.get(RepositoryMetrics.ROWS).summary().totalAmount()).isEqualTo(2.0);
+	}
+
+	@Test
+	public void shouldRecordFailedCompletionStages() {
+
+		CompletableFuture<List<String>> result = new CompletableFuture<>();
+		repositoryMetrics.start(PersonRepository.class, "findAllByName").stop(result.thenApply(rows -> rows), null);
+
+		result.completeExceptionally(new IllegalStateException());
+
+		assertThat(meterRegistry.get(RepositoryMetrics.INVOCATIONS).tag("outcome", "ERROR")
+				.tag("exception", "IllegalStateException").timer().count()).isEqualTo(1);
+	}
+
+	@Test
+	public void shouldRecordStreamsOnceClosed() {
+
+		RepositoryMetrics.Invocation invocation = repositoryMetrics.start(PersonRepository.class, "streamAllByName");
+		Stream<?> result = (Stream<?>) invocation.stop(Stream.of("a", "b"), null);
+		assertThat(result.count()).isEqualTo(2);
+		assertThat(meterRegistry.find(RepositoryMetrics.INVOCATIONS).timer()).isNull();
+
+		result.close();
+		result.close();
+
+		assertThat(meterRegistry.get(RepositoryMetrics.INVOCATIONS).timer().count()).isEqualTo(1);
+		assertThat(meterRegistry.find(RepositoryMetrics.ROWS).summary()).isNull();
+	}
+
+	interface PersonRepository extends Repository<Object, Long> {
+	}
+}
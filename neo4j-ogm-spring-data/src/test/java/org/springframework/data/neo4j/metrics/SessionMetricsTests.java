@@ -0,0 +1,140 @@
+/*
+ * Copyright 2011-2023 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.neo4j.metrics;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+
+import io.micrometer.core.instrument.MockClock;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.simple.SimpleConfig;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+import org.junit.After;
+import org.junit.Test;
+import org.neo4j.ogm.session.Session;
+import org.neo4j.ogm.session.SessionFactory;
+import org.springframework.data.neo4j.transaction.SessionFactoryUtils;
+import org.springframework.data.neo4j.transaction.SessionLifecycleListener;
+import org.springframework.data.neo4j.transaction.SessionLifecycleListener.Source;
+
+public class SessionMetricsTests {
+
+	private final MockClock clock = new MockClock();
+	private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry(SimpleConfig.DEFAULT, clock);
+	private final SessionFactory sessionFactory = mock(SessionFactory.class);
+	private SessionMetrics sessionMetrics;
+
+	@After
+	public void closeSessionMetrics() {
+		if (sessionMetrics != null) {
+			sessionMetrics.close();
+		}
+	}
+
+	@Test
+	public void shouldCountOpenSessionsBySource() {
+
+		sessionMetrics = new SessionMetrics(meterRegistry, sessionFactory);
+		Session first = mock(Session.class);
+		Session second = mock(Session.class);
+
+		SessionLifecycleListener listener = SessionFactoryUtils.getSessionLifecycleListener(sessionFactory);
+		listener.sessionOpened(first, Source.OPEN_SESSION_IN_VIEW);
+		listener.sessionOpened(second, Source.SHARED);
+		listener.sessionClosed(second);
+
+		assertThat(openSessions("open_session_in_view")).isEqualTo(1.0);
+		assertThat(openSessions("shared")).isEqualTo(0.0);
+		assertThat(meterRegistry.get(SessionMetrics.OPENED_SESSIONS).tag("source", "shared").counter().count())
+				.isEqualTo(1.0);
+	}
+
+	@Test
+	public void shouldRecordTransactionsByOutcome() {
+
+		sessionMetrics = new SessionMetrics(meterRegistry, sessionFactory);
+		Session session = mock(Session.class);
+
+		sessionMetrics.transactionBegun(session);
+		assertThat(meterRegistry.get(SessionMetrics.ACTIVE_TRANSACTIONS).gauge().value()).isEqualTo(1.0);
+		clock.add(Duration.ofMillis(250));
+		sessionMetrics.transactionCompleted(session, false);
+		sessionMetrics.bookmarksAwaited(Duration.ofMillis(20));
+
+		assertThat(meterRegistry.get(SessionMetrics.BEGUN_TRANSACTIONS).counter().count()).isEqualTo(1.0);
+		assertThat(meterRegistry.get(SessionMetrics.ACTIVE_TRANSACTIONS).gauge().value()).isEqualTo(0.0);
+		Timer rolledBack = meterRegistry.get(SessionMetrics.TRANSACTIONS).tag("outcome", "rolled_back").timer();
+		assertThat(rolledBack.count()).isEqualTo(1);
+		assertThat(rolledBack.totalTime(TimeUnit.MILLISECONDS)).isEqualTo(250.0);
+		assertThat(meterRegistry.get(SessionMetrics.TRANSACTIONS).tag("outcome", "committed").timer().count())
+				.isZero();
+		assertThat(meterRegistry.get(SessionMetrics.BOOKMARK_WAIT).timer().count()).isEqualTo(1);
+	}
+
+	@Test
+	public void shouldReportSessionsHeldLongerThanTheThresholdOnce() {
+
+		sessionMetrics = new SessionMetrics(meterRegistry, sessionFactory, Duration.ofMinutes(1));
+		Session session = mock(Session.class);
+
+		sessionMetrics.sessionOpened(session, Source.OPEN_SESSION_IN_VIEW);
+		clock.add(Duration.ofSeconds(30));
+		sessionMetrics.detectLeaks();
+		assertThat(meterRegistry.find(SessionMetrics.HELD_TOO_LONG).counter()).isNull();
+
+		clock.add(Duration.ofSeconds(31));
+		sessionMetrics.detectLeaks();
+		sessionMetrics.detectLeaks();
+		sessionMetrics.sessionClosed(session);
+
+		assertThat(meterRegistry.get(SessionMetrics.HELD_TOO_LONG).tag("kind", "session").counter().count())
+				.isEqualTo(1.0);
+	}
+
+	@Test
+	public void shouldReportTransactionsHeldLongerThanTheThresholdWhenCompleted() {
+
+		sessionMetrics = new SessionMetrics(meterRegistry, sessionFactory, Duration.ofSeconds(10));
+		Session session = mock(Session.class);
+
+		sessionMetrics.transactionBegun(session);
+		clock.add(Duration.ofSeconds(11));
+		sessionMetrics.transactionCompleted(session, true);
+
+		assertThat(meterRegistry.get(SessionMetrics.HELD_TOO_LONG).tag("kind", "transaction").counter().count())
+				.isEqualTo(1.0);
+	}
+
+	@Test
+	public void shouldStopListeningWhenClosed() {
+
+		sessionMetrics = new SessionMetrics(meterRegistry, sessionFactory);
+		sessionMetrics.close();
+
+		SessionLifecycleListener listener = SessionFactoryUtils.getSessionLifecycleListener(sessionFactory);
+		listener.sessionOpened(mock(Session.class), Source.BOUND);
+
+		assertThat(openSessions("bound")).isEqualTo(0.0);
+	}
+
+	private double openSessions(String source) {
+		return meterRegistry.get(SessionMetrics.OPEN_SESSIONS).tag("source", source).gauge().value();
+	}
+}
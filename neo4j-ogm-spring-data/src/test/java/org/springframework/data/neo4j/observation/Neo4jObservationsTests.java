@@ -0,0 +1,181 @@
+/*
+ * Copyright 2011-2023 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.neo4j.observation;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Supplier;
+import java.util.stream.Stream;
+
+import io.micrometer.observation.Observation;
+import io.micrometer.observation.ObservationHandler;
+import io.micrometer.observation.ObservationRegistry;
+
+import org.junit.After;
+import org.junit.Test;
+import org.neo4j.ogm.model.Result;
+import org.neo4j.ogm.session.Session;
+import org.neo4j.ogm.session.SessionFactory;
+import org.springframework.data.neo4j.transaction.SessionProxy;
+import org.springframework.data.neo4j.transaction.SharedSessionCreator;
+
+public class Neo4jObservationsTests {
+
+	private final List<Observation.Context> stoppedObservations = new CopyOnWriteArrayList<>();
+	private final ObservationRegistry observationRegistry = ObservationRegistry.create();
+	private final SessionFactory sessionFactory = mock(SessionFactory.class);
+	private final Neo4jObservations observations;
+
+	public Neo4jObservationsTests() {
+
+		observationRegistry.observationConfig().observationHandler(new ObservationHandler<Observation.Context>() {
+
+			@Override
+			public boolean supportsContext(Observation.Context context) {
+				return true;
+			}
+
+			@Override
+			public void onStop(Observation.Context context) {
+				stoppedObservations.add(context);
+			}
+		});
+		observations = new Neo4jObservations(observationRegistry, sessionFactory);
+	}
+
+	@After
+	public void closeObservations() {
+		observations.close();
+	}
+
+	@Test
+	public void shouldSanitizeLiterals() {
+
+		assertThat(Neo4jObservations.sanitize(
+				"MATCH (n:`Movie 'Night'`)-[*1..3]-(m) WHERE n.title = 'It\\'s' AND n.year > 1999 AND m.name = \"x\" "
+						+ "AND n.rating > $rating RETURN m LIMIT 10"))
+				.isEqualTo("MATCH (n:`Movie 'Night'`)-[*1..3]-(m) WHERE n.title = ? AND n.year > ? AND m.name = ? "
+						+ "AND n.rating > $rating RETURN m LIMIT ?");
+	}
+
+	@Test
+	public void shouldObserveQueriesOfSharedSessions() {
+
+		Session targetSession = mock(Session.class);
+		Result result = mock(Result.class);
+		when(sessionFactory.openSession()).thenReturn(targetSession);
+		when(targetSession.query(anyString(), anyMap(), anyBoolean())).thenReturn(result);
+		when(result.queryResults()).thenReturn(List.of(Map.of("title", "The Matrix"), Map.of("title", "Speed")));
+
+		Session session = SharedSessionCreator.createSharedSession(sessionFactory);
+		session.query("MATCH (m:Movie) WHERE m.released = 1999 AND m.title STARTS WITH $prefix RETURN m",
+				Map.of("prefix", "The"));
+		session.clear();
+
+		assertThat(stoppedObservations).hasSize(1);
+		Observation.Context context = stoppedObservations.get(0);
+		assertThat(context.getName()).isEqualTo(Neo4jObservations.STATEMENT);
+		assertThat(context.getContextualName()).isEqualTo("query");
+		assertThat(context.getLowCardinalityKeyValue(Neo4jObservations.DB_OPERATION).getValue()).isEqualTo("query");
+		assertThat(context.getHighCardinalityKeyValue(Neo4jObservations.DB_STATEMENT).getValue())
+				.isEqualTo("MATCH (m:Movie) WHERE m.released = ? AND m.title STARTS WITH $prefix RETURN m");
+		assertThat(context.getHighCardinalityKeyValue(Neo4jObservations.DB_PARAMETERS).getValue()).isEqualTo("prefix");
+		assertThat(context.getHighCardinalityKeyValue(Neo4jObservations.DB_ROWS).getValue()).isEqualTo("2");
+	}
+
+	@Test
+	public void shouldObserveStatementsAsChildrenOfTheirTransaction() {
+
+		Session session = mock(Session.class);
+
+		observations.transactionBegun(session);
+		observations.intercept("countEntitiesOfType", new Object[] { String.class }, () -> 42L);
+		observations.transactionCompleted(session, false);
+
+		assertThat(stoppedObservations).extracting(Observation.Context::getName)
+				.containsExactly(Neo4jObservations.STATEMENT, Neo4jObservations.TRANSACTION);
+		Observation.Context statement = stoppedObservations.get(0);
+		Observation.Context transaction = stoppedObservations.get(1);
+		assertThat(statement.getParentObservation().getContextView()).isSameAs(transaction);
+		assertThat(statement.getHighCardinalityKeyValue(Neo4jObservations.DB_ROWS)).isNull();
+		assertThat(transaction.getLowCardinalityKeyValue(Neo4jObservations.OUTCOME).getValue())
+				.isEqualTo("rolled_back");
+		assertThat(observationRegistry.getCurrentObservation()).isNull();
+	}
+
+	@Test
+	public void shouldObserveStreamedStatementsUntilTheStreamIsClosed() {
+
+		Session session = SharedSessionCreator.createSharedSession(sessionFactory);
+		Object[] arguments = { "MATCH (m:Movie) RETURN m.title", Map.of() };
+		Stream<String> titles = ((SessionProxy) session).doInTargetSession("query", arguments,
+				targetSession -> Stream.of("The Matrix", "Speed"));
+
+		assertThat(stoppedObservations).isEmpty();
+		assertThat(titles).hasSize(2);
+		titles.close();
+		titles.close();
+
+		assertThat(stoppedObservations).hasSize(1);
+		Observation.Context context = stoppedObservations.get(0);
+		assertThat(context.getHighCardinalityKeyValue(Neo4jObservations.DB_STATEMENT).getValue())
+				.isEqualTo("MATCH (m:Movie) RETURN m.title");
+		assertThat(context.getHighCardinalityKeyValue(Neo4jObservations.DB_ROWS)).isNull();
+	}
+
+	@Test
+	public void shouldRecordFailedStatements() {
+
+		IllegalStateException failure = new IllegalStateException("Connection lost");
+
+		assertThatIllegalStateException().isThrownBy(() -> observations.intercept("loadAll", new Object[0], () -> {
+			throw failure;
+		}));
+
+		assertThat(stoppedObservations).hasSize(1);
+		assertThat(stoppedObservations.get(0).getError()).isSameAs(failure);
+	}
+
+	@Test
+	public void shouldRestoreTheCapturedObservationOnAnotherThread() throws InterruptedException {
+
+		Observation request = Observation.start("request", observationRegistry);
+		Supplier<Runnable> observationScope;
+		try (Observation.Scope scope = request.openScope()) {
+			observationScope = observations.captureCurrentObservation();
+		}
+
+		AtomicReference<Observation> restored = new AtomicReference<>();
+		AtomicReference<Observation> afterClose = new AtomicReference<>();
+		Thread thread = new Thread(() -> {
+			Runnable closeScope = observationScope.get();
+			restored.set(observationRegistry.getCurrentObservation());
+			closeScope.run();
+			afterClose.set(observationRegistry.getCurrentObservation());
+		});
+		thread.start();
+		thread.join();
+		request.stop();
+
+		assertThat(restored.get()).isSameAs(request);
+		assertThat(afterClose.get()).isNull();
+	}
+}
@@ -0,0 +1,106 @@
+/*
+ * Copyright 2011-2023 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.neo4j.queries;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.Arrays;
+
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.neo4j.harness.Neo4j;
+import org.neo4j.ogm.session.Session;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.neo4j.examples.movies.domain.Cinema;
+import org.springframework.data.neo4j.examples.movies.domain.TempMovie;
+import org.springframework.data.neo4j.examples.movies.domain.User;
+import org.springframework.data.neo4j.examples.movies.repo.CinemaRepository;
+import org.springframework.test.context.ContextConfiguration;
+import org.springframework.test.context.junit4.SpringRunner;
+import org.springframework.transaction.annotation.Transactional;
+
+@ContextConfiguration(classes = MoviesContextConfiguration.class)
+@RunWith(SpringRunner.class)
+@Transactional
+public class FetchProfileTests {
+
+	private static final String PROFILE = "withVisitorsAndTheirFriends";
+
+	@Autowired private Neo4j neo4jTestServer;
+
+	@Autowired private CinemaRepository cinemaRepository;
+
+	@Autowired private Session session;
+
+	private Long picturehouseId;
+
+	private Long ritzyId;
+
+	@Before
+	public void setup() {
+		neo4jTestServer.defaultDatabaseService().executeTransactionally("MATCH (n) OPTIONAL MATCH (n)-[r]-() DELETE r, n");
+
+		User michal = new User("Michal");
+		User adam = new User("Adam");
+		michal.befriend(adam);
+
+		Cinema picturehouse = new Cinema("Picturehouse");
+		picturehouse.addVisitor(michal);
+		picturehouse.addVisitor(new User("Vince"));
+		picturehouse.setBlockbusterOfTheWeek(new TempMovie("Chocolat"));
+		Cinema ritzy = new Cinema("Ritzy");
+		ritzy.addVisitor(adam);
+		cinemaRepository.saveAll(Arrays.asList(picturehouse, ritzy));
+
+		picturehouseId = session.resolveGraphIdFor(picturehouse);
+		ritzyId = session.resolveGraphIdFor(ritzy);
+		session.clear();
+	}
+
+	@Test
+	public void findByIdShouldLoadThePathsOfTheProfile() {
+
+		Cinema cinema = cinemaRepository.findById(picturehouseId, PROFILE).get();
+
+		assertThat(cinema.getBlockbusterOfTheWeek()).isNull();
+		assertThat(cinema.getVisited()).extracting(User::getName).containsExactlyInAnyOrder("Michal", "Vince");
+		User michal = cinema.getVisited().stream().filter(user -> user.getName().equals("Michal")).findFirst().get();
+		assertThat(michal.getFriends()).extracting(User::getName).containsExactly("Adam");
+	}
+
+	@Test
+	public void findAllByIdShouldLoadThePathsOfTheProfileInTheOrderOfTheIds() {
+
+		Iterable<Cinema> cinemas = cinemaRepository.findAllById(Arrays.asList(ritzyId, picturehouseId), PROFILE);
+
+		assertThat(cinemas).extracting(Cinema::getName).containsExactly("Ritzy", "Picturehouse");
+		Cinema ritzy = cinemas.iterator().next();
+		assertThat(ritzy.getVisited()).singleElement()
+				.satisfies(adam -> assertThat(adam.getFriends()).extracting(User::getName).containsExactly("Michal"));
+	}
+
+	@Test
+	public void findAllShouldLoadThePathsOfTheProfile() {
+
+		Iterable<Cinema> cinemas = cinemaRepository.findAll(PROFILE);
+
+		assertThat(cinemas).hasSize(2).allSatisfy(cinema -> assertThat(cinema.getVisited()).isNotEmpty()
+				.allSatisfy(visitor -> assertThat(visitor.getFriends()).isNotNull()));
+		assertThat(cinemas).flatExtracting(Cinema::getVisited).extracting(User::getName)
+				.containsExactlyInAnyOrder("Michal", "Vince", "Adam");
+	}
+}
@@ -15,7 +15,10 @@
  */
 package org.springframework.data.neo4j.queries;
 
+import java.util.Arrays;
 import java.util.Collection;
+import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
@@ -24,12 +27,15 @@ import org.junit.Before;
 import org.junit.Test;
 import org.junit.runner.RunWith;
 import org.neo4j.harness.Neo4j;
+import org.neo4j.ogm.session.Session;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.data.domain.Sort;
 import org.springframework.data.neo4j.examples.movies.domain.Cinema;
+import org.springframework.data.neo4j.examples.movies.domain.User;
 import org.springframework.data.neo4j.examples.movies.repo.CinemaStreamingRepository;
 import org.springframework.test.context.ContextConfiguration;
 import org.springframework.test.context.junit4.SpringRunner;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 
 import static org.assertj.core.api.Assertions.assertThat;
@@ -47,6 +53,8 @@ public class Java8SupportTests {
 
 	@Autowired private CinemaStreamingRepository cinemaRepository;
 
+	@Autowired private Session session;
+
 	@Before
 	public void setup() {
 		neo4jTestServer.defaultDatabaseService().executeTransactionally("MATCH (n) OPTIONAL MATCH (n)-[r]-() DELETE r, n");
@@ -77,6 +85,68 @@ public class Java8SupportTests {
 		assertThat(allCinemas.count()).isEqualTo(10);
 	}
 
+	@Test
+	public void shouldStreamCinemasLazily() {
+		try (Stream<Cinema> allCinemas = cinemaRepository.getAllCinemas()) {
+			assertThat(allCinemas.limit(3).map(Cinema::getName)).hasSize(3).doesNotContainNull();
+		}
+	}
+
+	@Test
+	public void shouldReadStreamedRowsOnlyWhenConsumed() {
+		// The last row fails with a division by zero, which an eagerly read result would throw right away
+		try (Stream<Long> numbers = cinemaRepository.getNumbersFailingAtTheEnd()) {
+			assertThat(numbers.limit(3)).containsExactly(1L, 2L, 3L);
+		}
+	}
+
+	@Test
+	public void shouldHydrateRelationshipsOfStreamedEntitiesAcrossColumnsAndRows() {
+		Cinema cinema = cinemaRepository.findByName("Picturehouse", 0).get();
+		cinema.addVisitor(new User("Michal"));
+		cinema.addVisitor(new User("Vince"));
+		cinemaRepository.save(cinema);
+		session.clear();
+
+		try (Stream<Cinema> allCinemas = cinemaRepository.getAllCinemasWithVisitors()) {
+			assertThat(allCinemas.filter(c -> c.getName().equals("Picturehouse")).findFirst())
+					.hasValueSatisfying(c -> assertThat(c.getVisited()).extracting(User::getName)
+							.containsExactlyInAnyOrder("Michal", "Vince"));
+		}
+	}
+
+	@Test
+	public void shouldStreamEntitiesSpreadOverSeveralRowsOnce() {
+		Cinema cinema = cinemaRepository.findByName("Picturehouse", 0).get();
+		cinema.addVisitor(new User("Michal"));
+		cinema.addVisitor(new User("Vince"));
+		cinemaRepository.save(cinema);
+		session.clear();
+
+		try (Stream<Cinema> allCinemas = cinemaRepository.getAllCinemasWithVisitorsSortedByName()) {
+			List<Cinema> cinemas = allCinemas.collect(Collectors.toList());
+			assertThat(cinemas).extracting(Cinema::getName).hasSize(10).doesNotHaveDuplicates().startsWith("Cineplex");
+			assertThat(cinemas).filteredOn(c -> c.getName().equals("Picturehouse")).singleElement()
+					.satisfies(c -> assertThat(c.getVisited()).hasSize(2));
+		}
+	}
+
+	@Test
+	@Transactional(propagation = Propagation.NOT_SUPPORTED)
+	public void shouldStreamWritesOutsideOfTransactions() {
+		try (Stream<Cinema> cinemas = cinemaRepository.createCinemas(Arrays.asList("Odeon", "Vue"))) {
+			assertThat(cinemas).extracting(Cinema::getName).containsExactly("Odeon", "Vue");
+		}
+		assertThat(cinemaRepository.count()).isEqualTo(12);
+	}
+
+	@Test
+	public void shouldStreamRows() {
+		try (Stream<Map<String, Object>> rows = cinemaRepository.getCinemaNamesAndCapacities()) {
+			assertThat(rows).hasSize(10).allSatisfy(row -> assertThat(row).containsEntry("capacity", 500L));
+		}
+	}
+
 	@Test
 	public void shouldStreamCinemasWithSort() {
 		Collection<Cinema> allCinemas = cinemaRepository.getCinemasSortedByName(Sort.by("n.name"))
@@ -158,6 +158,40 @@ public class PagedQueryTests {
 		assertThat(page.hasNext()).isFalse();
 	}
 
+	@Test
+	@Transactional
+	public void shouldFindPagedCinemasWithInlineCount() {
+		setup();
+		Pageable pageable = PageRequest.of(0, 4, Sort.by("n.name"));
+		Page<Cinema> page = cinemaRepository.getPagedCinemasWithInlineCount(pageable);
+		assertThat(page.getContent()).extracting(Cinema::getName)
+				.containsExactly("Cineplex", "Inox", "Landmark", "Metro");
+		assertThat(page.getTotalElements()).isEqualTo(10);
+
+		page = cinemaRepository.getPagedCinemasWithInlineCount(page.nextPageable());
+		assertThat(page.getContent()).extracting(Cinema::getName)
+				.containsExactly("Movietime", "PVR", "Picturehouse", "Rainbow");
+		assertThat(page.getTotalElements()).isEqualTo(10);
+
+		page = cinemaRepository.getPagedCinemasWithInlineCount(page.nextPageable());
+		assertThat(page.getContent()).extracting(Cinema::getName).containsExactly("Regal", "Ritzy");
+		assertThat(page.hasNext()).isFalse();
+		assertThat(page.getTotalElements()).isEqualTo(10);
+	}
+
+	@Test
+	@Transactional
+	public void shouldFindPagedRowsWithInlineCountSortedByReturnedColumnsOrByVariablesOutOfScope() {
+		setup();
+		Page<String> page = cinemaRepository.getPagedCinemaNamesWithInlineCount(PageRequest.of(1, 4, Sort.by("name")));
+		assertThat(page.getContent()).containsExactly("Movietime", "PVR", "Picturehouse", "Rainbow");
+		assertThat(page.getTotalElements()).isEqualTo(10);
+
+		page = cinemaRepository.getPagedCinemaNamesWithInlineCount(PageRequest.of(1, 4, Sort.by("n.name")));
+		assertThat(page.getContent()).containsExactly("Movietime", "PVR", "Picturehouse", "Rainbow");
+		assertThat(page.getTotalElements()).isEqualTo(10);
+	}
+
 	@Test(expected = IllegalArgumentException.class)
 	@Transactional
 	public void shouldThrowExceptionIfCountQueryAbsent() {
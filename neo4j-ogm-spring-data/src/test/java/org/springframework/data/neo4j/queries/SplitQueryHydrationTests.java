@@ -0,0 +1,121 @@
+/*
+ * Copyright 2011-2023 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.neo4j.queries;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.Arrays;
+import java.util.List;
+
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.neo4j.harness.Neo4j;
+import org.neo4j.ogm.session.Session;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.neo4j.examples.movies.domain.Cinema;
+import org.springframework.data.neo4j.examples.movies.domain.Rating;
+import org.springframework.data.neo4j.examples.movies.domain.TempMovie;
+import org.springframework.data.neo4j.examples.movies.domain.User;
+import org.springframework.data.neo4j.examples.movies.repo.CinemaRepository;
+import org.springframework.test.context.ContextConfiguration;
+import org.springframework.test.context.junit4.SpringRunner;
+import org.springframework.transaction.annotation.Transactional;
+
+@ContextConfiguration(classes = MoviesContextConfiguration.class)
+@RunWith(SpringRunner.class)
+@Transactional
+public class SplitQueryHydrationTests {
+
+	@Autowired private Neo4j neo4jTestServer;
+
+	@Autowired private CinemaRepository cinemaRepository;
+
+	@Autowired private Session session;
+
+	@Before
+	public void setup() {
+		neo4jTestServer.defaultDatabaseService().executeTransactionally("MATCH (n) OPTIONAL MATCH (n)-[r]-() DELETE r, n");
+
+		TempMovie chocolat = new TempMovie("Chocolat");
+		User michal = new User("Michal");
+		michal.rate(chocolat, 4, "Sweet");
+		User adam = new User("Adam");
+		adam.rate(new TempMovie("Top Gun"), 5, "Fast");
+
+		Cinema picturehouse = new Cinema("Picturehouse", 500);
+		picturehouse.addVisitor(michal);
+		picturehouse.addVisitor(new User("Vince"));
+		picturehouse.setBlockbusterOfTheWeek(chocolat);
+		Cinema ritzy = new Cinema("Ritzy", 200);
+		ritzy.addVisitor(adam);
+		Cinema metro = new Cinema("Metro", 50);
+		cinemaRepository.saveAll(Arrays.asList(picturehouse, ritzy, metro));
+		session.clear();
+	}
+
+	@Test
+	public void derivedQueriesShouldLoadEachHopOfTheDepth() {
+
+		List<Cinema> cinemas = cinemaRepository.findByCapacityGreaterThan(100, 2);
+
+		assertThat(cinemas).extracting(Cinema::getName).containsExactlyInAnyOrder("Picturehouse", "Ritzy");
+		Cinema picturehouse = cinema(cinemas, "Picturehouse");
+		assertThat(picturehouse.getBlockbusterOfTheWeek().getName()).isEqualTo("Chocolat");
+		assertThat(picturehouse.getVisited()).extracting(User::getName).containsExactlyInAnyOrder("Michal", "Vince");
+		assertThat(visitor(picturehouse, "Michal").getRatings()).singleElement().satisfies(rating -> {
+			assertThat(rating.getStars()).isEqualTo(4);
+			assertThat(rating.getMovie()).isSameAs(picturehouse.getBlockbusterOfTheWeek());
+		});
+		assertThat(visitor(picturehouse, "Vince").getRatings()).isEmpty();
+		assertThat(picturehouse.getBlockbusterOfTheWeek().getRatings()).extracting(Rating::getUser)
+				.containsExactly(visitor(picturehouse, "Michal"));
+		assertThat(visitor(cinema(cinemas, "Ritzy"), "Adam").getRatings()).singleElement()
+				.satisfies(rating -> assertThat(rating.getMovie().getName()).isEqualTo("Top Gun"));
+	}
+
+	@Test
+	public void derivedQueriesShouldNotLoadBeyondTheDepth() {
+
+		List<Cinema> cinemas = cinemaRepository.findByCapacityGreaterThan(100, 1);
+
+		Cinema picturehouse = cinema(cinemas, "Picturehouse");
+		assertThat(picturehouse.getBlockbusterOfTheWeek().getName()).isEqualTo("Chocolat");
+		assertThat(picturehouse.getVisited()).extracting(User::getName).containsExactlyInAnyOrder("Michal", "Vince");
+		assertThat(visitor(picturehouse, "Michal").getRatings()).isEmpty();
+		assertThat(picturehouse.getBlockbusterOfTheWeek().getRatings()).isEmpty();
+	}
+
+	@Test
+	public void derivedQueriesShouldLoadAllReachableEntitiesWithUnlimitedDepth() {
+
+		List<Cinema> cinemas = cinemaRepository.findByCapacityGreaterThan(300, -1);
+
+		Cinema picturehouse = cinema(cinemas, "Picturehouse");
+		assertThat(cinemas).singleElement().isSameAs(picturehouse);
+		assertThat(visitor(picturehouse, "Michal").getRatings()).extracting(rating -> rating.getMovie().getName())
+				.containsExactly("Chocolat");
+		assertThat(picturehouse.getBlockbusterOfTheWeek().getRatings()).hasSize(1);
+	}
+
+	private static Cinema cinema(List<Cinema> cinemas, String name) {
+		return cinemas.stream().filter(cinema -> cinema.getName().equals(name)).findFirst().get();
+	}
+
+	private static User visitor(Cinema cinema, String name) {
+		return cinema.getVisited().stream().filter(user -> user.getName().equals(name)).findFirst().get();
+	}
+}
@@ -0,0 +1,69 @@
+/*
+ * Copyright 2011-2023 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.neo4j.repository.query;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.junit.Test;
+import org.springframework.data.neo4j.annotation.Depth;
+import org.springframework.data.neo4j.domain.sample.User;
+import org.springframework.data.projection.SpelAwareProxyProjectionFactory;
+import org.springframework.data.repository.Repository;
+import org.springframework.data.repository.core.support.DefaultRepositoryMetadata;
+
+public class GraphParametersParameterAccessorTests {
+
+	@Test
+	public void shouldUseDepthOfMethodAnnotation() throws NoSuchMethodException {
+
+		GraphParameterAccessor accessor = accessorFor("findByFirstname", "x");
+		assertThat(accessor.getDepth()).isEqualTo(3);
+	}
+
+	@Test
+	public void shouldUseDepthParameter() throws NoSuchMethodException {
+
+		GraphParameterAccessor accessor = accessorFor("findByLastname", "x", 2);
+		assertThat(accessor.getDepth()).isEqualTo(2);
+	}
+
+	@Test
+	public void shouldDefaultToDepthOne() throws NoSuchMethodException {
+
+		GraphParameterAccessor accessor = accessorFor("findByEmailAddress", "x");
+		assertThat(accessor.getDepth()).isEqualTo(1);
+	}
+
+	private static GraphParameterAccessor accessorFor(String methodName, Object... values)
+			throws NoSuchMethodException {
+
+		Class<?>[] parameterTypes = values.length == 1 ? new Class<?>[] { String.class }
+				: new Class<?>[] { String.class, int.class };
+		GraphQueryMethod queryMethod = new GraphQueryMethod(UserRepository.class.getMethod(methodName, parameterTypes),
+				new DefaultRepositoryMetadata(UserRepository.class), new SpelAwareProxyProjectionFactory());
+		return new GraphParametersParameterAccessor(queryMethod, values);
+	}
+
+	interface UserRepository extends Repository<User, Long> {
+
+		@Depth(3)
+		User findByFirstname(String firstname);
+
+		User findByLastname(String lastname, @Depth int depth);
+
+		User findByEmailAddress(String emailAddress);
+	}
+}
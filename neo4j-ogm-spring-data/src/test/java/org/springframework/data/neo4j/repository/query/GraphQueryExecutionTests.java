@@ -15,6 +15,7 @@
  */
 package org.springframework.data.neo4j.repository.query;
 
+import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.Mockito.*;
 import static org.mockito.Mockito.anyMap;
 import static org.mockito.Mockito.anyString;
@@ -23,11 +24,15 @@ import static org.mockito.Mockito.eq;
 import java.lang.reflect.Method;
 import java.util.Collections;
 import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
 
 import org.junit.Test;
 import org.junit.runner.RunWith;
 import org.mockito.Mock;
 import org.mockito.junit.MockitoJUnitRunner;
+import org.neo4j.ogm.model.Result;
 import org.neo4j.ogm.session.Session;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
@@ -65,9 +70,84 @@ public class GraphQueryExecutionTests {
 		verify(sessionMock, never()).queryForObject(eq(Integer.class), any(String.class), anyMap());
 	}
 
+	@Test
+	public void pagedExecutionShouldReadTotalFromInlineCount() {
+
+		User user = new User();
+		Result result = mock(Result.class);
+		when(result.queryResults()).thenReturn(List.of(Map.of("u", user, Query.TOTAL_COLUMN, 42L)));
+		when(sessionMock.query(anyString(), anyMap())).thenReturn(result);
+
+		GraphQueryMethod queryMethod = new GraphQueryMethod(method, new DefaultRepositoryMetadata(UserRepository.class),
+				factory);
+		GraphParameterAccessor accessor = new GraphParametersParameterAccessor(queryMethod,
+				new Object[] { "", PageRequest.of(0, 1) });
+		GraphQueryExecution.PagedExecution execution = new GraphQueryExecution.PagedExecution(sessionMock, accessor);
+		Query query = new Query("MATCH (u:User) RETURN u", null, new HashMap<>(), true);
+		Page<?> page = (Page<?>) execution.execute(query, User.class);
+
+		assertThat(page.getContent()).singleElement().isSameAs(user);
+		assertThat(page.getTotalElements()).isEqualTo(42L);
+		verify(sessionMock).query(eq("CALL { CALL { MATCH (u:User) RETURN u } RETURN count(*) AS sdnTotal } "
+				+ "CALL { MATCH (u:User) RETURN u } RETURN u, sdnTotal SKIP $sdnSkip LIMIT $sdnLimit"), anyMap());
+		verify(sessionMock, never()).queryForObject(any(), anyString(), anyMap());
+	}
+
+	@Test
+	public void pagedExecutionShouldReturnEachEntityOfAnInlineCountOnce() {
+
+		User user = new User();
+		User friend = new User();
+		Result result = mock(Result.class);
+		// Rows keep the order of their columns
+		when(result.queryResults()).thenReturn(List.of(row(user, List.of(friend)), row(user, List.of())));
+		when(sessionMock.query(anyString(), anyMap())).thenReturn(result);
+
+		GraphQueryMethod queryMethod = new GraphQueryMethod(method, new DefaultRepositoryMetadata(UserRepository.class),
+				factory);
+		GraphParameterAccessor accessor = new GraphParametersParameterAccessor(queryMethod,
+				new Object[] { "", PageRequest.of(0, 2) });
+		GraphQueryExecution.PagedExecution execution = new GraphQueryExecution.PagedExecution(sessionMock, accessor);
+		Query query = new Query("MATCH (u:User) OPTIONAL MATCH (u)-[:FRIEND_OF]->(f) RETURN u, collect(f) AS f", null,
+				new HashMap<>(), true);
+		Page<?> page = (Page<?>) execution.execute(query, User.class);
+
+		assertThat(page.getContent()).hasSize(2).first().isSameAs(user);
+		assertThat(page.getContent().get(1)).isSameAs(friend);
+		assertThat(page.getTotalElements()).isEqualTo(2L);
+	}
+
+	@Test
+	public void pagedExecutionShouldNotCountShortFirstPagesOfUnknownColumns() {
+
+		User user = new User();
+		when(sessionMock.query(eq(User.class), anyString(), anyMap())).thenReturn(List.of(user));
+
+		GraphQueryMethod queryMethod = new GraphQueryMethod(method, new DefaultRepositoryMetadata(UserRepository.class),
+				factory);
+		GraphParameterAccessor accessor = new GraphParametersParameterAccessor(queryMethod,
+				new Object[] { "", PageRequest.of(0, 2) });
+		GraphQueryExecution.PagedExecution execution = new GraphQueryExecution.PagedExecution(sessionMock, accessor);
+		Query query = new Query("MATCH (u:User) RETURN *", null, new HashMap<>(), true);
+		Page<?> page = (Page<?>) execution.execute(query, User.class);
+
+		assertThat(page.getContent()).singleElement().isSameAs(user);
+		assertThat(page.getTotalElements()).isEqualTo(1L);
+		verify(sessionMock).query(eq(User.class), eq("MATCH (u:User) RETURN * SKIP $sdnSkip LIMIT $sdnLimit"), anyMap());
+		verify(sessionMock, never()).queryForObject(any(), anyString(), anyMap());
+	}
+
+	private static Map<String, Object> row(User user, List<User> friends) {
+
+		Map<String, Object> row = new LinkedHashMap<>();
+		row.put("u", user);
+		row.put("f", friends);
+		row.put(Query.TOTAL_COLUMN, 2L);
+		return row;
+	}
+
 	interface UserRepository extends Repository<User, Long> {
 
 		Page<User> findByFirstname(String firstname, Pageable pageable);
 	}
-
 }
@@ -0,0 +1,151 @@
+/*
+ * Copyright 2011-2023 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.neo4j.repository.query;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyMap;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.util.Arrays;
+import java.util.Collections;
+
+import org.junit.Before;
+import org.junit.Test;
+import org.mockito.ArgumentCaptor;
+import org.neo4j.ogm.cypher.ComparisonOperator;
+import org.neo4j.ogm.cypher.Filter;
+import org.neo4j.ogm.cypher.Filters;
+import org.neo4j.ogm.metadata.ClassInfo;
+import org.neo4j.ogm.metadata.FieldInfo;
+import org.neo4j.ogm.metadata.MetaData;
+import org.neo4j.ogm.model.Result;
+import org.neo4j.ogm.session.Session;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.neo4j.mapping.Neo4jPersistentEntity;
+import org.springframework.data.neo4j.mapping.Neo4jPersistentProperty;
+import org.springframework.data.repository.query.ReturnedType;
+
+public class ProjectionPushdownTests {
+
+	static class Cinema {
+	}
+
+	interface CinemaName {
+
+		String getName();
+	}
+
+	interface CinemaWithVisitors {
+
+		String getName();
+
+		Object getVisitors();
+	}
+
+	interface CinemaWithExpression {
+
+		String getName();
+
+		@Value("#{target.visitors.size()}")
+		int visitorCount();
+	}
+
+	private ProjectionPushdown projectionPushdown;
+
+	@Before
+	public void setup() {
+
+		MetaData metaData = mock(MetaData.class);
+		ClassInfo classInfo = mock(ClassInfo.class);
+		when(metaData.classInfo(Cinema.class.getName())).thenReturn(classInfo);
+		when(classInfo.neo4jName()).thenReturn("Cinema");
+
+		FieldInfo nameField = mock(FieldInfo.class);
+		when(nameField.property()).thenReturn("cinemaName");
+		when(classInfo.propertyFieldByName("name")).thenReturn(nameField);
+
+		Neo4jPersistentEntity<?> entity = mock(Neo4jPersistentEntity.class);
+		Neo4jPersistentProperty nameProperty = mock(Neo4jPersistentProperty.class);
+		Neo4jPersistentProperty visitorsProperty = mock(Neo4jPersistentProperty.class);
+		when(visitorsProperty.isAssociation()).thenReturn(true);
+		when(entity.getPersistentProperty("name")).thenReturn(nameProperty);
+		when(entity.getPersistentProperty("visitors")).thenReturn(visitorsProperty);
+
+		projectionPushdown = new ProjectionPushdown(metaData, Cinema.class, entity);
+	}
+
+	@Test
+	public void closedProjectionsOfSimplePropertiesShouldBePushedDown() {
+
+		ProjectionPushdown.Projection projection = projectionPushdown
+				.getProjection(returnedType(CinemaName.class, "name"));
+
+		assertThat(projection).isNotNull();
+		assertThat(projection.getType()).isEqualTo(CinemaName.class);
+		assertThat(projection.needsConversion()).isFalse();
+	}
+
+	@Test
+	public void projectedQueriesShouldFilterOnGraphProperties() {
+
+		Session session = mock(Session.class);
+		Result result = mock(Result.class);
+		when(session.query(anyString(), anyMap())).thenReturn(result);
+		when(result.queryResults()).thenReturn(Collections.emptyList());
+
+		projectionPushdown.getProjection(returnedType(CinemaName.class, "name"))
+				.execute(session, new Filters(new Filter("name", ComparisonOperator.EQUALS, "Ritzy")), Sort.unsorted(), 1);
+
+		ArgumentCaptor<String> cypher = ArgumentCaptor.forClass(String.class);
+		verify(session).query(cypher.capture(), anyMap());
+		assertThat(cypher.getValue()).contains("n.`cinemaName`").endsWith("RETURN n.`cinemaName` AS `name` LIMIT $sdnLimit");
+	}
+
+	@Test
+	public void projectionsNeedingRelationshipsShouldNotBePushedDown() {
+
+		assertThat(projectionPushdown.getProjection(returnedType(CinemaWithVisitors.class, "name", "visitors")))
+				.isNull();
+	}
+
+	@Test
+	public void openProjectionsShouldNotBePushedDown() {
+
+		assertThat(projectionPushdown.getProjection(returnedType(CinemaWithExpression.class, "name"))).isNull();
+	}
+
+	@Test
+	public void entitiesShouldNotBePushedDown() {
+
+		ReturnedType returnedType = mock(ReturnedType.class);
+		when(returnedType.isProjecting()).thenReturn(false);
+
+		assertThat(projectionPushdown.getProjection(returnedType)).isNull();
+	}
+
+	private static ReturnedType returnedType(Class<?> type, String... inputProperties) {
+
+		ReturnedType returnedType = mock(ReturnedType.class);
+		when(returnedType.isProjecting()).thenReturn(true);
+		when(returnedType.getReturnedType()).thenAnswer(invocation -> type);
+		when(returnedType.getInputProperties()).thenReturn(Arrays.asList(inputProperties));
+		return returnedType;
+	}
+}
@@ -0,0 +1,130 @@
+/*
+ * Copyright 2011-2023 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.neo4j.repository.query;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+import java.util.function.UnaryOperator;
+
+import org.junit.Test;
+import org.springframework.data.neo4j.mapping.ResultCopier;
+
+public class QueryCoalescerTests {
+
+	private final QueryCoalescer queryCoalescer = new QueryCoalescer();
+	private final AtomicInteger executions = new AtomicInteger();
+
+	@Test
+	public void resultsWithoutConcurrentInvocationsShouldNotBeCopied() {
+
+		List<String> result = List.of("a");
+
+		assertThat(queryCoalescer.execute("k", () -> result, QueryCoalescerTests::copy)).isSameAs(result);
+	}
+
+	@Test
+	public void concurrentInvocationsShouldShareOneExecution() throws Exception {
+
+		List<String> result = List.of("a");
+		CompletableFuture<Thread> follower = new CompletableFuture<>();
+		Supplier<Object> query = () -> {
+			executions.incrementAndGet();
+			awaitWaiting(follower.join());
+			return result;
+		};
+
+		CompletableFuture<Object> leaderResult = CompletableFuture
+				.supplyAsync(() -> queryCoalescer.execute("k", query, QueryCoalescerTests::copy));
+		awaitExecutions(1);
+		CompletableFuture<Object> followerResult = new CompletableFuture<>();
+		Thread followerThread = new Thread(
+				() -> followerResult.complete(queryCoalescer.execute("k", query, QueryCoalescerTests::copy)));
+		followerThread.start();
+		follower.complete(followerThread);
+
+		assertThat(leaderResult.get()).isEqualTo(result).isNotSameAs(result);
+		assertThat(followerResult.get()).isEqualTo(result).isNotSameAs(result).isNotSameAs(leaderResult.get());
+		assertThat(executions).hasValue(1);
+	}
+
+	@Test
+	public void followersShouldExecuteQueriesWithResultsThatCannotBeCopied() throws Exception {
+
+		List<String> result = List.of("a");
+		CompletableFuture<Thread> follower = new CompletableFuture<>();
+		Supplier<Object> query = () -> {
+			if (executions.incrementAndGet() == 1) {
+				awaitWaiting(follower.join());
+			}
+			return result;
+		};
+		UnaryOperator<Object> copier = r -> {
+			throw new ResultCopier.NotCopyableException();
+		};
+
+		CompletableFuture<Object> leaderResult = CompletableFuture
+				.supplyAsync(() -> queryCoalescer.execute("k", query, copier));
+		awaitExecutions(1);
+		CompletableFuture<Object> followerResult = new CompletableFuture<>();
+		Thread followerThread = new Thread(() -> followerResult.complete(queryCoalescer.execute("k", query, copier)));
+		followerThread.start();
+		follower.complete(followerThread);
+
+		assertThat(leaderResult.get()).isSameAs(result);
+		assertThat(followerResult.get()).isSameAs(result);
+		assertThat(executions).hasValue(2);
+	}
+
+	@Test
+	public void invocationsAfterCompletionShouldExecuteAgain() {
+
+		queryCoalescer.execute("k", executions::incrementAndGet, r -> r);
+		queryCoalescer.execute("k", executions::incrementAndGet, r -> r);
+
+		assertThat(executions).hasValue(2);
+	}
+
+	@Test
+	public void failedExecutionsShouldNotBeKept() {
+
+		assertThatIllegalStateException().isThrownBy(() -> queryCoalescer.execute("k", () -> {
+			throw new IllegalStateException("Failed");
+		}, r -> r));
+
+		assertThat(queryCoalescer.execute("k", executions::incrementAndGet, r -> r)).isEqualTo(1);
+	}
+
+	private void awaitExecutions(int expectedExecutions) {
+		while (executions.get() < expectedExecutions) {
+			Thread.onSpinWait();
+		}
+	}
+
+	private static void awaitWaiting(Thread thread) {
+		while (thread.getState() != Thread.State.WAITING) {
+			Thread.onSpinWait();
+		}
+	}
+
+	private static Object copy(Object result) {
+		return new ArrayList<>((List<?>) result);
+	}
+}
@@ -0,0 +1,141 @@
+/*
+ * Copyright 2011-2023 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.neo4j.repository.query;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+import java.lang.reflect.Method;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+
+import org.junit.Test;
+import org.neo4j.ogm.metadata.ClassInfo;
+import org.neo4j.ogm.metadata.MetaData;
+import org.neo4j.ogm.session.Session;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.neo4j.annotation.CachedQuery;
+import org.springframework.data.neo4j.annotation.Query;
+import org.springframework.data.neo4j.cache.CaffeineQueryResultCache;
+import org.springframework.data.neo4j.domain.sample.User;
+import org.springframework.data.projection.SpelAwareProxyProjectionFactory;
+import org.springframework.data.repository.Repository;
+import org.springframework.data.repository.core.support.DefaultRepositoryMetadata;
+import org.springframework.util.ReflectionUtils;
+
+public class QueryResultCachingTests {
+
+	private final AtomicInteger executions = new AtomicInteger();
+
+	@Test
+	public void pagesOfCustomQueriesShouldBeCachedSeparately() {
+
+		AbstractGraphRepositoryQuery query = cachedQuery(parameters -> List.of(parameters[0].toString()));
+		Pageable firstPage = PageRequest.of(0, 10);
+		Pageable secondPage = PageRequest.of(1, 10);
+
+		Object first = query.execute(new Object[] { firstPage });
+		Object second = query.execute(new Object[] { secondPage });
+
+		assertThat(first).isEqualTo(List.of(firstPage.toString()));
+		assertThat(second).isEqualTo(List.of(secondPage.toString()));
+		assertThat(query.execute(new Object[] { firstPage })).isEqualTo(first);
+		assertThat(executions).hasValue(2);
+	}
+
+	@Test
+	public void eachCallerShouldGetItsOwnCopyOfCachedEntities() {
+
+		User user = new User("Michael", "Simons", "michael@example.com");
+		AbstractGraphRepositoryQuery query = cachedQuery(parameters -> List.of(user));
+		Object[] parameters = { PageRequest.of(0, 10) };
+
+		List<?> first = (List<?>) query.execute(parameters);
+		List<?> second = (List<?>) query.execute(parameters);
+		List<?> third = (List<?>) query.execute(parameters);
+
+		assertThat(executions).hasValue(1);
+		assertThat(first.get(0)).isSameAs(user);
+		assertThat(second.get(0)).isNotSameAs(user).isNotSameAs(third.get(0));
+		assertThat(second.get(0)).usingRecursiveComparison().isEqualTo(user);
+		assertThat(third.get(0)).usingRecursiveComparison().isEqualTo(user);
+	}
+
+	@Test
+	public void resultsThatCannotBeCopiedShouldNotBeCached() {
+
+		Object notCopyable = new Object();
+		AbstractGraphRepositoryQuery query = cachedQuery(parameters -> List.of(notCopyable));
+		Object[] parameters = { PageRequest.of(0, 10) };
+
+		assertThat(query.execute(parameters)).isEqualTo(List.of(notCopyable));
+		assertThat(query.execute(parameters)).isEqualTo(List.of(notCopyable));
+		assertThat(executions).hasValue(2);
+	}
+
+	private AbstractGraphRepositoryQuery cachedQuery(Function<Object[], Object> result) {
+
+		Method method = ReflectionUtils.findMethod(UserRepository.class, "findAllUsers", Pageable.class);
+		GraphQueryMethod queryMethod = new GraphQueryMethod(method, new DefaultRepositoryMetadata(UserRepository.class),
+				new SpelAwareProxyProjectionFactory());
+		queryMethod.setQueryResultCache(new CaffeineQueryResultCache());
+		MetaData metaData = mock(MetaData.class);
+		when(metaData.classInfo(User.class.getName())).thenReturn(mock(ClassInfo.class));
+		org.springframework.data.neo4j.repository.query.Query query = //
+				new org.springframework.data.neo4j.repository.query.Query("MATCH (u:User) RETURN u", null,
+						Collections.emptyMap());
+
+		return new AbstractGraphRepositoryQuery(queryMethod, metaData, mock(Session.class)) {
+
+			@Override
+			protected org.springframework.data.neo4j.repository.query.Query getQuery(Object[] parameters) {
+				return query;
+			}
+
+			@Override
+			protected Object doExecute(org.springframework.data.neo4j.repository.query.Query params,
+					Object[] parameters) {
+				executions.incrementAndGet();
+				return result.apply(parameters);
+			}
+
+			@Override
+			protected boolean isCountQuery() {
+				return false;
+			}
+
+			@Override
+			protected boolean isExistsQuery() {
+				return false;
+			}
+
+			@Override
+			protected boolean isDeleteQuery() {
+				return false;
+			}
+		};
+	}
+
+	interface UserRepository extends Repository<User, Long> {
+
+		@CachedQuery
+		@Query("MATCH (u:User) RETURN u")
+		List<User> findAllUsers(Pageable pageable);
+	}
+}
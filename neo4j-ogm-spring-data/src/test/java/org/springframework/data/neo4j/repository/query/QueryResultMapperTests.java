@@ -0,0 +1,63 @@
+/*
+ * Copyright 2011-2023 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.neo4j.repository.query;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.Test;
+import org.neo4j.ogm.annotation.Property;
+import org.neo4j.ogm.metadata.MetaData;
+import org.springframework.data.neo4j.annotation.QueryResult;
+
+public class QueryResultMapperTests {
+
+	@QueryResult
+	record CinemaStatistics(String name, @Property(name = "seats") long capacity, List<String> screens) {
+	}
+
+	@Test
+	public void recordsShouldBeCreatedThroughTheirCanonicalConstructor() {
+
+		MetaData metaData = mock(MetaData.class);
+		QueryResultMapper mapper = new QueryResultMapper(metaData, new QueryResultInstantiator(metaData, null));
+
+		Map<String, Object> row = new HashMap<>();
+		row.put("name", "Picturehouse");
+		row.put("seats", 42);
+		row.put("screens", new String[] { "A", "B" });
+
+		Object result = mapper.map(CinemaStatistics.class, row);
+
+		assertThat(result).isEqualTo(new CinemaStatistics("Picturehouse", 42L, Arrays.asList("A", "B")));
+	}
+
+	@Test
+	public void missingColumnsShouldUseDefaultValues() {
+
+		MetaData metaData = mock(MetaData.class);
+		QueryResultMapper mapper = new QueryResultMapper(metaData, new QueryResultInstantiator(metaData, null));
+
+		Object result = mapper.map(CinemaStatistics.class, new HashMap<>());
+
+		assertThat(result).isEqualTo(new CinemaStatistics(null, 0L, null));
+	}
+}
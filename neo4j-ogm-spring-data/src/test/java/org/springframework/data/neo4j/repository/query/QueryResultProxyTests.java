@@ -0,0 +1,64 @@
+/*
+ * Copyright 2011-2023 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.neo4j.repository.query;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import org.junit.Test;
+
+public class QueryResultProxyTests {
+
+	interface CinemaResult {
+
+		String getName();
+
+		boolean isOpen();
+
+		Long seats();
+	}
+
+	@Test
+	public void gettersShouldReadResolvedKeys() {
+
+		Map<String, Object> row = new HashMap<>();
+		row.put("name", "Picturehouse");
+		row.put("open", true);
+		row.put("seats", 42);
+
+		CinemaResult result = (CinemaResult) QueryResultProxy.newInstance(CinemaResult.class, row);
+
+		assertThat(result.getName()).isEqualTo("Picturehouse");
+		assertThat(result.isOpen()).isTrue();
+		assertThat(result.seats()).isEqualTo(42L);
+	}
+
+	@Test
+	public void objectMethodsShouldNotBeTreatedAsGetters() {
+
+		Map<String, Object> row = new HashMap<>();
+		row.put("name", "Picturehouse");
+
+		CinemaResult result = (CinemaResult) QueryResultProxy.newInstance(CinemaResult.class, row);
+
+		assertThat(result).isEqualTo(result);
+		assertThat(result).isNotEqualTo(QueryResultProxy.newInstance(CinemaResult.class, row));
+		assertThat(result.hashCode()).isEqualTo(System.identityHashCode(result));
+		assertThat(result.toString()).contains("Picturehouse");
+	}
+}
@@ -0,0 +1,191 @@
+/*
+ * Copyright 2011-2023 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.neo4j.repository.query;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIllegalStateException;
+
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import org.junit.Test;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.ScrollPosition;
+import org.springframework.data.domain.Sort;
+
+public class QueryTests {
+
+	@Test
+	public void initialKeysetShouldOnlyApplySortAndLimit() {
+
+		Query query = new Query("MATCH (n:Cinema) RETURN n;", null, new HashMap<>());
+		String cypher = query.getCypherQuery(ScrollPosition.keyset(), Sort.by("n.name"), 10);
+
+		assertThat(cypher).isEqualTo("MATCH (n:Cinema) RETURN n ORDER BY n.name ASC LIMIT $sdnLimit");
+		assertThat(query.getParameters().get("sdnLimit")).isEqualTo(11);
+	}
+
+	@Test
+	public void keysetShouldBeAppliedBeforeTheFinalReturn() {
+
+		Map<String, Object> keys = new LinkedHashMap<>();
+		keys.put("n.name", "Picturehouse");
+		keys.put("n.id", 4711L);
+
+		Query query = new Query("MATCH (n:Cinema) WHERE n.city = 'London' RETURN n", null, new HashMap<>());
+		String cypher = query.getCypherQuery(ScrollPosition.forward(keys),
+				Sort.by(Sort.Order.asc("n.name"), Sort.Order.desc("n.id")), 10);
+
+		assertThat(cypher).isEqualTo("MATCH (n:Cinema) WHERE n.city = 'London' WITH * "
+				+ "WHERE ((n.name > $sdnKeyset0 OR n.name IS NULL)) OR (n.name = $sdnKeyset0 AND n.id < $sdnKeyset1) "
+				+ "RETURN n ORDER BY n.name ASC, n.id DESC LIMIT $sdnLimit");
+		assertThat(query.getParameters().get("sdnKeyset0")).isEqualTo("Picturehouse");
+		assertThat(query.getParameters().get("sdnKeyset1")).isEqualTo(4711L);
+	}
+
+	@Test
+	public void returnsOfSubqueriesAndLiteralsShouldNotBeConsideredFinal() {
+
+		Query query = new Query("MATCH (n:Cinema) CALL { WITH n RETURN 'RETURN' AS x } RETURN n, x", null,
+				new HashMap<>());
+		String cypher = query.getCypherQuery(ScrollPosition.forward(Map.of("n.name", "Picturehouse")),
+				Sort.by(Sort.Order.desc("n.name")), 10);
+
+		assertThat(cypher).startsWith("MATCH (n:Cinema) CALL { WITH n RETURN 'RETURN' AS x } "
+				+ "WITH * WHERE (n.name < $sdnKeyset0) RETURN n, x ORDER BY");
+	}
+
+	@Test
+	public void unionsShouldBeWrapped() {
+
+		Query query = new Query("MATCH (n:Cinema) RETURN n UNION MATCH (n:Theatre) RETURN n", null, new HashMap<>());
+		String cypher = query.getCypherQuery(ScrollPosition.forward(Map.of("n.name", "Picturehouse")),
+				Sort.by(Sort.Order.desc("n.name")), 10);
+
+		assertThat(cypher).isEqualTo("CALL { MATCH (n:Cinema) RETURN n UNION MATCH (n:Theatre) RETURN n } "
+				+ "WITH * WHERE (n.name < $sdnKeyset0) RETURN * ORDER BY n.name DESC LIMIT $sdnLimit");
+	}
+
+	@Test
+	public void sortingByAliasesShouldBeWrapped() {
+
+		Query query = new Query("MATCH (n:Cinema) RETURN n.name AS name", null, new HashMap<>());
+		String cypher = query.getCypherQuery(ScrollPosition.forward(Map.of("name", "Picturehouse")),
+				Sort.by(Sort.Order.desc("name")), 10);
+
+		assertThat(cypher).startsWith("CALL { MATCH (n:Cinema) RETURN n.name AS name } WITH * WHERE (name < $sdnKeyset0)");
+	}
+
+	@Test
+	public void nullKeysShouldBeComparedAccordingToTheNullOrder() {
+
+		Map<String, Object> keys = new LinkedHashMap<>();
+		keys.put("n.city", null);
+		keys.put("n.name", "Picturehouse");
+
+		Query query = new Query("MATCH (n:Cinema) RETURN n", null, new HashMap<>());
+		String ascending = query.getCypherQuery(ScrollPosition.forward(keys),
+				Sort.by(Sort.Order.asc("n.city"), Sort.Order.asc("n.name")), 10);
+		assertThat(ascending).contains("WITH * WHERE (n.city IS NULL AND (n.name > $sdnKeyset1 OR n.name IS NULL)) RETURN");
+		assertThat(query.getParameters()).doesNotContainKey("sdnKeyset0");
+
+		String descending = query.getCypherQuery(ScrollPosition.forward(keys),
+				Sort.by(Sort.Order.desc("n.city"), Sort.Order.desc("n.name")), 10);
+		assertThat(descending).contains(
+				"WITH * WHERE (n.city IS NOT NULL) OR (n.city IS NULL AND n.name < $sdnKeyset1) RETURN");
+	}
+
+	@Test
+	public void nothingShouldFollowNullAscendingKeys() {
+
+		Map<String, Object> keys = new HashMap<>();
+		keys.put("n.city", null);
+
+		Query query = new Query("MATCH (n:Cinema) RETURN n", null, new HashMap<>());
+		String cypher = query.getCypherQuery(ScrollPosition.forward(keys), Sort.by("n.city"), 10);
+
+		assertThat(cypher).contains("WITH * WHERE false RETURN");
+	}
+
+	@Test
+	public void ignoredCaseShouldBeAppliedToKeys() {
+
+		Query query = new Query("MATCH (n:Cinema) RETURN n", null, new HashMap<>());
+		String cypher = query.getCypherQuery(ScrollPosition.forward(Map.of("n.name", "Picturehouse")),
+				Sort.by(Sort.Order.desc("n.name").ignoreCase()), 10);
+
+		assertThat(cypher).contains("WHERE (toLower(n.name) < toLower($sdnKeyset0)) RETURN n ORDER BY toLower(n.name)");
+	}
+
+	@Test
+	public void offsetShouldBeAppliedAsSkip() {
+
+		Query query = new Query("MATCH (n:Cinema) RETURN n", null, new HashMap<>());
+		String cypher = query.getCypherQuery(ScrollPosition.offset(20), Sort.unsorted(), 10);
+
+		assertThat(cypher).isEqualTo("MATCH (n:Cinema) RETURN n SKIP $sdnSkip LIMIT $sdnLimit");
+		assertThat(query.getParameters().get("sdnSkip")).isEqualTo(20L);
+	}
+
+	@Test
+	public void keysetMustContainAllSortProperties() {
+
+		Query query = new Query("MATCH (n:Cinema) RETURN n", null, new HashMap<>());
+		Map<String, Object> keys = Map.of("n.name", "Picturehouse");
+
+		assertThatIllegalStateException().isThrownBy(() -> query.getCypherQuery(ScrollPosition.forward(keys),
+				Sort.by("n.name", "n.id"), 10))
+				.withMessage("KeysetScrollPosition does not contain all keyset values. Missing key: n.id");
+	}
+
+	@Test
+	public void totalShouldBeCountedBySubquery() {
+
+		Query query = new Query("MATCH (n:Cinema)<-[:VISITED]-(u) RETURN DISTINCT n, count(u) AS `visits` "
+				+ "ORDER BY visits DESC;", null, new HashMap<>(), true);
+		String cypher = query.getCypherQueryWithTotal(PageRequest.of(2, 10, Sort.by("n.name")));
+
+		assertThat(cypher).isEqualTo("CALL { CALL { MATCH (n:Cinema)<-[:VISITED]-(u) RETURN DISTINCT n, count(u) AS "
+				+ "`visits` ORDER BY visits DESC } RETURN count(*) AS sdnTotal } "
+				+ "CALL { MATCH (n:Cinema)<-[:VISITED]-(u) RETURN DISTINCT n, count(u) AS `visits` ORDER BY visits DESC } "
+				+ "RETURN n, visits, sdnTotal ORDER BY n.name ASC SKIP $sdnSkip LIMIT $sdnLimit");
+		assertThat(query.getParameters().get("sdnSkip")).isEqualTo(20L);
+		assertThat(query.getParameters().get("sdnLimit")).isEqualTo(10);
+	}
+
+	@Test
+	public void totalShouldNotBeInlinedWhenTheSortRefersToVariablesOutOfScope() {
+
+		Query query = new Query("MATCH (n:Cinema) RETURN n.name AS name", null, new HashMap<>(), true);
+
+		assertThat(query.getCypherQueryWithTotal(PageRequest.of(0, 10, Sort.by("n.name")))).isNull();
+		assertThat(query.getCypherQueryWithTotal(PageRequest.of(0, 10, Sort.by("toLower(n.name)")))).isNull();
+		assertThat(query.getCypherQueryWithTotal(PageRequest.of(0, 10, Sort.by(Sort.Order.by("name").ignoreCase()))))
+				.endsWith("RETURN name, sdnTotal ORDER BY toLower(name) ASC SKIP $sdnSkip LIMIT $sdnLimit");
+	}
+
+	@Test
+	public void totalOfQueriesWithUnknownColumnsShouldNotBeInlined() {
+
+		assertThat(new Query("MATCH (n) RETURN *", null, new HashMap<>(), true)
+				.getCypherQueryWithTotal(PageRequest.of(0, 10))).isNull();
+		assertThat(new Query("MATCH (n:A) RETURN n UNION MATCH (n:B) RETURN n", null, new HashMap<>(), true)
+				.getCypherQueryWithTotal(PageRequest.of(0, 10))).isNull();
+		assertThat(new Query("MATCH (n) RETURN n, [x IN n.tags | x]", null, new HashMap<>(), true)
+				.getCypherQueryWithTotal(PageRequest.of(0, 10))).isNull();
+	}
+}
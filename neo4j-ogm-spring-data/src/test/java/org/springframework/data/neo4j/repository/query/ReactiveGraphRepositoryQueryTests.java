@@ -0,0 +1,145 @@
+/*
+ * Copyright 2011-2023 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.neo4j.repository.query;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+import java.lang.reflect.Method;
+import java.util.Arrays;
+import java.util.function.Supplier;
+import java.util.stream.Stream;
+
+import kotlin.coroutines.Continuation;
+
+import org.junit.Test;
+import org.neo4j.ogm.session.Session;
+import org.neo4j.ogm.session.SessionFactory;
+import org.springframework.data.neo4j.domain.sample.User;
+import org.springframework.data.neo4j.transaction.SessionHolder;
+import org.springframework.data.projection.SpelAwareProxyProjectionFactory;
+import org.springframework.data.repository.Repository;
+import org.springframework.data.repository.core.support.DefaultRepositoryMetadata;
+import org.springframework.data.repository.query.RepositoryQuery;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.util.ReflectionUtils;
+
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
+import reactor.test.StepVerifier;
+
+public class ReactiveGraphRepositoryQueryTests {
+
+	private final Session session = mock(Session.class);
+	private final SessionFactory sessionFactory = mock(SessionFactory.class);
+
+	{
+		when(sessionFactory.openSession()).thenReturn(session);
+	}
+
+	@Test
+	public void reactiveAndCoroutineMultiValueMethodsShouldBeCollectionQueries() {
+
+		assertThat(queryMethod(ReactiveUserRepository.class, "findAllByFirstname", String.class).isCollectionQuery())
+				.isTrue();
+		assertThat(queryMethod(ReactiveUserRepository.class, "findOneByFirstname", String.class).isCollectionQuery())
+				.isFalse();
+		assertThat(queryMethod(CoroutineUserRepository.class, "findAllByLastname", String.class).isCollectionQuery())
+				.isTrue();
+	}
+
+	@Test
+	public void continuationOfSuspendFunctionsShouldNotBeBound() {
+
+		GraphQueryMethod single = queryMethod(CoroutineUserRepository.class, "findOneByFirstname", String.class,
+				Continuation.class);
+		GraphQueryMethod many = queryMethod(CoroutineUserRepository.class, "findAllByFirstname", String.class,
+				Continuation.class);
+
+		assertThat(single.isCollectionQuery()).isFalse();
+		assertThat(single.getParameters().getBindableParameters().getNumberOfParameters()).isEqualTo(1);
+		assertThat(many.isCollectionQuery()).isTrue();
+	}
+
+	@Test
+	public void collectionQueriesShouldEmitElementsOnBoundSession() {
+
+		User user1 = new User();
+		User user2 = new User();
+		RepositoryQuery delegate = delegate(
+				queryMethod(ReactiveUserRepository.class, "findAllByFirstname", String.class), () -> {
+					assertThat(((SessionHolder) TransactionSynchronizationManager.getResource(sessionFactory)).getSession())
+							.isSameAs(session);
+					return Arrays.asList(user1, user2);
+				});
+
+		Object result = new ReactiveGraphRepositoryQuery(delegate, sessionFactory, Schedulers.immediate(), null)
+				.execute(new Object[] { "Michael" });
+
+		assertThat(result).isInstanceOf(Flux.class);
+		StepVerifier.create((Flux<Object>) result).expectNext(user1, user2).verifyComplete();
+		assertThat(TransactionSynchronizationManager.hasResource(sessionFactory)).isFalse();
+	}
+
+	@Test
+	public void streamsShouldBeConsumedWhileTheSessionIsBound() {
+
+		User user = new User();
+		RepositoryQuery delegate = delegate(
+				queryMethod(ReactiveUserRepository.class, "findAllByFirstname", String.class), () -> Stream.of(user));
+
+		Object result = new ReactiveGraphRepositoryQuery(delegate, sessionFactory, Schedulers.immediate(), null)
+				.execute(new Object[] { "Michael" });
+
+		StepVerifier.create((Flux<Object>) result).expectNext(user).verifyComplete();
+	}
+
+	@Test
+	public void singleValueQueriesShouldEmitMono() {
+
+		RepositoryQuery delegate = delegate(
+				queryMethod(ReactiveUserRepository.class, "findOneByFirstname", String.class), () -> null);
+
+		Object result = new ReactiveGraphRepositoryQuery(delegate, sessionFactory, Schedulers.immediate(), null)
+				.execute(new Object[] { "Michael" });
+
+		assertThat(result).isInstanceOf(Mono.class);
+		StepVerifier.create((Mono<?>) result).verifyComplete();
+	}
+
+	private static GraphQueryMethod queryMethod(Class<?> repositoryInterface, String name, Class<?>... parameterTypes) {
+
+		Method method = ReflectionUtils.findMethod(repositoryInterface, name, parameterTypes);
+		return new GraphQueryMethod(method, new DefaultRepositoryMetadata(repositoryInterface),
+				new SpelAwareProxyProjectionFactory());
+	}
+
+	private static RepositoryQuery delegate(GraphQueryMethod queryMethod, Supplier<Object> result) {
+
+		RepositoryQuery delegate = mock(RepositoryQuery.class);
+		when(delegate.getQueryMethod()).thenReturn(queryMethod);
+		when(delegate.execute(any())).thenAnswer(invocation -> result.get());
+		return delegate;
+	}
+
+	interface ReactiveUserRepository extends Repository<User, Long> {
+
+		Flux<User> findAllByFirstname(String firstname);
+
+		Mono<User> findOneByFirstname(String firstname);
+	}
+}
@@ -0,0 +1,141 @@
+/*
+ * Copyright 2011-2023 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.neo4j.repository.query;
+
+import java.lang.reflect.Method;
+
+import kotlin.coroutines.Continuation;
+import kotlinx.coroutines.reactor.ReactorFlowKt;
+
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.neo4j.ogm.session.SessionFactory;
+import org.reactivestreams.Publisher;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.ComponentScan;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.FilterType;
+import org.springframework.core.CoroutinesUtils;
+import org.springframework.data.neo4j.domain.sample.User;
+import org.springframework.data.neo4j.repository.ReactiveNeo4jRepository;
+import org.springframework.data.neo4j.repository.config.EnableReactiveNeo4jRepositories;
+import org.springframework.data.neo4j.test.Neo4jIntegrationTest;
+import org.springframework.data.neo4j.transaction.ReactiveNeo4jTransactionManager;
+import org.springframework.test.context.ContextConfiguration;
+import org.springframework.test.context.junit4.SpringRunner;
+import org.springframework.transaction.reactive.TransactionalOperator;
+import org.springframework.util.ReflectionUtils;
+
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+/**
+ * Runs query methods of reactive and Kotlin coroutine repositories against a database, with and without a reactive
+ * transaction.
+ */
+@RunWith(SpringRunner.class)
+@ContextConfiguration(classes = ReactiveRepositoryQueryTests.Config.class)
+public class ReactiveRepositoryQueryTests {
+
+	@Configuration
+	@Neo4jIntegrationTest(domainPackages = "org.springframework.data.neo4j.domain.sample",
+			repositoryPackages = "org.springframework.data.neo4j.repository.sample")
+	@EnableReactiveNeo4jRepositories(considerNestedRepositories = true,
+			includeFilters = @ComponentScan.Filter(type = FilterType.ASSIGNABLE_TYPE,
+					classes = { ReactiveUserRepository.class, CoroutineUserRepository.class }))
+	static class Config {
+
+		@Bean
+		public ReactiveNeo4jTransactionManager reactiveTransactionManager(SessionFactory sessionFactory) {
+			return new ReactiveNeo4jTransactionManager(sessionFactory);
+		}
+
+		@Bean
+		public TransactionalOperator transactionalOperator(ReactiveNeo4jTransactionManager reactiveTransactionManager) {
+			return TransactionalOperator.create(reactiveTransactionManager);
+		}
+	}
+
+	@Autowired private ReactiveUserRepository repository;
+
+	@Autowired private CoroutineUserRepository coroutineRepository;
+
+	@Autowired private TransactionalOperator transactionalOperator;
+
+	@Before
+	public void clearDatabase() {
+		repository.deleteAll().block();
+	}
+
+	@Test
+	public void queriesShouldRunOutsideOfTransactions() {
+
+		StepVerifier.create(repository.saveAll(Flux.just(new User("Michael", "Simons", "ms@example.com"),
+				new User("Gerrit", "Meier", "gm@example.com")))).expectNextCount(2).verifyComplete();
+
+		StepVerifier.create(repository.findAllByLastname("Simons").map(User::getFirstname))
+				.expectNext("Michael").verifyComplete();
+		StepVerifier.create(repository.findOneByFirstname("Gerrit").map(User::getLastname))
+				.expectNext("Meier").verifyComplete();
+		StepVerifier.create(repository.countByFirstname("Michael")).expectNext(1L).verifyComplete();
+		StepVerifier.create(findAllByLastname("Meier").map(User::getFirstname))
+				.expectNext("Gerrit").verifyComplete();
+		StepVerifier.create(findOneByFirstname("Michael").map(User::getLastname))
+				.expectNext("Simons").verifyComplete();
+	}
+
+	@Test
+	public void queriesShouldRunInTheReactiveTransaction() {
+
+		Flux<String> names = repository.save(new User("Michael", "Simons", "ms@example.com"))
+				.thenMany(Flux.concat(repository.findOneByFirstname("Michael").map(User::getLastname),
+						findAllByLastname("Simons").map(User::getFirstname),
+						findOneByFirstname("Michael").map(User::getEmailAddress)))
+				.concatWith(Mono.fromRunnable(() -> { throw new IllegalStateException("Rollback"); }));
+
+		StepVerifier.create(transactionalOperator.transactional(names))
+				.expectNext("Simons", "Michael", "ms@example.com")
+				.verifyErrorMessage("Rollback");
+
+		StepVerifier.create(repository.findOneByFirstname("Michael")).verifyComplete();
+		StepVerifier.create(findAllByLastname("Simons")).verifyComplete();
+	}
+
+	private Flux<User> findAllByLastname(String lastname) {
+		return ReactorFlowKt.asFlux(coroutineRepository.findAllByLastname(lastname));
+	}
+
+	@SuppressWarnings("unchecked")
+	private Mono<User> findOneByFirstname(String firstname) {
+
+		Method method = ReflectionUtils.findMethod(CoroutineUserRepository.class, "findOneByFirstname", String.class,
+				Continuation.class);
+		return Mono.from((Publisher<User>) CoroutinesUtils.invokeSuspendingFunction(method, coroutineRepository,
+				firstname));
+	}
+
+	interface ReactiveUserRepository extends ReactiveNeo4jRepository<User, Long> {
+
+		Flux<User> findAllByLastname(String lastname);
+
+		Mono<User> findOneByFirstname(String firstname);
+
+		Mono<Long> countByFirstname(String firstname);
+	}
+}
@@ -0,0 +1,59 @@
+/*
+ * Copyright 2011-2023 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.neo4j.repository.query;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.List;
+import java.util.Map;
+
+import org.junit.Test;
+import org.neo4j.ogm.cypher.BooleanOperator;
+import org.neo4j.ogm.session.request.FilteredQueryBuilder;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.neo4j.repository.query.filter.FilterBuilder;
+import org.springframework.data.neo4j.repository.query.filter.KeysetFilterBuilder;
+import org.springframework.data.repository.query.parser.Part;
+
+public class TemplatedQueryTests {
+
+	@Test
+	public void keysetShouldBeCombinedWithEveryConjunctiveTerm() {
+
+		TemplatedQuery templatedQuery = new TemplatedQuery(List.of(
+				FilterBuilder.forPartAndEntity(new Part("name", Thing.class), Thing.class, BooleanOperator.NONE,
+						part -> false),
+				FilterBuilder.forPartAndEntity(new Part("city", Thing.class), Thing.class, BooleanOperator.OR,
+						part -> false)));
+		KeysetFilterBuilder keysetFilterBuilder = new KeysetFilterBuilder(Thing.class, Sort.by(Sort.Order.desc("name")),
+				Map.of("name", "Ritzy"), property -> false);
+
+		Query query = templatedQuery.createExecutableQuery(Map.of(0, "Regal", 1, "London"), 10,
+				Sort.by(Sort.Order.desc("name")), keysetFilterBuilder);
+
+		assertThat(FilteredQueryBuilder.buildNodeQuery("Thing", query.getFilters()).statement())
+				.isEqualTo("MATCH (n:`Thing`) WHERE n.`name` = $`name_0` AND n.`name` < $`name_1` "
+						+ "OR n.`city` = $`city_2` AND n.`name` < $`name_3` WITH n");
+		assertThat(query.getOptionalLimit()).isEqualTo(10);
+	}
+
+	static class Thing {
+
+		String name;
+
+		String city;
+	}
+}
@@ -0,0 +1,110 @@
+/*
+ * Copyright 2011-2023 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.neo4j.repository.query.filter;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIllegalStateException;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.Test;
+import org.neo4j.ogm.cypher.BooleanOperator;
+import org.neo4j.ogm.cypher.Filter;
+import org.neo4j.ogm.cypher.Filters;
+import org.neo4j.ogm.session.request.FilteredQueryBuilder;
+import org.springframework.data.domain.Sort;
+
+public class KeysetFilterBuilderTests {
+
+	@Test
+	public void shouldCreateOneTermPerSortKey() {
+
+		Map<String, Object> keys = new LinkedHashMap<>();
+		keys.put("name", "Ritzy");
+		keys.put("id", 4711L);
+
+		KeysetFilterBuilder builder = new KeysetFilterBuilder(Thing.class,
+				Sort.by(Sort.Order.desc("name"), Sort.Order.desc("id")), keys, "id"::equals);
+
+		assertThat(whereClause(builder)).isEqualTo("n.`name` < $`name_0` "
+				+ "OR n.`name` = $`name_1` AND id(n) < $`id_2`");
+	}
+
+	@Test
+	public void nullsShouldFollowAscendingKeys() {
+
+		KeysetFilterBuilder builder = new KeysetFilterBuilder(Thing.class, Sort.by("name"), Map.of("name", "Ritzy"),
+				property -> false);
+
+		assertThat(whereClause(builder)).isEqualTo("n.`name` > $`name_0` OR n.`name` IS NULL");
+	}
+
+	@Test
+	public void nullKeysShouldBeComparedWithIsNull() {
+
+		Map<String, Object> keys = new LinkedHashMap<>();
+		keys.put("city", null);
+		keys.put("name", "Ritzy");
+
+		KeysetFilterBuilder builder = new KeysetFilterBuilder(Thing.class,
+				Sort.by(Sort.Order.desc("city"), Sort.Order.desc("name")), keys, property -> false);
+
+		assertThat(whereClause(builder)).isEqualTo("NOT(n.`city` IS NULL ) "
+				+ "OR n.`city` IS NULL AND n.`name` < $`name_2`");
+	}
+
+	@Test
+	public void nothingShouldFollowNullAscendingKeys() {
+
+		Map<String, Object> keys = new HashMap<>();
+		keys.put("city", null);
+
+		KeysetFilterBuilder builder = new KeysetFilterBuilder(Thing.class, Sort.by("city"), keys, property -> false);
+
+		assertThat(whereClause(builder)).isEqualTo("id(n) < $`id_0`");
+	}
+
+	@Test
+	public void keysetsMustContainAllSortProperties() {
+
+		assertThatIllegalStateException().isThrownBy(() -> new KeysetFilterBuilder(Thing.class,
+				Sort.by("name", "city"), Map.of("name", "Ritzy"), property -> false))
+				.withMessage("KeysetScrollPosition does not contain all keyset values. Missing key: city");
+	}
+
+	private static String whereClause(KeysetFilterBuilder builder) {
+
+		List<Filter> filters = new ArrayList<>();
+		for (int i = 0; i < builder.getNumberOfTerms(); i++) {
+			List<Filter> term = builder.buildTerm(i);
+			term.get(0).setBooleanOperator(filters.isEmpty() ? BooleanOperator.NONE : BooleanOperator.OR);
+			filters.addAll(term);
+		}
+		String statement = FilteredQueryBuilder.buildNodeQuery("Thing", new Filters(filters)).statement();
+		return statement.substring(statement.indexOf("WHERE ") + 6, statement.indexOf(" WITH n")).trim();
+	}
+
+	static class Thing {
+
+		String name;
+
+		String city;
+	}
+}
@@ -0,0 +1,55 @@
+/*
+ * Copyright 2011-2023 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.neo4j.repository.query.filter;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.List;
+import java.util.Stack;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.Test;
+import org.neo4j.ogm.cypher.BooleanOperator;
+import org.neo4j.ogm.cypher.Filter;
+import org.springframework.data.repository.query.parser.Part;
+
+public class PropertyComparisonBuilderTests {
+
+	@Test
+	public void shouldResolvePropertyMetadataOnlyOnce() {
+
+		AtomicInteger resolutions = new AtomicInteger();
+		FilterBuilder filterBuilder = FilterBuilder.forPartAndEntity(new Part("nameGreaterThan", Thing.class),
+				Thing.class, BooleanOperator.NONE, part -> resolutions.incrementAndGet() < 0);
+
+		for (String value : List.of("a", "b")) {
+			Stack<Object> parameters = new Stack<>();
+			parameters.push(value);
+
+			List<Filter> filters = filterBuilder.build(parameters);
+			assertThat(filters).hasSize(1);
+			assertThat(filters.get(0).getPropertyName()).isEqualTo("name");
+			assertThat(parameters).isEmpty();
+		}
+
+		assertThat(resolutions).hasValue(1);
+	}
+
+	static class Thing {
+
+		String name;
+	}
+}
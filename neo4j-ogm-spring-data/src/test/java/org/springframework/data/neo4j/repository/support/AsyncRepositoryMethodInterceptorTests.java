@@ -0,0 +1,134 @@
+/*
+ * Copyright 2011-2023 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.neo4j.repository.support;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicReference;
+
+import io.micrometer.observation.Observation;
+import io.micrometer.observation.ObservationRegistry;
+
+import org.aopalliance.intercept.MethodInvocation;
+import org.junit.Test;
+import org.neo4j.ogm.session.Session;
+import org.neo4j.ogm.session.SessionFactory;
+import org.springframework.data.neo4j.bookmark.BookmarkInfo;
+import org.springframework.data.neo4j.bookmark.BookmarkSupport;
+import org.springframework.data.neo4j.observation.Neo4jObservations;
+import org.springframework.data.neo4j.transaction.SessionHolder;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+public class AsyncRepositoryMethodInterceptorTests {
+
+	interface CinemaRepository {
+
+		CompletableFuture<List<String>> findAllNames();
+
+		List<String> findAllNamesSynchronously();
+	}
+
+	@Test
+	public void asyncMethodsShouldRunOnTheExecutorInTheirOwnSession() throws Throwable {
+
+		SessionFactory sessionFactory = mock(SessionFactory.class);
+		Session session = mock(Session.class);
+		when(sessionFactory.openSession()).thenReturn(session);
+
+		AtomicReference<Thread> executingThread = new AtomicReference<>();
+		Executor executor = task -> {
+			Thread thread = new Thread(task);
+			executingThread.set(thread);
+			thread.start();
+		};
+
+		AtomicReference<Session> boundSession = new AtomicReference<>();
+		AtomicReference<BookmarkInfo> bookmarkInfo = new AtomicReference<>();
+		MethodInvocation invocation = mock(MethodInvocation.class);
+		when(invocation.getMethod()).thenReturn(CinemaRepository.class.getMethod("findAllNames"));
+		when(invocation.proceed()).thenAnswer(i -> {
+			boundSession.set(((SessionHolder) TransactionSynchronizationManager.getResource(sessionFactory)).getSession());
+			bookmarkInfo.set(BookmarkSupport.currentBookmarkInfo());
+			return CompletableFuture.completedFuture(List.of("Picturehouse"));
+		});
+
+		BookmarkInfo callersBookmarkInfo = new BookmarkInfo();
+		callersBookmarkInfo.setUseBookmark(true);
+		AsyncRepositoryMethodInterceptor interceptor = new AsyncRepositoryMethodInterceptor(executor, sessionFactory);
+		Object result = BookmarkSupport.callWithBookmarkInfo(callersBookmarkInfo, () -> {
+			try {
+				return interceptor.invoke(invocation);
+			} catch (Throwable e) {
+				throw new IllegalStateException(e);
+			}
+		});
+
+		assertThat(((CompletableFuture<?>) result).get()).isEqualTo(List.of("Picturehouse"));
+		assertThat(executingThread.get()).isNotEqualTo(Thread.currentThread());
+		assertThat(boundSession.get()).isSameAs(session);
+		assertThat(bookmarkInfo.get().shouldUseBookmark()).isTrue();
+		assertThat(TransactionSynchronizationManager.hasResource(sessionFactory)).isFalse();
+	}
+
+	@Test
+	public void asyncMethodsShouldCarryOverTheCurrentObservation() throws Throwable {
+
+		ObservationRegistry observationRegistry = ObservationRegistry.create();
+		observationRegistry.observationConfig().observationHandler(context -> true);
+		Neo4jObservations observations = new Neo4jObservations(observationRegistry, mock(SessionFactory.class));
+
+		AtomicReference<Observation> currentObservation = new AtomicReference<>();
+		MethodInvocation invocation = mock(MethodInvocation.class);
+		when(invocation.getMethod()).thenReturn(CinemaRepository.class.getMethod("findAllNames"));
+		when(invocation.proceed()).thenAnswer(i -> {
+			currentObservation.set(observationRegistry.getCurrentObservation());
+			return CompletableFuture.completedFuture(List.of("Picturehouse"));
+		});
+
+		AsyncRepositoryMethodInterceptor interceptor = new AsyncRepositoryMethodInterceptor(
+				task -> new Thread(task).start(), null, observations);
+		Observation request = Observation.start("request", observationRegistry);
+		Object result;
+		try (Observation.Scope scope = request.openScope()) {
+			result = interceptor.invoke(invocation);
+		} finally {
+			request.stop();
+			observations.close();
+		}
+
+		assertThat(((CompletableFuture<?>) result).get()).isEqualTo(List.of("Picturehouse"));
+		assertThat(currentObservation.get()).isSameAs(request);
+	}
+
+	@Test
+	public void synchronousMethodsShouldProceedDirectly() throws Throwable {
+
+		MethodInvocation invocation = mock(MethodInvocation.class);
+		when(invocation.getMethod()).thenReturn(CinemaRepository.class.getMethod("findAllNamesSynchronously"));
+		when(invocation.proceed()).thenReturn(List.of("Picturehouse"));
+
+		AsyncRepositoryMethodInterceptor interceptor = new AsyncRepositoryMethodInterceptor(task -> {
+			throw new IllegalStateException("Should not be called");
+		}, null);
+
+		assertThat(interceptor.invoke(invocation)).isEqualTo(List.of("Picturehouse"));
+	}
+}
@@ -0,0 +1,102 @@
+/*
+ * Copyright 2011-2023 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.neo4j.repository.support;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyMap;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.stream.Stream;
+
+import org.junit.Before;
+import org.junit.Test;
+import org.neo4j.ogm.metadata.ClassInfo;
+import org.neo4j.ogm.metadata.FieldInfo;
+import org.neo4j.ogm.metadata.MetaData;
+import org.neo4j.ogm.session.Session;
+import org.springframework.dao.InvalidDataAccessApiUsageException;
+import org.springframework.data.neo4j.repository.BulkWriteResult;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionStatus;
+
+public class DefaultNeo4jBulkOperationsTests {
+
+	static class Cinema {
+
+		String name;
+
+		Cinema(String name) {
+			this.name = name;
+		}
+	}
+
+	private final Session session = mock(Session.class);
+	private final PlatformTransactionManager transactionManager = mock(PlatformTransactionManager.class);
+
+	private DefaultNeo4jBulkOperations bulkOperations;
+
+	@Before
+	public void setup() {
+
+		MetaData metaData = mock(MetaData.class);
+		ClassInfo classInfo = mock(ClassInfo.class);
+		FieldInfo nameField = mock(FieldInfo.class);
+		when(metaData.classInfo(Cinema.class.getName())).thenReturn(classInfo);
+		when(classInfo.neo4jName()).thenReturn("Cinema");
+		when(classInfo.staticLabels()).thenReturn(Arrays.asList("Cinema", "Venue"));
+		when(classInfo.propertyFields()).thenReturn(Collections.singletonList(nameField));
+		when(nameField.property()).thenReturn("name");
+		when(nameField.readProperty(any())).thenAnswer(invocation -> ((Cinema) invocation.getArgument(0)).name);
+		when(transactionManager.getTransaction(any())).thenReturn(mock(TransactionStatus.class));
+
+		bulkOperations = new DefaultNeo4jBulkOperations(session, metaData, transactionManager);
+		bulkOperations.setBatchSize(2);
+		bulkOperations.setBatchesPerTransaction(2);
+	}
+
+	@Test
+	public void insertShouldWriteBatchesInChunks() {
+
+		BulkWriteResult result = bulkOperations.insert(Cinema.class,
+				Stream.of("A", "B", "C", "D", "E").map(Cinema::new));
+
+		assertThat(result.getRows()).isEqualTo(5);
+		assertThat(result.getBatches()).isEqualTo(3);
+		assertThat(result.getTransactions()).isEqualTo(2);
+		verify(session, times(3)).query(eq("UNWIND $rows AS row CREATE (n:`Cinema`:`Venue`) SET n = row"), anyMap(),
+				eq(false));
+		verify(session).query(any(String.class),
+				eq(Collections.singletonMap("rows", Arrays.asList(Collections.singletonMap("name", "A"),
+						Collections.singletonMap("name", "B")))),
+				eq(false));
+		verify(transactionManager, times(2)).commit(any());
+	}
+
+	@Test
+	public void mergeShouldRequireAnAssignedId() {
+
+		assertThatExceptionOfType(InvalidDataAccessApiUsageException.class)
+				.isThrownBy(() -> bulkOperations.merge(Cinema.class, Stream.of(new Cinema("A"))));
+	}
+}
@@ -0,0 +1,200 @@
+/*
+ * Copyright 2011-2023 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.neo4j.repository.support;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicReference;
+
+import org.junit.Before;
+import org.junit.Test;
+import org.neo4j.ogm.metadata.ClassInfo;
+import org.neo4j.ogm.metadata.FieldInfo;
+import org.neo4j.ogm.session.Session;
+import org.neo4j.ogm.session.SessionFactory;
+import org.springframework.data.neo4j.transaction.SessionHolder;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+public class EntityBatchLoaderTests {
+
+	private final SessionFactory sessionFactory = mock(SessionFactory.class);
+	private final Session session = mock(Session.class);
+
+	private EntityBatchLoader loader;
+
+	@Before
+	public void setUp() {
+
+		MockedSession mockedSession = new MockedSession();
+		doReturn(mockedSession.metaData).when(sessionFactory).metaData();
+		ClassInfo classInfo = mockedSession.entity(Cinema.class, "Cinema");
+		mockedSession.primaryIndex(classInfo, "uuid", (Cinema cinema) -> cinema.uuid);
+
+		ClassInfo screenInfo = mockedSession.entity(Screen.class, "Screen");
+		FieldInfo idField = mock(FieldInfo.class);
+		doReturn(idField).when(screenInfo).identityField();
+		doReturn("id").when(idField).getName();
+		doReturn(idField).when(screenInfo).propertyField("id");
+		doAnswer(invocation -> ((Screen) invocation.getArgument(0)).id).when(idField).readProperty(any());
+
+		loader = new EntityBatchLoader(sessionFactory, session);
+	}
+
+	@Test
+	public void shouldLoadAllPendingIdsWithOneQuery() {
+
+		Cinema a = new Cinema("a");
+		Cinema b = new Cinema("b");
+		doReturn(Arrays.asList(b, a)).when(session).loadAll(eq(Cinema.class), eq(Arrays.asList("a", "b", "c")),
+				anyInt());
+
+		CompletableFuture<Cinema> loadOfA = loader.load(Cinema.class, "a");
+		CompletableFuture<Cinema> loadOfB = loader.load(Cinema.class, "b");
+		CompletableFuture<Cinema> loadOfC = loader.load(Cinema.class, "c");
+		assertThat(loader.load(Cinema.class, "a")).isSameAs(loadOfA);
+		verifyNoInteractions(session);
+
+		loader.dispatch();
+
+		assertThat(loadOfA).isCompletedWithValue(a);
+		assertThat(loadOfB).isCompletedWithValue(b);
+		assertThat(loadOfC).isCompletedWithValue(null);
+		verify(session).loadAll(eq(Cinema.class), eq(Arrays.asList("a", "b", "c")), anyInt());
+	}
+
+	@Test
+	public void shouldOnlyLoadIdsOnce() {
+
+		Cinema a = new Cinema("a");
+		doReturn(Collections.singletonList(a)).when(session).loadAll(eq(Cinema.class), anyCollection(), anyInt());
+
+		loader.load(Cinema.class, "a");
+		loader.dispatch();
+		assertThat(loader.load(Cinema.class, "a")).isCompletedWithValue(a);
+		loader.dispatch();
+
+		verify(session).loadAll(eq(Cinema.class), anyCollection(), anyInt());
+	}
+
+	@Test
+	public void waitingForALoadShouldDispatch() {
+
+		Cinema a = new Cinema("a");
+		doReturn(Collections.singletonList(a)).when(session).loadAll(eq(Cinema.class), anyCollection(), anyInt());
+
+		assertThat(loader.load(Cinema.class, "a").join()).isSameAs(a);
+	}
+
+	@Test
+	public void waitingForADependentFutureShouldDispatch() {
+
+		Cinema a = new Cinema("a");
+		doReturn(Collections.singletonList(a)).when(session).loadAll(eq(Cinema.class), anyCollection(), anyInt());
+
+		assertThat(loader.load(Cinema.class, "a").thenApply(cinema -> cinema.uuid).join()).isEqualTo("a");
+		assertThat(loader.load(Cinema.class, "a").thenCompose(CompletableFuture::completedFuture).join()).isSameAs(a);
+	}
+
+	@Test
+	public void pendingLoadsShouldBeDispatchedAfterTheDelay() {
+
+		Cinema a = new Cinema("a");
+		doReturn(Collections.singletonList(a)).when(session).loadAll(eq(Cinema.class), anyCollection(), anyInt());
+		loader.setDispatchDelay(Duration.ofMillis(10));
+
+		CompletableFuture<Cinema> loadOfA = loader.load(Cinema.class, "a");
+
+		verify(session, timeout(5_000)).loadAll(eq(Cinema.class), anyCollection(), anyInt());
+		assertThat(loadOfA).succeedsWithin(Duration.ofSeconds(5)).isSameAs(a);
+	}
+
+	@Test
+	public void numericIdsShouldBeConvertedToTheIdType() {
+
+		Screen screen = new Screen(1L);
+		doReturn(Collections.singletonList(screen)).when(session).loadAll(eq(Screen.class), anyCollection(),
+				anyInt());
+
+		CompletableFuture<Screen> load = loader.load(Screen.class, 1);
+		assertThat(loader.load(Screen.class, 1L)).isSameAs(load);
+		loader.dispatch();
+
+		assertThat(load).isCompletedWithValue(screen);
+	}
+
+	@Test
+	public void failedQueriesShouldFailAllLoadsOfTheType() {
+
+		IllegalStateException failure = new IllegalStateException("Boom");
+		doThrow(failure).when(session).loadAll(eq(Cinema.class), anyCollection(), anyInt());
+
+		CompletableFuture<Cinema> loadOfA = loader.load(Cinema.class, "a");
+		CompletableFuture<Cinema> loadOfB = loader.load(Cinema.class, "b");
+		loader.dispatch();
+
+		assertThat(loadOfA).isCompletedExceptionally();
+		assertThat(loadOfB).isCompletedExceptionally();
+		assertThatThrownBy(loadOfA::join).hasCause(failure);
+	}
+
+	@Test
+	public void shouldLoadInTheSessionBoundWhenTheFirstEntityWasRequested() throws Exception {
+
+		Session openSessionInView = mock(Session.class);
+		AtomicReference<Object> sessionDuringLoad = new AtomicReference<>();
+		doAnswer(invocation -> {
+			sessionDuringLoad.set(((SessionHolder) TransactionSynchronizationManager.getResource(sessionFactory)).getSession());
+			return Collections.emptyList();
+		}).when(session).loadAll(eq(Cinema.class), anyCollection(), anyInt());
+
+		TransactionSynchronizationManager.bindResource(sessionFactory, new SessionHolder(openSessionInView));
+		CompletableFuture<Cinema> load;
+		try {
+			load = loader.load(Cinema.class, "a");
+		} finally {
+			TransactionSynchronizationManager.unbindResource(sessionFactory);
+		}
+
+		CompletableFuture.runAsync(loader::dispatch).get();
+
+		assertThat(load).isCompletedWithValue(null);
+		assertThat(sessionDuringLoad.get()).isSameAs(openSessionInView);
+		assertThat(TransactionSynchronizationManager.hasResource(sessionFactory)).isFalse();
+	}
+
+	static class Cinema {
+
+		String uuid;
+
+		Cinema(String uuid) {
+			this.uuid = uuid;
+		}
+	}
+
+	static class Screen {
+
+		Long id;
+
+		Screen(Long id) {
+			this.id = id;
+		}
+	}
+}
@@ -0,0 +1,97 @@
+/*
+ * Copyright 2011-2023 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.neo4j.repository.support;
+
+import static org.mockito.Mockito.*;
+
+import org.junit.Before;
+import org.junit.Test;
+import org.mockito.ArgumentCaptor;
+import org.neo4j.ogm.metadata.ClassInfo;
+import org.neo4j.ogm.session.SessionFactory;
+import org.neo4j.ogm.session.event.Event;
+import org.neo4j.ogm.session.event.EventListener;
+import org.springframework.data.neo4j.annotation.CachedEntity;
+import org.springframework.data.neo4j.cache.EntityCache;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+public class EntityCacheEventListenerTests {
+
+	private final EntityCache entityCache = mock(EntityCache.class);
+
+	private EventListener listener;
+
+	@Before
+	public void setUp() {
+
+		MockedSession mockedSession = new MockedSession();
+		ClassInfo classInfo = mockedSession.entity(Cinema.class, "Cinema");
+		mockedSession.primaryIndex(classInfo, "uuid", (Cinema cinema) -> cinema.uuid);
+
+		SessionFactory sessionFactory = mock(SessionFactory.class);
+		doReturn(mockedSession.metaData).when(sessionFactory).metaData();
+		EntityCacheEventListener.register(sessionFactory, entityCache);
+		ArgumentCaptor<EventListener> registeredListener = ArgumentCaptor.forClass(EventListener.class);
+		verify(sessionFactory).register(registeredListener.capture());
+		listener = registeredListener.getValue();
+	}
+
+	@Test
+	public void savedEntitiesShouldBeEvicted() {
+
+		listener.onPostSave(event(new Cinema("a")));
+
+		verify(entityCache).evict(Cinema.class, "a");
+	}
+
+	@Test
+	public void entitiesSavedInTransactionsShouldBeEvictedAgainAfterCompletion() {
+
+		TransactionSynchronizationManager.initSynchronization();
+		try {
+			listener.onPostSave(event(new Cinema("a")));
+			listener.onPostDelete(event(new Cinema("b")));
+			verify(entityCache).evict(Cinema.class, "a");
+			verify(entityCache).evict(Cinema.class, "b");
+
+			TransactionSynchronizationManager.getSynchronizations()
+					.forEach(synchronization -> synchronization.afterCompletion(TransactionSynchronization.STATUS_COMMITTED));
+		} finally {
+			TransactionSynchronizationManager.clearSynchronization();
+		}
+
+		verify(entityCache, times(2)).evict(Cinema.class, "a");
+		verify(entityCache, times(2)).evict(Cinema.class, "b");
+	}
+
+	private static Event event(Object entity) {
+
+		Event event = mock(Event.class);
+		doReturn(entity).when(event).getObject();
+		return event;
+	}
+
+	@CachedEntity
+	static class Cinema {
+
+		String uuid;
+
+		Cinema(String uuid) {
+			this.uuid = uuid;
+		}
+	}
+}
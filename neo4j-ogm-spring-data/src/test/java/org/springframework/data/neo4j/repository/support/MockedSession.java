@@ -0,0 +1,68 @@
+/*
+ * Copyright 2011-2023 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.neo4j.repository.support;
+
+import static org.mockito.Mockito.*;
+
+import java.util.Collections;
+import java.util.function.Function;
+
+import org.neo4j.ogm.metadata.ClassInfo;
+import org.neo4j.ogm.metadata.FieldInfo;
+import org.neo4j.ogm.metadata.MetaData;
+import org.neo4j.ogm.session.Session;
+import org.springframework.data.neo4j.mapping.MetaDataProvider;
+
+/**
+ * A mocked session providing mocked metadata, as shared sessions do, with helpers describing the mapped entities.
+ */
+final class MockedSession {
+
+	final Session session = mock(Session.class, withSettings().extraInterfaces(MetaDataProvider.class));
+	final MetaData metaData = mock(MetaData.class);
+
+	MockedSession() {
+		doReturn(metaData).when((MetaDataProvider) session).getMetaData();
+	}
+
+	/**
+	 * Maps the given type to a node with the given label.
+	 */
+	ClassInfo entity(Class<?> type, String label) {
+
+		ClassInfo classInfo = mock(ClassInfo.class);
+		doReturn(classInfo).when(metaData).classInfo(type.getName());
+		doReturn(label).when(classInfo).neo4jName();
+		doReturn(Collections.singletonList(label)).when(classInfo).staticLabels();
+		return classInfo;
+	}
+
+	/**
+	 * Adds an assigned id, which is the only property of the entity, read by the given function.
+	 */
+	@SuppressWarnings("unchecked")
+	<T> FieldInfo primaryIndex(ClassInfo classInfo, String name, Function<T, Object> reader) {
+
+		FieldInfo field = mock(FieldInfo.class);
+		doReturn(field).when(classInfo).primaryIndexField();
+		doReturn(field).when(classInfo).propertyField(name);
+		doReturn(Collections.singletonList(field)).when(classInfo).propertyFields();
+		doReturn(name).when(field).getName();
+		doReturn(name).when(field).property();
+		doAnswer(invocation -> reader.apply((T) invocation.getArgument(0))).when(field).readProperty(any());
+		return field;
+	}
+}
@@ -24,8 +24,10 @@ import org.junit.runner.RunWith;
 import org.mockito.Mock;
 import org.mockito.junit.MockitoJUnitRunner;
 import org.neo4j.ogm.session.Session;
+import org.neo4j.ogm.session.SessionFactory;
 import org.springframework.beans.factory.BeanFactory;
 import org.springframework.beans.factory.ListableBeanFactory;
+import org.springframework.beans.factory.ObjectProvider;
 import org.springframework.data.mapping.context.MappingContext;
 import org.springframework.data.neo4j.mapping.MetaDataProvider;
 import org.springframework.data.neo4j.repository.sample.repo.ContactRepository;
@@ -60,8 +62,10 @@ public class Neo4jRepositoryFactoryBeanTests {
 	 * Assert that the instance created for the standard configuration is a valid {@code UserRepository}.
 	 */
 	@Test
+	@SuppressWarnings("unchecked")
 	public void setsUpBasicInstanceCorrectly() {
 
+		when(beanFactory.getBeanProvider(SessionFactory.class)).thenReturn(mock(ObjectProvider.class));
 		factoryBean.setBeanFactory(beanFactory);
 		factoryBean.afterPropertiesSet();
 
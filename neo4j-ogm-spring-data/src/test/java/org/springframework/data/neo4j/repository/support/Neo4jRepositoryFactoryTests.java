@@ -20,13 +20,20 @@ import static org.mockito.Mockito.*;
 
 import java.io.Serializable;
 import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 
 import org.junit.Before;
 import org.junit.Test;
 import org.mockito.Mockito;
 import org.neo4j.ogm.session.Session;
 import org.springframework.aop.framework.Advised;
-import org.springframework.data.neo4j.mapping.MetaDataProvider;
+import org.springframework.data.neo4j.annotation.Query;
+import org.springframework.data.neo4j.metrics.RepositoryMetrics;
 import org.springframework.data.neo4j.repository.Neo4jRepository;
 import org.springframework.data.neo4j.repository.support.Neo4jRepositoryFactory;
 import org.springframework.data.neo4j.repository.support.SimpleNeo4jRepository;
@@ -49,8 +56,7 @@ public class Neo4jRepositoryFactoryTests {
 	@Before
 	public void setUp() {
 
-		Session session = mock(Session.class, withSettings().extraInterfaces(MetaDataProvider.class));
-		factory = new Neo4jRepositoryFactory(session, null);
+		factory = new Neo4jRepositoryFactory(new MockedSession().session, null);
 	}
 
 	/**
@@ -81,6 +87,57 @@ public class Neo4jRepositoryFactoryTests {
 				.isEqualTo(CustomNeo4jRepository.class);
 	}
 
+	@Test
+	public void shutsDownTheDefaultAsyncExecutor() {
+
+		factory.getRepository(AsyncObjectRepository.class);
+		Executor defaultExecutor = factory.getAsyncExecutor();
+		assertThat(factory.getAsyncExecutor()).isSameAs(defaultExecutor);
+
+		factory.shutdownDefaultAsyncExecutor();
+
+		if (defaultExecutor instanceof ExecutorService executorService) {
+			assertThat(executorService.isShutdown()).isTrue();
+		}
+		assertThat(factory.getAsyncExecutor()).isNotSameAs(defaultExecutor);
+	}
+
+	@Test
+	public void leavesConfiguredAsyncExecutorsAlone() {
+
+		ExecutorService executor = Executors.newSingleThreadExecutor();
+		try {
+			factory.setAsyncExecutor(executor);
+			factory.getRepository(AsyncObjectRepository.class);
+			factory.shutdownDefaultAsyncExecutor();
+
+			assertThat(factory.getAsyncExecutor()).isSameAs(executor);
+			assertThat(executor.isShutdown()).isFalse();
+		} finally {
+			executor.shutdown();
+		}
+	}
+
+	@Test
+	public void crudMethodsShouldRecordTheTimeSpentInTheSessionAsDatabaseTime() {
+
+		SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+		factory.setRepositoryMetrics(new RepositoryMetrics(meterRegistry));
+
+		factory.getRepository(ObjectRepository.class).count();
+
+		assertThat(meterRegistry.get(RepositoryMetrics.DATABASE).tag("method", "count")
+				.tag("execution", RepositoryMetrics.CRUD_EXECUTION).timer().count()).isEqualTo(1);
+		assertThat(meterRegistry.get(RepositoryMetrics.MAPPING).tag("method", "count")
+				.tag("execution", RepositoryMetrics.CRUD_EXECUTION).timer().count()).isEqualTo(1);
+	}
+
+	private interface AsyncObjectRepository extends Neo4jRepository<Object, Long> {
+
+		@Query("MATCH (n) RETURN n")
+		CompletableFuture<Object> findAnyNode();
+	}
+
 	private interface ObjectRepository extends Neo4jRepository<Object, Long> {
 
 		@Override
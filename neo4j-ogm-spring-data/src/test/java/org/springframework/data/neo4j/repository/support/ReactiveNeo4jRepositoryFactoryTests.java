@@ -0,0 +1,51 @@
+/*
+ * Copyright 2011-2023 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.neo4j.repository.support;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+import org.junit.Test;
+import org.neo4j.ogm.session.SessionFactory;
+
+import reactor.core.scheduler.Scheduler;
+import reactor.core.scheduler.Schedulers;
+
+public class ReactiveNeo4jRepositoryFactoryTests {
+
+	private final SessionFactory sessionFactory = mock(SessionFactory.class);
+
+	@Test
+	public void leavesConfiguredSchedulersAlone() {
+
+		Scheduler scheduler = Schedulers.newSingle("test");
+		try {
+			new ReactiveNeo4jRepositoryFactory(sessionFactory, scheduler).disposeDefaultScheduler();
+
+			assertThat(scheduler.isDisposed()).isFalse();
+		} finally {
+			scheduler.dispose();
+		}
+	}
+
+	@Test
+	public void neverDisposesTheSharedBoundedElasticScheduler() {
+
+		new ReactiveNeo4jRepositoryFactory(sessionFactory).disposeDefaultScheduler();
+
+		assertThat(Schedulers.boundedElastic().isDisposed()).isFalse();
+	}
+}
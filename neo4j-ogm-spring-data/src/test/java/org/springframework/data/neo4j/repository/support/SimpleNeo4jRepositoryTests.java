@@ -19,14 +19,24 @@ import static org.assertj.core.api.Assertions.*;
 import static org.mockito.Mockito.*;
 
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
 import java.util.List;
 
 import org.junit.Test;
+import org.mockito.InOrder;
 import org.neo4j.ogm.cypher.query.Pagination;
 import org.neo4j.ogm.cypher.query.SortOrder;
+import org.neo4j.ogm.metadata.ClassInfo;
+import org.neo4j.ogm.metadata.FieldInfo;
+import org.neo4j.ogm.model.Result;
 import org.neo4j.ogm.session.Session;
+import org.neo4j.ogm.session.event.Event;
+import org.springframework.dao.InvalidDataAccessApiUsageException;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
+import org.springframework.data.neo4j.annotation.CachedEntity;
+import org.springframework.data.neo4j.cache.CaffeineEntityCache;
 
 /**
  * @author Gerrit Meier
@@ -156,6 +166,282 @@ public class SimpleNeo4jRepositoryTests {
 				.withMessage("The given id must not be null!");
 	}
 
+	@Test
+	public void deleteAllByIdShouldDeleteInChunks() {
+
+		MockedSession mockedSession = new MockedSession();
+		Session session = mockedSession.session;
+		mockedSession.entity(Object.class, "Cinema");
+
+		Result result = mock(Result.class);
+		doReturn(Collections.singletonList(Collections.singletonMap("nativeId", 4711L))).when(result).queryResults();
+		doReturn(result).when(session).query(anyString(), anyMap());
+
+		SimpleNeo4jRepository<Object, Long> batchingRepository = new SimpleNeo4jRepository<>(Object.class, session);
+		batchingRepository.setBatchSize(2);
+		batchingRepository.deleteAllById(Arrays.asList(1L, 2L, 3L));
+
+		verify(session, times(2)).query(
+				eq("UNWIND $ids AS id MATCH (n:`Cinema`) WHERE id(n) = id WITH n, id(n) AS nativeId DETACH DELETE n RETURN nativeId"),
+				anyMap());
+		verify(session).query(anyString(), eq(Collections.singletonMap("ids", Arrays.asList(1L, 2L))));
+		verify(session).query(anyString(), eq(Collections.singletonMap("ids", Collections.singletonList(3L))));
+		verify(session, times(2)).detachNodeEntity(4711L);
+		verify(session, never()).load(any(), any(Long.class));
+	}
+
+	@Test
+	public void deleteAllShouldMatchEntitiesMissingFromTheSessionByTheirId() {
+
+		MockedSession mockedSession = new MockedSession();
+		Session session = mockedSession.session;
+		ClassInfo classInfo = mockedSession.entity(Cinema.class, "Cinema");
+		mockedSession.primaryIndex(classInfo, "uuid", (Cinema cinema) -> cinema.uuid);
+
+		Cinema loaded = new Cinema("a");
+		Cinema detached = new Cinema("b");
+		doReturn(4711L).when(session).resolveGraphIdFor(loaded);
+		doReturn(null).when(session).resolveGraphIdFor(detached);
+		Result result = mock(Result.class);
+		doReturn(Collections.emptyList()).when(result).queryResults();
+		doReturn(result).when(session).query(anyString(), anyMap());
+
+		SimpleNeo4jRepository<Cinema, String> deletingRepository = new SimpleNeo4jRepository<>(Cinema.class, session);
+		deletingRepository.deleteAll(Arrays.asList(loaded, detached));
+
+		verify(session).query(
+				eq("UNWIND $ids AS id MATCH (n) WHERE id(n) = id WITH n, id(n) AS nativeId DETACH DELETE n RETURN nativeId"),
+				eq(Collections.singletonMap("ids", Collections.singletonList(4711L))));
+		verify(session).query(
+				eq("UNWIND $ids AS id MATCH (n:`Cinema`) WHERE n.`uuid` = id WITH n, id(n) AS nativeId DETACH DELETE n RETURN nativeId"),
+				eq(Collections.singletonMap("ids", Collections.singletonList("b"))));
+		verify(session, never()).delete(any());
+	}
+
+	@Test
+	public void deleteAllShouldDeleteVersionedEntitiesThroughTheSession() {
+
+		MockedSession mockedSession = new MockedSession();
+		Session session = mockedSession.session;
+		ClassInfo classInfo = mockedSession.entity(Cinema.class, "Cinema");
+		doReturn(true).when(classInfo).hasVersionField();
+
+		Cinema a = new Cinema("a");
+		Cinema b = new Cinema("b");
+		SimpleNeo4jRepository<Cinema, String> deletingRepository = new SimpleNeo4jRepository<>(Cinema.class, session);
+		deletingRepository.deleteAll(Arrays.asList(a, b));
+
+		verify(session).delete(a);
+		verify(session).delete(b);
+		verify(session, never()).query(anyString(), anyMap());
+	}
+
+	@Test
+	public void deleteAllByIdShouldPublishEventsForTheDeletedEntitiesIfEventsAreEnabled() {
+
+		MockedSession mockedSession = new MockedSession();
+		Session session = mockedSession.session;
+		ClassInfo classInfo = mockedSession.entity(Cinema.class, "Cinema");
+		mockedSession.primaryIndex(classInfo, "uuid", (Cinema cinema) -> cinema.uuid);
+		doReturn(true).when(session).eventsEnabled();
+
+		Cinema a = new Cinema("a");
+		doReturn(Collections.singletonList(a)).when(session).loadAll(Cinema.class, Arrays.asList("a", "b"), 0);
+		Result result = mock(Result.class);
+		doReturn(Collections.singletonList(Collections.singletonMap("nativeId", 4711L))).when(result).queryResults();
+		doReturn(result).when(session).query(anyString(), anyMap());
+
+		List<Event> events = new ArrayList<>();
+		doAnswer(invocation -> events.add(invocation.getArgument(0))).when(session).notifyListeners(any());
+
+		SimpleNeo4jRepository<Cinema, String> deletingRepository = new SimpleNeo4jRepository<>(Cinema.class, session);
+		deletingRepository.deleteAllById(Arrays.asList("a", "b"));
+
+		InOrder inOrder = inOrder(session);
+		inOrder.verify(session).notifyListeners(any());
+		inOrder.verify(session).query(
+				eq("UNWIND $ids AS id MATCH (n:`Cinema`) WHERE n.`uuid` = id WITH n, id(n) AS nativeId DETACH DELETE n RETURN nativeId"),
+				eq(Collections.singletonMap("ids", Arrays.asList("a", "b"))));
+		inOrder.verify(session).detachNodeEntity(4711L);
+		inOrder.verify(session).notifyListeners(any());
+		assertThat(events).extracting(Event::getObject).containsExactly(a, a);
+		assertThat(events).extracting(Event::getLifeCycle)
+				.containsExactly(Event.TYPE.PRE_DELETE, Event.TYPE.POST_DELETE);
+		verify(session, never()).delete(any());
+	}
+
+	@Test
+	public void deleteAllShouldPublishEventsForTheGivenEntitiesIfEventsAreEnabled() {
+
+		MockedSession mockedSession = new MockedSession();
+		Session session = mockedSession.session;
+		ClassInfo classInfo = mockedSession.entity(Cinema.class, "Cinema");
+		mockedSession.primaryIndex(classInfo, "uuid", (Cinema cinema) -> cinema.uuid);
+		doReturn(true).when(session).eventsEnabled();
+
+		Cinema loaded = new Cinema("a");
+		Cinema detached = new Cinema("b");
+		doReturn(4711L).when(session).resolveGraphIdFor(loaded);
+		doReturn(null).when(session).resolveGraphIdFor(detached);
+		Result result = mock(Result.class);
+		doReturn(Collections.emptyList()).when(result).queryResults();
+		doReturn(result).when(session).query(anyString(), anyMap());
+
+		List<Event> events = new ArrayList<>();
+		doAnswer(invocation -> events.add(invocation.getArgument(0))).when(session).notifyListeners(any());
+
+		SimpleNeo4jRepository<Cinema, String> deletingRepository = new SimpleNeo4jRepository<>(Cinema.class, session);
+		deletingRepository.deleteAll(Arrays.asList(loaded, detached));
+
+		assertThat(events).extracting(Event::getObject).containsExactly(loaded, loaded, detached, detached);
+		assertThat(events).extracting(Event::getLifeCycle).containsExactly(Event.TYPE.PRE_DELETE,
+				Event.TYPE.POST_DELETE, Event.TYPE.PRE_DELETE, Event.TYPE.POST_DELETE);
+		verify(session, times(2)).query(anyString(), anyMap());
+		verify(session, never()).delete(any());
+	}
+
+	@Test
+	public void upsertAllShouldMergeInBatches() {
+
+		MockedSession mockedSession = new MockedSession();
+		Session session = mockedSession.session;
+		ClassInfo classInfo = mockedSession.entity(Cinema.class, "Cinema");
+		mockedSession.primaryIndex(classInfo, "uuid", (Cinema cinema) -> cinema.uuid);
+
+		Result result = mock(Result.class);
+		doReturn(Collections.emptyList()).when(result).queryResults();
+		doReturn(result).when(session).query(anyString(), anyMap());
+
+		SimpleNeo4jRepository<Object, String> upsertingRepository = new SimpleNeo4jRepository<>(Object.class, session);
+		upsertingRepository.setBatchSize(2);
+		upsertingRepository.upsertAll(Arrays.asList(new Cinema("a"), new Cinema("b"), new Cinema("c")));
+
+		verify(session, times(2)).query(
+				eq("UNWIND $rows AS row MERGE (n:`Cinema` {`uuid`: row.`uuid`}) SET n += row, n:`Cinema` RETURN id(n) AS nativeId"),
+				anyMap());
+		verify(session, never()).load(any(), any(String.class));
+		verify(session, never()).save(any());
+	}
+
+	@Test
+	public void upsertAllShouldRejectEntitiesWithoutId() {
+
+		MockedSession mockedSession = new MockedSession();
+		Session session = mockedSession.session;
+		ClassInfo classInfo = mockedSession.entity(Cinema.class, "Cinema");
+		mockedSession.primaryIndex(classInfo, "uuid", (Cinema cinema) -> cinema.uuid);
+
+		SimpleNeo4jRepository<Object, String> upsertingRepository = new SimpleNeo4jRepository<>(Object.class, session);
+
+		assertThatExceptionOfType(InvalidDataAccessApiUsageException.class)
+				.isThrownBy(() -> upsertingRepository.upsertAll(Arrays.asList(new Cinema("a"), new Cinema(null))))
+				.withMessageContaining("without an id");
+		verify(session, never()).query(anyString(), anyMap());
+	}
+
+	@Test
+	public void findAllByIdShouldOnlyLoadEntitiesMissingFromTheEntityCache() {
+
+		MockedSession mockedSession = new MockedSession();
+		Session session = mockedSession.session;
+		ClassInfo classInfo = mockedSession.entity(CachedCinema.class, "Cinema");
+		mockedSession.primaryIndex(classInfo, "uuid", (Cinema cinema) -> cinema.uuid);
+
+		CachedCinema a = new CachedCinema("a");
+		CachedCinema b = new CachedCinema("b");
+		doReturn(a).when(session).load(CachedCinema.class, "a");
+		doReturn(Collections.singletonList(b)).when(session).loadAll(eq(CachedCinema.class),
+				eq(Collections.singletonList("b")), anyInt());
+
+		SimpleNeo4jRepository<CachedCinema, String> cachingRepository = new SimpleNeo4jRepository<>(CachedCinema.class,
+				session);
+		cachingRepository.setEntityCache(new CaffeineEntityCache());
+
+		assertThat(cachingRepository.findById("a")).hasValueSatisfying(cinema -> assertThat(cinema.uuid).isEqualTo("a"));
+		assertThat(cachingRepository.findAllById(Arrays.asList("a", "b"))).extracting(cinema -> cinema.uuid)
+				.containsExactly("a", "b");
+		assertThat(cachingRepository.findAllById(Arrays.asList("b", "a", "c"))).extracting(cinema -> cinema.uuid)
+				.containsExactly("b", "a");
+		verify(session).load(CachedCinema.class, "a");
+		verify(session).loadAll(eq(CachedCinema.class), eq(Collections.singletonList("b")), anyInt());
+		verify(session).loadAll(eq(CachedCinema.class), eq(Collections.singletonList("c")), anyInt());
+	}
+
+	@Test
+	public void entityCacheShouldHandOutCopies() {
+
+		MockedSession mockedSession = new MockedSession();
+		Session session = mockedSession.session;
+		ClassInfo classInfo = mockedSession.entity(CachedCinema.class, "Cinema");
+		mockedSession.primaryIndex(classInfo, "uuid", (Cinema cinema) -> cinema.uuid);
+
+		CachedCinema a = new CachedCinema("a");
+		doReturn(a).when(session).load(CachedCinema.class, "a");
+
+		SimpleNeo4jRepository<CachedCinema, String> cachingRepository = new SimpleNeo4jRepository<>(CachedCinema.class,
+				session);
+		cachingRepository.setEntityCache(new CaffeineEntityCache());
+
+		CachedCinema first = cachingRepository.findById("a").get();
+		first.uuid = "modified";
+		CachedCinema second = cachingRepository.findById("a").get();
+
+		assertThat(first).isNotSameAs(a);
+		assertThat(second).isNotSameAs(a).isNotSameAs(first);
+		assertThat(second.uuid).isEqualTo("a");
+		assertThat(cachingRepository.findAllById(Collections.singletonList("a"))).singleElement().isNotSameAs(a);
+		verify(session).load(CachedCinema.class, "a");
+	}
+
+	@Test
+	public void entityCacheShouldEvictEntitiesWhenLabelsOfRelatedEntitiesAreWritten() {
+
+		MockedSession mockedSession = new MockedSession();
+		Session session = mockedSession.session;
+		ClassInfo classInfo = mockedSession.entity(CachedCinema.class, "Cinema");
+		mockedSession.primaryIndex(classInfo, "uuid", (Cinema cinema) -> cinema.uuid);
+		mockedSession.entity(Visitor.class, "Visitor");
+		FieldInfo visitors = mock(FieldInfo.class);
+		doReturn(Visitor.class.getName()).when(visitors).getTypeDescriptor();
+		doReturn(Collections.singletonList(visitors)).when(classInfo).relationshipFields();
+
+		doReturn(new CachedCinema("a")).when(session).load(CachedCinema.class, "a");
+
+		CaffeineEntityCache entityCache = new CaffeineEntityCache();
+		SimpleNeo4jRepository<CachedCinema, String> cachingRepository = new SimpleNeo4jRepository<>(CachedCinema.class,
+				session);
+		cachingRepository.setEntityCache(entityCache);
+
+		cachingRepository.findById("a");
+		entityCache.afterCommit("Movie"::equals);
+		cachingRepository.findById("a");
+		verify(session, times(1)).load(CachedCinema.class, "a");
+
+		entityCache.afterCommit("Visitor"::equals);
+		cachingRepository.findById("a");
+		verify(session, times(2)).load(CachedCinema.class, "a");
+	}
+
+	static class Visitor {
+	}
+
+	@CachedEntity
+	static class CachedCinema extends Cinema {
+
+		CachedCinema(String uuid) {
+			super(uuid);
+		}
+	}
+
+	static class Cinema {
+
+		String uuid;
+
+		Cinema(String uuid) {
+			this.uuid = uuid;
+		}
+	}
+
 	private Page loadPage(PageRequest requestedPage, long amountOfElementsInDatabase) {
 		prepareSessionMock(requestedPage, amountOfElementsInDatabase);
 		return repository.findAll(requestedPage);
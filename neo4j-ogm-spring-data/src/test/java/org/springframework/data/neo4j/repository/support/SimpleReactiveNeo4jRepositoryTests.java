@@ -0,0 +1,172 @@
+/*
+ * Copyright 2011-2023 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.neo4j.repository.support;
+
+import static org.mockito.Mockito.*;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+
+import org.junit.Test;
+import org.neo4j.ogm.cypher.query.Pagination;
+import org.neo4j.ogm.cypher.query.SortOrder;
+import org.neo4j.ogm.exception.ConnectionException;
+import org.neo4j.ogm.metadata.ClassInfo;
+import org.neo4j.ogm.metadata.MetaData;
+import org.neo4j.ogm.model.Result;
+import org.neo4j.ogm.session.Session;
+import org.neo4j.ogm.session.SessionFactory;
+import org.springframework.beans.factory.support.StaticListableBeanFactory;
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.data.neo4j.transaction.CommittedWritesListener;
+
+import reactor.core.publisher.Flux;
+import reactor.core.scheduler.Schedulers;
+import reactor.test.StepVerifier;
+
+public class SimpleReactiveNeo4jRepositoryTests {
+
+	private final Session sessionMock = mock(Session.class);
+	private final SessionFactory sessionFactoryMock = mock(SessionFactory.class);
+
+	private final SimpleReactiveNeo4jRepository<Object, Long> repository = new SimpleReactiveNeo4jRepository<>(
+			Object.class, sessionFactoryMock, Schedulers.immediate());
+
+	{
+		when(sessionFactoryMock.openSession()).thenReturn(sessionMock);
+		when(sessionFactoryMock.metaData()).thenReturn(mock(MetaData.class));
+		repository.setBatchSize(2);
+	}
+
+	@Test
+	public void findAllShouldReadChunksOnDemand() {
+
+		when(sessionMock.loadAll(eq(Object.class), any(SortOrder.class), any(Pagination.class), eq(1)))
+				.thenReturn(Arrays.<Object> asList("a", "b"), Arrays.<Object> asList("c", "d"),
+						Collections.<Object> singletonList("e"));
+
+		StepVerifier.create(repository.findAll(), 0) //
+				.thenRequest(1) //
+				.expectNext("a") //
+				.then(() -> verify(sessionMock, atMost(2)).loadAll(eq(Object.class), any(SortOrder.class),
+						any(Pagination.class), eq(1))) //
+				.thenRequest(Long.MAX_VALUE) //
+				.expectNext("b", "c", "d", "e") //
+				.verifyComplete();
+
+		verify(sessionMock, times(3)).loadAll(eq(Object.class), any(SortOrder.class), any(Pagination.class), eq(1));
+	}
+
+	@Test
+	public void findAllShouldReadChunksAfterTheLastNativeId() {
+
+		SimpleReactiveNeo4jRepository<Object, Long> nodeRepository = repositoryWithMetaData();
+		Result firstChunk = mock(Result.class);
+		when(firstChunk.queryResults()).thenReturn(Arrays.asList(Collections.singletonMap("nativeId", 1L),
+				Collections.singletonMap("nativeId", 4L)));
+		Result secondChunk = mock(Result.class);
+		when(secondChunk.queryResults()).thenReturn(Collections.singletonList(Collections.singletonMap("nativeId", 7L)));
+		when(sessionMock.query(anyString(), anyMap(), anyBoolean())).thenReturn(firstChunk, secondChunk);
+		when(sessionMock.loadAll(Object.class, Arrays.asList(1L, 4L), 1)).thenReturn(Arrays.<Object> asList("a", "b"));
+		when(sessionMock.loadAll(Object.class, Collections.singletonList(7L), 1))
+				.thenReturn(Collections.<Object> singletonList("c"));
+
+		StepVerifier.create(nodeRepository.findAll()) //
+				.expectNext("a", "b", "c") //
+				.verifyComplete();
+
+		String cypher = "MATCH (n:`Cinema`) WHERE id(n) > $after RETURN id(n) AS nativeId ORDER BY nativeId LIMIT $limit";
+		Map<String, Object> parameters = new HashMap<>();
+		parameters.put("after", -1L);
+		parameters.put("limit", 2);
+		verify(sessionMock).query(cypher, parameters, false);
+		parameters.put("after", 4L);
+		verify(sessionMock).query(cypher, parameters, false);
+		verify(sessionMock, never()).loadAll(eq(Object.class), any(SortOrder.class), any(Pagination.class), anyInt());
+	}
+
+	@Test
+	public void existsByIdShouldCountInsteadOfLoading() {
+
+		SimpleReactiveNeo4jRepository<Object, Long> nodeRepository = repositoryWithMetaData();
+		when(sessionMock.queryForObject(Long.class, "MATCH (n:`Cinema`) WHERE id(n) = $id RETURN count(n)",
+				Collections.singletonMap("id", 1L))).thenReturn(1L);
+
+		StepVerifier.create(nodeRepository.existsById(1L)).expectNext(true).verifyComplete();
+		StepVerifier.create(nodeRepository.existsById(2L)).expectNext(false).verifyComplete();
+
+		verify(sessionMock, never()).load(any(), any(Long.class), anyInt());
+	}
+
+	@Test
+	public void saveAllShouldSaveStreamsInBatches() {
+
+		StepVerifier.create(repository.saveAll(Flux.just("a", "b", "c"))) //
+				.expectNext("a", "b", "c") //
+				.verifyComplete();
+
+		verify(sessionMock).save(Arrays.asList("a", "b"));
+		verify(sessionMock).save(Collections.singletonList("c"));
+	}
+
+	@Test
+	public void writesShouldBeReportedToCommittedWritesListeners() {
+
+		CommittedWritesListener listener = mock(CommittedWritesListener.class);
+		StaticListableBeanFactory beanFactory = new StaticListableBeanFactory();
+		beanFactory.addBean("listener", listener);
+		repository.setCommittedWritesListeners(beanFactory.getBeanProvider(CommittedWritesListener.class));
+
+		StepVerifier.create(repository.deleteAll()).verifyComplete();
+		StepVerifier.create(repository.count()).expectNext(0L).verifyComplete();
+
+		verify(sessionMock).deleteAll(Object.class);
+		verify(listener).afterCommit(any());
+		verifyNoMoreInteractions(listener);
+	}
+
+	@Test
+	public void findByIdShouldCompleteEmptyWhenNothingIsFound() {
+
+		StepVerifier.create(repository.findById(1L)).verifyComplete();
+
+		verify(sessionMock).load(Object.class, 1L, 1);
+	}
+
+	@Test
+	public void errorsShouldBeTranslated() {
+
+		when(sessionMock.countEntitiesOfType(Object.class)).thenThrow(new ConnectionException("Database is gone", null));
+
+		StepVerifier.create(repository.count()).verifyError(DataAccessResourceFailureException.class);
+	}
+
+	private SimpleReactiveNeo4jRepository<Object, Long> repositoryWithMetaData() {
+
+		MetaData metaData = mock(MetaData.class);
+		ClassInfo classInfo = mock(ClassInfo.class);
+		when(sessionFactoryMock.metaData()).thenReturn(metaData);
+		when(metaData.classInfo(Object.class.getName())).thenReturn(classInfo);
+		when(classInfo.neo4jName()).thenReturn("Cinema");
+
+		SimpleReactiveNeo4jRepository<Object, Long> nodeRepository = new SimpleReactiveNeo4jRepository<>(Object.class,
+				sessionFactoryMock, Schedulers.immediate());
+		nodeRepository.setBatchSize(2);
+		return nodeRepository;
+	}
+}
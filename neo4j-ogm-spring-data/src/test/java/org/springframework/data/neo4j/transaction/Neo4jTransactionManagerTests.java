@@ -23,16 +23,21 @@ import java.util.ArrayList;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
+import java.util.function.Predicate;
 
 import org.junit.After;
 import org.junit.Before;
 import org.junit.Ignore;
 import org.junit.Test;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InOrder;
 import org.neo4j.ogm.model.Result;
 import org.neo4j.ogm.session.Session;
 import org.neo4j.ogm.session.SessionFactory;
 import org.neo4j.ogm.transaction.Transaction;
+import org.springframework.beans.factory.support.StaticListableBeanFactory;
 import org.springframework.transaction.CannotCreateTransactionException;
+import org.springframework.transaction.TransactionDefinition;
 import org.springframework.transaction.UnexpectedRollbackException;
 import org.springframework.transaction.support.TransactionCallback;
 import org.springframework.transaction.support.TransactionSynchronizationManager;
@@ -170,6 +175,32 @@ public class Neo4jTransactionManagerTests {
 		verify(tx).close();
 	}
 
+	@Test
+	public void testCommittedWritesListenersAreNotifiedOfRolledBackWrites() {
+
+		CommittedWritesListener listener = mock(CommittedWritesListener.class);
+		StaticListableBeanFactory beanFactory = new StaticListableBeanFactory();
+		beanFactory.addBean("listener", listener);
+		tm.setBeanFactory(beanFactory);
+
+		try {
+			tt.execute(status -> {
+				((SessionHolder) TransactionSynchronizationManager.getResource(sf))
+						.registerWrittenLabels(List.of("Thing"));
+				throw new RuntimeException("application exception");
+			});
+			fail("Should have thrown RuntimeException");
+		} catch (RuntimeException ex) {
+			// expected
+		}
+
+		ArgumentCaptor<Predicate<String>> writtenLabels = ArgumentCaptor.forClass(Predicate.class);
+		verify(listener).afterRollback(writtenLabels.capture());
+		verify(listener, never()).afterCommit(any());
+		assertThat(writtenLabels.getValue().test("Thing")).isTrue();
+		assertThat(writtenLabels.getValue().test("Other")).isFalse();
+	}
+
 	@Test
 	public void testTransactionRollbackOnly() throws Exception {
 
@@ -194,6 +225,27 @@ public class Neo4jTransactionManagerTests {
 		verify(tx).close();
 	}
 
+	@Test
+	public void testSessionLifecycleListenerIsNotified() {
+
+		given(session.beginTransaction(any(Transaction.Type.class), anyCollection())).willReturn(tx);
+		given(tx.status()).willReturn(Transaction.Status.COMMITTED);
+		SessionLifecycleListener listener = mock(SessionLifecycleListener.class);
+		SessionFactoryUtils.registerSessionLifecycleListener(sf, listener);
+		try {
+			tt.execute(status -> null);
+		} finally {
+			SessionFactoryUtils.unregisterSessionLifecycleListener(sf, listener);
+		}
+
+		InOrder inOrder = inOrder(listener);
+		inOrder.verify(listener).sessionOpened(session, SessionLifecycleListener.Source.TRANSACTION);
+		inOrder.verify(listener).transactionBegun(session);
+		inOrder.verify(listener).transactionCompleted(session, true);
+		inOrder.verify(listener).sessionClosed(session);
+		verifyNoMoreInteractions(listener);
+	}
+
 	@Test
 	public void testParticipatingTransactionWithCommit() throws Exception {
 		final List l = new ArrayList();
@@ -224,6 +276,90 @@ public class Neo4jTransactionManagerTests {
 		verify(tx).close();
 	}
 
+	@Test
+	public void testRequiresNewTransactionUsesNewSession() throws Exception {
+
+		Session innerSession = mock(Session.class);
+		Transaction innerTx = mock(Transaction.class);
+		given(innerSession.getTransaction()).willReturn(innerTx);
+		given(sf.openSession()).willReturn(session, innerSession);
+
+		TransactionTemplate requiresNew = new TransactionTemplate(tm);
+		requiresNew.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+
+		tt.execute(status -> requiresNew.execute(status1 -> {
+			assertThat(((SessionHolder) TransactionSynchronizationManager.getResource(sf)).getSession())
+					.isSameAs(innerSession);
+			return null;
+		}));
+
+		verify(innerSession).beginTransaction(any(Transaction.Type.class), anyCollection());
+		verify(innerTx).commit();
+		verify(session).beginTransaction(any(Transaction.Type.class), anyCollection());
+		verify(tx).commit();
+	}
+
+	@Test
+	public void testRequiresNewTransactionSuspendsAndResumesOuterTransaction() throws Exception {
+
+		Session innerSession = mock(Session.class);
+		Transaction innerTx = mock(Transaction.class);
+		given(innerSession.getTransaction()).willReturn(innerTx);
+		given(sf.openSession()).willReturn(session, innerSession);
+
+		TransactionTemplate requiresNew = new TransactionTemplate(tm);
+		requiresNew.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+
+		tt.execute(status -> {
+			requiresNew.execute(status1 -> {
+				status1.setRollbackOnly();
+				return null;
+			});
+			assertThat(((SessionHolder) TransactionSynchronizationManager.getResource(sf)).getSession())
+					.isSameAs(session);
+			assertThat(TransactionSynchronizationManager.isActualTransactionActive()).isTrue();
+			return null;
+		});
+
+		verify(innerTx).rollback();
+		verify(innerTx).close();
+		verify(innerTx, never()).commit();
+		verify(tx).commit();
+		verify(tx, never()).rollback();
+	}
+
+	@Test
+	public void testCommittedWritesListenersAreNotifiedOfRequiresNewCommit() {
+
+		CommittedWritesListener listener = mock(CommittedWritesListener.class);
+		StaticListableBeanFactory beanFactory = new StaticListableBeanFactory();
+		beanFactory.addBean("listener", listener);
+		tm.setBeanFactory(beanFactory);
+
+		Session innerSession = mock(Session.class);
+		given(innerSession.getTransaction()).willReturn(mock(Transaction.class));
+		given(sf.openSession()).willReturn(session, innerSession);
+
+		TransactionTemplate requiresNew = new TransactionTemplate(tm);
+		requiresNew.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+
+		ArgumentCaptor<Predicate<String>> writtenLabels = ArgumentCaptor.forClass(Predicate.class);
+		tt.execute(status -> {
+			requiresNew.execute(status1 -> {
+				((SessionHolder) TransactionSynchronizationManager.getResource(sf))
+						.registerWrittenLabels(List.of("Thing"));
+				return null;
+			});
+			// Notified before the outer transaction completes
+			verify(listener).afterCommit(writtenLabels.capture());
+			return null;
+		});
+
+		verifyNoMoreInteractions(listener);
+		assertThat(writtenLabels.getValue().test("Thing")).isTrue();
+		assertThat(writtenLabels.getValue().test("Other")).isFalse();
+	}
+
 	@Test
 	@Ignore
 	public void testParticipatingTransactionWithRollbackOnly() throws Exception {
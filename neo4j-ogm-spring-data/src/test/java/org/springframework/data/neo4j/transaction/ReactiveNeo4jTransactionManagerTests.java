@@ -0,0 +1,197 @@
+/*
+ * Copyright 2011-2023 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.neo4j.transaction;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.function.Predicate;
+
+import org.junit.Before;
+import org.junit.Test;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InOrder;
+import org.neo4j.ogm.metadata.ClassInfo;
+import org.neo4j.ogm.metadata.MetaData;
+import org.neo4j.ogm.session.Session;
+import org.neo4j.ogm.session.SessionFactory;
+import org.neo4j.ogm.transaction.Transaction;
+import org.springframework.beans.factory.support.StaticListableBeanFactory;
+import org.springframework.transaction.reactive.TransactionalOperator;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
+import reactor.test.StepVerifier;
+
+public class ReactiveNeo4jTransactionManagerTests {
+
+	private SessionFactory sf;
+
+	private Session session;
+
+	private Transaction tx;
+
+	private CommittedWritesListener listener;
+
+	private StaticListableBeanFactory beanFactory;
+
+	private TransactionalOperator transactionalOperator;
+
+	@Before
+	public void setUp() {
+		sf = mock(SessionFactory.class);
+		session = mock(Session.class);
+		tx = mock(Transaction.class);
+		listener = mock(CommittedWritesListener.class);
+
+		MetaData metaData = mock(MetaData.class);
+		ClassInfo classInfo = mock(ClassInfo.class);
+		when(sf.metaData()).thenReturn(metaData);
+		when(metaData.classInfo(String.class.getName())).thenReturn(classInfo);
+		when(classInfo.staticLabels()).thenReturn(Collections.singletonList("Thing"));
+
+		when(sf.openSession()).thenReturn(session);
+		when(session.beginTransaction(any(Transaction.Type.class))).thenReturn(tx);
+		when(session.getTransaction()).thenReturn(tx);
+
+		beanFactory = new StaticListableBeanFactory();
+		beanFactory.addBean("listener", listener);
+		ReactiveNeo4jTransactionManager transactionManager = new ReactiveNeo4jTransactionManager(sf);
+		transactionManager.setBeanFactory(beanFactory);
+		transactionalOperator = TransactionalOperator.create(transactionManager);
+	}
+
+	@Test
+	public void workInTransactionShouldRunOnOneThreadAndCommit() {
+
+		List<Thread> threads = new ArrayList<>();
+		Mono<Long> work = ReactiveSessionFactoryUtils
+				.doInSession(sf, Schedulers.parallel(), s -> threads.add(Thread.currentThread()))
+				.publishOn(Schedulers.parallel())
+				.then(ReactiveSessionFactoryUtils.doInSession(sf, Schedulers.parallel(), s -> {
+					threads.add(Thread.currentThread());
+					return s.countEntitiesOfType(Object.class);
+				}));
+		when(session.countEntitiesOfType(Object.class)).thenReturn(42L);
+
+		StepVerifier.create(transactionalOperator.transactional(work)).expectNext(42L).verifyComplete();
+
+		assertThat(threads).hasSize(2);
+		assertThat(threads.get(0)).isSameAs(threads.get(1));
+		verify(sf).openSession();
+		verify(session).beginTransaction(Transaction.Type.READ_WRITE);
+		verify(tx).commit();
+		verify(tx, never()).rollback();
+	}
+
+	@Test
+	public void errorsShouldRollback() {
+
+		Mono<Object> work = ReactiveSessionFactoryUtils.doInSession(sf, Schedulers.parallel(), s -> {
+			throw new IllegalArgumentException("application exception");
+		});
+
+		StepVerifier.create(transactionalOperator.transactional(work)).verifyError(IllegalArgumentException.class);
+
+		verify(tx).rollback();
+		verify(tx, never()).commit();
+	}
+
+	@Test
+	public void workWithoutTransactionShouldUseNewSession() {
+
+		when(session.countEntitiesOfType(Object.class)).thenReturn(23L);
+
+		StepVerifier.create(ReactiveSessionFactoryUtils.doInSession(sf, Schedulers.parallel(),
+				s -> s.countEntitiesOfType(Object.class))).expectNext(23L).verifyComplete();
+
+		verify(session, never()).beginTransaction(any(Transaction.Type.class));
+	}
+
+	@Test
+	public void writesThroughSharedSessionsShouldBeReportedAfterCommit() {
+
+		Session sharedSession = SharedSessionCreator.createSharedSession(sf);
+		Mono<Object> work = ReactiveSessionFactoryUtils.doInSession(sf, Schedulers.parallel(), s -> {
+			sharedSession.deleteAll(String.class);
+			return null;
+		});
+
+		StepVerifier.create(transactionalOperator.transactional(work)).verifyComplete();
+
+		InOrder inOrder = inOrder(session, tx, listener);
+		inOrder.verify(session).deleteAll(String.class);
+		inOrder.verify(tx).commit();
+		ArgumentCaptor<Predicate<String>> writtenLabels = ArgumentCaptor.forClass(Predicate.class);
+		inOrder.verify(listener).afterCommit(writtenLabels.capture());
+		verifyNoMoreInteractions(listener);
+		assertThat(writtenLabels.getValue().test("Thing")).isTrue();
+		assertThat(writtenLabels.getValue().test("Other")).isFalse();
+	}
+
+	@Test
+	public void writesThroughSharedSessionsShouldBeReportedAfterRollback() {
+
+		Session sharedSession = SharedSessionCreator.createSharedSession(sf);
+		Mono<Object> work = ReactiveSessionFactoryUtils.doInSession(sf, Schedulers.parallel(), s -> {
+			sharedSession.deleteAll(String.class);
+			throw new IllegalArgumentException("application exception");
+		});
+
+		StepVerifier.create(transactionalOperator.transactional(work)).verifyError(IllegalArgumentException.class);
+
+		InOrder inOrder = inOrder(tx, listener);
+		inOrder.verify(tx).rollback();
+		inOrder.verify(listener).afterRollback(any());
+		verifyNoMoreInteractions(listener);
+	}
+
+	@Test
+	public void transactionsWithoutWritesShouldNotBeReported() {
+
+		Mono<Long> work = ReactiveSessionFactoryUtils.doInSession(sf, Schedulers.parallel(),
+				s -> SharedSessionCreator.createSharedSession(sf).countEntitiesOfType(String.class));
+		when(session.countEntitiesOfType(String.class)).thenReturn(1L);
+
+		StepVerifier.create(transactionalOperator.transactional(work)).expectNext(1L).verifyComplete();
+
+		verify(tx).commit();
+		verifyNoInteractions(listener);
+	}
+
+	@Test
+	public void writesWithoutTransactionShouldBeReportedWhenTheCallbackReturns() {
+
+		Session sharedSession = SharedSessionCreator.createSharedSession(sf);
+
+		StepVerifier.create(ReactiveSessionFactoryUtils.doInSession(sf, Schedulers.parallel(),
+				beanFactory.getBeanProvider(CommittedWritesListener.class), s -> {
+					assertThat(s).isSameAs(session);
+					sharedSession.deleteAll(String.class);
+					return null;
+				})).verifyComplete();
+
+		InOrder inOrder = inOrder(session, listener);
+		inOrder.verify(session).deleteAll(String.class);
+		inOrder.verify(listener).afterCommit(argThat(writtenLabels -> writtenLabels.test("Thing")));
+		verify(session, never()).beginTransaction(any(Transaction.Type.class));
+		assertThat(TransactionSynchronizationManager.hasResource(sf)).isFalse();
+	}
+}
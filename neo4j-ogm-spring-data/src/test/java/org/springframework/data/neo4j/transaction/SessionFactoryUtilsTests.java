@@ -15,9 +15,13 @@
  */
 package org.springframework.data.neo4j.transaction;
 
+import java.lang.ref.WeakReference;
+import java.time.Duration;
+
 import org.junit.Test;
 import org.neo4j.ogm.exception.CypherException;
 import org.neo4j.ogm.exception.core.BaseClassNotFoundException;
+import org.neo4j.ogm.session.SessionFactory;
 import org.springframework.core.NestedRuntimeException;
 import org.springframework.dao.DataAccessException;
 import org.springframework.dao.DataIntegrityViolationException;
@@ -25,6 +29,8 @@ import org.springframework.dao.InvalidDataAccessApiUsageException;
 import org.springframework.data.neo4j.exception.UncategorizedNeo4jException;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
 
 /**
  * @author Mark Angrish
@@ -64,6 +70,49 @@ public class SessionFactoryUtilsTests {
 		assertThat(SessionFactoryUtils.convertOgmAccessException(exception)).isNull();
 	}
 
+	@Test
+	public void registrationsShouldNotKeepSessionFactoriesAlive() throws InterruptedException {
+
+		WeakReference<SessionFactory> sessionFactory = registerListenerAndInterceptor();
+		for (int i = 0; i < 50 && sessionFactory.get() != null; i++) {
+			System.gc();
+			Thread.sleep(10);
+		}
+
+		assertThat(sessionFactory.get()).isNull();
+	}
+
+	@Test
+	public void registrationsShouldBeKeptWhileReferenced() {
+
+		SessionFactory sessionFactory = mock(SessionFactory.class);
+		SessionLifecycleListener listener = mock(SessionLifecycleListener.class);
+		SessionFactoryUtils.registerSessionLifecycleListener(sessionFactory, listener);
+		try {
+			System.gc();
+			SessionFactoryUtils.getSessionLifecycleListener(sessionFactory).bookmarksAwaited(Duration.ZERO);
+
+			verify(listener).bookmarksAwaited(Duration.ZERO);
+		} finally {
+			SessionFactoryUtils.unregisterSessionLifecycleListener(sessionFactory, listener);
+		}
+	}
+
+	private static WeakReference<SessionFactory> registerListenerAndInterceptor() {
+
+		SessionFactory sessionFactory = mock(SessionFactory.class);
+		SessionLifecycleListener listener = new SessionLifecycleListener() {
+			@Override
+			public void bookmarksAwaited(Duration duration) {
+				sessionFactory.close();
+			}
+		};
+		SessionOperationInterceptor interceptor = (operation, arguments, proceed) -> sessionFactory.metaData();
+		SessionFactoryUtils.registerSessionLifecycleListener(sessionFactory, listener);
+		SessionFactoryUtils.registerSessionOperationInterceptor(sessionFactory, interceptor);
+		return new WeakReference<>(sessionFactory);
+	}
+
 	private static void expectExceptionWithCauseMessage(NestedRuntimeException e,
 			Class<? extends NestedRuntimeException> type) {
 		expectExceptionWithCauseMessage(e, type, null);
@@ -18,9 +18,17 @@ package org.springframework.data.neo4j.transaction;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.Mockito.*;
 
+import java.util.List;
+import java.util.Map;
+import java.util.function.Predicate;
+
 import org.junit.Test;
+import org.neo4j.ogm.metadata.ClassInfo;
+import org.neo4j.ogm.metadata.FieldInfo;
+import org.neo4j.ogm.metadata.MetaData;
 import org.neo4j.ogm.session.Session;
 import org.neo4j.ogm.session.SessionFactory;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 
 /**
  * Unit tests for {@link SharedSessionCreator}.
@@ -48,4 +56,129 @@ public class SharedSessionCreatorTests {
 		Session session = SharedSessionCreator.createSharedSession(sessionFactory);
 		session.delete(new Object());
 	}
+
+	@Test
+	public void sessionsPerCallShouldBeReportedToLifecycleListeners() {
+		SessionFactory sessionFactory = mock(SessionFactory.class);
+		Session targetSession = mock(Session.class);
+		when(sessionFactory.openSession()).thenReturn(targetSession);
+		SessionLifecycleListener listener = mock(SessionLifecycleListener.class);
+
+		SessionFactoryUtils.registerSessionLifecycleListener(sessionFactory, listener);
+		try {
+			Session session = SharedSessionCreator.createSharedSession(sessionFactory);
+			session.countEntitiesOfType(String.class);
+		} finally {
+			SessionFactoryUtils.unregisterSessionLifecycleListener(sessionFactory, listener);
+		}
+
+		verify(listener).sessionOpened(targetSession, SessionLifecycleListener.Source.SHARED);
+		verify(listener).sessionClosed(targetSession);
+	}
+
+	@Test
+	public void writesShouldBeRegisteredWithTheSessionHolder() {
+		SessionFactory sessionFactory = mock(SessionFactory.class);
+		MetaData metaData = mock(MetaData.class);
+		ClassInfo classInfo = mock(ClassInfo.class);
+		when(sessionFactory.metaData()).thenReturn(metaData);
+		when(metaData.classInfo(String.class.getName())).thenReturn(classInfo);
+		when(classInfo.staticLabels()).thenReturn(List.of("Thing"));
+
+		SessionHolder sessionHolder = new SessionHolder(mock(Session.class));
+		TransactionSynchronizationManager.bindResource(sessionFactory, sessionHolder);
+		try {
+			Session session = SharedSessionCreator.createSharedSession(sessionFactory);
+			session.save("a thing");
+		} finally {
+			TransactionSynchronizationManager.unbindResource(sessionFactory);
+		}
+
+		Predicate<String> writtenLabels = sessionHolder.consumeWrittenLabels();
+		assertThat(writtenLabels).isNotNull();
+		assertThat(writtenLabels.test("Thing")).isTrue();
+		assertThat(writtenLabels.test("Other")).isFalse();
+		assertThat(sessionHolder.consumeWrittenLabels()).isNull();
+	}
+
+	@Test
+	public void savesShouldRegisterTheLabelsOfRelatedEntities() {
+		SessionFactory sessionFactory = mock(SessionFactory.class);
+		MetaData metaData = mock(MetaData.class);
+		ClassInfo classInfo = mock(ClassInfo.class);
+		ClassInfo relatedClassInfo = mock(ClassInfo.class);
+		ClassInfo subclassInfo = mock(ClassInfo.class);
+		FieldInfo relationshipField = mock(FieldInfo.class);
+		when(sessionFactory.metaData()).thenReturn(metaData);
+		when(metaData.classInfo(String.class.getName())).thenReturn(classInfo);
+		when(metaData.classInfo("Related")).thenReturn(relatedClassInfo);
+		when(classInfo.staticLabels()).thenReturn(List.of("Thing"));
+		when(classInfo.relationshipFields()).thenReturn(List.of(relationshipField));
+		when(relationshipField.getTypeDescriptor()).thenReturn("Related");
+		when(relatedClassInfo.staticLabels()).thenReturn(List.of("Related"));
+		when(relatedClassInfo.allSubclasses()).thenReturn(List.of(subclassInfo));
+		when(subclassInfo.staticLabels()).thenReturn(List.of("Related", "Special"));
+
+		SessionHolder sessionHolder = new SessionHolder(mock(Session.class));
+		TransactionSynchronizationManager.bindResource(sessionFactory, sessionHolder);
+		try {
+			Session session = SharedSessionCreator.createSharedSession(sessionFactory);
+			session.save("a thing", 0);
+			Predicate<String> writtenLabels = sessionHolder.consumeWrittenLabels();
+			assertThat(writtenLabels.test("Thing")).isTrue();
+			assertThat(writtenLabels.test("Related")).isFalse();
+
+			session.save("a thing");
+			writtenLabels = sessionHolder.consumeWrittenLabels();
+			assertThat(writtenLabels.test("Thing")).isTrue();
+			assertThat(writtenLabels.test("Related")).isTrue();
+			assertThat(writtenLabels.test("Special")).isTrue();
+			assertThat(writtenLabels.test("Other")).isFalse();
+		} finally {
+			TransactionSynchronizationManager.unbindResource(sessionFactory);
+		}
+	}
+
+	@Test
+	public void queriesWithUpdatingClausesShouldRegisterUnknownWrites() {
+		SessionFactory sessionFactory = mock(SessionFactory.class);
+
+		SessionHolder sessionHolder = new SessionHolder(mock(Session.class));
+		TransactionSynchronizationManager.bindResource(sessionFactory, sessionHolder);
+		try {
+			Session session = SharedSessionCreator.createSharedSession(sessionFactory);
+			session.query(String.class, "MATCH (n {name: 'Set', `delete`: true}) WHERE n.create RETURN n", Map.of());
+			assertThat(sessionHolder.consumeWrittenLabels()).isNull();
+
+			session.queryForObject(Long.class, "MATCH (n) SET n.seen = true RETURN count(n)", Map.of());
+			Predicate<String> writtenLabels = sessionHolder.consumeWrittenLabels();
+			assertThat(writtenLabels).isNotNull();
+			assertThat(writtenLabels.test("Anything")).isTrue();
+		} finally {
+			TransactionSynchronizationManager.unbindResource(sessionFactory);
+		}
+	}
+
+	@Test
+	public void callbacksOnTheTargetSessionShouldRegisterWritesLikeTheOperationTheyStandFor() {
+		SessionFactory sessionFactory = mock(SessionFactory.class);
+		Session targetSession = mock(Session.class);
+
+		SessionHolder sessionHolder = new SessionHolder(targetSession);
+		TransactionSynchronizationManager.bindResource(sessionFactory, sessionHolder);
+		try {
+			SessionProxy session = (SessionProxy) SharedSessionCreator.createSharedSession(sessionFactory);
+			Object[] arguments = { String.class, "MATCH (n) RETURN n", Map.of() };
+			Session usedSession = session.doInTargetSession("query", arguments, target -> target);
+			assertThat(usedSession).isSameAs(targetSession);
+			assertThat(sessionHolder.consumeWrittenLabels()).isNull();
+
+			arguments = new Object[] { String.class, "MATCH (n) DELETE n RETURN n", Map.of() };
+			String result = session.doInTargetSession("query", arguments, target -> "streamed");
+			assertThat(result).isEqualTo("streamed");
+			assertThat(sessionHolder.consumeWrittenLabels()).isNotNull();
+		} finally {
+			TransactionSynchronizationManager.unbindResource(sessionFactory);
+		}
+	}
 }
@@ -0,0 +1,69 @@
+/*
+ * Copyright 2011-2023 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.neo4j.web.support;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
+
+import java.time.LocalDate;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import org.junit.Test;
+import org.springframework.data.domain.KeysetScrollPosition;
+import org.springframework.data.domain.ScrollPosition;
+
+public class ScrollPositionTokensTests {
+
+	@Test
+	public void shouldRoundTripKeysets() {
+
+		Map<String, Object> keys = new LinkedHashMap<>();
+		keys.put("name", "Picturehouse");
+		keys.put("id", 4711L);
+		keys.put("opened", LocalDate.of(2011, 1, 1));
+		keys.put("rating", null);
+
+		ScrollPosition decoded = ScrollPositionTokens.decode(ScrollPositionTokens.encode(ScrollPosition.backward(keys)));
+
+		assertThat(decoded).isInstanceOf(KeysetScrollPosition.class);
+		assertThat(((KeysetScrollPosition) decoded).scrollsBackward()).isTrue();
+		assertThat(((KeysetScrollPosition) decoded).getKeys()).containsExactlyEntriesOf(keys);
+	}
+
+	@Test
+	public void shouldRoundTripOffsets() {
+
+		assertThat(ScrollPositionTokens.decode(ScrollPositionTokens.encode(ScrollPosition.offset(42))))
+				.isEqualTo(ScrollPosition.offset(42));
+		assertThat(ScrollPositionTokens.decode(ScrollPositionTokens.encode(ScrollPosition.offset())))
+				.isEqualTo(ScrollPosition.offset());
+	}
+
+	@Test
+	public void shouldRejectUnsupportedKeyTypes() {
+
+		assertThatIllegalArgumentException()
+				.isThrownBy(() -> ScrollPositionTokens.encode(ScrollPosition.forward(Map.of("x", new Object()))));
+	}
+
+	@Test
+	public void shouldRejectMalformedTokens() {
+
+		assertThatIllegalArgumentException().isThrownBy(() -> ScrollPositionTokens.decode("not a token"));
+		assertThatIllegalArgumentException().isThrownBy(() -> ScrollPositionTokens.decode("Sw"));
+	}
+}
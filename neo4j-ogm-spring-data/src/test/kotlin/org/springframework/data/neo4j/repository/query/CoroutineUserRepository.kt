@@ -0,0 +1,29 @@
+/*
+ * Copyright 2011-2023 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.neo4j.repository.query
+
+import kotlinx.coroutines.flow.Flow
+import org.springframework.data.neo4j.domain.sample.User
+import org.springframework.data.repository.kotlin.CoroutineCrudRepository
+
+interface CoroutineUserRepository : CoroutineCrudRepository<User, Long> {
+
+	suspend fun findOneByFirstname(firstname: String): User?
+
+	suspend fun findAllByFirstname(firstname: String): List<User>
+
+	fun findAllByLastname(lastname: String): Flow<User>
+}